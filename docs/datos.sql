@@ -23,35 +23,45 @@ INSERT INTO PLAYER_ENTITY (ID, NAME, PHOTOURL, BIRTH_DATE, BIRTH_PLACE, ELO_RATI
 INSERT INTO PLAYER_ENTITY (ID, NAME, PHOTOURL, BIRTH_DATE, BIRTH_PLACE, ELO_RATING, USERNAME, PASSWORD) VALUES (8, 'Isabella', 'https://cdn.icon-icons.com/icons2/2859/PNG/512/avatar_face_girl_female_woman_profile_smiley_happy_people_icon_181665.png', TO_DATE('1994-11-28', 'YYYY-MM-DD'), 'Cartagena', 2100, 'isabella', '1234');
 
 INSERT INTO OPENING_ENTITY (ID, CLASSIFICATION, NAME) VALUES (1, 0, 'Apertura Española');
+INSERT INTO MOVE_ENTITY (ID, NOTATION) VALUES (1, 'e4');
+INSERT INTO MOVE_ENTITY (ID, NOTATION) VALUES (2, 'e5');
+INSERT INTO MOVE_ENTITY (ID, NOTATION) VALUES (3, 'Nf3');
+INSERT INTO MOVE_ENTITY (ID, NOTATION) VALUES (4, 'Nc6');
+INSERT INTO MOVE_ENTITY (ID, NOTATION) VALUES (5, 'Bb5');
+INSERT INTO OPENING_ENTITY_MOVES (OPENING_ENTITY_ID, MOVES_ID, PLY) VALUES (1, 1, 0);
+INSERT INTO OPENING_ENTITY_MOVES (OPENING_ENTITY_ID, MOVES_ID, PLY) VALUES (1, 2, 1);
+INSERT INTO OPENING_ENTITY_MOVES (OPENING_ENTITY_ID, MOVES_ID, PLY) VALUES (1, 3, 2);
+INSERT INTO OPENING_ENTITY_MOVES (OPENING_ENTITY_ID, MOVES_ID, PLY) VALUES (1, 4, 3);
+INSERT INTO OPENING_ENTITY_MOVES (OPENING_ENTITY_ID, MOVES_ID, PLY) VALUES (1, 5, 4);
 
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (1, 'Ganó A', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 1, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (2, 'Ganó B', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 1, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (3, 'Ganó B', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 1, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (4, 'Ganó A', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 1, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (5, 'Ganó A', TO_DATE('2023-12-02', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chess-concept-illustration_114360-6408.jpg', 1, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (6, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/man-woman-teamwork-strategy-business-concept-people-moving-chess-figures-as-metaphor-partnership-creative-solution-plan_575670-256.jpg', 2, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (7, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/two-young-man-use-strategy-competing-business-goals-cartoon-character-graphic-designer-vector-illustration_1150-56249.jpg', 2, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (8, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/hand-holding-king-while-playing-chess-business-competition-strategy-concept-flat-illustration-vector-design_1456-994.jpg', 2, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (9, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/hand-playing-chess_24908-68561.jpg', 2, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (10, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/flat-design-people-playing-chess_23-2149281228.jpg', 2, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (11, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 3, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (12, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/hand-playing-chess_24908-68561.jpg', 3, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (13, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 3, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (14, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/two-young-man-use-strategy-competing-business-goals-cartoon-character-graphic-designer-vector-illustration_1150-56249.jpg', 3, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (15, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/man-woman-teamwork-strategy-business-concept-people-moving-chess-figures-as-metaphor-partnership-creative-solution-plan_575670-256.jpg', 3, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (16, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chess-concept-illustration_114360-6408.jpg', 4, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (17, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 4, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (18, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 4, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (19, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 4, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (20, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 4, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (21, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chess-concept-illustration_114360-6408.jpg', 5, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (22, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 5, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (23, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 5, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (24, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 5, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (25, 'Ganó A', TO_DATE('2023-12-20', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 6, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (26, 'Ganó B', TO_DATE('2023-12-20', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 6, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (27, 'Ganó B', TO_DATE('2023-12-22', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 6, 1);
-INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID) VALUES (28, 'Ganó A', TO_DATE('2023-12-22', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 6, 1);
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (1, 'Ganó A', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 1, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (2, 'Ganó B', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 1, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (3, 'Ganó B', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 1, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (4, 'Ganó A', TO_DATE('2023-11-27', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 1, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (5, 'Ganó A', TO_DATE('2023-12-02', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chess-concept-illustration_114360-6408.jpg', 1, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (6, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/man-woman-teamwork-strategy-business-concept-people-moving-chess-figures-as-metaphor-partnership-creative-solution-plan_575670-256.jpg', 2, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (7, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/two-young-man-use-strategy-competing-business-goals-cartoon-character-graphic-designer-vector-illustration_1150-56249.jpg', 2, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (8, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/hand-holding-king-while-playing-chess-business-competition-strategy-concept-flat-illustration-vector-design_1456-994.jpg', 2, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (9, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/hand-playing-chess_24908-68561.jpg', 2, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (10, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/flat-design-people-playing-chess_23-2149281228.jpg', 2, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (11, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 3, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (12, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/hand-playing-chess_24908-68561.jpg', 3, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (13, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 3, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (14, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/two-young-man-use-strategy-competing-business-goals-cartoon-character-graphic-designer-vector-illustration_1150-56249.jpg', 3, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (15, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/man-woman-teamwork-strategy-business-concept-people-moving-chess-figures-as-metaphor-partnership-creative-solution-plan_575670-256.jpg', 3, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (16, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chess-concept-illustration_114360-6408.jpg', 4, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (17, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 4, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (18, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 4, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (19, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 4, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (20, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 4, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (21, 'Ganó A', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chess-concept-illustration_114360-6408.jpg', 5, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (22, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 5, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (23, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 5, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (24, 'Ganó B', TO_DATE('2023-12-17', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 5, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (25, 'Ganó A', TO_DATE('2023-12-20', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chess-game-board-pieces_29937-4041.jpg', 6, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (26, 'Ganó B', TO_DATE('2023-12-20', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/businessman-playing-chess_140689-4535.jpg', 6, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (27, 'Ganó B', TO_DATE('2023-12-22', 'YYYY-MM-DD'), 'https://img.freepik.com/premium-vector/chequered-chessboard-with-black-white-chess-pieces-isolated-white-background-strategic-tactics-game-intelligent-hobby-activity-competition-tournament-cartoon-vector-illustration_87771-15618.jpg', 6, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
+INSERT INTO GAME_ENTITY (ID, RESULT, DATE, IMAGE, TOURNAMENT_ID, OPENING_ID, MOVE_DATA) VALUES (28, 'Ganó A', TO_DATE('2023-12-22', 'YYYY-MM-DD'), 'https://img.freepik.com/free-vector/chessboard-isometric-composition_1284-29744.jpg', 6, 1, X'070C093405460AB908450A3006210B7E01840D3D0105087104580AF3048A0FBC');
 
 INSERT INTO PLAYER_ENTITY_GAMES (PLAYERS_ID, GAMES_ID) VALUES (1, 1);
 INSERT INTO PLAYER_ENTITY_GAMES (PLAYERS_ID, GAMES_ID) VALUES (2, 1);
@@ -112,904 +122,6 @@ INSERT INTO PLAYER_ENTITY_GAMES (PLAYERS_ID, GAMES_ID) VALUES (8, 27);
 INSERT INTO PLAYER_ENTITY_GAMES (PLAYERS_ID, GAMES_ID) VALUES (3, 28);
 INSERT INTO PLAYER_ENTITY_GAMES (PLAYERS_ID, GAMES_ID) VALUES (5, 28);
 
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (1, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (2, 'e5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (3, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (4, 'Nc6', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (5, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (6, 'a6', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (7, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (8, 'Nf6', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (9, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (10, 'Be7', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (11, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (12, 'd6', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (13, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (14, 'c6', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (15, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (16, 'exd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (17, 'e4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (18, 'e5', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (19, 'Nf3', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (20, 'Nc6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (21, 'Bb5', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (22, 'a6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (23, 'Ba4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (24, 'Nf6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (25, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (26, 'Be7', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (27, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (28, 'd6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (29, 'c4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (30, 'c6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (31, 'd4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (32, 'exd4', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (33, 'e4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (34, 'e5', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (35, 'Nf3', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (36, 'Nc6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (37, 'Bb5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (38, 'a6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (39, 'Ba4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (40, 'Nf6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (41, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (42, 'Be7', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (43, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (44, 'd6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (45, 'c4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (46, 'c6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (47, 'd4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (48, 'exd4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (49, 'e4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (50, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (51, 'Nf3', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (52, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (53, 'Bb5', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (54, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (55, 'Ba4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (56, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (57, 'O-O', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (58, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (59, 'O-O', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (60, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (61, 'c4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (62, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (63, 'd4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (64, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (65, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (66, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (67, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (68, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (69, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (70, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (71, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (72, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (73, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (74, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (75, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (76, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (77, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (78, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (79, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (80, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (81, 'e4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (82, 'e5', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (83, 'Nf3', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (84, 'Nc6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (85, 'Bb5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (86, 'a6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (87, 'Ba4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (88, 'Nf6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (89, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (90, 'Be7', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (91, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (92, 'd6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (93, 'c4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (94, 'c6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (95, 'd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (96, 'exd4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (97, 'e4', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (98, 'e5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (99, 'Nf3', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (100, 'Nc6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (101, 'Bb5', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (102, 'a6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (103, 'Ba4', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (104, 'Nf6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (105, 'O-O', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (106, 'Be7', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (107, 'O-O', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (108, 'd6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (109, 'c4', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (110, 'c6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (111, 'd4', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (112, 'exd4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (113, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (114, 'e5', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (115, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (116, 'Nc6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (117, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (118, 'a6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (119, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (120, 'Nf6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (121, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (122, 'Be7', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (123, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (124, 'd6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (125, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (126, 'c6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (127, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (128, 'exd4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (129, 'e4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (130, 'e5', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (131, 'Nf3', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (132, 'Nc6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (133, 'Bb5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (134, 'a6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (135, 'Ba4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (136, 'Nf6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (137, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (138, 'Be7', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (139, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (140, 'd6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (141, 'c4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (142, 'c6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (143, 'd4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (144, 'exd4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (145, 'e4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (146, 'e5', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (147, 'Nf3', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (148, 'Nc6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (149, 'Bb5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (150, 'a6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (151, 'Ba4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (152, 'Nf6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (153, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (154, 'Be7', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (155, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (156, 'd6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (157, 'c4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (158, 'c6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (159, 'd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (160, 'exd4', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (161, 'e4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (162, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (163, 'Nf3', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (164, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (165, 'Bb5', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (166, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (167, 'Ba4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (168, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (169, 'O-O', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (170, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (171, 'O-O', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (172, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (173, 'c4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (174, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (175, 'd4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (176, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (177, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (178, 'e5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (179, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (180, 'Nc6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (181, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (182, 'a6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (183, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (184, 'Nf6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (185, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (186, 'Be7', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (187, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (188, 'd6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (189, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (190, 'c6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (191, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (192, 'exd4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (193, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (194, 'e5', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (195, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (196, 'Nc6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (197, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (198, 'a6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (199, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (200, 'Nf6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (201, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (202, 'Be7', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (203, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (204, 'd6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (205, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (206, 'c6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (207, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (208, 'exd4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (209, 'e4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (210, 'e5', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (211, 'Nf3', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (212, 'Nc6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (213, 'Bb5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (214, 'a6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (215, 'Ba4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (216, 'Nf6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (217, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (218, 'Be7', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (219, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (220, 'd6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (221, 'c4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (222, 'c6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (223, 'd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (224, 'exd4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (225, 'e4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (226, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (227, 'Nf3', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (228, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (229, 'Bb5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (230, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (231, 'Ba4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (232, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (233, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (234, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (235, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (236, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (237, 'c4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (238, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (239, 'd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (240, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (241, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (242, 'e5', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (243, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (244, 'Nc6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (245, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (246, 'a6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (247, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (248, 'Nf6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (249, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (250, 'Be7', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (251, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (252, 'd6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (253, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (254, 'c6', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (255, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (256, 'exd4', 4);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (257, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (258, 'e5', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (259, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (260, 'Nc6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (261, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (262, 'a6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (263, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (264, 'Nf6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (265, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (266, 'Be7', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (267, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (268, 'd6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (269, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (270, 'c6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (271, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (272, 'exd4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (273, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (274, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (275, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (276, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (277, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (278, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (279, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (280, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (281, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (282, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (283, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (284, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (285, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (286, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (287, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (288, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (289, 'e4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (290, 'e5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (291, 'Nf3', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (292, 'Nc6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (293, 'Bb5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (294, 'a6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (295, 'Ba4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (296, 'Nf6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (297, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (298, 'Be7', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (299, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (300, 'd6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (301, 'c4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (302, 'c6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (303, 'd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (304, 'exd4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (305, 'e4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (306, 'e5', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (307, 'Nf3', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (308, 'Nc6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (309, 'Bb5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (310, 'a6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (311, 'Ba4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (312, 'Nf6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (313, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (314, 'Be7', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (315, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (316, 'd6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (317, 'c4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (318, 'c6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (319, 'd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (320, 'exd4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (321, 'e4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (322, 'e5', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (323, 'Nf3', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (324, 'Nc6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (325, 'Bb5', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (326, 'a6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (327, 'Ba4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (328, 'Nf6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (329, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (330, 'Be7', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (331, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (332, 'd6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (333, 'c4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (334, 'c6', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (335, 'd4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (336, 'exd4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (337, 'e4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (338, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (339, 'Nf3', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (340, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (341, 'Bb5', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (342, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (343, 'Ba4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (344, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (345, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (346, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (347, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (348, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (349, 'c4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (350, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (351, 'd4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (352, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (353, 'e4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (354, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (355, 'Nf3', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (356, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (357, 'Bb5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (358, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (359, 'Ba4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (360, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (361, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (362, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (363, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (364, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (365, 'c4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (366, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (367, 'd4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (368, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (369, 'e4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (370, 'e5', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (371, 'Nf3', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (372, 'Nc6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (373, 'Bb5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (374, 'a6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (375, 'Ba4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (376, 'Nf6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (377, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (378, 'Be7', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (379, 'O-O', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (380, 'd6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (381, 'c4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (382, 'c6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (383, 'd4', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (384, 'exd4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (385, 'e4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (386, 'e5', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (387, 'Nf3', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (388, 'Nc6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (389, 'Bb5', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (390, 'a6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (391, 'Ba4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (392, 'Nf6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (393, 'O-O', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (394, 'Be7', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (395, 'O-O', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (396, 'd6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (397, 'c4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (398, 'c6', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (399, 'd4', 6);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (400, 'exd4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (401, 'e4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (402, 'e5', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (403, 'Nf3', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (404, 'Nc6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (405, 'Bb5', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (406, 'a6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (407, 'Ba4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (408, 'Nf6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (409, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (410, 'Be7', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (411, 'O-O', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (412, 'd6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (413, 'c4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (414, 'c6', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (415, 'd4', 1);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (416, 'exd4', 7);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (417, 'e4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (418, 'e5', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (419, 'Nf3', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (420, 'Nc6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (421, 'Bb5', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (422, 'a6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (423, 'Ba4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (424, 'Nf6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (425, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (426, 'Be7', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (427, 'O-O', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (428, 'd6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (429, 'c4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (430, 'c6', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (431, 'd4', 2);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (432, 'exd4', 8);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (433, 'e4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (434, 'e5', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (435, 'Nf3', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (436, 'Nc6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (437, 'Bb5', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (438, 'a6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (439, 'Ba4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (440, 'Nf6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (441, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (442, 'Be7', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (443, 'O-O', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (444, 'd6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (445, 'c4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (446, 'c6', 5);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (447, 'd4', 3);
-INSERT INTO MOVE_ENTITY (ID, NOTATION, PLAYER_ID) VALUES (448, 'exd4', 5);
-
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 1);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 2);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 3);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 4);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 5);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 6);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 7);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 8);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 9);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 10);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 11);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 12);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 13);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 14);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 15);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (1, 16);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 17);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 18);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 19);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 20);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 21);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 22);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 23);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 24);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 25);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 26);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 27);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 28);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 29);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 30);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 31);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (2, 32);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 33);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 34);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 35);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 36);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 37);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 38);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 39);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 40);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 41);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 42);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 43);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 44);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 45);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 46);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 47);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (3, 48);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 49);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 50);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 51);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 52);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 53);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 54);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 55);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 56);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 57);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 58);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 59);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 60);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 61);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 62);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 63);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (4, 64);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 65);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 66);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 67);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 68);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 69);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 70);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 71);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 72);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 73);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 74);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 75);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 76);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 77);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 78);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 79);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (5, 80);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 81);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 82);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 83);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 84);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 85);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 86);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 87);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 88);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 89);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 90);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 91);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 92);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 93);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 94);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 95);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (6, 96);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 97);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 98);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 99);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 100);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 101);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 102);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 103);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 104);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 105);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 106);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 107);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 108);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 109);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 110);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 111);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (7, 112);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 113);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 114);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 115);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 116);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 117);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 118);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 119);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 120);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 121);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 122);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 123);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 124);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 125);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 126);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 127);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (8, 128);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 129);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 130);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 131);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 132);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 133);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 134);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 135);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 136);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 137);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 138);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 139);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 140);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 141);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 142);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 143);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (9, 144);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 145);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 146);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 147);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 148);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 149);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 150);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 151);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 152);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 153);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 154);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 155);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 156);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 157);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 158);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 159);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (10, 160);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 161);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 162);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 163);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 164);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 165);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 166);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 167);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 168);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 169);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 170);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 171);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 172);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 173);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 174);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 175);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (11, 176);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 177);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 178);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 179);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 180);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 181);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 182);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 183);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 184);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 185);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 186);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 187);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 188);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 189);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 190);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 191);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (12, 192);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 193);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 194);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 195);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 196);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 197);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 198);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 199);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 200);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 201);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 202);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 203);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 204);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 205);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 206);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 207);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (13, 208);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 209);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 210);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 211);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 212);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 213);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 214);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 215);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 216);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 217);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 218);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 219);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 220);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 221);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 222);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 223);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (14, 224);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 225);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 226);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 227);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 228);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 229);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 230);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 231);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 232);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 233);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 234);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 235);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 236);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 237);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 238);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 239);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (15, 240);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 241);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 242);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 243);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 244);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 245);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 246);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 247);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 248);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 249);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 250);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 251);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 252);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 253);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 254);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 255);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (16, 256);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 257);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 258);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 259);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 260);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 261);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 262);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 263);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 264);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 265);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 266);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 267);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 268);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 269);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 270);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 271);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (17, 272);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 273);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 274);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 275);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 276);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 277);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 278);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 279);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 280);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 281);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 282);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 283);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 284);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 285);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 286);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 287);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (18, 288);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 289);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 290);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 291);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 292);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 293);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 294);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 295);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 296);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 297);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 298);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 299);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 300);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 301);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 302);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 303);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (19, 304);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 305);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 306);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 307);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 308);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 309);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 310);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 311);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 312);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 313);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 314);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 315);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 316);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 317);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 318);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 319);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (20, 320);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 321);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 322);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 323);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 324);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 325);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 326);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 327);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 328);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 329);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 330);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 331);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 332);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 333);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 334);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 335);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (21, 336);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 337);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 338);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 339);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 340);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 341);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 342);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 343);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 344);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 345);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 346);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 347);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 348);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 349);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 350);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 351);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (22, 352);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 353);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 354);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 355);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 356);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 357);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 358);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 359);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 360);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 361);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 362);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 363);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 364);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 365);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 366);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 367);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (23, 368);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 369);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 370);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 371);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 372);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 373);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 374);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 375);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 376);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 377);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 378);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 379);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 380);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 381);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 382);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 383);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (24, 384);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 385);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 386);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 387);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 388);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 389);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 390);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 391);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 392);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 393);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 394);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 395);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 396);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 397);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 398);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 399);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (25, 400);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 401);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 402);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 403);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 404);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 405);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 406);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 407);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 408);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 409);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 410);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 411);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 412);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 413);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 414);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 415);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (26, 416);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 417);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 418);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 419);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 420);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 421);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 422);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 423);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 424);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 425);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 426);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 427);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 428);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 429);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 430);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 431);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (27, 432);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 433);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 434);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 435);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 436);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 437);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 438);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 439);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 440);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 441);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 442);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 443);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 444);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 445);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 446);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 447);
-INSERT INTO GAME_ENTITY_MOVES (GAME_ENTITY_ID, MOVES_ID) VALUES (28, 448);
-
 INSERT INTO ADMINISTRATOR_ENTITY (ID, IDNUMBER, NAME, PASSWORD, PHOTOURL, USERNAME) VALUES (1, '0123456789', 'Wilmer Arevalo', '1234', 'https://cdn.icon-icons.com/icons2/2859/PNG/512/avatar_face_man_boy_profile_smiley_happy_people_icon_181659.png', 'wilmer');
 INSERT INTO ADMINISTRATOR_ENTITY (ID, IDNUMBER, NAME, PASSWORD, PHOTOURL, USERNAME) VALUES (2, '9876543210', 'Mateo Calderon', '1234', 'https://cdn.icon-icons.com/icons2/2859/PNG/512/avatar_face_man_boy_male_profile_smiley_happy_people_icon_181661.png', 'mateo');
 
@@ -1177,4 +289,13 @@ INSERT INTO GAME_ENTITY_COMMENTS (GAME_ENTITY_ID, COMMENTS_ID) VALUES (27, 78);
 INSERT INTO GAME_ENTITY_COMMENTS (GAME_ENTITY_ID, COMMENTS_ID) VALUES (27, 79);
 INSERT INTO GAME_ENTITY_COMMENTS (GAME_ENTITY_ID, COMMENTS_ID) VALUES (28, 80);
 INSERT INTO GAME_ENTITY_COMMENTS (GAME_ENTITY_ID, COMMENTS_ID) VALUES (28, 81);
-INSERT INTO GAME_ENTITY_COMMENTS (GAME_ENTITY_ID, COMMENTS_ID) VALUES (28, 82);
\ No newline at end of file
+INSERT INTO GAME_ENTITY_COMMENTS (GAME_ENTITY_ID, COMMENTS_ID) VALUES (28, 82);
+
+ALTER SEQUENCE ADMINISTRATOR_ENTITY_SEQ RESTART WITH 1001;
+ALTER SEQUENCE COMMENT_ENTITY_SEQ RESTART WITH 1001;
+ALTER SEQUENCE GAME_ENTITY_SEQ RESTART WITH 1001;
+ALTER SEQUENCE LEAGUE_ENTITY_SEQ RESTART WITH 1001;
+ALTER SEQUENCE MOVE_ENTITY_SEQ RESTART WITH 1001;
+ALTER SEQUENCE OPENING_ENTITY_SEQ RESTART WITH 1001;
+ALTER SEQUENCE PLAYER_ENTITY_SEQ RESTART WITH 1001;
+ALTER SEQUENCE TOURNAMENT_ENTITY_SEQ RESTART WITH 1001;
@@ -0,0 +1,73 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The Berger tables for a round-robin, for players numbered from 0 in order of
+ * pairing number. With an odd number of players a dummy last player is added
+ * and whoever meets it sits the round out.
+ *
+ * The last player stays put and the others rotate: in round r the first board
+ * has the last player against player r·n/2 mod (n − 1), and the other boards
+ * pair the players on either side of that one, so that every round matches the
+ * FIDE tables, colours included. In a double round-robin the second cycle
+ * repeats the first with the colours reversed.
+ */
+public final class BergerTable {
+    public static final int NONE = -1;
+
+    private final int players;
+    private final int size;
+    private final int cycles;
+
+    public BergerTable(int players, int cycles) {
+        if (players < 2 || cycles < 1) {
+            throw new IllegalArgumentException("A round-robin needs at least two players and one cycle.");
+        }
+        this.players = players;
+        this.size = players + players % 2;
+        this.cycles = cycles;
+    }
+
+    public int rounds() {
+        return (size - 1) * cycles;
+    }
+
+    // Including the board of the player who sits the round out, if any.
+    public int boards() {
+        return size / 2;
+    }
+
+    // The rounds and boards count from 0; NONE stands for the dummy player.
+    public int white(int round, int board) {
+        return reversed(round) ? away(round, board) : home(round, board);
+    }
+
+    public int black(int round, int board) {
+        return reversed(round) ? home(round, board) : away(round, board);
+    }
+
+    private boolean reversed(int round) {
+        return round / (size - 1) % 2 == 1;
+    }
+
+    private int home(int round, int board) {
+        int r = round % (size - 1);
+        int pivot = (int) ((long) r * (size / 2) % (size - 1));
+        if (board == 0) {
+            return r % 2 == 0 ? pivot : last();
+        }
+        return (pivot + board) % (size - 1);
+    }
+
+    private int away(int round, int board) {
+        int r = round % (size - 1);
+        int pivot = (int) ((long) r * (size / 2) % (size - 1));
+        if (board == 0) {
+            return r % 2 == 0 ? last() : pivot;
+        }
+        return (pivot + size - 1 - board) % (size - 1);
+    }
+
+    private int last() {
+        return size == players ? size - 1 : NONE;
+    }
+}
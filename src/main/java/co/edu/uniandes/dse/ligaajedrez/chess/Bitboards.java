@@ -0,0 +1,180 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.Arrays;
+
+/*
+ * Attack tables over 64-bit boards, one bit per square with a1 = bit 0 and h8 =
+ * bit 63. Knight, king and pawn attacks are plain per-square tables. Rook and
+ * bishop attacks use magic bitboards: the blockers on a square's rays are
+ * multiplied by a magic number whose high bits index a table that holds the
+ * attack set for every blocker combination, so a sliding lookup is one multiply
+ * and one array read. The magics are searched once when the class loads, from a
+ * fixed seed, so every run builds the same tables.
+ */
+public final class Bitboards {
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_H = FILE_A << 7;
+    public static final long RANK_1 = 0xFFL;
+    public static final long RANK_8 = RANK_1 << 56;
+    // b1, d1, ..., a2, c2, ...: the squares of a light-squared bishop.
+    public static final long LIGHT_SQUARES = 0x55AA55AA55AA55AAL;
+
+    private static final long[] KNIGHT = new long[64];
+    private static final long[] KING = new long[64];
+    private static final long[][] PAWN = new long[2][64];
+
+    private static final long[] ROOK_MASK = new long[64];
+    private static final long[] ROOK_MAGIC = new long[64];
+    private static final int[] ROOK_SHIFT = new int[64];
+    private static final long[][] ROOK_TABLE = new long[64][];
+
+    private static final long[] BISHOP_MASK = new long[64];
+    private static final long[] BISHOP_MAGIC = new long[64];
+    private static final int[] BISHOP_SHIFT = new int[64];
+    private static final long[][] BISHOP_TABLE = new long[64][];
+
+    private static final int[][] ROOK_DIRECTIONS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+    private static final int[][] BISHOP_DIRECTIONS = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+    private static long seed = 0x2545F4914F6CDD1DL;
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            KNIGHT[square] = steps(square, new int[][] { { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 }, { -1, -2 }, { -2, -1 }, { -2, 1 }, { -1, 2 } });
+            KING[square] = steps(square, new int[][] { { 1, 0 }, { 1, 1 }, { 0, 1 }, { -1, 1 }, { -1, 0 }, { -1, -1 }, { 0, -1 }, { 1, -1 } });
+            PAWN[Piece.WHITE][square] = steps(square, new int[][] { { -1, 1 }, { 1, 1 } });
+            PAWN[Piece.BLACK][square] = steps(square, new int[][] { { -1, -1 }, { 1, -1 } });
+            initMagic(square, ROOK_DIRECTIONS, ROOK_MASK, ROOK_MAGIC, ROOK_SHIFT, ROOK_TABLE);
+            initMagic(square, BISHOP_DIRECTIONS, BISHOP_MASK, BISHOP_MAGIC, BISHOP_SHIFT, BISHOP_TABLE);
+        }
+    }
+
+    private Bitboards() {
+    }
+
+    public static long knightAttacks(int square) {
+        return KNIGHT[square];
+    }
+
+    public static long kingAttacks(int square) {
+        return KING[square];
+    }
+
+    // The squares a pawn of the given color standing on the square attacks.
+    public static long pawnAttacks(int color, int square) {
+        return PAWN[color][square];
+    }
+
+    public static long rookAttacks(int square, long occupied) {
+        return ROOK_TABLE[square][(int) (((occupied & ROOK_MASK[square]) * ROOK_MAGIC[square]) >>> ROOK_SHIFT[square])];
+    }
+
+    public static long bishopAttacks(int square, long occupied) {
+        return BISHOP_TABLE[square][(int) (((occupied & BISHOP_MASK[square]) * BISHOP_MAGIC[square]) >>> BISHOP_SHIFT[square])];
+    }
+
+    public static long queenAttacks(int square, long occupied) {
+        return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    private static long steps(int square, int[][] deltas) {
+        long attacks = 0;
+        int file = square & 7;
+        int rank = square >>> 3;
+        for (int[] delta : deltas) {
+            int toFile = file + delta[0];
+            int toRank = rank + delta[1];
+            if (toFile >= 0 && toFile < 8 && toRank >= 0 && toRank < 8) {
+                attacks |= bit(toRank * 8 + toFile);
+            }
+        }
+        return attacks;
+    }
+
+    // The attacks of a slider walking each ray until it leaves the board or hits a blocker.
+    private static long slide(int square, long occupied, int[][] directions) {
+        long attacks = 0;
+        for (int[] direction : directions) {
+            int file = (square & 7) + direction[0];
+            int rank = (square >>> 3) + direction[1];
+            while (file >= 0 && file < 8 && rank >= 0 && rank < 8) {
+                long target = bit(rank * 8 + file);
+                attacks |= target;
+                if ((occupied & target) != 0) {
+                    break;
+                }
+                file += direction[0];
+                rank += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    // The relevant blockers of a ray exclude its last square: a piece there blocks nothing.
+    private static long relevantMask(int square, int[][] directions) {
+        long mask = 0;
+        for (int[] direction : directions) {
+            int file = (square & 7) + direction[0];
+            int rank = (square >>> 3) + direction[1];
+            while (file + direction[0] >= 0 && file + direction[0] < 8 && rank + direction[1] >= 0 && rank + direction[1] < 8) {
+                mask |= bit(rank * 8 + file);
+                file += direction[0];
+                rank += direction[1];
+            }
+        }
+        return mask;
+    }
+
+    private static void initMagic(int square, int[][] directions, long[] masks, long[] magics, int[] shifts, long[][] tables) {
+        long mask = relevantMask(square, directions);
+        int bits = Long.bitCount(mask);
+        int size = 1 << bits;
+        long[] occupancies = new long[size];
+        long[] attacks = new long[size];
+        long subset = 0;
+        for (int i = 0; i < size; i++) {
+            occupancies[i] = subset;
+            attacks[i] = slide(square, subset, directions);
+            subset = (subset - mask) & mask;
+        }
+        long[] table = new long[size];
+        boolean[] used = new boolean[size];
+        int shift = 64 - bits;
+        while (true) {
+            long magic = nextRandom() & nextRandom() & nextRandom();
+            if (Long.bitCount((mask * magic) & 0xFF00000000000000L) < 6) {
+                continue;
+            }
+            Arrays.fill(used, false);
+            boolean collision = false;
+            for (int i = 0; i < size && !collision; i++) {
+                int index = (int) ((occupancies[i] * magic) >>> shift);
+                if (!used[index]) {
+                    used[index] = true;
+                    table[index] = attacks[i];
+                } else if (table[index] != attacks[i]) {
+                    collision = true;
+                }
+            }
+            if (!collision) {
+                masks[square] = mask;
+                magics[square] = magic;
+                shifts[square] = shift;
+                tables[square] = table;
+                return;
+            }
+        }
+    }
+
+    // xorshift64*, seeded with a constant so the search always finds the same magics.
+    private static long nextRandom() {
+        seed ^= seed >>> 12;
+        seed ^= seed << 25;
+        seed ^= seed >>> 27;
+        return seed * 0x2545F4914F6CDD1DL;
+    }
+}
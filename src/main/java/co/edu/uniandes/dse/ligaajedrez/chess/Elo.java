@@ -0,0 +1,47 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The Elo rating update, with FIDE's development coefficients: K is 40 over a
+ * player's first PROVISIONAL_GAMES games, 20 below MASTER_RATING and 10 from
+ * it. As in FIDE's rules, a difference of more than MAX_DIFFERENCE points counts
+ * as MAX_DIFFERENCE, so a mismatch never makes a win worth nothing.
+ */
+public final class Elo {
+    public static final int INITIAL_RATING = 1500;
+    public static final int PROVISIONAL_GAMES = 30;
+    public static final int MASTER_RATING = 2400;
+    public static final int MAX_DIFFERENCE = 400;
+
+    private Elo() {
+    }
+
+    // The score a player is expected to make against the opponent, between 0 and 1.
+    public static double expectedScore(int rating, int opponentRating) {
+        int difference = Math.max(-MAX_DIFFERENCE, Math.min(MAX_DIFFERENCE, opponentRating - rating));
+        return 1 / (1 + Math.pow(10, difference / 400.0));
+    }
+
+    public static int kFactor(int rating, int games) {
+        if (games < PROVISIONAL_GAMES) {
+            return 40;
+        }
+        return rating < MASTER_RATING ? 20 : 10;
+    }
+
+    // The points a player with the rating and number of rated games gains (or loses) by scoring against the opponent.
+    public static int change(int rating, int games, int opponentRating, double score) {
+        return (int) Math.round(kFactor(rating, games) * (score - expectedScore(rating, opponentRating)));
+    }
+
+    // White's score in a game with the result.
+    public static double whiteScore(GameResult result) {
+        switch (result) {
+            case WHITE_WINS:
+                return 1;
+            case BLACK_WINS:
+                return 0;
+            default:
+                return 0.5;
+        }
+    }
+}
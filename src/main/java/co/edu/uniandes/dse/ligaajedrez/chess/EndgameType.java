@@ -0,0 +1,49 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The kind of material left on the board, by the pieces other than kings and
+ * pawns of both sides together: a rook endgame has rooks and nothing else, a
+ * minor piece one knights and bishops, and so on. Bishops alone are told apart
+ * by colour: one bishop each on squares of opposite colours is its own type.
+ */
+public enum EndgameType {
+    PAWN,
+    KNIGHT,
+    BISHOP,
+    OPPOSITE_BISHOPS,
+    MINOR_PIECE,
+    ROOK,
+    ROOK_MINOR_PIECE,
+    QUEEN,
+    OTHER;
+
+    public static EndgameType of(Position position) {
+        long knights = position.pieces(Piece.WHITE, Piece.KNIGHT) | position.pieces(Piece.BLACK, Piece.KNIGHT);
+        long bishops = position.pieces(Piece.WHITE, Piece.BISHOP) | position.pieces(Piece.BLACK, Piece.BISHOP);
+        long rooks = position.pieces(Piece.WHITE, Piece.ROOK) | position.pieces(Piece.BLACK, Piece.ROOK);
+        long queens = position.pieces(Piece.WHITE, Piece.QUEEN) | position.pieces(Piece.BLACK, Piece.QUEEN);
+        long minors = knights | bishops;
+        if (queens != 0) {
+            return (minors | rooks) == 0 ? QUEEN : OTHER;
+        }
+        if (rooks != 0) {
+            return minors == 0 ? ROOK : ROOK_MINOR_PIECE;
+        }
+        if (knights != 0) {
+            return bishops == 0 ? KNIGHT : MINOR_PIECE;
+        }
+        if (bishops == 0) {
+            return PAWN;
+        }
+        return oppositeBishops(position) ? OPPOSITE_BISHOPS : BISHOP;
+    }
+
+    private static boolean oppositeBishops(Position position) {
+        long white = position.pieces(Piece.WHITE, Piece.BISHOP);
+        long black = position.pieces(Piece.BLACK, Piece.BISHOP);
+        if (Long.bitCount(white) != 1 || Long.bitCount(black) != 1) {
+            return false;
+        }
+        return ((white & Bitboards.LIGHT_SQUARES) == 0) != ((black & Bitboards.LIGHT_SQUARES) == 0);
+    }
+}
@@ -0,0 +1,39 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * A move played from a position in the explorer, with how the games that played
+ * it ended.
+ */
+public final class ExplorerMove {
+    private final String notation;
+    private final long whiteWins;
+    private final long draws;
+    private final long blackWins;
+
+    ExplorerMove(String notation, long whiteWins, long draws, long blackWins) {
+        this.notation = notation;
+        this.whiteWins = whiteWins;
+        this.draws = draws;
+        this.blackWins = blackWins;
+    }
+
+    public String getNotation() {
+        return notation;
+    }
+
+    public long getWhiteWins() {
+        return whiteWins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getBlackWins() {
+        return blackWins;
+    }
+
+    public long getGames() {
+        return whiteWins + draws + blackWins;
+    }
+}
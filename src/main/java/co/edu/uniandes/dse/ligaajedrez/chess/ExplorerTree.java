@@ -0,0 +1,220 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * The opening explorer: for every position reached in a scope (a tournament, or
+ * ALL games), the moves played from it and how the games that played them ended.
+ * Nodes are keyed by scope and Zobrist hash, so a lookup is one hash probe and
+ * transposed move orders share a node. A node is replaced, never changed, when a
+ * game is counted in or out of it, so readers need no lock.
+ */
+public final class ExplorerTree {
+    public static final long ALL = Long.MIN_VALUE;
+
+    private static final int SNAPSHOT_MAGIC = 0x45585031;
+
+    private final Map<Key, Node> nodes = new ConcurrentHashMap<>();
+
+    /*
+     * Counts a game in (delta 1) or out (delta -1) of the nodes of its plies from
+     * fromPly on. Throws an IllegalMoveException if the data is not a legal game.
+     */
+    public void add(long scope, byte[] moveData, int fromPly, GameResult result, int delta) {
+        Position position = Position.start();
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        int plies = MoveCodec.plies(moveData);
+        for (int ply = 0; ply < plies; ply++) {
+            int code = MoveCodec.code(moveData, ply);
+            if (ply >= fromPly) {
+                nodes.compute(new Key(scope, position.hash()), (key, node) -> Node.add(node, code, result, delta));
+            }
+            if (ply + 1 < plies) {
+                position.make(MoveCodec.decode(position, code, buffer));
+            }
+        }
+    }
+
+    // The moves played from the position in the scopes, merged and most played first.
+    public List<ExplorerMove> moves(Position position, Collection<Long> scopes) {
+        Node merged = null;
+        for (long scope : scopes) {
+            Node node = nodes.get(new Key(scope, position.hash()));
+            merged = merged == null ? node : Node.merge(merged, node);
+        }
+        List<ExplorerMove> moves = new ArrayList<>();
+        if (merged == null) {
+            return moves;
+        }
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (int i = 0; i < merged.codes.length; i++) {
+            int move;
+            try {
+                move = MoveCodec.decode(position, merged.codes[i], buffer);
+            } catch (IllegalMoveException e) {
+                // Another position with the same hash; vanishingly rare.
+                continue;
+            }
+            moves.add(new ExplorerMove(San.format(position, move), merged.counts[i * 3], merged.counts[i * 3 + 1], merged.counts[i * 3 + 2]));
+        }
+        moves.sort(Comparator.comparingLong(ExplorerMove::getGames).reversed());
+        return moves;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /*
+     * Snapshot format: a magic number, the node count, and per node its scope,
+     * hash and moves, each move as its code and three result counts.
+     */
+    public void write(DataOutput output) throws IOException {
+        List<Map.Entry<Key, Node>> entries = new ArrayList<>(nodes.entrySet());
+        output.writeInt(SNAPSHOT_MAGIC);
+        output.writeInt(entries.size());
+        for (Map.Entry<Key, Node> entry : entries) {
+            Node node = entry.getValue();
+            output.writeLong(entry.getKey().scope);
+            output.writeLong(entry.getKey().hash);
+            output.writeShort(node.codes.length);
+            for (int i = 0; i < node.codes.length; i++) {
+                output.writeShort(node.codes[i]);
+                for (int result = 0; result < 3; result++) {
+                    output.writeInt(node.counts[i * 3 + result]);
+                }
+            }
+        }
+    }
+
+    public static ExplorerTree read(DataInput input) throws IOException {
+        if (input.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not an explorer snapshot.");
+        }
+        ExplorerTree tree = new ExplorerTree();
+        int size = input.readInt();
+        for (int n = 0; n < size; n++) {
+            Key key = new Key(input.readLong(), input.readLong());
+            int moves = input.readUnsignedShort();
+            int[] codes = new int[moves];
+            int[] counts = new int[moves * 3];
+            for (int i = 0; i < moves; i++) {
+                codes[i] = input.readUnsignedShort();
+                for (int result = 0; result < 3; result++) {
+                    counts[i * 3 + result] = input.readInt();
+                }
+            }
+            tree.nodes.put(key, new Node(codes, counts));
+        }
+        return tree;
+    }
+
+    private static final class Key {
+        private final long scope;
+        private final long hash;
+
+        Key(long scope, long hash) {
+            this.scope = scope;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).scope == scope && ((Key) other).hash == hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash * 31 + scope);
+        }
+    }
+
+    // The move codes played from a position and, per move, the white win, draw and black win counts.
+    private static final class Node {
+        private final int[] codes;
+        private final int[] counts;
+
+        Node(int[] codes, int[] counts) {
+            this.codes = codes;
+            this.counts = counts;
+        }
+
+        // The node with the game counted in or out, or null when no game is left in it.
+        static Node add(Node node, int code, GameResult result, int delta) {
+            int[] codes = node == null ? new int[0] : node.codes;
+            int[] counts = node == null ? new int[0] : node.counts;
+            int index = indexOf(codes, code);
+            if (index < 0) {
+                if (delta < 0) {
+                    return node;
+                }
+                index = codes.length;
+                codes = Arrays.copyOf(codes, index + 1);
+                counts = Arrays.copyOf(counts, (index + 1) * 3);
+                codes[index] = code;
+            } else {
+                counts = counts.clone();
+            }
+            counts[index * 3 + result.ordinal()] = Math.max(0, counts[index * 3 + result.ordinal()] + delta);
+            if (counts[index * 3] + counts[index * 3 + 1] + counts[index * 3 + 2] == 0) {
+                if (codes.length == 1) {
+                    return null;
+                }
+                return remove(codes, counts, index);
+            }
+            return new Node(codes, counts);
+        }
+
+        private static Node remove(int[] codes, int[] counts, int index) {
+            int[] newCodes = new int[codes.length - 1];
+            int[] newCounts = new int[newCodes.length * 3];
+            System.arraycopy(codes, 0, newCodes, 0, index);
+            System.arraycopy(codes, index + 1, newCodes, index, newCodes.length - index);
+            System.arraycopy(counts, 0, newCounts, 0, index * 3);
+            System.arraycopy(counts, (index + 1) * 3, newCounts, index * 3, newCounts.length - index * 3);
+            return new Node(newCodes, newCounts);
+        }
+
+        static Node merge(Node first, Node second) {
+            if (second == null) {
+                return first;
+            }
+            if (first == null) {
+                return second;
+            }
+            int[] codes = first.codes.clone();
+            int[] counts = first.counts.clone();
+            for (int i = 0; i < second.codes.length; i++) {
+                int index = indexOf(codes, second.codes[i]);
+                if (index < 0) {
+                    index = codes.length;
+                    codes = Arrays.copyOf(codes, index + 1);
+                    counts = Arrays.copyOf(counts, (index + 1) * 3);
+                    codes[index] = second.codes[i];
+                }
+                for (int result = 0; result < 3; result++) {
+                    counts[index * 3 + result] += second.counts[i * 3 + result];
+                }
+            }
+            return new Node(codes, counts);
+        }
+
+        private static int indexOf(int[] codes, int code) {
+            for (int i = 0; i < codes.length; i++) {
+                if (codes[i] == code) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The position of a game at one ply, with the move that reached it.
+ */
+public final class GameBoard {
+    private final int ply;
+    private final int plies;
+    private final Position position;
+    private final String move;
+
+    public GameBoard(int ply, int plies, Position position, String move) {
+        this.ply = ply;
+        this.plies = plies;
+        this.position = position;
+        this.move = move;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    // The plies of the whole game.
+    public int getPlies() {
+        return plies;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    // The SAN of the move that reached the position, or null at the start.
+    public String getMove() {
+        return move;
+    }
+}
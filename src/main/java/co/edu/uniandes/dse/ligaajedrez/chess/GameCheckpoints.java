@@ -0,0 +1,69 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * Random access to the positions of a game. The game is replayed once, keeping
+ * the FEN of every INTERVAL-th position; the position at any ply is then its
+ * checkpoint plus fewer than INTERVAL moves, whatever the length of the game.
+ * Checkpoints are kept as FENs, a few dozen bytes each, so many games fit in a
+ * cache.
+ */
+public final class GameCheckpoints {
+    public static final int INTERVAL = 16;
+
+    private final byte[] moveData;
+    private final String[] fens;
+
+    private GameCheckpoints(byte[] moveData, String[] fens) {
+        this.moveData = moveData;
+        this.fens = fens;
+    }
+
+    // Replays the moves, or throws an IllegalMoveException at the first one that is not legal.
+    public static GameCheckpoints of(byte[] moveData) {
+        int plies = MoveCodec.plies(moveData);
+        String[] fens = new String[plies / INTERVAL + 1];
+        Position position = Position.start();
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (int ply = 0;; ply++) {
+            if (ply % INTERVAL == 0) {
+                fens[ply / INTERVAL] = position.toFen();
+            }
+            if (ply == plies) {
+                break;
+            }
+            position.make(MoveCodec.decode(position, MoveCodec.code(moveData, ply), buffer));
+        }
+        return new GameCheckpoints(moveData, fens);
+    }
+
+    public int plies() {
+        return MoveCodec.plies(moveData);
+    }
+
+    public int checkpoints() {
+        return fens.length;
+    }
+
+    // The position after the given number of plies, from 0 (the start) to plies().
+    public Position positionAt(int ply) {
+        if (ply < 0 || ply > plies()) {
+            throw new IndexOutOfBoundsException("The ply " + ply + " is not in the game.");
+        }
+        Position position = Position.fromFen(fens[ply / INTERVAL]);
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (int replayed = ply - ply % INTERVAL; replayed < ply; replayed++) {
+            position.make(MoveCodec.decode(position, MoveCodec.code(moveData, replayed), buffer));
+        }
+        return position;
+    }
+
+    // The SAN of the move that reached the given ply, or null at the start.
+    public String moveAt(int ply) {
+        if (ply == 0) {
+            return null;
+        }
+        Position position = positionAt(ply - 1);
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        return San.format(position, MoveCodec.decode(position, MoveCodec.code(moveData, ply - 1), buffer));
+    }
+}
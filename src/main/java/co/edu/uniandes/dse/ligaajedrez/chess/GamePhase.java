@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The phase of a game, judged by the pieces left on the board. Knights and
+ * bishops count one, rooks two and queens four, 24 in all at the start: the
+ * opening lasts while none of them has been traded, and the endgame begins once
+ * ENDGAME_UNITS or fewer are left, as with a queen or two rooks each.
+ */
+public enum GamePhase {
+    OPENING,
+    MIDDLEGAME,
+    ENDGAME;
+
+    public static final int OPENING_UNITS = 24;
+    public static final int ENDGAME_UNITS = 8;
+
+    public static GamePhase of(int units) {
+        if (units >= OPENING_UNITS) {
+            return OPENING;
+        }
+        return units <= ENDGAME_UNITS ? ENDGAME : MIDDLEGAME;
+    }
+}
@@ -0,0 +1,45 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The outcome of a finished game. Results are stored as free text: the PGN forms
+ * ("1-0", "0-1", "1/2-1/2") and the league's own ("Ganó A", "Ganó B", "Tablas"),
+ * where player A is the one with the white pieces.
+ */
+public enum GameResult {
+    WHITE_WINS,
+    DRAW,
+    BLACK_WINS;
+
+    // The PGN form of the result.
+    public String pgn() {
+        switch (this) {
+            case WHITE_WINS:
+                return "1-0";
+            case BLACK_WINS:
+                return "0-1";
+            default:
+                return "1/2-1/2";
+        }
+    }
+
+    // The result the text stands for, or null for an unknown or unfinished one.
+    public static GameResult parse(String result) {
+        if (result == null) {
+            return null;
+        }
+        switch (result.trim()) {
+            case "1-0":
+            case "Ganó A":
+                return WHITE_WINS;
+            case "0-1":
+            case "Ganó B":
+                return BLACK_WINS;
+            case "1/2-1/2":
+            case "½-½":
+            case "Tablas":
+                return DRAW;
+            default:
+                return null;
+        }
+    }
+}
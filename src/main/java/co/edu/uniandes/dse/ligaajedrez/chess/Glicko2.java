@@ -0,0 +1,102 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The Glicko-2 rating update of one player over a rating period, as described in
+ * Glickman's "Example of the Glicko-2 system". Ratings and deviations are given
+ * and returned on the familiar Glicko scale and converted internally. The new
+ * volatility is found with the Illinois variant of regula falsi, to EPSILON.
+ * A player without games in the period keeps the rating and volatility, and
+ * the deviation grows with the volatility.
+ */
+public final class Glicko2 {
+    public static final double INITIAL_RATING = 1500;
+    public static final double INITIAL_DEVIATION = 350;
+    public static final double INITIAL_VOLATILITY = 0.06;
+    // Constrains how fast the volatility moves; Glickman suggests 0.3 to 1.2.
+    public static final double TAU = 0.5;
+    public static final double SCALE = 173.7178;
+    static final double EPSILON = 0.000001;
+
+    public static final int RATING = 0;
+    public static final int DEVIATION = 1;
+    public static final int VOLATILITY = 2;
+
+    private Glicko2() {
+    }
+
+    /*
+     * Writes the rating, deviation and volatility of the player after the period
+     * into result, at RATING, DEVIATION and VOLATILITY. The player's games are the
+     * first games entries of the opponent arrays and scores.
+     */
+    public static void update(double rating, double deviation, double volatility, double[] opponentRatings, double[] opponentDeviations,
+            double[] scores, int games, double tau, double[] result) {
+        double mu = (rating - INITIAL_RATING) / SCALE;
+        double phi = deviation / SCALE;
+        if (games == 0) {
+            result[RATING] = rating;
+            result[DEVIATION] = Math.sqrt(phi * phi + volatility * volatility) * SCALE;
+            result[VOLATILITY] = volatility;
+            return;
+        }
+        double inverseVariance = 0;
+        double improvement = 0;
+        for (int i = 0; i < games; i++) {
+            double opponentMu = (opponentRatings[i] - INITIAL_RATING) / SCALE;
+            double g = g(opponentDeviations[i] / SCALE);
+            double expected = 1 / (1 + Math.exp(-g * (mu - opponentMu)));
+            inverseVariance += g * g * expected * (1 - expected);
+            improvement += g * (scores[i] - expected);
+        }
+        double variance = 1 / inverseVariance;
+        double delta = variance * improvement;
+        double sigma = volatility(phi, volatility, variance, delta, tau);
+        double phiStar = Math.sqrt(phi * phi + sigma * sigma);
+        double newPhi = 1 / Math.sqrt(1 / (phiStar * phiStar) + 1 / variance);
+        double newMu = mu + newPhi * newPhi * improvement;
+        result[RATING] = newMu * SCALE + INITIAL_RATING;
+        result[DEVIATION] = newPhi * SCALE;
+        result[VOLATILITY] = sigma;
+    }
+
+    private static double g(double phi) {
+        return 1 / Math.sqrt(1 + 3 * phi * phi / (Math.PI * Math.PI));
+    }
+
+    // Step 5 of the algorithm: the root of f, bracketed between A and B.
+    private static double volatility(double phi, double sigma, double variance, double delta, double tau) {
+        double a = Math.log(sigma * sigma);
+        double lower = a;
+        double upper;
+        if (delta * delta > phi * phi + variance) {
+            upper = Math.log(delta * delta - phi * phi - variance);
+        } else {
+            int k = 1;
+            while (f(a - k * tau, phi, variance, delta, a, tau) < 0) {
+                k++;
+            }
+            upper = a - k * tau;
+        }
+        double fLower = f(lower, phi, variance, delta, a, tau);
+        double fUpper = f(upper, phi, variance, delta, a, tau);
+        while (Math.abs(upper - lower) > EPSILON) {
+            double c = lower + (lower - upper) * fLower / (fUpper - fLower);
+            double fC = f(c, phi, variance, delta, a, tau);
+            if (fC * fUpper <= 0) {
+                lower = upper;
+                fLower = fUpper;
+            } else {
+                fLower /= 2;
+            }
+            upper = c;
+            fUpper = fC;
+        }
+        return Math.exp(lower / 2);
+    }
+
+    private static double f(double x, double phi, double variance, double delta, double a, double tau) {
+        double ex = Math.exp(x);
+        double denominator = phi * phi + variance + ex;
+        return ex * (delta * delta - phi * phi - variance - ex) / (2 * denominator * denominator) - (x - a) / (tau * tau);
+    }
+}
@@ -0,0 +1,13 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * Thrown when a move in SAN is malformed, not legal in the position it is played
+ * in, or does not say which of several pieces moves.
+ */
+public class IllegalMoveException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    public IllegalMoveException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,162 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * The material of a position packed into a long: four bits for the count of each
+ * of the pawns, knights, bishops, rooks and queens of each side, white's in the
+ * low twenty bits and black's above them. Kings are implied. The text form is the
+ * usual one, the pieces of each side from the king down, white's first:
+ * "KRPPvKR" is a rook and two pawns against a rook.
+ *
+ * Material only changes on captures and promotions, so a game is indexed by the
+ * plies at which it changes (see segments), a dozen or so rows per game.
+ */
+public final class MaterialSignature {
+    private static final int[] TYPES = { Piece.QUEEN, Piece.ROOK, Piece.BISHOP, Piece.KNIGHT, Piece.PAWN };
+    private static final int BITS = 4;
+    private static final int SIDE_BITS = BITS * 5;
+    private static final long MASK = (1L << BITS) - 1;
+    // The most of a piece type a side can have: eight pawns, or ten knights, bishops or rooks with every pawn promoted.
+    private static final int MAX_PAWNS = 8;
+    private static final int MAX_PIECES = 10;
+
+    private MaterialSignature() {
+    }
+
+    public static long of(Position position) {
+        long signature = 0;
+        for (int color = Piece.WHITE; color <= Piece.BLACK; color++) {
+            for (int type : TYPES) {
+                signature |= (long) Long.bitCount(position.pieces(color, type)) << shift(color, type);
+            }
+        }
+        return signature;
+    }
+
+    public static int count(long signature, int color, int type) {
+        return (int) ((signature >>> shift(color, type)) & MASK);
+    }
+
+    // The signature with the colours swapped, so "KRPvKR" becomes "KRvKRP".
+    public static long mirror(long signature) {
+        long white = signature & ((1L << SIDE_BITS) - 1);
+        return (signature >>> SIDE_BITS) | (white << SIDE_BITS);
+    }
+
+    // Knights and bishops count one, rooks two and queens four (see GamePhase).
+    public static int phaseUnits(long signature) {
+        int units = 0;
+        for (int color = Piece.WHITE; color <= Piece.BLACK; color++) {
+            units += count(signature, color, Piece.KNIGHT) + count(signature, color, Piece.BISHOP) + 2 * count(signature, color, Piece.ROOK)
+                    + 4 * count(signature, color, Piece.QUEEN);
+        }
+        return units;
+    }
+
+    public static String toString(long signature) {
+        StringBuilder text = new StringBuilder();
+        for (int color = Piece.WHITE; color <= Piece.BLACK; color++) {
+            text.append(color == Piece.WHITE ? "K" : "vK");
+            for (int type : TYPES) {
+                for (int i = count(signature, color, type); i > 0; i--) {
+                    text.append(Piece.letter(type));
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    // Reads the text form, in any letter case and piece order; throws an IllegalArgumentException when it is not one.
+    public static long parse(String text) {
+        String[] sides = text == null ? new String[0] : text.trim().toUpperCase().split("V", -1);
+        if (sides.length != 2) {
+            throw notValid(text);
+        }
+        long signature = 0;
+        for (int color = Piece.WHITE; color <= Piece.BLACK; color++) {
+            String side = sides[color];
+            if (side.isEmpty() || side.charAt(0) != 'K') {
+                throw notValid(text);
+            }
+            for (int i = 1; i < side.length(); i++) {
+                int type = Piece.typeOf(side.charAt(i));
+                if (type == Piece.NONE || type == Piece.KING || count(signature, color, type) == (type == Piece.PAWN ? MAX_PAWNS : MAX_PIECES)) {
+                    throw notValid(text);
+                }
+                signature += 1L << shift(color, type);
+            }
+        }
+        return signature;
+    }
+
+    private static IllegalArgumentException notValid(String text) {
+        return new IllegalArgumentException("The material " + text + " is not valid; write it as in KRPvKR.");
+    }
+
+    private static int shift(int color, int type) {
+        return color * SIDE_BITS + type * BITS;
+    }
+
+    /*
+     * The material of a game each time it changes: the start, then the ply of
+     * every capture or promotion. Throws an IllegalMoveException when the moves are
+     * not a legal sequence.
+     */
+    public static List<Segment> segments(byte[] moveData) {
+        List<Segment> segments = new ArrayList<>();
+        Position position = Position.start();
+        segments.add(Segment.of(0, position));
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (int ply = 0; ply < MoveCodec.plies(moveData); ply++) {
+            position.make(MoveCodec.decode(position, MoveCodec.code(moveData, ply), buffer));
+            append(segments, ply + 1, position);
+        }
+        return segments;
+    }
+
+    // Adds a segment for the position reached at the ply if its material differs from the last one.
+    public static void append(List<Segment> segments, int ply, Position position) {
+        long signature = of(position);
+        if (segments.isEmpty() || segments.get(segments.size() - 1).getSignature() != signature) {
+            segments.add(Segment.of(ply, position));
+        }
+    }
+
+    // The plies of a game from the first one with some material until it changes.
+    public static final class Segment {
+        private final int ply;
+        private final long signature;
+        private final GamePhase phase;
+        private final EndgameType type;
+
+        public Segment(int ply, long signature, GamePhase phase, EndgameType type) {
+            this.ply = ply;
+            this.signature = signature;
+            this.phase = phase;
+            this.type = type;
+        }
+
+        static Segment of(int ply, Position position) {
+            long signature = MaterialSignature.of(position);
+            return new Segment(ply, signature, GamePhase.of(phaseUnits(signature)), EndgameType.of(position));
+        }
+
+        public int getPly() {
+            return ply;
+        }
+
+        public long getSignature() {
+            return signature;
+        }
+
+        public GamePhase getPhase() {
+            return phase;
+        }
+
+        public EndgameType getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * A move is packed into an int so that move lists are plain int arrays and
+ * generating moves allocates nothing: bits 0-5 hold the origin square, bits 6-11
+ * the destination, bits 12-14 the promotion piece type and the bits above the
+ * special-move flags. No legal move goes from a square to itself, so 0 is free to
+ * mean "no move".
+ */
+public final class Move {
+    public static final int NONE = 0;
+
+    static final int EN_PASSANT = 1 << 15;
+    static final int CASTLING = 1 << 16;
+    static final int DOUBLE_PUSH = 1 << 17;
+
+    private Move() {
+    }
+
+    static int of(int from, int to) {
+        return from | (to << 6);
+    }
+
+    static int of(int from, int to, int flags) {
+        return from | (to << 6) | flags;
+    }
+
+    static int promotion(int from, int to, int type) {
+        return from | (to << 6) | (type << 12);
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    // The promoted piece type, or 0 when the move is not a promotion.
+    public static int promotion(int move) {
+        return (move >>> 12) & 7;
+    }
+
+    public static boolean isPromotion(int move) {
+        return promotion(move) != 0;
+    }
+
+    public static boolean isEnPassant(int move) {
+        return (move & EN_PASSANT) != 0;
+    }
+
+    public static boolean isCastling(int move) {
+        return (move & CASTLING) != 0;
+    }
+
+    public static boolean isDoublePush(int move) {
+        return (move & DOUBLE_PUSH) != 0;
+    }
+
+    // The move in coordinate notation, such as e2e4 or e7e8q.
+    public static String toUci(int move) {
+        String uci = Squares.name(from(move)) + Squares.name(to(move));
+        if (isPromotion(move)) {
+            uci += Character.toLowerCase(Piece.letter(promotion(move)));
+        }
+        return uci;
+    }
+}
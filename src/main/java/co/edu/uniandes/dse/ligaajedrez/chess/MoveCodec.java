@@ -0,0 +1,117 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Stores the moves of a game as two bytes per ply: the origin square, the
+ * destination square and the promotion piece, big-endian. Castling, en passant
+ * and double pushes are not stored because the position they are played in
+ * tells them apart, so decoding replays the game from the start and matches each
+ * code against the legal moves of the position. A game of 80 plies takes 160
+ * bytes.
+ */
+public final class MoveCodec {
+    public static final int MAX_PLIES = 2048;
+    public static final int MAX_BYTES = MAX_PLIES * 2;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private MoveCodec() {
+    }
+
+    public static int encode(int move) {
+        return Move.from(move) | (Move.to(move) << 6) | (Move.promotion(move) << 12);
+    }
+
+    // The legal move of the position with the code, or an IllegalMoveException.
+    public static int decode(Position position, int code, int[] buffer) {
+        int count = MoveGenerator.generateLegal(position, buffer);
+        for (int i = 0; i < count; i++) {
+            if (encode(buffer[i]) == code) {
+                return buffer[i];
+            }
+        }
+        throw new IllegalMoveException("The move data does not hold a legal game.");
+    }
+
+    public static int plies(byte[] data) {
+        return data == null ? 0 : data.length / 2;
+    }
+
+    public static int code(byte[] data, int ply) {
+        return ((data[ply * 2] & 0xFF) << 8) | (data[ply * 2 + 1] & 0xFF);
+    }
+
+    public static byte[] append(byte[] data, int move) {
+        byte[] base = data == null ? EMPTY : data;
+        if (plies(base) >= MAX_PLIES) {
+            throw new IllegalMoveException("A game cannot have more than " + MAX_PLIES + " moves.");
+        }
+        byte[] appended = Arrays.copyOf(base, base.length + 2);
+        int code = encode(move);
+        appended[base.length] = (byte) (code >>> 8);
+        appended[base.length + 1] = (byte) code;
+        return appended;
+    }
+
+    // The position after every move of the data.
+    public static Position replay(byte[] data) {
+        Position position = Position.start();
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (int ply = 0; ply < plies(data); ply++) {
+            position.make(decode(position, code(data, ply), buffer));
+        }
+        return position;
+    }
+
+    // The hash of the position after each ply of the data.
+    public static long[] hashes(byte[] data) {
+        long[] hashes = new long[plies(data)];
+        Position position = Position.start();
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (int ply = 0; ply < hashes.length; ply++) {
+            position.make(decode(position, code(data, ply), buffer));
+            hashes[ply] = position.hash();
+        }
+        return hashes;
+    }
+
+    public static List<String> toSan(byte[] data) {
+        List<String> sans = new ArrayList<>(plies(data));
+        Position position = Position.start();
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        for (int ply = 0; ply < plies(data); ply++) {
+            int move = decode(position, code(data, ply), buffer);
+            sans.add(San.format(position, move));
+            position.make(move);
+        }
+        return sans;
+    }
+
+    // Plays the SAN moves from the start and encodes them, or throws on the first illegal one.
+    public static byte[] fromSan(List<String> sans) {
+        return fromSan(sans, null);
+    }
+
+    // As fromSan, also adding the hash of the position after each ply to the hashes, when given.
+    public static byte[] fromSan(List<String> sans, List<Long> hashes) {
+        if (sans.size() > MAX_PLIES) {
+            throw new IllegalMoveException("A game cannot have more than " + MAX_PLIES + " moves.");
+        }
+        byte[] data = new byte[sans.size() * 2];
+        Position position = Position.start();
+        for (int ply = 0; ply < sans.size(); ply++) {
+            int move = San.parse(position, sans.get(ply));
+            int code = encode(move);
+            data[ply * 2] = (byte) (code >>> 8);
+            data[ply * 2 + 1] = (byte) code;
+            position.make(move);
+            if (hashes != null) {
+                hashes.add(position.hash());
+            }
+        }
+        return data;
+    }
+}
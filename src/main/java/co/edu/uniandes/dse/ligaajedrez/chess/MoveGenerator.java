@@ -0,0 +1,138 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * Generates the legal moves of a position into a caller's int array, so a search
+ * can reuse one buffer per depth and generate without allocating. Moves are first
+ * generated as if pins and checks did not exist; each one is then made, kept only
+ * if it does not leave the mover's king attacked, and unmade.
+ */
+public final class MoveGenerator {
+    // No legal chess position has more than 218 moves.
+    public static final int MAX_MOVES = 256;
+
+    private static final int[] PROMOTIONS = { Piece.QUEEN, Piece.ROOK, Piece.BISHOP, Piece.KNIGHT };
+
+    private MoveGenerator() {
+    }
+
+    // Writes the legal moves from index 0 and returns how many there are.
+    public static int generateLegal(Position position, int[] moves) {
+        int count = generatePseudoLegal(position, moves);
+        int us = position.side;
+        int legal = 0;
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            position.make(move);
+            if (!position.isAttacked(position.kingSquare(us), us ^ 1)) {
+                moves[legal++] = move;
+            }
+            position.unmake(move);
+        }
+        return legal;
+    }
+
+    static int generatePseudoLegal(Position position, int[] moves) {
+        int us = position.side;
+        int them = us ^ 1;
+        long own = position.colors[us];
+        long enemies = position.colors[them];
+        long occupied = position.occupied;
+        int count = generatePawnMoves(position, moves, 0, us, enemies, occupied);
+
+        long knights = position.pieces[Piece.of(us, Piece.KNIGHT)];
+        while (knights != 0) {
+            int from = Long.numberOfTrailingZeros(knights);
+            knights &= knights - 1;
+            count = addTargets(moves, count, from, Bitboards.knightAttacks(from) & ~own);
+        }
+        long bishops = position.pieces[Piece.of(us, Piece.BISHOP)] | position.pieces[Piece.of(us, Piece.QUEEN)];
+        while (bishops != 0) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            bishops &= bishops - 1;
+            count = addTargets(moves, count, from, Bitboards.bishopAttacks(from, occupied) & ~own);
+        }
+        long rooks = position.pieces[Piece.of(us, Piece.ROOK)] | position.pieces[Piece.of(us, Piece.QUEEN)];
+        while (rooks != 0) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            rooks &= rooks - 1;
+            count = addTargets(moves, count, from, Bitboards.rookAttacks(from, occupied) & ~own);
+        }
+        int king = position.kingSquare(us);
+        count = addTargets(moves, count, king, Bitboards.kingAttacks(king) & ~own);
+        return generateCastling(position, moves, count, us, king);
+    }
+
+    private static int generatePawnMoves(Position position, int[] moves, int count, int us, long enemies, long occupied) {
+        int forward = us == Piece.WHITE ? 8 : -8;
+        int startRank = us == Piece.WHITE ? 1 : 6;
+        int lastRank = us == Piece.WHITE ? 7 : 0;
+        long pawns = position.pieces[Piece.of(us, Piece.PAWN)];
+        while (pawns != 0) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+            int to = from + forward;
+            if ((occupied & Bitboards.bit(to)) == 0) {
+                if (Squares.rank(to) == lastRank) {
+                    count = addPromotions(moves, count, from, to);
+                } else {
+                    moves[count++] = Move.of(from, to);
+                    int doubleTo = to + forward;
+                    if (Squares.rank(from) == startRank && (occupied & Bitboards.bit(doubleTo)) == 0) {
+                        moves[count++] = Move.of(from, doubleTo, Move.DOUBLE_PUSH);
+                    }
+                }
+            }
+            long attacks = Bitboards.pawnAttacks(us, from);
+            long captures = attacks & enemies;
+            while (captures != 0) {
+                int target = Long.numberOfTrailingZeros(captures);
+                captures &= captures - 1;
+                if (Squares.rank(target) == lastRank) {
+                    count = addPromotions(moves, count, from, target);
+                } else {
+                    moves[count++] = Move.of(from, target);
+                }
+            }
+            if (position.epSquare != Squares.NONE && (attacks & Bitboards.bit(position.epSquare)) != 0) {
+                moves[count++] = Move.of(from, position.epSquare, Move.EN_PASSANT);
+            }
+        }
+        return count;
+    }
+
+    private static int addPromotions(int[] moves, int count, int from, int to) {
+        for (int type : PROMOTIONS) {
+            moves[count++] = Move.promotion(from, to, type);
+        }
+        return count;
+    }
+
+    private static int addTargets(int[] moves, int count, int from, long targets) {
+        while (targets != 0) {
+            moves[count++] = Move.of(from, Long.numberOfTrailingZeros(targets));
+            targets &= targets - 1;
+        }
+        return count;
+    }
+
+    // The king may not castle out of, through or into check; landing in check is left to the legality filter.
+    private static int generateCastling(Position position, int[] moves, int count, int us, int king) {
+        int kingside = us == Piece.WHITE ? Position.WHITE_KINGSIDE : Position.BLACK_KINGSIDE;
+        int queenside = us == Piece.WHITE ? Position.WHITE_QUEENSIDE : Position.BLACK_QUEENSIDE;
+        if ((position.castling & (kingside | queenside)) == 0 || position.isAttacked(king, us ^ 1)) {
+            return count;
+        }
+        long occupied = position.occupied;
+        if ((position.castling & kingside) != 0
+                && (occupied & (Bitboards.bit(king + 1) | Bitboards.bit(king + 2))) == 0
+                && !position.isAttacked(king + 1, us ^ 1)) {
+            moves[count++] = Move.of(king, king + 2, Move.CASTLING);
+        }
+        if ((position.castling & queenside) != 0
+                && (occupied & (Bitboards.bit(king - 1) | Bitboards.bit(king - 2) | Bitboards.bit(king - 3))) == 0
+                && !position.isAttacked(king - 1, us ^ 1)) {
+            moves[count++] = Move.of(king, king - 2, Move.CASTLING);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,104 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.Arrays;
+
+/*
+ * A trie of opening move sequences keyed by move code (see MoveCodec), so the
+ * opening of a game is found by walking its move data from the root: one step per
+ * ply, stopping at the first move no opening continues with. The deepest node
+ * that ends an opening names the game's opening. Nodes are kept as parallel
+ * arrays in first-child, next-sibling form; openings branch a few ways per ply,
+ * so a linear scan of the siblings is cheaper than a map.
+ *
+ * A trie is filled once and then only read, so it can be shared between threads
+ * once it is published.
+ */
+public final class OpeningTrie {
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final int ROOT = 0;
+    private static final int NO_NODE = -1;
+
+    private int[] code = new int[64];
+    private int[] firstChild = new int[64];
+    private int[] nextSibling = new int[64];
+    private long[] opening = new long[64];
+    private int size;
+    private int depth;
+
+    public OpeningTrie() {
+        newNode(-1);
+    }
+
+    /*
+     * Adds an opening by its move data. When two openings have the same moves the
+     * one added first keeps the node.
+     */
+    public void add(byte[] moveData, long openingId) {
+        int plies = MoveCodec.plies(moveData);
+        if (plies == 0) {
+            return;
+        }
+        int node = ROOT;
+        for (int ply = 0; ply < plies; ply++) {
+            int moveCode = MoveCodec.code(moveData, ply);
+            int child = child(node, moveCode);
+            if (child == NO_NODE) {
+                child = newNode(moveCode);
+                nextSibling[child] = firstChild[node];
+                firstChild[node] = child;
+            }
+            node = child;
+        }
+        if (opening[node] == NONE) {
+            opening[node] = openingId;
+        }
+        depth = Math.max(depth, plies);
+    }
+
+    // The opening of the deepest node the moves reach, or NONE when they reach no opening.
+    public long classify(byte[] moveData) {
+        int plies = Math.min(MoveCodec.plies(moveData), depth);
+        long deepest = NONE;
+        int node = ROOT;
+        for (int ply = 0; ply < plies; ply++) {
+            node = child(node, MoveCodec.code(moveData, ply));
+            if (node == NO_NODE) {
+                break;
+            }
+            if (opening[node] != NONE) {
+                deepest = opening[node];
+            }
+        }
+        return deepest;
+    }
+
+    // The length of the longest opening. Moves past it cannot change a game's opening.
+    public int depth() {
+        return depth;
+    }
+
+    private int child(int node, int moveCode) {
+        for (int child = firstChild[node]; child != NO_NODE; child = nextSibling[child]) {
+            if (code[child] == moveCode) {
+                return child;
+            }
+        }
+        return NO_NODE;
+    }
+
+    private int newNode(int moveCode) {
+        if (size == code.length) {
+            int capacity = size * 2;
+            code = Arrays.copyOf(code, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            opening = Arrays.copyOf(opening, capacity);
+        }
+        code[size] = moveCode;
+        firstChild[size] = NO_NODE;
+        nextSibling[size] = NO_NODE;
+        opening[size] = NONE;
+        return size++;
+    }
+}
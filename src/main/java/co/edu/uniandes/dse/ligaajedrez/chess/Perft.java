@@ -0,0 +1,106 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+ * Counts the leaf nodes of the legal move tree of a position to a given depth.
+ * Node counts of well-known positions are published, so perft checks the move
+ * generator, make and unmake against them, and the time it takes measures their
+ * speed. The last ply is counted in bulk: the moves of a node one ply from the
+ * leaves are counted, not made.
+ *
+ * The parallel count forks a task per move down to SEQUENTIAL_DEPTH plies from
+ * the leaves, each on its own copy of the position; below that a task counts
+ * sequentially.
+ */
+public final class Perft {
+    static final int SEQUENTIAL_DEPTH = 3;
+
+    private Perft() {
+    }
+
+    public static long count(Position position, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The depth cannot be negative.");
+        }
+        return count(position, depth, new int[Math.max(depth, 1)][MoveGenerator.MAX_MOVES]);
+    }
+
+    private static long count(Position position, int depth, int[][] buffers) {
+        if (depth == 0) {
+            return 1;
+        }
+        int[] moves = buffers[depth - 1];
+        int count = MoveGenerator.generateLegal(position, moves);
+        if (depth == 1) {
+            return count;
+        }
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            position.make(moves[i]);
+            nodes += count(position, depth - 1, buffers);
+            position.unmake(moves[i]);
+        }
+        return nodes;
+    }
+
+    // The nodes under each move of the position, by the move in UCI notation, to find where a count goes wrong.
+    public static Map<String, Long> divide(Position position, int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("The depth must be at least 1.");
+        }
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(position, moves);
+        Map<String, Long> divide = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            position.make(moves[i]);
+            divide.put(Move.toUci(moves[i]), count(position, depth - 1));
+            position.unmake(moves[i]);
+        }
+        return divide;
+    }
+
+    public static long countParallel(Position position, int depth, ForkJoinPool pool) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The depth cannot be negative.");
+        }
+        return pool.invoke(new CountTask(position.copy(), depth));
+    }
+
+    private static final class CountTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Position position;
+        private final int depth;
+
+        CountTask(Position position, int depth) {
+            this.position = position;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth <= SEQUENTIAL_DEPTH) {
+                return count(position, depth);
+            }
+            int[] moves = new int[MoveGenerator.MAX_MOVES];
+            int count = MoveGenerator.generateLegal(position, moves);
+            List<CountTask> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                position.make(moves[i]);
+                tasks.add(new CountTask(position.copy(), depth - 1));
+                position.unmake(moves[i]);
+            }
+            long nodes = 0;
+            for (CountTask task : invokeAll(tasks)) {
+                nodes += task.join();
+            }
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * One game of a PGN file as read: its tags, the SAN moves of its main line and
+ * the result that ended its movetext, if any. The moves are not checked here.
+ */
+public final class PgnGame {
+    private final int number;
+    private final Map<String, String> tags;
+    private final List<String> moves;
+    private final String result;
+
+    PgnGame(int number, Map<String, String> tags, List<String> moves, String result) {
+        this.number = number;
+        this.tags = Collections.unmodifiableMap(tags);
+        this.moves = Collections.unmodifiableList(moves);
+        this.result = result;
+    }
+
+    // The position of the game in its file, from 1.
+    public int getNumber() {
+        return number;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public String getTag(String name) {
+        return tags.get(name);
+    }
+
+    public List<String> getMoves() {
+        return moves;
+    }
+
+    // The result token that ended the movetext, or null when the game ended without one.
+    public String getResult() {
+        return result;
+    }
+}
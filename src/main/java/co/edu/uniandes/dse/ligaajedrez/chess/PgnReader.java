@@ -0,0 +1,195 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Reads the games of a PGN file one at a time, so a file of any size is read
+ * with the memory of one game. Only the main line is kept: comments, variations,
+ * numeric annotation glyphs, move numbers and escaped lines are skipped. The
+ * reader does not judge the moves; a game with a malformed token simply carries
+ * it, and fails when its moves are played.
+ *
+ * A game ends at its result token, or, when the token is missing, where the tags
+ * of the next game begin.
+ */
+public final class PgnReader implements Closeable {
+    public static final List<String> RESULTS = List.of("1-0", "0-1", "1/2-1/2", "*");
+
+    // Longer tokens are cut; no move or tag is near this long.
+    private static final int MAX_TOKEN_LENGTH = 256;
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int pushedBack = NONE;
+    private int previous = '\n';
+    private boolean lineStart;
+    private int games;
+
+    public PgnReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // The next game of the file, or null when there is none left.
+    public PgnGame next() throws IOException {
+        Map<String, String> tags = new LinkedHashMap<>();
+        List<String> moves = new ArrayList<>();
+        boolean empty = true;
+        for (int c = read(); c != EOF; c = read()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c == '%' && lineStart) {
+                skipLine();
+            } else if (c == '[') {
+                if (!moves.isEmpty()) {
+                    pushedBack = c;
+                    return new PgnGame(++games, tags, moves, null);
+                }
+                readTag(tags);
+                empty = false;
+            } else if (c == '{') {
+                skipComment();
+            } else if (c == ';') {
+                skipLine();
+            } else if (c == '(') {
+                skipVariation();
+            } else if (c == '$') {
+                readToken(read());
+            } else if (c == ')' || c == '}' || c == ']') {
+                continue;
+            } else {
+                String token = stripMoveNumber(readToken(c));
+                if (RESULTS.contains(token)) {
+                    return new PgnGame(++games, tags, moves, token);
+                }
+                if (!token.isEmpty() && moves.size() <= MoveCodec.MAX_PLIES) {
+                    moves.add(token);
+                }
+                empty = false;
+            }
+        }
+        return empty ? null : new PgnGame(++games, tags, moves, null);
+    }
+
+    // A tag pair: [Name "Value"], with \" and \\ escaped inside the value.
+    private void readTag(Map<String, String> tags) throws IOException {
+        StringBuilder name = new StringBuilder();
+        int c = read();
+        while (c != EOF && c != '"' && c != ']' && c != '\n') {
+            if (!Character.isWhitespace(c) && name.length() < MAX_TOKEN_LENGTH) {
+                name.append((char) c);
+            }
+            c = read();
+        }
+        StringBuilder value = new StringBuilder();
+        if (c == '"') {
+            for (c = read(); c != EOF && c != '"' && c != '\n'; c = read()) {
+                if (c == '\\') {
+                    c = read();
+                    if (c == EOF || c == '\n') {
+                        break;
+                    }
+                }
+                if (value.length() < MAX_TOKEN_LENGTH) {
+                    value.append((char) c);
+                }
+            }
+            while (c != EOF && c != ']' && c != '\n') {
+                c = read();
+            }
+        }
+        if (name.length() > 0) {
+            tags.put(name.toString(), value.toString());
+        }
+    }
+
+    private String readToken(int first) throws IOException {
+        StringBuilder token = new StringBuilder();
+        int c = first;
+        while (c != EOF && !Character.isWhitespace(c) && "{}()[];$".indexOf(c) < 0) {
+            if (token.length() < MAX_TOKEN_LENGTH) {
+                token.append((char) c);
+            }
+            c = read();
+        }
+        if (c != EOF) {
+            pushedBack = c;
+        }
+        return token.toString();
+    }
+
+    // "12.", "12..." and the "12." of "12.e4" are move numbers, not moves.
+    private static String stripMoveNumber(String token) {
+        int digits = 0;
+        while (digits < token.length() && Character.isDigit(token.charAt(digits))) {
+            digits++;
+        }
+        int dots = digits;
+        while (dots < token.length() && token.charAt(dots) == '.') {
+            dots++;
+        }
+        if (dots > digits) {
+            return token.substring(dots);
+        }
+        // Black's move after a comment may be written "..." or "...e5".
+        return token.startsWith(".") ? token.replaceFirst("^\\.+", "") : token;
+    }
+
+    private void skipLine() throws IOException {
+        int c = read();
+        while (c != EOF && c != '\n') {
+            c = read();
+        }
+    }
+
+    private void skipComment() throws IOException {
+        int c = read();
+        while (c != EOF && c != '}') {
+            c = read();
+        }
+    }
+
+    // Variations nest, and their comments may hold parentheses of their own.
+    private void skipVariation() throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int c = read();
+            if (c == EOF) {
+                return;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '{') {
+                skipComment();
+            } else if (c == ';') {
+                skipLine();
+            }
+        }
+    }
+
+    // Also notes whether the character is the first of its line, for escaped lines.
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        int c = reader.read();
+        lineStart = previous == '\n';
+        previous = c;
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,86 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Writes games in PGN export format: the Seven Tag Roster first and in its
+ * order, with "?" for what is unknown, then any other tags, then the movetext
+ * with move numbers, wrapped so no line is longer than LINE_LENGTH, and a blank
+ * line after the result. Each game is formatted whole before it is written, so a
+ * game that fails to format leaves nothing half written.
+ */
+public final class PgnWriter {
+    public static final int LINE_LENGTH = 79;
+    public static final List<String> SEVEN_TAG_ROSTER = List.of("Event", "Site", "Date", "Round", "White", "Black", "Result");
+
+    private final Writer writer;
+
+    public PgnWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void write(Map<String, String> tags, List<String> moves, String result) throws IOException {
+        writer.write(format(tags, moves, result));
+    }
+
+    // The Result tag always matches the result that ends the movetext.
+    public static String format(Map<String, String> tags, List<String> moves, String result) {
+        StringBuilder pgn = new StringBuilder(256 + moves.size() * 6);
+        for (String name : SEVEN_TAG_ROSTER) {
+            String value = "Result".equals(name) ? result : tags.get(name);
+            appendTag(pgn, name, value == null || value.isBlank() ? unknown(name) : value);
+        }
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            if (!SEVEN_TAG_ROSTER.contains(tag.getKey()) && tag.getValue() != null) {
+                appendTag(pgn, tag.getKey(), tag.getValue());
+            }
+        }
+        pgn.append('\n');
+        int lineStart = pgn.length();
+        for (int ply = 0; ply <= moves.size(); ply++) {
+            String token;
+            if (ply == moves.size()) {
+                token = result;
+            } else if (ply % 2 == 0) {
+                token = (ply / 2 + 1) + ". " + moves.get(ply);
+            } else {
+                token = moves.get(ply);
+            }
+            if (pgn.length() > lineStart && pgn.length() - lineStart + 1 + token.length() > LINE_LENGTH) {
+                pgn.append('\n');
+                lineStart = pgn.length();
+            } else if (pgn.length() > lineStart) {
+                pgn.append(' ');
+            }
+            pgn.append(token);
+        }
+        return pgn.append("\n\n").toString();
+    }
+
+    private static String unknown(String name) {
+        switch (name) {
+            case "Date":
+                return "????.??.??";
+            case "Result":
+                return "*";
+            default:
+                return "?";
+        }
+    }
+
+    // Quotes and backslashes are escaped; a value has no line breaks.
+    private static void appendTag(StringBuilder pgn, String name, String value) {
+        pgn.append('[').append(name).append(" \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                pgn.append('\\');
+            }
+            pgn.append(c == '\n' || c == '\r' || c == '\t' ? ' ' : c);
+        }
+        pgn.append("\"]\n");
+    }
+}
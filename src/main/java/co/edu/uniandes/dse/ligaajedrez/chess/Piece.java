@@ -0,0 +1,61 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * Pieces are small integers so that a position can keep them in arrays: the
+ * piece type plus six for black, or NONE for an empty square.
+ */
+public final class Piece {
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+
+    public static final int NONE = -1;
+    public static final int COUNT = 12;
+
+    private static final String LETTERS = "PNBRQK";
+
+    private Piece() {
+    }
+
+    public static int of(int color, int type) {
+        return color * 6 + type;
+    }
+
+    public static int color(int piece) {
+        return piece < 6 ? WHITE : BLACK;
+    }
+
+    public static int type(int piece) {
+        return piece < 6 ? piece : piece - 6;
+    }
+
+    // The uppercase SAN letter of a piece type.
+    public static char letter(int type) {
+        return LETTERS.charAt(type);
+    }
+
+    // The piece type of an uppercase SAN letter, or NONE.
+    public static int typeOf(char letter) {
+        return LETTERS.indexOf(letter);
+    }
+
+    // The FEN character of a piece: uppercase for white, lowercase for black.
+    public static char fenChar(int piece) {
+        char letter = letter(type(piece));
+        return color(piece) == WHITE ? letter : Character.toLowerCase(letter);
+    }
+
+    public static int fromFenChar(char c) {
+        int type = typeOf(Character.toUpperCase(c));
+        if (type == NONE) {
+            return NONE;
+        }
+        return of(Character.isUpperCase(c) ? WHITE : BLACK, type);
+    }
+}
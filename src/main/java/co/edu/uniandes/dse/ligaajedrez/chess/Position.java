@@ -0,0 +1,413 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.Arrays;
+
+/*
+ * A chess position kept both as one bitboard per piece, for attack and move
+ * generation, and as a 64-square board, for finding the piece on a square. Moves
+ * are made and unmade in place: make pushes what the move destroys (the captured
+ * piece, castling rights, en passant square and halfmove clock) onto primitive
+ * undo stacks and unmake pops it, so walking a game tree allocates nothing once
+ * the stacks have grown to the depth being searched. The Zobrist hash of the
+ * position is kept up to date by the same steps.
+ */
+public final class Position {
+    public static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    public static final int WHITE_KINGSIDE = 1;
+    public static final int WHITE_QUEENSIDE = 2;
+    public static final int BLACK_KINGSIDE = 4;
+    public static final int BLACK_QUEENSIDE = 8;
+
+    // The castling rights that survive a move from or to each square.
+    private static final int[] CASTLING_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASK, 15);
+        CASTLING_MASK[Squares.of(0, 0)] &= ~WHITE_QUEENSIDE;
+        CASTLING_MASK[Squares.of(4, 0)] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        CASTLING_MASK[Squares.of(7, 0)] &= ~WHITE_KINGSIDE;
+        CASTLING_MASK[Squares.of(0, 7)] &= ~BLACK_QUEENSIDE;
+        CASTLING_MASK[Squares.of(4, 7)] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        CASTLING_MASK[Squares.of(7, 7)] &= ~BLACK_KINGSIDE;
+    }
+
+    final long[] pieces = new long[Piece.COUNT];
+    final long[] colors = new long[2];
+    long occupied;
+    final int[] board = new int[64];
+    int side;
+    int castling;
+    int epSquare = Squares.NONE;
+    int halfmoveClock;
+    int fullmoveNumber = 1;
+    long hash;
+
+    private int ply;
+    private int[] undoCaptured = new int[64];
+    private int[] undoCastling = new int[64];
+    private int[] undoEpSquare = new int[64];
+    private int[] undoHalfmoveClock = new int[64];
+    private long[] undoHash = new long[64];
+
+    private Position() {
+        Arrays.fill(board, Piece.NONE);
+    }
+
+    public static Position start() {
+        return fromFen(START_FEN);
+    }
+
+    // An independent copy, history included, for another thread to play on.
+    public Position copy() {
+        Position copy = new Position();
+        System.arraycopy(pieces, 0, copy.pieces, 0, pieces.length);
+        System.arraycopy(colors, 0, copy.colors, 0, colors.length);
+        System.arraycopy(board, 0, copy.board, 0, board.length);
+        copy.occupied = occupied;
+        copy.side = side;
+        copy.castling = castling;
+        copy.epSquare = epSquare;
+        copy.halfmoveClock = halfmoveClock;
+        copy.fullmoveNumber = fullmoveNumber;
+        copy.hash = hash;
+        copy.ply = ply;
+        copy.undoCaptured = undoCaptured.clone();
+        copy.undoCastling = undoCastling.clone();
+        copy.undoEpSquare = undoEpSquare.clone();
+        copy.undoHalfmoveClock = undoHalfmoveClock.clone();
+        copy.undoHash = undoHash.clone();
+        return copy;
+    }
+
+    public static Position fromFen(String fen) {
+        if (fen == null) {
+            throw new IllegalArgumentException("The FEN cannot be null.");
+        }
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4 || fields.length > 6) {
+            throw invalidFen(fen);
+        }
+        Position position = new Position();
+        int rank = 7;
+        int file = 0;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                if (file != 8 || rank == 0) {
+                    throw invalidFen(fen);
+                }
+                rank--;
+                file = 0;
+            } else if (c >= '1' && c <= '8') {
+                file += c - '0';
+            } else {
+                int piece = Piece.fromFenChar(c);
+                if (piece == Piece.NONE || file > 7) {
+                    throw invalidFen(fen);
+                }
+                position.put(piece, Squares.of(file, rank));
+                file++;
+            }
+            if (file > 8) {
+                throw invalidFen(fen);
+            }
+        }
+        if (rank != 0 || file != 8) {
+            throw invalidFen(fen);
+        }
+        switch (fields[1]) {
+            case "w":
+                position.side = Piece.WHITE;
+                break;
+            case "b":
+                position.side = Piece.BLACK;
+                break;
+            default:
+                throw invalidFen(fen);
+        }
+        if (!fields[2].equals("-")) {
+            for (char c : fields[2].toCharArray()) {
+                int right = "KQkq".indexOf(c);
+                if (right < 0) {
+                    throw invalidFen(fen);
+                }
+                position.castling |= 1 << right;
+            }
+        }
+        if (!fields[3].equals("-")) {
+            position.epSquare = Squares.parse(fields[3]);
+            if (position.epSquare == Squares.NONE) {
+                throw invalidFen(fen);
+            }
+        }
+        try {
+            if (fields.length > 4) {
+                position.halfmoveClock = Integer.parseInt(fields[4]);
+            }
+            if (fields.length > 5) {
+                position.fullmoveNumber = Integer.parseInt(fields[5]);
+            }
+        } catch (NumberFormatException e) {
+            throw invalidFen(fen);
+        }
+        if (Long.bitCount(position.pieces[Piece.of(Piece.WHITE, Piece.KING)]) != 1
+                || Long.bitCount(position.pieces[Piece.of(Piece.BLACK, Piece.KING)]) != 1
+                || position.isAttacked(position.kingSquare(position.side ^ 1), position.side)) {
+            throw invalidFen(fen);
+        }
+        position.dropInvalidCastlingRights();
+        position.hash ^= Zobrist.castling(position.castling) ^ position.enPassantKey();
+        if (position.side == Piece.BLACK) {
+            position.hash ^= Zobrist.BLACK_TO_MOVE;
+        }
+        return position;
+    }
+
+    private static IllegalArgumentException invalidFen(String fen) {
+        return new IllegalArgumentException("The FEN " + fen + " is not valid.");
+    }
+
+    // A right whose king or rook is not on its original square can never be used.
+    private void dropInvalidCastlingRights() {
+        int whiteKing = Piece.of(Piece.WHITE, Piece.KING);
+        int whiteRook = Piece.of(Piece.WHITE, Piece.ROOK);
+        int blackKing = Piece.of(Piece.BLACK, Piece.KING);
+        int blackRook = Piece.of(Piece.BLACK, Piece.ROOK);
+        if (board[Squares.of(4, 0)] != whiteKing || board[Squares.of(7, 0)] != whiteRook) {
+            castling &= ~WHITE_KINGSIDE;
+        }
+        if (board[Squares.of(4, 0)] != whiteKing || board[Squares.of(0, 0)] != whiteRook) {
+            castling &= ~WHITE_QUEENSIDE;
+        }
+        if (board[Squares.of(4, 7)] != blackKing || board[Squares.of(7, 7)] != blackRook) {
+            castling &= ~BLACK_KINGSIDE;
+        }
+        if (board[Squares.of(4, 7)] != blackKing || board[Squares.of(0, 7)] != blackRook) {
+            castling &= ~BLACK_QUEENSIDE;
+        }
+    }
+
+    public String toFen() {
+        StringBuilder fen = new StringBuilder();
+        for (int rank = 7; rank >= 0; rank--) {
+            int empty = 0;
+            for (int file = 0; file < 8; file++) {
+                int piece = board[Squares.of(file, rank)];
+                if (piece == Piece.NONE) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                fen.append(Piece.fenChar(piece));
+            }
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            if (rank > 0) {
+                fen.append('/');
+            }
+        }
+        fen.append(side == Piece.WHITE ? " w " : " b ");
+        if (castling == 0) {
+            fen.append('-');
+        } else {
+            for (int right = 0; right < 4; right++) {
+                if ((castling & (1 << right)) != 0) {
+                    fen.append("KQkq".charAt(right));
+                }
+            }
+        }
+        fen.append(' ').append(epSquare == Squares.NONE ? "-" : Squares.name(epSquare));
+        fen.append(' ').append(halfmoveClock).append(' ').append(fullmoveNumber);
+        return fen.toString();
+    }
+
+    public int sideToMove() {
+        return side;
+    }
+
+    public int pieceAt(int square) {
+        return board[square];
+    }
+
+    public long pieces(int piece) {
+        return pieces[piece];
+    }
+
+    public long pieces(int color, int type) {
+        return pieces[Piece.of(color, type)];
+    }
+
+    public long occupied() {
+        return occupied;
+    }
+
+    public long occupied(int color) {
+        return colors[color];
+    }
+
+    public int castlingRights() {
+        return castling;
+    }
+
+    public int enPassantSquare() {
+        return epSquare;
+    }
+
+    public int halfmoveClock() {
+        return halfmoveClock;
+    }
+
+    public int fullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    /*
+     * The Zobrist hash of the position. It covers the pieces, the side to move, the
+     * castling rights and the en passant square, the last only when a pawn stands
+     * ready to capture there, so positions that only differ by an unusable en
+     * passant square hash the same. The move clocks are not part of it.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    private long enPassantKey() {
+        if (epSquare == Squares.NONE || (Bitboards.pawnAttacks(side ^ 1, epSquare) & pieces[Piece.of(side, Piece.PAWN)]) == 0) {
+            return 0;
+        }
+        return Zobrist.enPassant(epSquare);
+    }
+
+    public int kingSquare(int color) {
+        return Long.numberOfTrailingZeros(pieces[Piece.of(color, Piece.KING)]);
+    }
+
+    public boolean isAttacked(int square, int byColor) {
+        long bishops = pieces[Piece.of(byColor, Piece.BISHOP)] | pieces[Piece.of(byColor, Piece.QUEEN)];
+        long rooks = pieces[Piece.of(byColor, Piece.ROOK)] | pieces[Piece.of(byColor, Piece.QUEEN)];
+        return (Bitboards.pawnAttacks(byColor ^ 1, square) & pieces[Piece.of(byColor, Piece.PAWN)]) != 0
+                || (Bitboards.knightAttacks(square) & pieces[Piece.of(byColor, Piece.KNIGHT)]) != 0
+                || (Bitboards.kingAttacks(square) & pieces[Piece.of(byColor, Piece.KING)]) != 0
+                || (Bitboards.bishopAttacks(square, occupied) & bishops) != 0
+                || (Bitboards.rookAttacks(square, occupied) & rooks) != 0;
+    }
+
+    public boolean inCheck() {
+        return isAttacked(kingSquare(side), side ^ 1);
+    }
+
+    public boolean isCapture(int move) {
+        return Move.isEnPassant(move) || board[Move.to(move)] != Piece.NONE;
+    }
+
+    // Plays a move generated for this position. The move is not checked.
+    public void make(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int piece = board[from];
+        int captureSquare = Move.isEnPassant(move) ? to + (side == Piece.WHITE ? -8 : 8) : to;
+        int captured = board[captureSquare];
+        if (ply == undoCaptured.length) {
+            growUndoStacks();
+        }
+        undoCaptured[ply] = captured;
+        undoCastling[ply] = castling;
+        undoEpSquare[ply] = epSquare;
+        undoHalfmoveClock[ply] = halfmoveClock;
+        undoHash[ply] = hash;
+        ply++;
+        hash ^= enPassantKey() ^ Zobrist.castling(castling);
+
+        if (captured != Piece.NONE) {
+            remove(captured, captureSquare);
+        }
+        remove(piece, from);
+        put(Move.isPromotion(move) ? Piece.of(side, Move.promotion(move)) : piece, to);
+        if (Move.isCastling(move)) {
+            moveCastlingRook(to, false);
+        }
+        castling &= CASTLING_MASK[from] & CASTLING_MASK[to];
+        epSquare = Move.isDoublePush(move) ? (from + to) >>> 1 : Squares.NONE;
+        halfmoveClock = Piece.type(piece) == Piece.PAWN || captured != Piece.NONE ? 0 : halfmoveClock + 1;
+        if (side == Piece.BLACK) {
+            fullmoveNumber++;
+        }
+        side ^= 1;
+        hash ^= enPassantKey() ^ Zobrist.castling(castling) ^ Zobrist.BLACK_TO_MOVE;
+    }
+
+    // Takes back the last move made, which must be the given one.
+    public void unmake(int move) {
+        side ^= 1;
+        if (side == Piece.BLACK) {
+            fullmoveNumber--;
+        }
+        ply--;
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int moved = board[to];
+        remove(moved, to);
+        put(Move.isPromotion(move) ? Piece.of(side, Piece.PAWN) : moved, from);
+        if (Move.isCastling(move)) {
+            moveCastlingRook(to, true);
+        }
+        int captured = undoCaptured[ply];
+        if (captured != Piece.NONE) {
+            put(captured, Move.isEnPassant(move) ? to + (side == Piece.WHITE ? -8 : 8) : to);
+        }
+        castling = undoCastling[ply];
+        epSquare = undoEpSquare[ply];
+        halfmoveClock = undoHalfmoveClock[ply];
+        hash = undoHash[ply];
+    }
+
+    // The king's destination tells which rook castles; undoing moves it back.
+    private void moveCastlingRook(int kingTo, boolean undo) {
+        int rookFrom = Squares.file(kingTo) == 6 ? kingTo + 1 : kingTo - 2;
+        int rookTo = Squares.file(kingTo) == 6 ? kingTo - 1 : kingTo + 1;
+        if (undo) {
+            int swap = rookFrom;
+            rookFrom = rookTo;
+            rookTo = swap;
+        }
+        int rook = board[rookFrom];
+        remove(rook, rookFrom);
+        put(rook, rookTo);
+    }
+
+    private void put(int piece, int square) {
+        long bit = Bitboards.bit(square);
+        pieces[piece] |= bit;
+        colors[Piece.color(piece)] |= bit;
+        occupied |= bit;
+        board[square] = piece;
+        hash ^= Zobrist.piece(piece, square);
+    }
+
+    private void remove(int piece, int square) {
+        long bit = ~Bitboards.bit(square);
+        pieces[piece] &= bit;
+        colors[Piece.color(piece)] &= bit;
+        occupied &= bit;
+        board[square] = Piece.NONE;
+        hash ^= Zobrist.piece(piece, square);
+    }
+
+    private void growUndoStacks() {
+        int capacity = undoCaptured.length * 2;
+        undoCaptured = Arrays.copyOf(undoCaptured, capacity);
+        undoCastling = Arrays.copyOf(undoCastling, capacity);
+        undoEpSquare = Arrays.copyOf(undoEpSquare, capacity);
+        undoHalfmoveClock = Arrays.copyOf(undoHalfmoveClock, capacity);
+        undoHash = Arrays.copyOf(undoHash, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return toFen();
+    }
+}
@@ -0,0 +1,126 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * The games of one rating period between players numbered from 0, and the
+ * Glicko-2 update of all of them at once. Every player's update only reads the
+ * ratings from before the period, so the players are split across a fork/join
+ * pool and each writes its own slot of the new ratings. The games are kept as
+ * one flat array per player side (compressed rows), built once when rating
+ * begins.
+ */
+public final class RatingPeriod {
+    // Ranges of players at most this long are rated by one task.
+    static final int SEQUENTIAL_PLAYERS = 256;
+
+    private final int players;
+    private int games;
+    private int[] whites = new int[16];
+    private int[] blacks = new int[16];
+    private double[] whiteScores = new double[16];
+
+    public RatingPeriod(int players) {
+        this.players = players;
+    }
+
+    public void addGame(int white, int black, double whiteScore) {
+        if (games == whites.length) {
+            whites = Arrays.copyOf(whites, games * 2);
+            blacks = Arrays.copyOf(blacks, games * 2);
+            whiteScores = Arrays.copyOf(whiteScores, games * 2);
+        }
+        whites[games] = white;
+        blacks[games] = black;
+        whiteScores[games] = whiteScore;
+        games++;
+    }
+
+    public int games() {
+        return games;
+    }
+
+    /*
+     * Rates every player over the period: ratings[p] holds the rating, deviation
+     * and volatility of player p (see Glicko2) and is replaced by the new ones.
+     */
+    public void rate(double[][] ratings, double tau, ForkJoinPool pool) {
+        int[] offsets = new int[players + 1];
+        for (int i = 0; i < games; i++) {
+            offsets[whites[i] + 1]++;
+            offsets[blacks[i] + 1]++;
+        }
+        for (int p = 0; p < players; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+        int[] opponents = new int[games * 2];
+        double[] scores = new double[games * 2];
+        int[] next = Arrays.copyOf(offsets, players);
+        for (int i = 0; i < games; i++) {
+            opponents[next[whites[i]]] = blacks[i];
+            scores[next[whites[i]]++] = whiteScores[i];
+            opponents[next[blacks[i]]] = whites[i];
+            scores[next[blacks[i]]++] = 1 - whiteScores[i];
+        }
+        double[][] rated = new double[players][];
+        pool.invoke(new RateTask(ratings, rated, offsets, opponents, scores, tau, 0, players));
+        System.arraycopy(rated, 0, ratings, 0, players);
+    }
+
+    private static final class RateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] ratings;
+        private final double[][] rated;
+        private final int[] offsets;
+        private final int[] opponents;
+        private final double[] scores;
+        private final double tau;
+        private final int from;
+        private final int to;
+
+        RateTask(double[][] ratings, double[][] rated, int[] offsets, int[] opponents, double[] scores, double tau, int from, int to) {
+            this.ratings = ratings;
+            this.rated = rated;
+            this.offsets = offsets;
+            this.opponents = opponents;
+            this.scores = scores;
+            this.tau = tau;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_PLAYERS) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RateTask(ratings, rated, offsets, opponents, scores, tau, from, middle),
+                        new RateTask(ratings, rated, offsets, opponents, scores, tau, middle, to));
+                return;
+            }
+            double[] opponentRatings = new double[0];
+            double[] opponentDeviations = new double[0];
+            double[] playerScores = new double[0];
+            for (int p = from; p < to; p++) {
+                int count = offsets[p + 1] - offsets[p];
+                if (opponentRatings.length < count) {
+                    opponentRatings = new double[count];
+                    opponentDeviations = new double[count];
+                    playerScores = new double[count];
+                }
+                for (int i = 0; i < count; i++) {
+                    double[] opponent = ratings[opponents[offsets[p] + i]];
+                    opponentRatings[i] = opponent[Glicko2.RATING];
+                    opponentDeviations[i] = opponent[Glicko2.DEVIATION];
+                    playerScores[i] = scores[offsets[p] + i];
+                }
+                double[] player = ratings[p];
+                rated[p] = new double[3];
+                Glicko2.update(player[Glicko2.RATING], player[Glicko2.DEVIATION], player[Glicko2.VOLATILITY], opponentRatings, opponentDeviations,
+                        playerScores, count, tau, rated[p]);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * Reads and writes moves in Standard Algebraic Notation against a position. A
+ * SAN move only names the piece and the destination, so it is resolved by
+ * matching it against the legal moves of the position: it must match exactly
+ * one. Writing a move produces the canonical form, with the least disambiguation
+ * that makes it unique and the check or mate suffix.
+ */
+public final class San {
+
+    private San() {
+    }
+
+    // Resolves the SAN move in the position without playing it.
+    public static int parse(Position position, String san) {
+        if (san == null) {
+            throw new IllegalMoveException("The move cannot be null.");
+        }
+        String text = stripSuffixes(san.trim());
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(position, moves);
+        if (text.equals("O-O") || text.equals("0-0") || text.equals("O-O-O") || text.equals("0-0-0")) {
+            int file = text.length() == 3 ? 6 : 2;
+            for (int i = 0; i < count; i++) {
+                if (Move.isCastling(moves[i]) && Squares.file(Move.to(moves[i])) == file) {
+                    return moves[i];
+                }
+            }
+            throw notLegal(san);
+        }
+
+        int end = text.length();
+        int promotion = 0;
+        if (end >= 2 && text.charAt(end - 2) == '=') {
+            promotion = promotionType(text.charAt(end - 1), san);
+            end -= 2;
+        }
+        int start = 0;
+        int type = Piece.PAWN;
+        if (end > 0 && "NBRQK".indexOf(text.charAt(0)) >= 0) {
+            type = Piece.typeOf(text.charAt(0));
+            start = 1;
+        }
+        if (end - start < 2) {
+            throw notValid(san);
+        }
+        int to = Squares.parse(text.substring(end - 2, end));
+        if (to == Squares.NONE) {
+            throw notValid(san);
+        }
+        String middle = text.substring(start, end - 2);
+        boolean capture = middle.endsWith("x");
+        if (capture) {
+            middle = middle.substring(0, middle.length() - 1);
+        }
+        int fromFile = -1;
+        int fromRank = -1;
+        for (char c : middle.toCharArray()) {
+            if (c >= 'a' && c <= 'h' && fromFile < 0 && fromRank < 0) {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8' && fromRank < 0) {
+                fromRank = c - '1';
+            } else {
+                throw notValid(san);
+            }
+        }
+        if (type == Piece.PAWN && (capture != (fromFile >= 0) || fromRank >= 0)) {
+            throw notValid(san);
+        }
+        if (type != Piece.PAWN && promotion != 0) {
+            throw notValid(san);
+        }
+
+        int match = Move.NONE;
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            int from = Move.from(move);
+            if (Move.to(move) != to || Piece.type(position.board[from]) != type || Move.promotion(move) != promotion
+                    || (fromFile >= 0 && Squares.file(from) != fromFile) || (fromRank >= 0 && Squares.rank(from) != fromRank)
+                    || (capture && !position.isCapture(move))) {
+                continue;
+            }
+            if (match != Move.NONE) {
+                throw new IllegalMoveException("The move " + san + " is ambiguous in this position.");
+            }
+            match = move;
+        }
+        if (match == Move.NONE) {
+            throw notLegal(san);
+        }
+        return match;
+    }
+
+    // Writes a legal move of the position in canonical SAN.
+    public static String format(Position position, int move) {
+        StringBuilder san = new StringBuilder();
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int type = Piece.type(position.board[from]);
+        if (Move.isCastling(move)) {
+            san.append(Squares.file(to) == 6 ? "O-O" : "O-O-O");
+        } else if (type == Piece.PAWN) {
+            if (position.isCapture(move)) {
+                san.append((char) ('a' + Squares.file(from))).append('x');
+            }
+            san.append(Squares.name(to));
+            if (Move.isPromotion(move)) {
+                san.append('=').append(Piece.letter(Move.promotion(move)));
+            }
+        } else {
+            san.append(Piece.letter(type));
+            appendDisambiguation(position, move, san);
+            if (position.isCapture(move)) {
+                san.append('x');
+            }
+            san.append(Squares.name(to));
+        }
+        position.make(move);
+        if (position.inCheck()) {
+            san.append(MoveGenerator.generateLegal(position, new int[MoveGenerator.MAX_MOVES]) == 0 ? '#' : '+');
+        }
+        position.unmake(move);
+        return san.toString();
+    }
+
+    // Resolves the SAN move, plays it and returns its canonical form.
+    public static String play(Position position, String san) {
+        int move = parse(position, san);
+        String canonical = format(position, move);
+        position.make(move);
+        return canonical;
+    }
+
+    // The file names the piece when it is unique among the rivals, then the rank, then both.
+    private static void appendDisambiguation(Position position, int move, StringBuilder san) {
+        int from = Move.from(move);
+        int piece = position.board[from];
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(position, moves);
+        boolean rivals = false;
+        boolean sameFile = false;
+        boolean sameRank = false;
+        for (int i = 0; i < count; i++) {
+            int other = Move.from(moves[i]);
+            if (Move.to(moves[i]) != Move.to(move) || other == from || position.board[other] != piece) {
+                continue;
+            }
+            rivals = true;
+            sameFile |= Squares.file(other) == Squares.file(from);
+            sameRank |= Squares.rank(other) == Squares.rank(from);
+        }
+        if (!rivals) {
+            return;
+        }
+        if (!sameFile) {
+            san.append((char) ('a' + Squares.file(from)));
+        } else if (!sameRank) {
+            san.append((char) ('1' + Squares.rank(from)));
+        } else {
+            san.append(Squares.name(from));
+        }
+    }
+
+    private static String stripSuffixes(String text) {
+        int end = text.length();
+        while (end > 0 && "+#!?".indexOf(text.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return text.substring(0, end);
+    }
+
+    private static int promotionType(char letter, String san) {
+        int type = Piece.typeOf(letter);
+        if (type != Piece.KNIGHT && type != Piece.BISHOP && type != Piece.ROOK && type != Piece.QUEEN) {
+            throw notValid(san);
+        }
+        return type;
+    }
+
+    private static IllegalMoveException notValid(String san) {
+        return new IllegalMoveException("The move " + san + " is not valid SAN.");
+    }
+
+    private static IllegalMoveException notLegal(String san) {
+        return new IllegalMoveException("The move " + san + " is not legal in this position.");
+    }
+}
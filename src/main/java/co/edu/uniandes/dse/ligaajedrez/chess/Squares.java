@@ -0,0 +1,40 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * Squares are numbered from a1 = 0 to h8 = 63, file first.
+ */
+public final class Squares {
+    public static final int NONE = -1;
+
+    private Squares() {
+    }
+
+    public static int of(int file, int rank) {
+        return rank * 8 + file;
+    }
+
+    public static int file(int square) {
+        return square & 7;
+    }
+
+    public static int rank(int square) {
+        return square >>> 3;
+    }
+
+    public static String name(int square) {
+        return new String(new char[] { (char) ('a' + file(square)), (char) ('1' + rank(square)) });
+    }
+
+    // The square of a name such as e4, or NONE when the name is not a square.
+    public static int parse(String name) {
+        if (name == null || name.length() != 2) {
+            return NONE;
+        }
+        int file = name.charAt(0) - 'a';
+        int rank = name.charAt(1) - '1';
+        if (file < 0 || file > 7 || rank < 0 || rank > 7) {
+            return NONE;
+        }
+        return of(file, rank);
+    }
+}
@@ -0,0 +1,53 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * One row of the standings of a tournament. Players tied on points and every
+ * tiebreak share a rank.
+ */
+public final class Standing {
+    private final long playerId;
+    private final int rank;
+    private final double points;
+    private final int games;
+    private final double directEncounter;
+    private final double buchholz;
+    private final double sonnebornBerger;
+
+    public Standing(long playerId, int rank, double points, int games, double directEncounter, double buchholz, double sonnebornBerger) {
+        this.playerId = playerId;
+        this.rank = rank;
+        this.points = points;
+        this.games = games;
+        this.directEncounter = directEncounter;
+        this.buchholz = buchholz;
+        this.sonnebornBerger = sonnebornBerger;
+    }
+
+    public long getPlayerId() {
+        return playerId;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public double getPoints() {
+        return points;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public double getDirectEncounter() {
+        return directEncounter;
+    }
+
+    public double getBuchholz() {
+        return buchholz;
+    }
+
+    public double getSonnebornBerger() {
+        return sonnebornBerger;
+    }
+}
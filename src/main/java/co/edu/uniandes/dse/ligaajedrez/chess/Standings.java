@@ -0,0 +1,205 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * The standings of a tournament, kept up to date game by game. Adding or
+ * removing a game changes the points of its two players, and so the Buchholz
+ * (the sum of the opponents' points) and Sonneborn-Berger (the sum of the
+ * opponents' points weighted by the score against each) of everyone who played
+ * them; only those totals are touched. All scores are halves and their sums and
+ * products stay exact as doubles. A bye gives its points with no opponent, so
+ * it adds nothing to the player's own tiebreaks and is not one of their games.
+ *
+ * Players are ordered by points, then direct encounter (the points scored
+ * against the other players on the same points), then Buchholz, then
+ * Sonneborn-Berger. The ranked rows are rebuilt on the first read after a change
+ * and shared until the next one. Only players with a finished game appear.
+ */
+public final class Standings {
+    private static final Comparator<Player> ORDER = Comparator.comparingDouble((Player player) -> -player.points)
+            .thenComparingDouble(player -> -player.directEncounter)
+            .thenComparingDouble(player -> -player.buchholz)
+            .thenComparingDouble(player -> -player.sonnebornBerger)
+            .thenComparingLong(player -> player.id);
+
+    private final Map<Long, Game> games = new HashMap<>();
+    private final Map<Long, Bye> byes = new HashMap<>();
+    private final Map<Long, Player> players = new HashMap<>();
+    private List<Standing> rows = Collections.emptyList();
+    private boolean changed;
+
+    // Replaces the game if it was already counted.
+    public synchronized void add(long gameId, long whiteId, long blackId, double whiteScore) {
+        remove(gameId);
+        if (whiteId == blackId) {
+            return;
+        }
+        Player white = players.computeIfAbsent(whiteId, Player::new);
+        Player black = players.computeIfAbsent(blackId, Player::new);
+        score(white, whiteScore);
+        score(black, 1 - whiteScore);
+        Game game = new Game(white, black, whiteScore);
+        white.games.add(game);
+        black.games.add(game);
+        credit(white, game, 1);
+        credit(black, game, 1);
+        games.put(gameId, game);
+        changed = true;
+    }
+
+    // Replaces the game if it was already counted.
+    public synchronized void addBye(long gameId, long playerId, double points) {
+        remove(gameId);
+        Player player = players.computeIfAbsent(playerId, Player::new);
+        score(player, points);
+        player.byes++;
+        byes.put(gameId, new Bye(player, points));
+        changed = true;
+    }
+
+    public synchronized void remove(long gameId) {
+        Bye bye = byes.remove(gameId);
+        if (bye != null) {
+            score(bye.player, -bye.points);
+            bye.player.byes--;
+            dropIfIdle(bye.player);
+            changed = true;
+            return;
+        }
+        Game game = games.remove(gameId);
+        if (game == null) {
+            return;
+        }
+        credit(game.white, game, -1);
+        credit(game.black, game, -1);
+        game.white.games.remove(game);
+        game.black.games.remove(game);
+        score(game.white, -game.whiteScore);
+        score(game.black, -(1 - game.whiteScore));
+        dropIfIdle(game.white);
+        dropIfIdle(game.black);
+        changed = true;
+    }
+
+    // The games counted, byes included.
+    public synchronized int games() {
+        return games.size() + byes.size();
+    }
+
+    // The players ranked, best first.
+    public synchronized List<Standing> rows() {
+        if (changed) {
+            rows = rank();
+            changed = false;
+        }
+        return rows;
+    }
+
+    // Gives the player the points and passes them on to the tiebreaks of every opponent so far.
+    private static void score(Player player, double points) {
+        player.points += points;
+        for (Game game : player.games) {
+            Player opponent = game.opponent(player);
+            opponent.buchholz += points;
+            opponent.sonnebornBerger += game.score(opponent) * points;
+        }
+    }
+
+    private void dropIfIdle(Player player) {
+        if (player.games.isEmpty() && player.byes == 0) {
+            players.remove(player.id);
+        }
+    }
+
+    // Adds or takes away what the game's opponent is worth to the player's tiebreaks.
+    private static void credit(Player player, Game game, int sign) {
+        Player opponent = game.opponent(player);
+        player.buchholz += sign * opponent.points;
+        player.sonnebornBerger += sign * game.score(player) * opponent.points;
+    }
+
+    private List<Standing> rank() {
+        Map<Double, List<Player>> byPoints = new HashMap<>();
+        for (Player player : players.values()) {
+            byPoints.computeIfAbsent(player.points, points -> new ArrayList<>()).add(player);
+        }
+        for (List<Player> tied : byPoints.values()) {
+            for (Player player : tied) {
+                player.directEncounter = 0;
+                if (tied.size() == 1) {
+                    continue;
+                }
+                for (Game game : player.games) {
+                    if (game.opponent(player).points == player.points) {
+                        player.directEncounter += game.score(player);
+                    }
+                }
+            }
+        }
+        List<Player> ranked = new ArrayList<>(players.values());
+        ranked.sort(ORDER);
+        List<Standing> ranking = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            Player player = ranked.get(i);
+            int rank = i > 0 && sharesRank(ranked.get(i - 1), player) ? ranking.get(i - 1).getRank() : i + 1;
+            ranking.add(new Standing(player.id, rank, player.points, player.games.size(), player.directEncounter, player.buchholz,
+                    player.sonnebornBerger));
+        }
+        return Collections.unmodifiableList(ranking);
+    }
+
+    private static boolean sharesRank(Player first, Player second) {
+        return first.points == second.points && first.directEncounter == second.directEncounter && first.buchholz == second.buchholz
+                && first.sonnebornBerger == second.sonnebornBerger;
+    }
+
+    private static final class Player {
+        private final long id;
+        private final List<Game> games = new ArrayList<>();
+        private int byes;
+        private double points;
+        private double directEncounter;
+        private double buchholz;
+        private double sonnebornBerger;
+
+        Player(long id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Bye {
+        private final Player player;
+        private final double points;
+
+        Bye(Player player, double points) {
+            this.player = player;
+            this.points = points;
+        }
+    }
+
+    private static final class Game {
+        private final Player white;
+        private final Player black;
+        private final double whiteScore;
+
+        Game(Player white, Player black, double whiteScore) {
+            this.white = white;
+            this.black = black;
+            this.whiteScore = whiteScore;
+        }
+
+        Player opponent(Player player) {
+            return player == white ? black : white;
+        }
+
+        double score(Player player) {
+            return player == white ? whiteScore : 1 - whiteScore;
+        }
+    }
+}
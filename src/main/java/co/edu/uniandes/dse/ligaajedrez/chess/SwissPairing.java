@@ -0,0 +1,429 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * Pairs the next round of a Swiss tournament by the rules of the Dutch system,
+ * for players numbered from 0 in order of pairing number (the best rated first).
+ * The rounds played so far are replayed into it with addGame, addBye,
+ * addUnpairedGame and endRound.
+ *
+ * The players are split into score groups, best first. Within a group the top
+ * half (S1) meets the bottom half (S2) in order, and when that is not possible the
+ * S2 players are transposed, then exchanged with S1, taking the first pairing
+ * found in that order; opponents that suit both colour preferences are tried
+ * before the others. Nobody meets the same opponent twice, and two players who
+ * must both have the same colour never meet. A player left over in a group floats
+ * down to the next, avoiding those who floated down in the round before. When the
+ * last group cannot be paired, it is merged with the group above and paired
+ * again. An odd player out gets the bye, the lowest ranked of those with the
+ * lowest score who have not had one.
+ *
+ * Who met whom is kept as one bit per pair of players, so checking a rematch
+ * is a single lookup.
+ */
+public final class SwissPairing {
+    public static final double BYE_POINTS = 1;
+    // How many times the search for the pairing of a group may step back before giving up on it.
+    static final int MAX_BACKTRACKS = 100_000;
+
+    private static final int WHITE = 1;
+    private static final int BLACK = -1;
+    private static final int MILD = 1;
+    private static final int STRONG = 2;
+    private static final int ABSOLUTE = 3;
+
+    private final int players;
+    private final long[] played;
+    private final double[] scores;
+    // Games with White less games with Black, and the last two colours, most recent first.
+    private final int[] colourDifferences;
+    private final int[] lastColours;
+    private final int[] previousColours;
+    private final boolean[] hadBye;
+    private boolean[] floatedDown;
+    private boolean[] floatingDown;
+    private int rounds;
+
+    public SwissPairing(int players) {
+        this.players = players;
+        this.played = new long[(int) (((long) players * players + 63) / 64)];
+        this.scores = new double[players];
+        this.colourDifferences = new int[players];
+        this.lastColours = new int[players];
+        this.previousColours = new int[players];
+        this.hadBye = new boolean[players];
+        this.floatedDown = new boolean[players];
+        this.floatingDown = new boolean[players];
+    }
+
+    public void addGame(int white, int black, double whiteScore) {
+        if (scores[white] > scores[black]) {
+            floatingDown[white] = true;
+        } else if (scores[black] > scores[white]) {
+            floatingDown[black] = true;
+        }
+        setPlayed(white, black);
+        setPlayed(black, white);
+        scores[white] += whiteScore;
+        scores[black] += 1 - whiteScore;
+        addColour(white, WHITE);
+        addColour(black, BLACK);
+    }
+
+    public void addBye(int player, double points) {
+        scores[player] += points;
+        hadBye[player] = true;
+        floatingDown[player] = true;
+    }
+
+    // A game whose opponent is no longer known: the player keeps its points and colour, but no opponent.
+    public void addUnpairedGame(int player, boolean white, double score) {
+        scores[player] += score;
+        addColour(player, white ? WHITE : BLACK);
+    }
+
+    public void endRound() {
+        boolean[] last = floatedDown;
+        floatedDown = floatingDown;
+        floatingDown = last;
+        Arrays.fill(floatingDown, false);
+        rounds++;
+    }
+
+    public int rounds() {
+        return rounds;
+    }
+
+    public double score(int player) {
+        return scores[player];
+    }
+
+    public boolean played(int first, int second) {
+        long bit = (long) first * players + second;
+        return (played[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    private void setPlayed(int first, int second) {
+        long bit = (long) first * players + second;
+        played[(int) (bit >>> 6)] |= 1L << bit;
+    }
+
+    private void addColour(int player, int colour) {
+        colourDifferences[player] += colour;
+        previousColours[player] = lastColours[player];
+        lastColours[player] = colour;
+    }
+
+    /*
+     * Pairs the given players, or returns null when they cannot all be paired
+     * without a rematch or a colour two players must both have.
+     */
+    public Pairings pair(int[] entrants) {
+        Integer[] order = new Integer[entrants.length];
+        for (int i = 0; i < entrants.length; i++) {
+            order[i] = entrants[i];
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer player) -> -scores[player]).thenComparingInt(player -> player));
+        List<Integer> field = new ArrayList<>(Arrays.asList(order));
+        int bye = Pairings.NONE;
+        if (field.size() % 2 == 1) {
+            bye = byePlayer(field);
+            field.remove(Integer.valueOf(bye));
+        }
+        List<int[]> pairs = pairGroups(field);
+        if (pairs == null) {
+            return null;
+        }
+        pairs.sort(Comparator.comparingDouble((int[] pair) -> -Math.max(scores[pair[0]], scores[pair[1]]))
+                .thenComparingDouble(pair -> -(scores[pair[0]] + scores[pair[1]]))
+                .thenComparingInt(pair -> Math.min(pair[0], pair[1])));
+        int[] whites = new int[pairs.size()];
+        int[] blacks = new int[pairs.size()];
+        for (int board = 0; board < pairs.size(); board++) {
+            int[] pair = pairs.get(board);
+            int first = Math.min(pair[0], pair[1]);
+            int second = Math.max(pair[0], pair[1]);
+            if (whiteFor(first, second, board) == first) {
+                whites[board] = first;
+                blacks[board] = second;
+            } else {
+                whites[board] = second;
+                blacks[board] = first;
+            }
+        }
+        return new Pairings(whites, blacks, bye);
+    }
+
+    // The field is ordered best first, so the candidates are searched from the bottom.
+    private int byePlayer(List<Integer> field) {
+        for (int i = field.size() - 1; i >= 0; i--) {
+            if (!hadBye[field.get(i)]) {
+                return field.get(i);
+            }
+        }
+        return field.get(field.size() - 1);
+    }
+
+    private List<int[]> pairGroups(List<Integer> field) {
+        List<int[]> groups = new ArrayList<>();
+        for (int start = 0; start < field.size();) {
+            int end = start;
+            while (end < field.size() && scores[field.get(end)] == scores[field.get(start)]) {
+                end++;
+            }
+            groups.add(new int[] { start, end });
+            start = end;
+        }
+        // For each group paired so far: its members (floaters from above first) and where its pairs start.
+        List<int[]> paired = new ArrayList<>();
+        List<Integer> pairsStart = new ArrayList<>();
+        List<int[]> pairs = new ArrayList<>();
+        int[] floaters = new int[0];
+        for (int g = 0; g < groups.size(); g++) {
+            int[] members = concat(floaters, field, groups.get(g));
+            boolean last = g == groups.size() - 1;
+            if (!last) {
+                pairsStart.add(pairs.size());
+                paired.add(members);
+                floaters = pairGroup(members, pairs);
+                continue;
+            }
+            while (pairAll(members, members.length, pairs) == null) {
+                if (paired.isEmpty()) {
+                    return null;
+                }
+                // Take back the pairs of the group above and pair both groups as one.
+                int[] above = paired.remove(paired.size() - 1);
+                int from = pairsStart.remove(pairsStart.size() - 1);
+                pairs.subList(from, pairs.size()).clear();
+                members = merge(above, members);
+            }
+        }
+        return pairs;
+    }
+
+    private static int[] concat(int[] floaters, List<Integer> field, int[] group) {
+        int[] members = Arrays.copyOf(floaters, floaters.length + group[1] - group[0]);
+        for (int i = group[0]; i < group[1]; i++) {
+            members[floaters.length + i - group[0]] = field.get(i);
+        }
+        return members;
+    }
+
+    // The members of the group above and those of this group that did not float down from it.
+    private int[] merge(int[] above, int[] members) {
+        boolean[] fromAbove = new boolean[players];
+        for (int player : above) {
+            fromAbove[player] = true;
+        }
+        int[] merged = Arrays.copyOf(above, above.length + members.length);
+        int count = above.length;
+        for (int member : members) {
+            if (!fromAbove[member]) {
+                merged[count++] = member;
+            }
+        }
+        return Arrays.copyOf(merged, count);
+    }
+
+    // Pairs as many members as possible, adding the pairs; returns the members left to float down.
+    private int[] pairGroup(int[] members, List<int[]> pairs) {
+        for (int floating = members.length % 2; floating < members.length; floating += 2) {
+            int[] ordered = floatersLast(members, floating);
+            List<int[]> found = pairAll(ordered, members.length - floating, pairs);
+            if (found != null) {
+                return Arrays.copyOfRange(ordered, members.length - floating, members.length);
+            }
+        }
+        return members;
+    }
+
+    // The members with the given number of floaters moved to the end: the lowest who did not float down last round, if there are enough.
+    private int[] floatersLast(int[] members, int floating) {
+        boolean[] floats = new boolean[members.length];
+        int chosen = 0;
+        for (int i = members.length - 1; i >= 0 && chosen < floating; i--) {
+            if (!floatedDown[members[i]]) {
+                floats[i] = true;
+                chosen++;
+            }
+        }
+        for (int i = members.length - 1; i >= 0 && chosen < floating; i--) {
+            if (!floats[i]) {
+                floats[i] = true;
+                chosen++;
+            }
+        }
+        int[] ordered = new int[members.length];
+        int stay = 0;
+        int away = members.length - floating;
+        for (int i = 0; i < members.length; i++) {
+            if (floats[i]) {
+                ordered[away++] = members[i];
+            } else {
+                ordered[stay++] = members[i];
+            }
+        }
+        return ordered;
+    }
+
+    /*
+     * Pairs the first count members among themselves, depth first over the
+     * candidates of the first member not yet paired, in Dutch order. Adds the
+     * pairs and returns them, or returns null when there is no such pairing or it
+     * was not found within MAX_BACKTRACKS.
+     */
+    private List<int[]> pairAll(int[] members, int count, List<int[]> pairs) {
+        int half = count / 2;
+        boolean[] taken = new boolean[count];
+        int[] firsts = new int[half];
+        int[] cursors = new int[half];
+        int[] partners = new int[half];
+        int depth = 0;
+        int backtracks = 0;
+        int first = 0;
+        int cursor = 0;
+        while (depth < half) {
+            while (taken[first]) {
+                first++;
+            }
+            int partner = Pairings.NONE;
+            int candidates = first < half ? count - 1 : count - first - 1;
+            for (; cursor < 2 * candidates; cursor++) {
+                int candidate = candidate(first, cursor % candidates, half, count);
+                if (!taken[candidate] && allowed(members[first], members[candidate], cursor >= candidates)) {
+                    partner = candidate;
+                    break;
+                }
+            }
+            if (partner != Pairings.NONE) {
+                taken[first] = true;
+                taken[partner] = true;
+                firsts[depth] = first;
+                cursors[depth] = cursor + 1;
+                partners[depth] = partner;
+                depth++;
+                cursor = 0;
+                continue;
+            }
+            if (depth == 0 || ++backtracks > MAX_BACKTRACKS) {
+                return null;
+            }
+            depth--;
+            first = firsts[depth];
+            cursor = cursors[depth];
+            taken[first] = false;
+            taken[partners[depth]] = false;
+        }
+        List<int[]> found = new ArrayList<>(half);
+        for (int i = 0; i < half; i++) {
+            found.add(new int[] { members[firsts[i]], members[partners[i]] });
+        }
+        pairs.addAll(found);
+        return found;
+    }
+
+    /*
+     * The index'th candidate of a member: for one in S1 the S2 members in order,
+     * then the S1 members below it from the bottom up; for one in S2 the members
+     * below it in order.
+     */
+    private static int candidate(int member, int index, int half, int count) {
+        if (member >= half) {
+            return member + 1 + index;
+        }
+        int s2 = count - half;
+        return index < s2 ? half + index : half - 1 - (index - s2);
+    }
+
+    // In the first pass only opponents whose colour preferences fit, in the second the others.
+    private boolean allowed(int first, int second, boolean secondPass) {
+        if (first == second || played(first, second)) {
+            return false;
+        }
+        int firstColour = preferredColour(first);
+        int secondColour = preferredColour(second);
+        boolean clash = firstColour != 0 && firstColour == secondColour;
+        if (clash && strength(first) == ABSOLUTE && strength(second) == ABSOLUTE) {
+            return false;
+        }
+        return clash == secondPass;
+    }
+
+    private int preferredColour(int player) {
+        if (colourDifferences[player] != 0) {
+            return colourDifferences[player] > 0 ? BLACK : WHITE;
+        }
+        return -lastColours[player];
+    }
+
+    private int strength(int player) {
+        int difference = Math.abs(colourDifferences[player]);
+        if (difference >= 2 || (lastColours[player] != 0 && lastColours[player] == previousColours[player])) {
+            return ABSOLUTE;
+        }
+        if (difference == 1) {
+            return STRONG;
+        }
+        return lastColours[player] == 0 ? 0 : MILD;
+    }
+
+    /*
+     * Gives each player their colour when they want different ones, and otherwise
+     * the stronger preference wins, then the higher ranked player's. Players with
+     * no preference alternate by board, the higher ranked starting with White.
+     */
+    private int whiteFor(int higher, int lower, int board) {
+        int higherColour = preferredColour(higher);
+        int lowerColour = preferredColour(lower);
+        if (higherColour == 0 && lowerColour == 0) {
+            return board % 2 == 0 ? higher : lower;
+        }
+        if (higherColour != lowerColour) {
+            if (higherColour != 0) {
+                return higherColour == WHITE ? higher : lower;
+            }
+            return lowerColour == WHITE ? lower : higher;
+        }
+        int winner = strength(lower) > strength(higher) ? lower : higher;
+        int loser = winner == higher ? lower : higher;
+        return higherColour == WHITE ? winner : loser;
+    }
+
+    /*
+     * The boards of a round, best first, and the player with the bye or NONE.
+     */
+    public static final class Pairings {
+        public static final int NONE = -1;
+
+        private final int[] whites;
+        private final int[] blacks;
+        private final int bye;
+
+        Pairings(int[] whites, int[] blacks, int bye) {
+            this.whites = whites;
+            this.blacks = blacks;
+            this.bye = bye;
+        }
+
+        public int boards() {
+            return whites.length;
+        }
+
+        public int white(int board) {
+            return whites[board];
+        }
+
+        public int black(int board) {
+            return blacks[board];
+        }
+
+        public int bye() {
+            return bye;
+        }
+    }
+}
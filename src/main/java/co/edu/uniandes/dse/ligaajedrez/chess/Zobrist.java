@@ -0,0 +1,63 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+/*
+ * The random keys of the Zobrist position hash: one per piece on each square, per
+ * castling rights combination, per en passant file and for black to move. The
+ * hash of a position is the XOR of the keys of everything in it, so a move
+ * updates it by XOR-ing out what it removes and in what it adds. Two move orders
+ * that reach the same position reach the same hash.
+ *
+ * Hashes are stored in the position index, so the keys must be the same in every
+ * run: they come from a fixed seed, and changing the seed or the order in which
+ * the keys are drawn invalidates every stored hash.
+ */
+public final class Zobrist {
+    private static final long[] PIECE_SQUARE = new long[Piece.COUNT * 64];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EN_PASSANT_FILE = new long[8];
+    static final long BLACK_TO_MOVE;
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < PIECE_SQUARE.length; i++) {
+            seed = splitMix(seed);
+            PIECE_SQUARE[i] = mix(seed);
+        }
+        for (int i = 0; i < CASTLING.length; i++) {
+            seed = splitMix(seed);
+            CASTLING[i] = i == 0 ? 0 : mix(seed);
+        }
+        for (int i = 0; i < EN_PASSANT_FILE.length; i++) {
+            seed = splitMix(seed);
+            EN_PASSANT_FILE[i] = mix(seed);
+        }
+        seed = splitMix(seed);
+        BLACK_TO_MOVE = mix(seed);
+    }
+
+    private Zobrist() {
+    }
+
+    static long piece(int piece, int square) {
+        return PIECE_SQUARE[piece * 64 + square];
+    }
+
+    static long castling(int rights) {
+        return CASTLING[rights];
+    }
+
+    static long enPassant(int square) {
+        return EN_PASSANT_FILE[Squares.file(square)];
+    }
+
+    // SplitMix64: a counter step followed by a mixing function.
+    private static long splitMix(long seed) {
+        return seed + 0x9E3779B97F4A7C15L;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
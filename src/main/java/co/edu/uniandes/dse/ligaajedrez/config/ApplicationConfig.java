@@ -6,11 +6,18 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import co.edu.uniandes.dse.ligaajedrez.dto.GameDetailDTO;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+
 @Configuration
 public class ApplicationConfig {
 	@Bean
 	public ModelMapper modelMapper() {
-		return new ModelMapper();
+		ModelMapper modelMapper = new ModelMapper();
+		// The detail decodes its moves from the move data; reading the move rows would cost a query per game.
+		modelMapper.typeMap(GameEntity.class, GameDetailDTO.class)
+				.setPropertyCondition(context -> !"moves".equals(context.getMapping().getLastDestinationProperty().getName()));
+		return modelMapper;
 	}
 	
 	@Bean
@@ -19,7 +26,7 @@ public class ApplicationConfig {
 			@Override
 			public void addCorsMappings(CorsRegistry registry) {
 				registry.addMapping("/**").allowedOrigins("*").allowedMethods("GET", "POST", "PUT", "DELETE")
-						.maxAge(3600);
+						.exposedHeaders("X-Next-Cursor", "ETag").maxAge(3600);
 			}
 
 		};
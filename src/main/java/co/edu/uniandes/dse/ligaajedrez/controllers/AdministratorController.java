@@ -5,13 +5,18 @@ import java.util.List;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,17 +38,18 @@ public class AdministratorController {
     private ModelMapper modelMapper = new ModelMapper();
 
     @GetMapping
-    @ResponseStatus(code = HttpStatus.OK)
-    public List<AdministratorDetailDTO> findAll() {
-        List<AdministratorEntity> administrators = administratorService.getAdministrators();
-        return modelMapper.map(administrators, new TypeToken<List<AdministratorDetailDTO>>(){}.getType());
+    public ResponseEntity<List<AdministratorDetailDTO>> findAll(@RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) throws IllegalOperationException {
+        Slice<AdministratorEntity> administrators = administratorService.getAdministrators(Cursors.decodeId(cursor), size);
+        AdministratorEntity last = Cursors.last(administrators);
+        List<AdministratorDetailDTO> body = modelMapper.map(administrators.getContent(), new TypeToken<List<AdministratorDetailDTO>>(){}.getType());
+        return Cursors.page(body, last == null ? null : Cursors.encode(last.getId()));
     }
 
     @GetMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public AdministratorDTO findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+    public ResponseEntity<AdministratorDTO> findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
         AdministratorEntity administratorEntity = administratorService.getAdministrator(id);
-        return modelMapper.map(administratorEntity, AdministratorDetailDTO.class);
+        return ResponseEntity.ok().eTag(ETags.of(administratorEntity)).body(modelMapper.map(administratorEntity, AdministratorDetailDTO.class));
     }
 
     @PostMapping
@@ -54,10 +60,12 @@ public class AdministratorController {
     }
 
     @PostMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public AdministratorDTO update(@PathVariable("id") Long id, @RequestBody AdministratorDTO administratorDTO) throws IllegalOperationException, EntityNotFoundException {
-        AdministratorEntity administratorEntity = administratorService.updateAdministrator(id, modelMapper.map(administratorDTO, AdministratorEntity.class));
-        return modelMapper.map(administratorEntity, AdministratorDTO.class);
+    public ResponseEntity<AdministratorDTO> update(@PathVariable("id") Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody AdministratorDTO administratorDTO) throws IllegalOperationException, EntityNotFoundException {
+        AdministratorEntity administrator = modelMapper.map(administratorDTO, AdministratorEntity.class);
+        administrator.setVersion(ETags.parseIfMatch(ifMatch));
+        AdministratorEntity administratorEntity = administratorService.updateAdministrator(id, administrator);
+        return ResponseEntity.ok().eTag(ETags.of(administratorEntity)).body(modelMapper.map(administratorEntity, AdministratorDTO.class));
     }
 
     @DeleteMapping(value = "/id")
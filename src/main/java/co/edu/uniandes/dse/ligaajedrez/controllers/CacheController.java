@@ -0,0 +1,27 @@
+package co.edu.uniandes.dse.ligaajedrez.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.uniandes.dse.ligaajedrez.dto.CacheRegionStatisticsDTO;
+import co.edu.uniandes.dse.ligaajedrez.services.CacheStatisticsService;
+
+@RestController
+@RequestMapping("/cache")
+public class CacheController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping(value = "/statistics")
+    @ResponseStatus(code = HttpStatus.OK)
+    public List<CacheRegionStatisticsDTO> findStatistics() {
+        return cacheStatisticsService.getRegionStatistics();
+    }
+}
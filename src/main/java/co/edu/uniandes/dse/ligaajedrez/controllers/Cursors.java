@@ -0,0 +1,80 @@
+package co.edu.uniandes.dse.ligaajedrez.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+
+/*
+ * Encodes the keys of the last row of a page into the opaque token that the client
+ * sends back as the cursor of the next page. The token is returned in the
+ * X-Next-Cursor header so the bodies of the list endpoints keep their shape; the
+ * header is absent on the last page.
+ */
+final class Cursors {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private Cursors() {
+    }
+
+    static String encode(long... keys) {
+        StringBuilder token = new StringBuilder();
+        for (long key : keys) {
+            if (token.length() > 0) {
+                token.append(':');
+            }
+            token.append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for an absent cursor, which asks for the first page.
+    static long[] decode(String cursor, int length) throws IllegalOperationException {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != length) {
+                throw new IllegalOperationException("The cursor is not valid.");
+            }
+            long[] keys = new long[length];
+            for (int i = 0; i < length; i++) {
+                keys[i] = Long.parseLong(parts[i]);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalOperationException("The cursor is not valid.");
+        }
+    }
+
+    static Long decodeId(String cursor) throws IllegalOperationException {
+        long[] keys = decode(cursor, 1);
+        return keys == null ? null : keys[0];
+    }
+
+    static String encode(Date date, Long id) {
+        return encode(date.getTime(), id);
+    }
+
+    // The row whose keys make the next cursor, or null on the last page.
+    static <T> T last(Slice<T> slice) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+        return slice.getContent().get(slice.getNumberOfElements() - 1);
+    }
+
+    static <T> ResponseEntity<List<T>> page(List<T> body, String nextCursor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,38 @@
+package co.edu.uniandes.dse.ligaajedrez.controllers;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.BaseEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+
+/*
+ * The ETag of an entity is its version. A client that sends it back in If-Match
+ * only updates the entity if nobody changed it since it was read; a stale version
+ * answers 412 Precondition Failed. Without If-Match, or with "*", the update is
+ * unconditional.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(BaseEntity entity) {
+        return Long.toString(entity.getVersion());
+    }
+
+    static Long parseIfMatch(String ifMatch) throws IllegalOperationException {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalOperationException("The If-Match header is not a valid version.");
+        }
+    }
+}
@@ -1,28 +1,46 @@
 package co.edu.uniandes.dse.ligaajedrez.controllers;
 
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import co.edu.uniandes.dse.ligaajedrez.dto.ExplorerMoveDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.GameBoardDTO;
 import co.edu.uniandes.dse.ligaajedrez.dto.GameDTO;
 import co.edu.uniandes.dse.ligaajedrez.dto.GameDetailDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.GamePositionDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.MoveDTO;
 import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GamePosition;
+import co.edu.uniandes.dse.ligaajedrez.services.GameBoardService;
+import co.edu.uniandes.dse.ligaajedrez.services.GameMaterialService;
+import co.edu.uniandes.dse.ligaajedrez.services.GameMoveService;
+import co.edu.uniandes.dse.ligaajedrez.services.GamePositionService;
+import co.edu.uniandes.dse.ligaajedrez.services.OpeningExplorerService;
 import co.edu.uniandes.dse.ligaajedrez.services.GameService;
+import co.edu.uniandes.dse.ligaajedrez.services.PgnExportService;
 
 @RestController
 @RequestMapping("/games")
@@ -31,21 +49,49 @@ public class GameController {
     @Autowired
     private GameService gameService;
 
+    @Autowired
+    private GameMoveService gameMoveService;
+
+    @Autowired
+    private GamePositionService gamePositionService;
+
+    @Autowired
+    private GameMaterialService gameMaterialService;
+
+    @Autowired
+    private GameBoardService gameBoardService;
+
+    @Autowired
+    private OpeningExplorerService openingExplorerService;
+
+    @Autowired
+    private PgnExportService pgnExportService;
+
     @Autowired
     private ModelMapper modelMapper = new ModelMapper();
 
+    /*
+     * Pages through the games by (date, id) with the cursor of the previous response.
+     * The page parameter keeps the old offset paging for existing clients.
+     */
     @GetMapping
-    @ResponseStatus(code = HttpStatus.OK)
-    public List<GameDetailDTO> findAll(@RequestParam(value = "page", defaultValue = "0") int page, @RequestParam(value = "size", defaultValue = "4") int size) {
-        List<GameEntity> games = gameService.getGames(PageRequest.of(page, size));
-        return modelMapper.map(games, new TypeToken<List<GameDetailDTO>>(){}.getType());
+    public ResponseEntity<List<GameDetailDTO>> findAll(@RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "size", defaultValue = "4") int size) throws IllegalOperationException {
+        if (page != null) {
+            List<GameEntity> games = gameService.getGames(PageRequest.of(page, size));
+            return ResponseEntity.ok(modelMapper.map(games, new TypeToken<List<GameDetailDTO>>(){}.getType()));
+        }
+        long[] keys = Cursors.decode(cursor, 2);
+        Slice<GameEntity> games = keys == null ? gameService.getGames(null, null, size) : gameService.getGames(new Date(keys[0]), keys[1], size);
+        GameEntity last = Cursors.last(games);
+        List<GameDetailDTO> body = modelMapper.map(games.getContent(), new TypeToken<List<GameDetailDTO>>(){}.getType());
+        return Cursors.page(body, last == null ? null : Cursors.encode(last.getDate(), last.getId()));
     }
 
     @GetMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public GameDetailDTO findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+    public ResponseEntity<GameDetailDTO> findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
         GameEntity gameEntity = gameService.getGame(id);
-        return modelMapper.map(gameEntity, GameDetailDTO.class);
+        return ResponseEntity.ok().eTag(ETags.of(gameEntity)).body(modelMapper.map(gameEntity, GameDetailDTO.class));
     }
 
     @PostMapping
@@ -56,10 +102,87 @@ public class GameController {
     }
 
     @PostMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public GameDTO update(@PathVariable("id") Long id, @RequestBody GameDTO gameDTO) throws IllegalOperationException, EntityNotFoundException {
-        GameEntity gameEntity = gameService.updateGame(id, modelMapper.map(gameDTO, GameEntity.class));
-        return modelMapper.map(gameEntity, GameDTO.class);
+    public ResponseEntity<GameDTO> update(@PathVariable("id") Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody GameDTO gameDTO) throws IllegalOperationException, EntityNotFoundException {
+        GameEntity game = modelMapper.map(gameDTO, GameEntity.class);
+        game.setVersion(ETags.parseIfMatch(ifMatch));
+        GameEntity gameEntity = gameService.updateGame(id, game);
+        return ResponseEntity.ok().eTag(ETags.of(gameEntity)).body(modelMapper.map(gameEntity, GameDTO.class));
+    }
+
+    // Plays the next move of the game by its notation and answers it in canonical SAN.
+    @PostMapping(value = "/{id}/moves")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public MoveDTO playMove(@PathVariable("id") Long id, @RequestBody MoveDTO moveDTO) throws IllegalOperationException, EntityNotFoundException {
+        MoveDTO move = new MoveDTO();
+        move.setNotation(gameMoveService.playMove(id, moveDTO.getNotation()));
+        return move;
+    }
+
+    /*
+     * The games that reached a position, given as a FEN or as comma-separated SAN
+     * moves from the start, with the first ply at which each one reached it.
+     */
+    @GetMapping("/positions")
+    public ResponseEntity<List<GamePositionDTO>> findByPosition(@RequestParam(value = "fen", required = false) String fen,
+            @RequestParam(value = "moves", required = false) List<String> moves, @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) throws IllegalOperationException {
+        Slice<GamePosition> games = gamePositionService.getGames(fen, moves, Cursors.decodeId(cursor), size);
+        GamePosition last = Cursors.last(games);
+        List<GamePositionDTO> body = games.getContent().stream().map(SummaryMapper::toGamePositionDTO).collect(Collectors.toList());
+        return Cursors.page(body, last == null ? null : Cursors.encode(last.getId()));
+    }
+
+    // Indexes the positions of the games saved before the position index existed.
+    @PostMapping("/positions/index")
+    public int indexPositions() {
+        return gamePositionService.indexGames();
+    }
+
+    /*
+     * The games that had some material, given as in KRPvKR with either side as
+     * white, or some type of endgame, or both, optionally in a phase; with the first
+     * ply at which each one had it.
+     */
+    @GetMapping("/material")
+    public ResponseEntity<List<GamePositionDTO>> findByMaterial(@RequestParam(value = "material", required = false) String material,
+            @RequestParam(value = "type", required = false) String type, @RequestParam(value = "phase", required = false) String phase,
+            @RequestParam(value = "cursor", required = false) String cursor, @RequestParam(value = "size", defaultValue = "20") int size)
+            throws IllegalOperationException {
+        Slice<GamePosition> games = gameMaterialService.getGames(material, type, phase, Cursors.decodeId(cursor), size);
+        GamePosition last = Cursors.last(games);
+        List<GamePositionDTO> body = games.getContent().stream().map(SummaryMapper::toGamePositionDTO).collect(Collectors.toList());
+        return Cursors.page(body, last == null ? null : Cursors.encode(last.getId()));
+    }
+
+    // Indexes the material of the games saved before the material index existed.
+    @PostMapping("/material/index")
+    public int indexMaterial() {
+        return gameMaterialService.indexGames();
+    }
+
+    /*
+     * The moves played from a position, given as a FEN or as comma-separated SAN
+     * moves, with how those games ended; over all games, a league or a tournament.
+     */
+    @GetMapping("/explorer")
+    public List<ExplorerMoveDTO> explore(@RequestParam(value = "fen", required = false) String fen,
+            @RequestParam(value = "moves", required = false) List<String> moves, @RequestParam(value = "league", required = false) Long leagueId,
+            @RequestParam(value = "tournament", required = false) Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
+        return openingExplorerService.getMoves(fen, moves, leagueId, tournamentId).stream().map(SummaryMapper::toExplorerMoveDTO).collect(Collectors.toList());
+    }
+
+    // The board at a ply of the game, from 0 (the start); without one, after the last move.
+    @GetMapping(value = "/{id}/board")
+    public GameBoardDTO findBoard(@PathVariable("id") Long id, @RequestParam(value = "ply", required = false) Integer ply)
+            throws IllegalOperationException, EntityNotFoundException {
+        return SummaryMapper.toGameBoardDTO(id, gameBoardService.getBoard(id, ply));
+    }
+
+    @GetMapping(value = "/{id}/pgn")
+    public ResponseEntity<StreamingResponseBody> exportPgn(@PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws IllegalOperationException, EntityNotFoundException {
+        return PgnResponses.of(pgnExportService.exportGame(id), "game-" + id + ".pgn", acceptEncoding);
     }
 
     @DeleteMapping(value = "/{id}")
@@ -1,26 +1,43 @@
 package co.edu.uniandes.dse.ligaajedrez.controllers;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import co.edu.uniandes.dse.ligaajedrez.dto.GlickoRatingDTO;
 import co.edu.uniandes.dse.ligaajedrez.dto.LeagueDTO;
 import co.edu.uniandes.dse.ligaajedrez.dto.LeagueDetailDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.RatingRunDTO;
 import co.edu.uniandes.dse.ligaajedrez.entities.LeagueEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.AdministratorSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentSummary;
+import co.edu.uniandes.dse.ligaajedrez.services.LeagueRatingService;
 import co.edu.uniandes.dse.ligaajedrez.services.LeagueService;
+import co.edu.uniandes.dse.ligaajedrez.services.PgnExportService;
 
 @RestController
 @RequestMapping("/leagues")
@@ -29,21 +46,42 @@ public class LeagueController {
     @Autowired
     private LeagueService leagueService;
 
+    @Autowired
+    private PgnExportService pgnExportService;
+
+    @Autowired
+    private LeagueRatingService leagueRatingService;
+
     @Autowired
     private ModelMapper modelMapper = new ModelMapper();
 
     @GetMapping
-    @ResponseStatus(code = HttpStatus.OK)
-    public List<LeagueDetailDTO> findAll() {
-        List<LeagueEntity> leagues = leagueService.getLeagues();
-        return modelMapper.map(leagues, new TypeToken<List<LeagueDetailDTO>>(){}.getType());
+    public ResponseEntity<List<LeagueDetailDTO>> findAll(@RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) throws IllegalOperationException {
+        Slice<LeagueSummary> page = leagueService.getLeagueSummaries(Cursors.decodeId(cursor), size);
+        Map<Long, LeagueDetailDTO> leagues = new LinkedHashMap<>();
+        for (LeagueSummary summary : page) {
+            LeagueDetailDTO leagueDTO = new LeagueDetailDTO();
+            SummaryMapper.copy(summary, leagueDTO);
+            leagues.put(summary.getId(), leagueDTO);
+        }
+        for (PlayerSummary summary : leagueService.getPlayerSummaries(leagues.keySet())) {
+            leagues.get(summary.getOwnerId()).getPlayers().add(SummaryMapper.toPlayerDTO(summary));
+        }
+        for (TournamentSummary summary : leagueService.getTournamentSummaries(leagues.keySet())) {
+            leagues.get(summary.getLeagueId()).getTournaments().add(SummaryMapper.toTournamentDTO(summary));
+        }
+        for (AdministratorSummary summary : leagueService.getAdministratorSummaries(leagues.keySet())) {
+            leagues.get(summary.getOwnerId()).getAdministrators().add(SummaryMapper.toAdministratorDTO(summary));
+        }
+        LeagueSummary last = Cursors.last(page);
+        return Cursors.page(new ArrayList<>(leagues.values()), last == null ? null : Cursors.encode(last.getId()));
     }
 
     @GetMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public LeagueDetailDTO findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+    public ResponseEntity<LeagueDetailDTO> findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
         LeagueEntity leagueEntity = leagueService.getLeague(id);
-        return modelMapper.map(leagueEntity, LeagueDetailDTO.class);
+        return ResponseEntity.ok().eTag(ETags.of(leagueEntity)).body(modelMapper.map(leagueEntity, LeagueDetailDTO.class));
     }
 
     @PostMapping
@@ -54,10 +92,41 @@ public class LeagueController {
     }
 
     @PostMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public LeagueDTO update(@PathVariable("id") Long id, @RequestBody LeagueDTO leagueDTO) throws IllegalOperationException, EntityNotFoundException {
-        LeagueEntity leagueEntity = leagueService.updateLeague(id, modelMapper.map(leagueDTO, LeagueEntity.class));
-        return modelMapper.map(leagueEntity, LeagueDTO.class);
+    public ResponseEntity<LeagueDTO> update(@PathVariable("id") Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody LeagueDTO leagueDTO) throws IllegalOperationException, EntityNotFoundException {
+        LeagueEntity league = modelMapper.map(leagueDTO, LeagueEntity.class);
+        league.setVersion(ETags.parseIfMatch(ifMatch));
+        LeagueEntity leagueEntity = leagueService.updateLeague(id, league);
+        return ResponseEntity.ok().eTag(ETags.of(leagueEntity)).body(modelMapper.map(leagueEntity, LeagueDTO.class));
+    }
+
+    @GetMapping(value = "/{id}/pgn")
+    public ResponseEntity<StreamingResponseBody> exportPgn(@PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws IllegalOperationException, EntityNotFoundException {
+        return PgnResponses.of(pgnExportService.exportLeague(id), "league-" + id + ".pgn", acceptEncoding);
+    }
+
+    /*
+     * Recomputes the Glicko-2 ratings of the league in the background, or resumes
+     * the run that did not complete, which must be asked with the same period
+     * length. The answer is the run, to be polled until it is completed.
+     */
+    @PostMapping(value = "/{id}/rating-runs")
+    @ResponseStatus(code = HttpStatus.ACCEPTED)
+    public RatingRunDTO rate(@PathVariable("id") Long id, @RequestParam(value = "periodDays", defaultValue = "30") int periodDays)
+            throws IllegalOperationException, EntityNotFoundException {
+        return SummaryMapper.toRatingRunDTO(leagueRatingService.startRun(id, periodDays));
+    }
+
+    @GetMapping(value = "/{id}/rating-runs/{runId}")
+    public RatingRunDTO findRatingRun(@PathVariable("id") Long id, @PathVariable("runId") Long runId) throws EntityNotFoundException {
+        return SummaryMapper.toRatingRunDTO(leagueRatingService.getRun(id, runId));
+    }
+
+    @GetMapping(value = "/{id}/ratings")
+    public List<GlickoRatingDTO> findRatings(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+        return leagueRatingService.getRatings(id).entrySet().stream()
+                .map(entry -> SummaryMapper.toGlickoRatingDTO(entry.getKey(), entry.getValue())).collect(Collectors.toList());
     }
 
     @DeleteMapping(value = "/{id}")
@@ -0,0 +1,66 @@
+package co.edu.uniandes.dse.ligaajedrez.controllers;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import co.edu.uniandes.dse.ligaajedrez.services.PgnExport;
+
+/*
+ * Streams a PGN export to the response as it is written, in chunks of
+ * CHUNK_SIZE, gzipped when the client accepts it. Nothing is sent before the
+ * export's scope has been checked, so a missing game, tournament or league is
+ * still a 404.
+ */
+final class PgnResponses {
+    static final int CHUNK_SIZE = 64 * 1024;
+    static final MediaType PGN = new MediaType("application", "x-chess-pgn", StandardCharsets.UTF_8);
+
+    private PgnResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> of(PgnExport export, String filename, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(PGN);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(filename).build());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        StreamingResponseBody body = output -> {
+            OutputStream stream = gzip ? new GZIPOutputStream(output, CHUNK_SIZE) : output;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), CHUNK_SIZE);
+            export.writeTo(writer);
+            writer.flush();
+            if (gzip) {
+                ((GZIPOutputStream) stream).finish();
+            }
+        };
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    // Accept-Encoding lists codings with optional weights; "gzip;q=0" refuses it.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
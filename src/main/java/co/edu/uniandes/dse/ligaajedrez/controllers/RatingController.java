@@ -0,0 +1,53 @@
+package co.edu.uniandes.dse.ligaajedrez.controllers;
+
+import java.util.Date;
+import java.util.List;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.uniandes.dse.ligaajedrez.dto.RatingChangeDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.RatingDTO;
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingChangeEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.services.RatingService;
+
+@RestController
+@RequestMapping("/players")
+public class RatingController {
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private ModelMapper modelMapper = new ModelMapper();
+
+    @GetMapping(value = "/{id}/rating")
+    @ResponseStatus(code = HttpStatus.OK)
+    public RatingDTO findRating(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+        return modelMapper.map(ratingService.getRating(id), RatingDTO.class);
+    }
+
+    // The rating history of the player, oldest change first, paged by (date, id) with the cursor of the previous response.
+    @GetMapping(value = "/{id}/ratings")
+    public ResponseEntity<List<RatingChangeDTO>> findRatingHistory(@PathVariable("id") Long id, @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) throws IllegalOperationException, EntityNotFoundException {
+        long[] keys = Cursors.decode(cursor, 2);
+        Slice<RatingChangeEntity> changes = keys == null ? ratingService.getRatingHistory(id, null, null, size)
+                : ratingService.getRatingHistory(id, new Date(keys[0]), keys[1], size);
+        RatingChangeEntity last = Cursors.last(changes);
+        List<RatingChangeDTO> body = modelMapper.map(changes.getContent(), new TypeToken<List<RatingChangeDTO>>(){}.getType());
+        return Cursors.page(body, last == null ? null : Cursors.encode(last.getDate(), last.getId()));
+    }
+}
@@ -0,0 +1,240 @@
+package co.edu.uniandes.dse.ligaajedrez.controllers;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.ExplorerMove;
+import co.edu.uniandes.dse.ligaajedrez.chess.GameBoard;
+import co.edu.uniandes.dse.ligaajedrez.chess.Piece;
+import co.edu.uniandes.dse.ligaajedrez.chess.Position;
+import co.edu.uniandes.dse.ligaajedrez.chess.Squares;
+import co.edu.uniandes.dse.ligaajedrez.chess.Standing;
+import co.edu.uniandes.dse.ligaajedrez.dto.AdministratorDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.ExplorerMoveDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.GameBoardDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.GameDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.GlickoRatingDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.GamePositionDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.LeagueDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.OpeningDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.PairingDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.PgnImportDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.PgnImportErrorDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.PlayerDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.RatingRunDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.StandingDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.TournamentDTO;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.GlickoRating;
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingRunEntity;
+import co.edu.uniandes.dse.ligaajedrez.repositories.AdministratorSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GamePosition;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentSummary;
+import co.edu.uniandes.dse.ligaajedrez.services.PgnImport;
+
+/*
+ * Copies the projections of the list endpoints into DTOs. The projections are
+ * flat rows, so they are mapped by hand instead of through ModelMapper.
+ */
+final class SummaryMapper {
+
+    private SummaryMapper() {
+    }
+
+    static LeagueDTO toLeagueDTO(LeagueSummary summary) {
+        LeagueDTO dto = new LeagueDTO();
+        copy(summary, dto);
+        return dto;
+    }
+
+    static void copy(LeagueSummary summary, LeagueDTO dto) {
+        dto.setId(summary.getId());
+        dto.setName(summary.getName());
+        dto.setCity(summary.getCity());
+        dto.setAddress(summary.getAddress());
+        dto.setPhone(summary.getPhone());
+        dto.setWebURL(summary.getWebURL());
+    }
+
+    static TournamentDTO toTournamentDTO(TournamentSummary summary) {
+        TournamentDTO dto = new TournamentDTO();
+        copy(summary, dto);
+        return dto;
+    }
+
+    static void copy(TournamentSummary summary, TournamentDTO dto) {
+        dto.setId(summary.getId());
+        dto.setName(summary.getName());
+        dto.setLocation(summary.getLocation());
+        dto.setDate(summary.getDate());
+        dto.setPrize(summary.getPrize());
+        dto.setImage(summary.getImage());
+        if (summary.getLeagueId() != null) {
+            LeagueDTO league = new LeagueDTO();
+            league.setId(summary.getLeagueId());
+            league.setName(summary.getLeagueName());
+            league.setCity(summary.getLeagueCity());
+            league.setAddress(summary.getLeagueAddress());
+            league.setPhone(summary.getLeaguePhone());
+            league.setWebURL(summary.getLeagueWebURL());
+            dto.setLeague(league);
+        }
+    }
+
+    static GameDTO toGameDTO(GameSummary summary, TournamentDTO tournament) {
+        GameDTO dto = new GameDTO();
+        dto.setId(summary.getId());
+        dto.setResult(summary.getResult());
+        dto.setDate(summary.getDate());
+        dto.setImage(summary.getImage());
+        dto.setTournament(tournament);
+        if (summary.getOpeningId() != null) {
+            OpeningDTO opening = new OpeningDTO();
+            opening.setId(summary.getOpeningId());
+            opening.setName(summary.getOpeningName());
+            opening.setClassification(summary.getOpeningClassification());
+            dto.setOpening(opening);
+        }
+        return dto;
+    }
+
+    static GamePositionDTO toGamePositionDTO(GamePosition position) {
+        GamePositionDTO dto = new GamePositionDTO();
+        dto.setId(position.getId());
+        dto.setResult(position.getResult());
+        dto.setDate(position.getDate());
+        dto.setImage(position.getImage());
+        dto.setPly(position.getPly());
+        return dto;
+    }
+
+    static ExplorerMoveDTO toExplorerMoveDTO(ExplorerMove move) {
+        ExplorerMoveDTO dto = new ExplorerMoveDTO();
+        dto.setNotation(move.getNotation());
+        dto.setGames(move.getGames());
+        dto.setWhiteWins(move.getWhiteWins());
+        dto.setDraws(move.getDraws());
+        dto.setBlackWins(move.getBlackWins());
+        dto.setWhiteWinPercentage(percentage(move.getWhiteWins(), move.getGames()));
+        dto.setDrawPercentage(percentage(move.getDraws(), move.getGames()));
+        dto.setBlackWinPercentage(percentage(move.getBlackWins(), move.getGames()));
+        return dto;
+    }
+
+    static GameBoardDTO toGameBoardDTO(Long gameId, GameBoard board) {
+        GameBoardDTO dto = new GameBoardDTO();
+        Position position = board.getPosition();
+        dto.setGameId(gameId);
+        dto.setPly(board.getPly());
+        dto.setPlies(board.getPlies());
+        dto.setFen(position.toFen());
+        dto.setMove(board.getMove());
+        dto.setSideToMove(position.sideToMove() == Piece.WHITE ? "white" : "black");
+        dto.setCheck(position.inCheck());
+        for (int rank = 7; rank >= 0; rank--) {
+            StringBuilder squares = new StringBuilder(8);
+            for (int file = 0; file < 8; file++) {
+                int piece = position.pieceAt(Squares.of(file, rank));
+                squares.append(piece == Piece.NONE ? '.' : Piece.fenChar(piece));
+            }
+            dto.getBoard().add(squares.toString());
+        }
+        return dto;
+    }
+
+    private static double percentage(long part, long total) {
+        return total == 0 ? 0 : Math.round(part * 1000.0 / total) / 10.0;
+    }
+
+    static PgnImportDTO toPgnImportDTO(PgnImport pgnImport) {
+        PgnImportDTO dto = new PgnImportDTO();
+        dto.setId(pgnImport.getId());
+        dto.setTournamentId(pgnImport.getTournamentId());
+        dto.setStatus(pgnImport.getStatus().name());
+        dto.setFailure(pgnImport.getFailure());
+        dto.setGamesRead(pgnImport.getGamesRead());
+        dto.setGamesImported(pgnImport.getGamesImported());
+        dto.setGamesFailed(pgnImport.getGamesFailed());
+        for (PgnImport.GameError error : pgnImport.getErrors()) {
+            PgnImportErrorDTO errorDTO = new PgnImportErrorDTO();
+            errorDTO.setGame(error.getGame());
+            errorDTO.setMessage(error.getMessage());
+            dto.getErrors().add(errorDTO);
+        }
+        return dto;
+    }
+
+    static RatingRunDTO toRatingRunDTO(RatingRunEntity run) {
+        RatingRunDTO dto = new RatingRunDTO();
+        dto.setId(run.getId());
+        dto.setLeagueId(run.getLeagueId());
+        dto.setStatus(run.getStatus().name());
+        dto.setCurrent(run.isCurrent());
+        dto.setPeriodDays(run.getPeriodDays());
+        dto.setPeriods(run.getPeriods());
+        dto.setCompletedPeriods(run.getCompletedPeriods());
+        dto.setGames(run.getGames());
+        dto.setElapsedMillis(run.getElapsedMillis());
+        dto.setGamesPerSecond(run.getGames() * 1000 / Math.max(1, run.getElapsedMillis()));
+        dto.setStartedAt(run.getStartedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        return dto;
+    }
+
+    static GlickoRatingDTO toGlickoRatingDTO(Long playerId, GlickoRating rating) {
+        GlickoRatingDTO dto = new GlickoRatingDTO();
+        dto.setPlayerId(playerId);
+        dto.setRating(rating.getRating());
+        dto.setDeviation(rating.getDeviation());
+        dto.setVolatility(rating.getVolatility());
+        return dto;
+    }
+
+    // The board is the position of the game in its round, counting from 1.
+    static PairingDTO toPairingDTO(GameEntity game, int board) {
+        PairingDTO dto = new PairingDTO();
+        dto.setRound(game.getRound());
+        dto.setBoard(board);
+        dto.setGameId(game.getId());
+        dto.setWhitePlayerId(game.getWhitePlayer().getId());
+        dto.setBlackPlayerId(game.getBlackPlayer() == null ? null : game.getBlackPlayer().getId());
+        dto.setResult(game.getResult());
+        return dto;
+    }
+
+    static StandingDTO toStandingDTO(Standing standing) {
+        StandingDTO dto = new StandingDTO();
+        dto.setRank(standing.getRank());
+        dto.setPlayerId(standing.getPlayerId());
+        dto.setPoints(standing.getPoints());
+        dto.setGames(standing.getGames());
+        dto.setDirectEncounter(standing.getDirectEncounter());
+        dto.setBuchholz(standing.getBuchholz());
+        dto.setSonnebornBerger(standing.getSonnebornBerger());
+        return dto;
+    }
+
+    static PlayerDTO toPlayerDTO(PlayerSummary summary) {
+        PlayerDTO dto = new PlayerDTO();
+        dto.setId(summary.getId());
+        dto.setName(summary.getName());
+        dto.setPhotoURL(summary.getPhotoURL());
+        dto.setBirthDate(summary.getBirthDate());
+        dto.setBirthPlace(summary.getBirthPlace());
+        dto.setEloRating(summary.getEloRating());
+        dto.setUsername(summary.getUsername());
+        dto.setPassword(summary.getPassword());
+        return dto;
+    }
+
+    static AdministratorDTO toAdministratorDTO(AdministratorSummary summary) {
+        AdministratorDTO dto = new AdministratorDTO();
+        dto.setId(summary.getId());
+        dto.setName(summary.getName());
+        dto.setPhotoURL(summary.getPhotoURL());
+        dto.setIdNumber(summary.getIdNumber());
+        dto.setUsername(summary.getUsername());
+        dto.setPassword(summary.getPassword());
+        return dto;
+    }
+}
@@ -1,26 +1,49 @@
 package co.edu.uniandes.dse.ligaajedrez.controllers;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.multipart.MultipartFile;
 
+import co.edu.uniandes.dse.ligaajedrez.dto.PairingDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.PgnImportDTO;
+import co.edu.uniandes.dse.ligaajedrez.dto.StandingDTO;
 import co.edu.uniandes.dse.ligaajedrez.dto.TournamentDTO;
 import co.edu.uniandes.dse.ligaajedrez.dto.TournamentDetailDTO;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentSummary;
+import co.edu.uniandes.dse.ligaajedrez.services.PgnExportService;
+import co.edu.uniandes.dse.ligaajedrez.services.PgnImportService;
+import co.edu.uniandes.dse.ligaajedrez.services.TournamentPairingService;
+import co.edu.uniandes.dse.ligaajedrez.services.TournamentScheduleService;
 import co.edu.uniandes.dse.ligaajedrez.services.TournamentService;
+import co.edu.uniandes.dse.ligaajedrez.services.TournamentStandingsService;
 
 @RestController
 @RequestMapping("/tournaments")
@@ -29,21 +52,51 @@ public class TournamentController {
     @Autowired
     private TournamentService tournamentService;
 
+    @Autowired
+    private PgnImportService pgnImportService;
+
+    @Autowired
+    private PgnExportService pgnExportService;
+
+    @Autowired
+    private TournamentStandingsService standingsService;
+
+    @Autowired
+    private TournamentPairingService pairingService;
+
+    @Autowired
+    private TournamentScheduleService scheduleService;
+
     @Autowired
     private ModelMapper modelMapper = new ModelMapper();
 
     @GetMapping
-    @ResponseStatus(code = HttpStatus.OK)
-    public List<TournamentDetailDTO> findAll() {
-        List<TournamentEntity> tournaments = tournamentService.getTournaments();
-        return modelMapper.map(tournaments, new TypeToken<List<TournamentDetailDTO>>(){}.getType());
+    public ResponseEntity<List<TournamentDetailDTO>> findAll(@RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) throws IllegalOperationException {
+        Slice<TournamentSummary> page = tournamentService.getTournamentSummaries(Cursors.decodeId(cursor), size);
+        Map<Long, TournamentDetailDTO> tournaments = new LinkedHashMap<>();
+        Map<Long, TournamentDTO> owners = new HashMap<>();
+        for (TournamentSummary summary : page) {
+            TournamentDetailDTO tournamentDTO = new TournamentDetailDTO();
+            SummaryMapper.copy(summary, tournamentDTO);
+            tournaments.put(summary.getId(), tournamentDTO);
+            owners.put(summary.getId(), SummaryMapper.toTournamentDTO(summary));
+        }
+        for (PlayerSummary summary : tournamentService.getPlayerSummaries(tournaments.keySet())) {
+            tournaments.get(summary.getOwnerId()).getPlayers().add(SummaryMapper.toPlayerDTO(summary));
+        }
+        for (GameSummary summary : tournamentService.getGameSummaries(tournaments.keySet())) {
+            TournamentDTO owner = owners.get(summary.getTournamentId());
+            tournaments.get(summary.getTournamentId()).getGames().add(SummaryMapper.toGameDTO(summary, owner));
+        }
+        TournamentSummary last = Cursors.last(page);
+        return Cursors.page(new ArrayList<>(tournaments.values()), last == null ? null : Cursors.encode(last.getId()));
     }
 
     @GetMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public TournamentDetailDTO findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+    public ResponseEntity<TournamentDetailDTO> findOne(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
         TournamentEntity tournamentEntity = tournamentService.getTournament(id);
-        return modelMapper.map(tournamentEntity, TournamentDetailDTO.class);
+        return ResponseEntity.ok().eTag(ETags.of(tournamentEntity)).body(modelMapper.map(tournamentEntity, TournamentDetailDTO.class));
     }
 
     @PostMapping
@@ -54,10 +107,69 @@ public class TournamentController {
     }
 
     @PostMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public TournamentDTO update(@PathVariable("id") Long id, @RequestBody TournamentDTO tournamentDTO) throws IllegalOperationException, EntityNotFoundException {
-        TournamentEntity tournamentEntity = tournamentService.updateTournament(id, modelMapper.map(tournamentDTO, TournamentEntity.class));
-        return modelMapper.map(tournamentEntity, TournamentDTO.class);
+    public ResponseEntity<TournamentDTO> update(@PathVariable("id") Long id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody TournamentDTO tournamentDTO) throws IllegalOperationException, EntityNotFoundException {
+        TournamentEntity tournament = modelMapper.map(tournamentDTO, TournamentEntity.class);
+        tournament.setVersion(ETags.parseIfMatch(ifMatch));
+        TournamentEntity tournamentEntity = tournamentService.updateTournament(id, tournament);
+        return ResponseEntity.ok().eTag(ETags.of(tournamentEntity)).body(modelMapper.map(tournamentEntity, TournamentDTO.class));
+    }
+
+    /*
+     * Imports the games of a PGN file into the tournament in the background. The
+     * answer is the import, to be polled until it is completed.
+     */
+    @PostMapping(value = "/{id}/imports")
+    @ResponseStatus(code = HttpStatus.ACCEPTED)
+    public PgnImportDTO importGames(@PathVariable("id") Long id, @RequestParam("file") MultipartFile file) throws IllegalOperationException, EntityNotFoundException {
+        return SummaryMapper.toPgnImportDTO(pgnImportService.startImport(id, file));
+    }
+
+    @GetMapping(value = "/{id}/imports/{importId}")
+    public PgnImportDTO findImport(@PathVariable("id") Long id, @PathVariable("importId") Long importId) throws EntityNotFoundException {
+        return SummaryMapper.toPgnImportDTO(pgnImportService.getImport(id, importId));
+    }
+
+    @GetMapping(value = "/{id}/pgn")
+    public ResponseEntity<StreamingResponseBody> exportPgn(@PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws IllegalOperationException, EntityNotFoundException {
+        return PgnResponses.of(pgnExportService.exportTournament(id), "tournament-" + id + ".pgn", acceptEncoding);
+    }
+
+    /*
+     * Pairs the next round of the tournament by the Swiss system and creates its
+     * games. The answer is the round, board by board, with the bye last.
+     */
+    @PostMapping(value = "/{id}/rounds")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public List<PairingDTO> pairRound(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+        List<GameEntity> games = pairingService.pairNextRound(id);
+        List<PairingDTO> round = new ArrayList<>(games.size());
+        for (GameEntity game : games) {
+            round.add(SummaryMapper.toPairingDTO(game, round.size() + 1));
+        }
+        return round;
+    }
+
+    // Schedules a single (cycles = 1) or double (cycles = 2) round-robin, round by round.
+    @PostMapping(value = "/{id}/round-robin")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public List<PairingDTO> scheduleRoundRobin(@PathVariable("id") Long id, @RequestParam(value = "cycles", defaultValue = "1") int cycles)
+            throws IllegalOperationException, EntityNotFoundException {
+        List<GameEntity> games = scheduleService.scheduleRoundRobin(id, cycles);
+        List<PairingDTO> schedule = new ArrayList<>(games.size());
+        int board = 0;
+        for (int i = 0; i < games.size(); i++) {
+            board = i > 0 && games.get(i - 1).getRound().equals(games.get(i).getRound()) ? board + 1 : 1;
+            schedule.add(SummaryMapper.toPairingDTO(games.get(i), board));
+        }
+        return schedule;
+    }
+
+    // The players ranked best first, with their points and tiebreaks.
+    @GetMapping(value = "/{id}/standings")
+    public List<StandingDTO> findStandings(@PathVariable("id") Long id) throws IllegalOperationException, EntityNotFoundException {
+        return standingsService.getStandings(id).stream().map(SummaryMapper::toStandingDTO).collect(Collectors.toList());
     }
 
     @DeleteMapping(value = "/{id}")
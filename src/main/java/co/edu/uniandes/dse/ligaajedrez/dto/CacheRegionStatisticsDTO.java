@@ -0,0 +1,13 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import lombok.Data;
+
+@Data
+public class CacheRegionStatisticsDTO {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long evictionCount;
+    private long size;
+}
@@ -0,0 +1,15 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import lombok.Data;
+
+@Data
+public class ExplorerMoveDTO {
+    private String notation;
+    private long games;
+    private long whiteWins;
+    private long draws;
+    private long blackWins;
+    private double whiteWinPercentage;
+    private double drawPercentage;
+    private double blackWinPercentage;
+}
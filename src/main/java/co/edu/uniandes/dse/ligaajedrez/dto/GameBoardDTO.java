@@ -0,0 +1,19 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class GameBoardDTO {
+    private long gameId;
+    private int ply;
+    private int plies;
+    private String fen;
+    private String move;
+    private String sideToMove;
+    private boolean check;
+    // The ranks from 8 to 1, files a to h: FEN letters for pieces and '.' for empty squares.
+    private List<String> board = new ArrayList<>();
+}
@@ -3,11 +3,38 @@ package co.edu.uniandes.dse.ligaajedrez.dto;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
 import lombok.Data;
 
 @Data
 public class GameDetailDTO extends GameDTO {
     private List<PlayerDTO> players = new ArrayList<>();
-    private List<MoveDTO> moves = new ArrayList<>();
+    private List<MoveDTO> moves;
     private List<CommentDTO> comments = new ArrayList<>();
+
+    @JsonIgnore
+    private byte[] moveData;
+
+    /*
+     * The moves are decoded from the game's move data the first time they are read,
+     * so a game that is mapped but never serialized with its moves does not pay for
+     * replaying them.
+     */
+    public List<MoveDTO> getMoves() {
+        if (moves == null) {
+            List<MoveDTO> decoded = new ArrayList<>();
+            for (String notation : MoveCodec.toSan(moveData)) {
+                MoveDTO move = new MoveDTO();
+                move.setNotation(notation);
+                decoded.add(move);
+            }
+            if (moveData == null) {
+                return decoded;
+            }
+            moves = decoded;
+        }
+        return moves;
+    }
 }
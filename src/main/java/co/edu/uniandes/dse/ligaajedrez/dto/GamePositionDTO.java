@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import java.util.Date;
+
+import lombok.Data;
+
+@Data
+public class GamePositionDTO {
+    private long id;
+    private String result;
+    private Date date;
+    private String image;
+    private int ply;
+}
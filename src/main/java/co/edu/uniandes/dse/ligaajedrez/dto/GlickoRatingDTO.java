@@ -0,0 +1,11 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import lombok.Data;
+
+@Data
+public class GlickoRatingDTO {
+    private long playerId;
+    private double rating;
+    private double deviation;
+    private double volatility;
+}
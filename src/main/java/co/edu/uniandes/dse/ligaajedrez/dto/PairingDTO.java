@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import lombok.Data;
+
+@Data
+public class PairingDTO {
+    private int round;
+    private int board;
+    private long gameId;
+    private long whitePlayerId;
+    // Null for a bye.
+    private Long blackPlayerId;
+    private String result;
+}
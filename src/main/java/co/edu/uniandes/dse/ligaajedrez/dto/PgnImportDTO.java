@@ -0,0 +1,18 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PgnImportDTO {
+    private long id;
+    private long tournamentId;
+    private String status;
+    private String failure;
+    private int gamesRead;
+    private int gamesImported;
+    private int gamesFailed;
+    private List<PgnImportErrorDTO> errors = new ArrayList<>();
+}
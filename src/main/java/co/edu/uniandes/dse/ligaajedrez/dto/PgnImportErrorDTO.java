@@ -0,0 +1,9 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import lombok.Data;
+
+@Data
+public class PgnImportErrorDTO {
+    private int game;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import java.util.Date;
+
+import lombok.Data;
+
+@Data
+public class RatingChangeDTO {
+    private long id;
+    private long gameId;
+    private long opponentId;
+    private Double score;
+    private int change;
+    private int rating;
+    private int games;
+    private Date date;
+}
@@ -0,0 +1,10 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import lombok.Data;
+
+@Data
+public class RatingDTO {
+    private long playerId;
+    private int rating;
+    private int games;
+}
@@ -0,0 +1,21 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import java.util.Date;
+
+import lombok.Data;
+
+@Data
+public class RatingRunDTO {
+    private long id;
+    private long leagueId;
+    private String status;
+    private boolean current;
+    private int periodDays;
+    private int periods;
+    private int completedPeriods;
+    private long games;
+    private long elapsedMillis;
+    private long gamesPerSecond;
+    private Date startedAt;
+    private Date finishedAt;
+}
@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.ligaajedrez.dto;
+
+import lombok.Data;
+
+@Data
+public class StandingDTO {
+    private int rank;
+    private long playerId;
+    private double points;
+    private int games;
+    private double directEncounter;
+    private double buchholz;
+    private double sonnebornBerger;
+}
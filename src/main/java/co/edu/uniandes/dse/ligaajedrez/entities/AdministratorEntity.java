@@ -7,6 +7,8 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.ManyToMany;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
@@ -25,6 +27,7 @@ public class AdministratorEntity extends BaseEntity {
     private String password;
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany
     private List<LeagueEntity> leagues = new ArrayList<>();
 }
@@ -24,17 +24,29 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.ligaajedrez.entities;
 
+import javax.persistence.Column;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
 /**
  * Entidad genérica de la que heredan todas las entidades. Contiene la
- * referencia al atributo id
+ * referencia al atributo id. Los IDs salen de una secuencia por entidad con
+ * el optimizador pooled-lo, lo que permite agrupar los INSERT en lotes JDBC;
+ * el ID que envíe el cliente se ignora. La versión protege las
+ * actualizaciones concurrentes: cada UPDATE la incrementa y puede exigir la
+ * versión que leyó el cliente. Los cambios en las colecciones no la
+ * incrementan, así que asociar jugadas o comentarios no choca con la
+ * actualización de los datos propios de la entidad.
  *
  * @author ISIS2603
  */
@@ -45,6 +57,16 @@ public abstract class BaseEntity {
 
 	@PodamExclude
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_lo")
+	@GenericGenerator(name = "pooled_lo", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+			@Parameter(name = "prefer_sequence_per_entity", value = "true"),
+			@Parameter(name = "increment_size", value = "50"),
+			@Parameter(name = "optimizer", value = "pooled-lo") })
 	private Long id;
+
+	@PodamExclude
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private Long version;
 }
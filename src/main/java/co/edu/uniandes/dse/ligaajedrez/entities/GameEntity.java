@@ -5,21 +5,52 @@ import java.util.Date;
 import java.util.List;
 
 import javax.persistence.CascadeType;
+import javax.persistence.CollectionTable;
 import javax.persistence.Column;
+import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 
+import org.hibernate.annotations.ListIndexBase;
+import org.hibernate.annotations.OptimisticLock;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
 @Data
 @Entity
+@Table(indexes = @Index(name = "idx_game_date_id", columnList = "date, id"))
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = "GameEntity.detail", attributeNodes = {
+        @NamedAttributeNode("tournament"),
+        @NamedAttributeNode("opening")
+    }),
+    @NamedEntityGraph(name = "GameEntity.moves", attributeNodes = {
+        @NamedAttributeNode("tournament"),
+        @NamedAttributeNode("opening"),
+        @NamedAttributeNode(value = "moves", subgraph = "move")
+    }, subgraphs = @NamedSubgraph(name = "move", attributeNodes = @NamedAttributeNode("player"))),
+    @NamedEntityGraph(name = "GameEntity.comments", attributeNodes = {
+        @NamedAttributeNode(value = "comments", subgraph = "comment")
+    }, subgraphs = @NamedSubgraph(name = "comment", attributeNodes = @NamedAttributeNode("author"))),
+    @NamedEntityGraph(name = "GameEntity.players", attributeNodes = @NamedAttributeNode("players"))
+})
 public class GameEntity extends BaseEntity {
     @Column(nullable = false)
     private String result;
@@ -27,24 +58,90 @@ public class GameEntity extends BaseEntity {
     @Temporal(TemporalType.DATE)
     private Date date;
     private String image;
+    // The round of its tournament the game was paired in, when the tournament is paired by rounds.
+    private Integer round;
+
+    /*
+     * The moves of the game, two bytes per ply (see MoveCodec). The move entities
+     * below are kept for the clients that link moves one by one and mirror this
+     * column; games recorded by notation have none.
+     */
+    @PodamExclude
+    @Column(length = MoveCodec.MAX_BYTES)
+    private byte[] moveData;
+
+    /*
+     * The Zobrist hash of the position after each ply of the move data, the ply
+     * being the list index. The index on (hash, game_id) finds every game that
+     * reached a position, whatever the move order.
+     */
+    @PodamExclude
+    @OptimisticLock(excluded = true)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "game_position", joinColumns = @JoinColumn(name = "game_id"),
+            indexes = @Index(name = "idx_game_position_hash", columnList = "hash, game_id"))
+    @OrderColumn(name = "ply")
+    @ListIndexBase(1)
+    @Column(name = "hash", nullable = false)
+    private List<Long> positionHashes = new ArrayList<>();
+
+    /*
+     * The material of the game each time it changes (see MaterialSignature), in
+     * ply order. Indexed by signature and by endgame type and phase, so the
+     * material queries read only the rows of the games that match.
+     */
+    @PodamExclude
+    @OptimisticLock(excluded = true)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "game_material", joinColumns = @JoinColumn(name = "game_id"), indexes = {
+        @Index(name = "idx_game_material_signature", columnList = "signature, game_id"),
+        @Index(name = "idx_game_material_type", columnList = "endgame_type, phase, game_id")
+    })
+    @OrderColumn(name = "segment")
+    private List<MaterialSegment> materials = new ArrayList<>();
 
     @PodamExclude
     @ManyToOne
     private TournamentEntity tournament;
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany(mappedBy = "games", fetch = FetchType.LAZY)
     private List<PlayerEntity> players = new ArrayList<>();
 
+    /*
+     * The players with the white and the black pieces, when known: the players
+     * above link a game to whoever played it but say nothing of colours.
+     */
     @PodamExclude
-    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @ManyToOne(fetch = FetchType.LAZY)
+    private PlayerEntity whitePlayer;
+
+    @PodamExclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    private PlayerEntity blackPlayer;
+
+    @PodamExclude
+    @OptimisticLock(excluded = true)
+    @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinTable(name = "game_entity_moves", joinColumns = @JoinColumn(name = "game_entity_id"), inverseJoinColumns = @JoinColumn(name = "moves_id"))
+    @OrderColumn(name = "ply")
     private List<MoveEntity> moves = new ArrayList<>();
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CommentEntity> comments = new ArrayList<>();
     
     @PodamExclude
     @OneToOne
     private OpeningEntity opening;
+
+    // Whether the opening was set by the classifier, which then changes or clears it with the moves; one set by hand is kept.
+    @PodamExclude
+    private boolean openingClassified;
+
+    // Whether the game is the bye of a round: its White player scores with no opponent (see TournamentPairingService).
+    @PodamExclude
+    private boolean bye;
 }
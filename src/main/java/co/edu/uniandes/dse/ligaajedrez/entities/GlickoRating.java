@@ -0,0 +1,24 @@
+package co.edu.uniandes.dse.ligaajedrez.entities;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * The Glicko-2 rating of a player in a league (see Glicko2).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class GlickoRating {
+    @Column(nullable = false)
+    private double rating;
+    @Column(nullable = false)
+    private double deviation;
+    @Column(nullable = false)
+    private double volatility;
+}
@@ -3,18 +3,33 @@ package co.edu.uniandes.dse.ligaajedrez.entities;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.ManyToMany;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
 import javax.persistence.OneToMany;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "league")
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = "LeagueEntity.tournaments", attributeNodes = @NamedAttributeNode("tournaments")),
+    @NamedEntityGraph(name = "LeagueEntity.players", attributeNodes = @NamedAttributeNode("players")),
+    @NamedEntityGraph(name = "LeagueEntity.administrators", attributeNodes = @NamedAttributeNode("administrators"))
+})
 public class LeagueEntity extends BaseEntity {
     @Column(unique = true, nullable = false)
     private String name;
@@ -24,14 +39,17 @@ public class LeagueEntity extends BaseEntity {
     private String webURL;
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany(mappedBy = "leagues", fetch = FetchType.LAZY)
     private List<AdministratorEntity> administrators = new ArrayList<>();
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany(mappedBy = "leagues", fetch = FetchType.LAZY)
     private List<PlayerEntity> players = new ArrayList<>();
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "league", fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TournamentEntity> tournaments = new ArrayList<>();
 }
@@ -0,0 +1,37 @@
+package co.edu.uniandes.dse.ligaajedrez.entities;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.EndgameType;
+import co.edu.uniandes.dse.ligaajedrez.chess.GamePhase;
+import co.edu.uniandes.dse.ligaajedrez.chess.MaterialSignature;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * The plies of a game from the first one with some material until it changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class MaterialSegment {
+    @Column(nullable = false)
+    private int ply;
+    @Column(nullable = false)
+    private long signature;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private GamePhase phase;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "endgame_type", nullable = false, length = 16)
+    private EndgameType endgameType;
+
+    public static MaterialSegment of(MaterialSignature.Segment segment) {
+        return new MaterialSegment(segment.getPly(), segment.getSignature(), segment.getPhase(), segment.getType());
+    }
+}
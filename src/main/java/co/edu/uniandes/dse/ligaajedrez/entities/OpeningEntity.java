@@ -3,22 +3,34 @@ package co.edu.uniandes.dse.ligaajedrez.entities;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
 
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "opening")
 public class OpeningEntity extends BaseEntity {
     private String name;
     @Column(nullable = false)
     private OpeningType classification;
 
+    // The moves of the opening in the order they are played; the opening trie is built from them.
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @OneToMany(fetch = FetchType.LAZY)
+    @OrderColumn(name = "ply")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "opening-moves")
     private List<MoveEntity> moves = new ArrayList<>();
 }
@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.ligaajedrez.entities;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.Data;
+
+/*
+ * A game whose ratings wait to be brought up to date with it (see
+ * RatingService). The row is written in the transaction that changes the game
+ * and deleted in the one that rates it, so a change is not lost to a restart or
+ * a failed batch. The game is a plain ID: a deleted game still has to be rated
+ * back.
+ */
+@Data
+@Entity
+@Table(indexes = @Index(name = "idx_pending_rating_game", columnList = "game_id"))
+public class PendingRatingEntity extends BaseEntity {
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+}
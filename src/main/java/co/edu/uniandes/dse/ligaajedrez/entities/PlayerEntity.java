@@ -10,6 +10,8 @@ import javax.persistence.ManyToMany;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
@@ -30,14 +32,17 @@ public class PlayerEntity extends BaseEntity {
     private String password;
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany
     private List<LeagueEntity> leagues = new ArrayList<>();
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany
     private List<TournamentEntity> tournaments = new ArrayList<>();
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany
     private List<GameEntity> games = new ArrayList<>();
 }
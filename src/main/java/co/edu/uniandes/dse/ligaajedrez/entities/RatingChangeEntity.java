@@ -0,0 +1,47 @@
+package co.edu.uniandes.dse.ligaajedrez.entities;
+
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import lombok.Data;
+
+/*
+ * One change of a player's rating, appended for every rated game and never
+ * updated. A correction appends a reversal (a row without a score that takes
+ * back the change of the game) before the change of the new result, so the
+ * rating and game count of the latest row are always the current ones.
+ *
+ * The player, game and opponent are plain IDs rather than associations: the
+ * history outlives the games and players it records.
+ */
+@Data
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_rating_change_player_date", columnList = "player_id, date, id"),
+    @Index(name = "idx_rating_change_game", columnList = "game_id, id")
+})
+public class RatingChangeEntity extends BaseEntity {
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+    @Column(nullable = false)
+    private Long opponentId;
+    // The player's score in the game: 1, 0.5 or 0; null on a reversal.
+    private Double score;
+    @Column(nullable = false)
+    private int change;
+    @Column(nullable = false)
+    private int rating;
+    @Column(nullable = false)
+    private int games;
+    @Column(nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date date;
+}
@@ -0,0 +1,74 @@
+package co.edu.uniandes.dse.ligaajedrez.entities;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.MapKeyColumn;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.annotations.OptimisticLock;
+
+import lombok.Data;
+import uk.co.jemos.podam.common.PodamExclude;
+
+/*
+ * A recomputation of the Glicko-2 ratings of a league from its games. The games
+ * are split into periods of periodDays days from the origin, and the ratings
+ * after the last completed period are saved with it, so a run that stopped
+ * resumes from there. The ratings of the league are those of its current run,
+ * the latest one that completed.
+ */
+@Data
+@Entity
+@Table(indexes = @Index(name = "idx_rating_run_league", columnList = "league_id, current"))
+public class RatingRunEntity extends BaseEntity {
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Column(name = "league_id", nullable = false)
+    private Long leagueId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+    @Column(nullable = false)
+    private boolean current;
+    @Column(nullable = false)
+    private int periodDays;
+    @Temporal(TemporalType.DATE)
+    private Date origin;
+    @Column(nullable = false)
+    private int periods;
+    @Column(nullable = false)
+    private int completedPeriods;
+    // The fingerprint of the games of the completed periods as they were rated (see GameRepository).
+    @Column(nullable = false)
+    private long fingerprint;
+    // The games rated and the time spent rating them, over every start of the run.
+    @Column(nullable = false)
+    private long games;
+    @Column(nullable = false)
+    private long elapsedMillis;
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date startedAt;
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date finishedAt;
+
+    @PodamExclude
+    @OptimisticLock(excluded = true)
+    @ElementCollection
+    @CollectionTable(name = "rating_run_player", joinColumns = @JoinColumn(name = "run_id"))
+    @MapKeyColumn(name = "player_id")
+    private Map<Long, GlickoRating> ratings = new HashMap<>();
+}
@@ -4,21 +4,39 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tournament")
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = "TournamentEntity.games", attributeNodes = {
+        @NamedAttributeNode("league"),
+        @NamedAttributeNode(value = "games", subgraph = "game")
+    }, subgraphs = @NamedSubgraph(name = "game", attributeNodes = @NamedAttributeNode("opening"))),
+    @NamedEntityGraph(name = "TournamentEntity.players", attributeNodes = @NamedAttributeNode("players"))
+})
 public class TournamentEntity extends BaseEntity {
     @Column(unique = true, nullable = false)
     private String name;
@@ -33,10 +51,12 @@ public class TournamentEntity extends BaseEntity {
     private LeagueEntity league;
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @ManyToMany(mappedBy = "tournaments", fetch = FetchType.LAZY)
     private List<PlayerEntity> players = new ArrayList<>();
 
     @PodamExclude
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "tournament", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private List<GameEntity> games = new ArrayList<>();
 }
@@ -1,11 +1,41 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.AdministratorEntity;
 
 @Repository
 public interface AdministratorRepository extends JpaRepository<AdministratorEntity, Long> {
-    
+
+    @Query("select l.id as ownerId, a.id as id, a.name as name, a.photoURL as photoURL, a.idNumber as idNumber, "
+            + "a.username as username, a.password as password "
+            + "from AdministratorEntity a join a.leagues l where l.id in :leagueIds order by a.id")
+    List<AdministratorSummary> findSummariesByLeagueIds(@Param("leagueIds") Collection<Long> leagueIds);
+
+    boolean existsByIdAndLeaguesId(Long id, Long leagueId);
+
+    /*
+     * Keyset listings, ordered by ID.
+     */
+    @Query("select a from AdministratorEntity a where a.id > :afterId order by a.id")
+    Slice<AdministratorEntity> findPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select a from AdministratorEntity a join a.leagues l where l.id = :leagueId and a.id > :afterId order by a.id")
+    Slice<AdministratorEntity> findPageByLeagueId(@Param("leagueId") Long leagueId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update AdministratorEntity a set a.name = :#{#administrator.name}, "
+            + "a.photoURL = :#{#administrator.photoURL}, a.idNumber = :#{#administrator.idNumber}, "
+            + "a.username = :#{#administrator.username}, a.password = :#{#administrator.password}, "
+            + "a.version = a.version + 1 where a.id = :id and (:#{#administrator.version} is null or a.version = :#{#administrator.version})")
+    int update(@Param("id") Long id, @Param("administrator") AdministratorEntity administrator);
 }
@@ -0,0 +1,15 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection with the columns of AdministratorDTO. The owner ID is
+ * the league the administrator was listed for.
+ */
+public interface AdministratorSummary {
+    Long getOwnerId();
+    Long getId();
+    String getName();
+    String getPhotoURL();
+    String getIdNumber();
+    String getUsername();
+    String getPassword();
+}
@@ -1,11 +1,23 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.CommentEntity;
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
-    
+
+    @Query("select c from GameEntity g join g.comments c where g.id = :gameId and c.id > :afterId order by c.id")
+    Slice<CommentEntity> findPageByGameId(@Param("gameId") Long gameId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CommentEntity c set c.comment = :#{#comment.comment}, c.date = :#{#comment.date}, "
+            + "c.version = c.version + 1 where c.id = :id and (:#{#comment.version} is null or c.version = :#{#comment.version})")
+    int update(@Param("id") Long id, @Param("comment") CommentEntity comment);
 }
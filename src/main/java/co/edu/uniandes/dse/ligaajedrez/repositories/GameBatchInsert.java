@@ -0,0 +1,21 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.List;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+
+/*
+ * Inserts many new games at once in JDBC batches, bypassing the persistence
+ * context: the game rows, their position hashes and their links to their
+ * players. Meant for bulk imports, where loading each player's games to add one
+ * more would cost far more than the insert.
+ */
+public interface GameBatchInsert {
+
+    /*
+     * Inserts the games with their position hashes and players, giving the ones
+     * without an ID one from the game sequence. The tournament, opening and
+     * players are written by ID only, so references are enough.
+     */
+    void insertAll(List<GameEntity> games);
+}
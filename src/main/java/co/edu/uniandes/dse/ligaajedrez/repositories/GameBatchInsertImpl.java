@@ -0,0 +1,107 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.MaterialSegment;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+
+/*
+ * IDs come from the same pooled-lo generator Hibernate uses for the entity, so
+ * games inserted here never collide with games saved through JPA.
+ */
+class GameBatchInsertImpl implements GameBatchInsert {
+    static final int JDBC_BATCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<GameEntity> games) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        IdentifierGenerator ids = session.getFactory().getMetamodel().entityPersister(GameEntity.class).getIdentifierGenerator();
+        List<Object[]> positions = new ArrayList<>();
+        List<Object[]> materials = new ArrayList<>();
+        List<Object[]> players = new ArrayList<>();
+        for (GameEntity game : games) {
+            if (game.getId() == null) {
+                game.setId((Long) ids.generate(session, game));
+            }
+            game.setVersion(0L);
+            List<Long> hashes = game.getPositionHashes();
+            for (int ply = 0; ply < hashes.size(); ply++) {
+                positions.add(new Object[] { game.getId(), ply + 1, hashes.get(ply) });
+            }
+            List<MaterialSegment> segments = game.getMaterials();
+            for (int segment = 0; segment < segments.size(); segment++) {
+                materials.add(new Object[] { game.getId(), segment, segments.get(segment) });
+            }
+            for (PlayerEntity player : game.getPlayers()) {
+                players.add(new Object[] { player.getId(), game.getId() });
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into game_entity (id, version, result, date, image, move_data, tournament_id, opening_id, white_player_id, black_player_id, round, opening_classified, bye) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                games, JDBC_BATCH_SIZE, (statement, game) -> {
+                    statement.setLong(1, game.getId());
+                    statement.setLong(2, game.getVersion());
+                    statement.setString(3, game.getResult());
+                    statement.setDate(4, new Date(game.getDate().getTime()));
+                    statement.setString(5, game.getImage());
+                    statement.setBytes(6, game.getMoveData());
+                    setId(statement, 7, game.getTournament() == null ? null : game.getTournament().getId());
+                    setId(statement, 8, game.getOpening() == null ? null : game.getOpening().getId());
+                    setId(statement, 9, game.getWhitePlayer() == null ? null : game.getWhitePlayer().getId());
+                    setId(statement, 10, game.getBlackPlayer() == null ? null : game.getBlackPlayer().getId());
+                    if (game.getRound() == null) {
+                        statement.setNull(11, Types.INTEGER);
+                    } else {
+                        statement.setInt(11, game.getRound());
+                    }
+                    statement.setBoolean(12, game.isOpeningClassified());
+                    statement.setBoolean(13, game.isBye());
+                });
+        jdbcTemplate.batchUpdate("insert into game_position (game_id, ply, hash) values (?, ?, ?)", positions, JDBC_BATCH_SIZE, (statement, row) -> {
+            statement.setLong(1, (Long) row[0]);
+            statement.setInt(2, (Integer) row[1]);
+            statement.setLong(3, (Long) row[2]);
+        });
+        jdbcTemplate.batchUpdate("insert into game_material (game_id, segment, ply, signature, phase, endgame_type) values (?, ?, ?, ?, ?, ?)", materials, JDBC_BATCH_SIZE,
+                (statement, row) -> {
+                    MaterialSegment segment = (MaterialSegment) row[2];
+                    statement.setLong(1, (Long) row[0]);
+                    statement.setInt(2, (Integer) row[1]);
+                    statement.setInt(3, segment.getPly());
+                    statement.setLong(4, segment.getSignature());
+                    statement.setString(5, segment.getPhase().name());
+                    statement.setString(6, segment.getEndgameType().name());
+                });
+        jdbcTemplate.batchUpdate("insert into player_entity_games (players_id, games_id) values (?, ?)", players, JDBC_BATCH_SIZE, (statement, row) -> {
+            statement.setLong(1, (Long) row[0]);
+            statement.setLong(2, (Long) row[1]);
+        });
+    }
+
+    private static void setId(PreparedStatement statement, int index, Long id) throws SQLException {
+        if (id == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, id);
+        }
+    }
+}
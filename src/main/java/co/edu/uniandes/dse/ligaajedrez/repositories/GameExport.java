@@ -0,0 +1,19 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.Date;
+
+/*
+ * Read-only projection with what a game's PGN needs: its row, its tournament
+ * and opening, and the usernames of its white and black players.
+ */
+public interface GameExport {
+    Long getId();
+    Date getDate();
+    String getResult();
+    byte[] getMoveData();
+    String getTournamentName();
+    String getTournamentLocation();
+    String getOpeningName();
+    String getWhite();
+    String getBlack();
+}
@@ -0,0 +1,13 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * A cheap summary of the games table. Creating a game raises the count and the
+ * highest ID, deleting one lowers the count and every update raises the version
+ * sum, so a read model saved with a fingerprint can tell whether the games
+ * changed since.
+ */
+public interface GameFingerprint {
+    Long getCount();
+    Long getVersions();
+    Long getMaxId();
+}
@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection with what the opening classification of a game needs:
+ * its moves, its current opening, whether the classifier set it, and the
+ * version they were read at.
+ */
+public interface GameOpening {
+    Long getId();
+    Long getVersion();
+    byte[] getMoveData();
+    Long getOpeningId();
+    boolean isOpeningClassified();
+}
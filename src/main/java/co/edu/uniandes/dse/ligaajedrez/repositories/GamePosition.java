@@ -0,0 +1,15 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.Date;
+
+/*
+ * Read-only projection of a game found in the position or the material index,
+ * with the first ply at which it matched.
+ */
+public interface GamePosition {
+    Long getId();
+    String getResult();
+    Date getDate();
+    String getImage();
+    Integer getPly();
+}
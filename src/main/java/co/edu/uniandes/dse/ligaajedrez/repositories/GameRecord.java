@@ -0,0 +1,12 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection with what the read models built from the games need:
+ * the moves, the result and the tournament of a game.
+ */
+public interface GameRecord {
+    Long getId();
+    Long getTournamentId();
+    String getResult();
+    byte[] getMoveData();
+}
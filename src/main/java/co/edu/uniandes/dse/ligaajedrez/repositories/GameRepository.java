@@ -1,11 +1,222 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import co.edu.uniandes.dse.ligaajedrez.chess.EndgameType;
+import co.edu.uniandes.dse.ligaajedrez.chess.GamePhase;
 import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
 
 @Repository
-public interface GameRepository extends JpaRepository<GameEntity, Long> {
-    
+public interface GameRepository extends JpaRepository<GameEntity, Long>, GameBatchInsert {
+
+    /*
+     * Fetch plans for the game detail. Each one joins a single collection so the
+     * detail is loaded in three queries no matter how many moves the game has; the
+     * moves themselves come with the game row, in its move data.
+     */
+    @EntityGraph("GameEntity.detail")
+    @Query("select g from GameEntity g where g.id = :id")
+    Optional<GameEntity> findDetailById(@Param("id") Long id);
+
+    @EntityGraph("GameEntity.moves")
+    @Query("select distinct g from GameEntity g where g.id = :id")
+    Optional<GameEntity> findWithMovesById(@Param("id") Long id);
+
+    @EntityGraph("GameEntity.comments")
+    @Query("select distinct g from GameEntity g where g.id = :id")
+    Optional<GameEntity> findWithCommentsById(@Param("id") Long id);
+
+    @EntityGraph("GameEntity.players")
+    @Query("select distinct g from GameEntity g where g.id = :id")
+    Optional<GameEntity> findWithPlayersById(@Param("id") Long id);
+
+    @Query("select t.id as tournamentId, g.id as id, g.result as result, g.date as date, g.image as image, "
+            + "o.id as openingId, o.name as openingName, o.classification as openingClassification "
+            + "from GameEntity g join g.tournament t left join g.opening o where t.id in :tournamentIds order by g.id")
+    List<GameSummary> findSummariesByTournamentIds(@Param("tournamentIds") Collection<Long> tournamentIds);
+
+    boolean existsByIdAndMovesId(Long id, Long moveId);
+
+    boolean existsByMovesId(Long moveId);
+
+    boolean existsByIdAndCommentsId(Long id, Long commentId);
+
+    boolean existsByIdAndTournamentId(Long id, Long tournamentId);
+
+    boolean existsByTournamentIdAndRoundNotNull(Long tournamentId);
+
+    /*
+     * Keyset listings. Games are ordered by (date, id), the key of the index on
+     * GameEntity; the redundant date bound lets the index seek straight to the cursor.
+     */
+    @Query("select g from GameEntity g order by g.date, g.id")
+    Slice<GameEntity> findPage(Pageable pageable);
+
+    @Query("select g from GameEntity g where g.date >= :date and (g.date > :date or g.id > :id) order by g.date, g.id")
+    Slice<GameEntity> findPageAfter(@Param("date") Date date, @Param("id") Long id, Pageable pageable);
+
+    @Query("select g from GameEntity g where g.tournament.id = :tournamentId and g.id > :afterId order by g.id")
+    Slice<GameEntity> findPageByTournamentId(@Param("tournamentId") Long tournamentId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select g from PlayerEntity p join p.games g where p.id = :playerId and g.id > :afterId order by g.id")
+    Slice<GameEntity> findPageByPlayerId(@Param("playerId") Long playerId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /*
+     * Position index lookups. The hash and game ID bounds seek the index on
+     * (hash, game_id), so a query reads only the rows of the games that reached
+     * the position, keyset-paged by game ID.
+     */
+    @Query("select g.id as id, g.result as result, g.date as date, g.image as image, min(index(h)) as ply "
+            + "from GameEntity g join g.positionHashes h where h = :hash and g.id > :afterId "
+            + "group by g.id, g.result, g.date, g.image order by g.id")
+    Slice<GamePosition> findPageByPositionHash(@Param("hash") long hash, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select g.id from GameEntity g where g.id > :afterId and g.moveData is not null and g.positionHashes is empty order by g.id")
+    Slice<Long> findUnindexedIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    /*
+     * The games whose material matched at some point, by signature or by endgame
+     * type, optionally only in a phase, with the first ply at which each matched.
+     * The material rows are indexed by (signature, game_id) and by (endgame_type,
+     * phase, game_id); the pages are keyset-paged by game ID.
+     */
+    @Query("select g.id as id, g.result as result, g.date as date, g.image as image, min(m.ply) as ply "
+            + "from GameEntity g join g.materials m where m.signature in :signatures and (:type is null or m.endgameType = :type) "
+            + "and (:phase is null or m.phase = :phase) and g.id > :afterId group by g.id, g.result, g.date, g.image order by g.id")
+    Slice<GamePosition> findPageByMaterial(@Param("signatures") Collection<Long> signatures, @Param("type") EndgameType type,
+            @Param("phase") GamePhase phase, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select g.id as id, g.result as result, g.date as date, g.image as image, min(m.ply) as ply "
+            + "from GameEntity g join g.materials m where m.endgameType = :type and (:phase is null or m.phase = :phase) "
+            + "and g.id > :afterId group by g.id, g.result, g.date, g.image order by g.id")
+    Slice<GamePosition> findPageByEndgameType(@Param("type") EndgameType type, @Param("phase") GamePhase phase,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select g.id as id, t.id as tournamentId, g.result as result, g.moveData as moveData "
+            + "from GameEntity g left join g.tournament t where g.id > :afterId and g.moveData is not null and g.materials is empty order by g.id")
+    Slice<GameRecord> findMaterialUnindexedPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select g.id as id, t.id as tournamentId, g.result as result, g.moveData as moveData "
+            + "from GameEntity g left join g.tournament t where g.id > :afterId order by g.id")
+    Slice<GameRecord> findRecordPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select g.id as id, t.id as tournamentId, g.result as result, g.moveData as moveData "
+            + "from GameEntity g left join g.tournament t where g.id = :id")
+    Optional<GameRecord> findRecordById(@Param("id") Long id);
+
+    @Query("select count(g) as count, coalesce(sum(g.version), 0) as versions, coalesce(max(g.id), 0) as maxId from GameEntity g")
+    GameFingerprint fingerprint();
+
+    @Query("select g.id from GameEntity g where g.id > :afterId order by g.id")
+    Slice<Long> findIdPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select g.id as id, g.version as version, g.moveData as moveData, o.id as openingId, "
+            + "g.openingClassified as openingClassified from GameEntity g left join g.opening o where g.id in :ids")
+    List<GameOpening> findOpeningsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Sets the opening of a game only if the game still has the version its moves were classified at.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GameEntity g set g.opening = :opening, g.openingClassified = :classified, g.version = g.version + 1 "
+            + "where g.id = :id and g.version = :version")
+    int updateOpening(@Param("id") Long id, @Param("version") Long version, @Param("opening") OpeningEntity opening,
+            @Param("classified") boolean classified);
+
+    /*
+     * Streams of the games to export, in ID order. The rows are projections, so
+     * nothing stays in the persistence context as the stream is read, and the
+     * fetch size bounds how many rows the driver reads ahead. A stream must
+     * be read and closed inside the transaction that opened it.
+     */
+    String EXPORT_SELECT = "select g.id as id, g.date as date, g.result as result, g.moveData as moveData, "
+            + "t.name as tournamentName, t.location as tournamentLocation, o.name as openingName, "
+            + "w.username as white, b.username as black from GameEntity g left join g.tournament t left join t.league l "
+            + "left join g.opening o left join g.whitePlayer w left join g.blackPlayer b ";
+
+    int EXPORT_FETCH_SIZE = 500;
+
+    @Query(EXPORT_SELECT + "where g.id = :id")
+    Optional<GameExport> findExportById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + EXPORT_FETCH_SIZE))
+    // Byes are not games played, so the exports of a tournament or league leave them out.
+    @Query(EXPORT_SELECT + "where t.id = :tournamentId and g.bye = false order by g.id")
+    Stream<GameExport> streamExportsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "where l.id = :leagueId and g.bye = false order by g.id")
+    Stream<GameExport> streamExportsByLeagueId(@Param("leagueId") Long leagueId);
+
+    String RATED_SELECT = "select g.id as id, w.id as whiteId, b.id as blackId, g.result as result from GameEntity g "
+            + "join g.whitePlayer w join g.blackPlayer b join g.tournament t ";
+    String SCORED_SELECT = "select g.id as id, w.id as whiteId, b.id as blackId, g.result as result from GameEntity g "
+            + "join g.whitePlayer w left join g.blackPlayer b join g.tournament t ";
+
+    /*
+     * The games of a league that have both colours, for rating it by periods of
+     * dates [from, to), in the order they were played.
+     */
+    @Query(RATED_SELECT + "where t.league.id = :leagueId and g.date >= :from and g.date < :to order by g.date, g.id")
+    List<RatedGame> findRatedByLeagueId(@Param("leagueId") Long leagueId, @Param("from") Date from, @Param("to") Date to);
+
+    // The games of a tournament that have both colours and its byes, which have no Black player, for its standings.
+    @Query(SCORED_SELECT + "where t.id = :tournamentId and (b.id is not null or g.bye = true)")
+    List<RatedGame> findScoredByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query(SCORED_SELECT + "where g.id = :id and t.id = :tournamentId and (b.id is not null or g.bye = true)")
+    Optional<RatedGame> findScoredByIdAndTournamentId(@Param("id") Long id, @Param("tournamentId") Long tournamentId);
+
+    // The games of a tournament paired by rounds, round by round.
+    @Query("select g.round as round, w.id as whiteId, b.id as blackId, g.result as result, g.bye as bye from GameEntity g join g.tournament t "
+            + "left join g.whitePlayer w left join g.blackPlayer b where t.id = :tournamentId and g.round is not null order by g.round")
+    List<PairedGame> findPairedByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query("select min(g.date) from GameEntity g join g.whitePlayer w join g.blackPlayer b join g.tournament t where t.league.id = :leagueId")
+    Date findFirstRatedDateByLeagueId(@Param("leagueId") Long leagueId);
+
+    @Query("select max(g.date) from GameEntity g join g.whitePlayer w join g.blackPlayer b join g.tournament t where t.league.id = :leagueId")
+    Date findLastRatedDateByLeagueId(@Param("leagueId") Long leagueId);
+
+    /*
+     * A fingerprint of the games of a league with both colours played before a
+     * date. Any change to them changes it: every update raises the version of
+     * the game, and adding or removing one adds or removes its term.
+     */
+    @Query("select coalesce(sum(g.id * 31 + g.version), 0L) from GameEntity g join g.whitePlayer w join g.blackPlayer b join g.tournament t "
+            + "where t.league.id = :leagueId and g.date < :to")
+    long findRatedFingerprintByLeagueId(@Param("leagueId") Long leagueId, @Param("to") Date to);
+
+    // Drops a deleted player from the colours of the games they played.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GameEntity g set g.whitePlayer = null, g.version = g.version + 1 where g.whitePlayer.id = :playerId")
+    int clearWhitePlayer(@Param("playerId") Long playerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GameEntity g set g.blackPlayer = null, g.version = g.version + 1 where g.blackPlayer.id = :playerId")
+    int clearBlackPlayer(@Param("playerId") Long playerId);
+
+    /*
+     * Writes the columns of the game in one statement. A null version updates
+     * unconditionally; otherwise the row must still carry that version.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update GameEntity g set g.result = :#{#game.result}, g.date = :#{#game.date}, g.image = :#{#game.image}, "
+            + "g.version = g.version + 1 where g.id = :id and (:#{#game.version} is null or g.version = :#{#game.version})")
+    int update(@Param("id") Long id, @Param("game") GameEntity game);
 }
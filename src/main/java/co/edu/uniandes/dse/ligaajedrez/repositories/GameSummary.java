@@ -0,0 +1,20 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.Date;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningType;
+
+/*
+ * Read-only projection with the columns of GameDTO. The tournament is given
+ * by its ID because it is always the tournament that owns the listing.
+ */
+public interface GameSummary {
+    Long getTournamentId();
+    Long getId();
+    String getResult();
+    Date getDate();
+    String getImage();
+    Long getOpeningId();
+    String getOpeningName();
+    OpeningType getOpeningClassification();
+}
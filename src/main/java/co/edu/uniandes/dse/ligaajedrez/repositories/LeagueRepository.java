@@ -1,11 +1,62 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.LeagueEntity;
 
 @Repository
 public interface LeagueRepository extends JpaRepository<LeagueEntity, Long> {
-    
+
+    /*
+     * Fetch plans for the league detail, one collection per query.
+     */
+    @EntityGraph("LeagueEntity.tournaments")
+    @Query("select distinct l from LeagueEntity l where l.id = :id")
+    Optional<LeagueEntity> findWithTournamentsById(@Param("id") Long id);
+
+    @EntityGraph("LeagueEntity.players")
+    @Query("select distinct l from LeagueEntity l where l.id = :id")
+    Optional<LeagueEntity> findWithPlayersById(@Param("id") Long id);
+
+    @EntityGraph("LeagueEntity.administrators")
+    @Query("select distinct l from LeagueEntity l where l.id = :id")
+    Optional<LeagueEntity> findWithAdministratorsById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query("select l.id as id, l.name as name, l.city as city, l.address as address, l.phone as phone, "
+            + "l.webURL as webURL from LeagueEntity l order by l.id")
+    List<LeagueSummary> findAllSummaries();
+
+    /*
+     * Keyset listings, ordered by ID.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query("select l.id as id, l.name as name, l.city as city, l.address as address, l.phone as phone, "
+            + "l.webURL as webURL from LeagueEntity l where l.id > :afterId order by l.id")
+    Slice<LeagueSummary> findSummaryPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select l from PlayerEntity p join p.leagues l where p.id = :playerId and l.id > :afterId order by l.id")
+    Slice<LeagueEntity> findPageByPlayerId(@Param("playerId") Long playerId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select l from AdministratorEntity a join a.leagues l where a.id = :administratorId and l.id > :afterId order by l.id")
+    Slice<LeagueEntity> findPageByAdministratorId(@Param("administratorId") Long administratorId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update LeagueEntity l set l.name = :#{#league.name}, l.city = :#{#league.city}, "
+            + "l.address = :#{#league.address}, l.phone = :#{#league.phone}, l.webURL = :#{#league.webURL}, "
+            + "l.version = l.version + 1 where l.id = :id and (:#{#league.version} is null or l.version = :#{#league.version})")
+    int update(@Param("id") Long id, @Param("league") LeagueEntity league);
 }
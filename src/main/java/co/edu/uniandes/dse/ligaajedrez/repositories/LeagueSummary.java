@@ -0,0 +1,13 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection with the columns of LeagueDTO.
+ */
+public interface LeagueSummary {
+    Long getId();
+    String getName();
+    String getCity();
+    String getAddress();
+    String getPhone();
+    String getWebURL();
+}
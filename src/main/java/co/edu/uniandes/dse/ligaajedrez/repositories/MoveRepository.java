@@ -1,11 +1,30 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
 
 @Repository
 public interface MoveRepository extends JpaRepository<MoveEntity, Long> {
-    
+
+    /*
+     * The moves of a game are keyed on their ply, which is also the second column of
+     * the join table key, so a page of a long game seeks to its first ply.
+     */
+    @Query("select m from GameEntity g join g.moves m where g.id = :gameId and index(m) > :afterPly order by index(m)")
+    Slice<MoveEntity> findPageByGameId(@Param("gameId") Long gameId, @Param("afterPly") int afterPly, Pageable pageable);
+
+    @Query("select m from OpeningEntity o join o.moves m where o.id = :openingId and m.id > :afterId order by m.id")
+    Slice<MoveEntity> findPageByOpeningId(@Param("openingId") Long openingId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update MoveEntity m set m.notation = :#{#move.notation}, "
+            + "m.version = m.version + 1 where m.id = :id and (:#{#move.version} is null or m.version = :#{#move.version})")
+    int update(@Param("id") Long id, @Param("move") MoveEntity move);
 }
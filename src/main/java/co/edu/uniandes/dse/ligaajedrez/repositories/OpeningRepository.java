@@ -1,11 +1,30 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
 
 @Repository
 public interface OpeningRepository extends JpaRepository<OpeningEntity, Long> {
-    
+
+    @Query("select distinct o from OpeningEntity o left join fetch o.moves order by o.id")
+    List<OpeningEntity> findAllWithMoves();
+
+    boolean existsByIdAndMovesId(Long id, Long moveId);
+
+    boolean existsByMovesId(Long moveId);
+
+    List<OpeningEntity> findByMovesId(Long moveId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OpeningEntity o set o.name = :#{#opening.name}, "
+            + "o.classification = :#{#opening.classification}, "
+            + "o.version = o.version + 1 where o.id = :id and (:#{#opening.version} is null or o.version = :#{#opening.version})")
+    int update(@Param("id") Long id, @Param("opening") OpeningEntity opening);
 }
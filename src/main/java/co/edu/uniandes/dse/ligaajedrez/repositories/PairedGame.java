@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection with what pairing the next round needs of a game of an
+ * earlier one: its round, who had each colour and how it ended. A bye has no
+ * Black player; any other game lacks a colour only when its player was deleted.
+ */
+public interface PairedGame {
+    Integer getRound();
+    Long getWhiteId();
+    Long getBlackId();
+    String getResult();
+    boolean isBye();
+}
@@ -0,0 +1,20 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.PendingRatingEntity;
+
+@Repository
+public interface PendingRatingRepository extends JpaRepository<PendingRatingEntity, Long> {
+
+    List<PendingRatingEntity> findByGameIdIn(Collection<Long> gameIds);
+
+    // In the order the changes were recorded.
+    @Query("select p.gameId from PendingRatingEntity p group by p.gameId order by min(p.id)")
+    List<Long> findGameIds();
+}
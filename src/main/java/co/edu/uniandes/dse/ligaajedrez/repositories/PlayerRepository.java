@@ -1,11 +1,78 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<PlayerEntity, Long> {
-    
+
+    @Query("select t.id as ownerId, p.id as id, p.name as name, p.photoURL as photoURL, p.birthDate as birthDate, "
+            + "p.birthPlace as birthPlace, p.eloRating as eloRating, p.username as username, p.password as password from PlayerEntity p join p.tournaments t where t.id in :tournamentIds order by p.id")
+    List<PlayerSummary> findSummariesByTournamentIds(@Param("tournamentIds") Collection<Long> tournamentIds);
+
+    @Query("select l.id as ownerId, p.id as id, p.name as name, p.photoURL as photoURL, p.birthDate as birthDate, "
+            + "p.birthPlace as birthPlace, p.eloRating as eloRating, p.username as username, p.password as password from PlayerEntity p join p.leagues l where l.id in :leagueIds order by p.id")
+    List<PlayerSummary> findSummariesByLeagueIds(@Param("leagueIds") Collection<Long> leagueIds);
+
+    @EntityGraph(attributePaths = "tournaments")
+    @Query("select distinct p from PlayerEntity p where p.id in :ids")
+    List<PlayerEntity> findWithTournamentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "leagues")
+    @Query("select distinct p from PlayerEntity p where p.id in :ids")
+    List<PlayerEntity> findWithLeaguesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.id as id, p.eloRating as eloRating from PlayerEntity p join p.tournaments t where t.id = :tournamentId")
+    List<PlayerSeed> findSeedsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query("select p.id as id, p.username as username from PlayerEntity p where p.username in :usernames")
+    List<PlayerUsername> findUsernamesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    /*
+     * Membership checks against the join tables, so a single association can be
+     * verified without loading the collection that holds it.
+     */
+    boolean existsByIdAndTournamentsId(Long id, Long tournamentId);
+
+    boolean existsByIdAndLeaguesId(Long id, Long leagueId);
+
+    boolean existsByIdAndGamesId(Long id, Long gameId);
+
+    /*
+     * Keyset listings of the players of a tournament, league or game, ordered by ID.
+     */
+    @Query("select p from PlayerEntity p join p.tournaments t where t.id = :tournamentId and p.id > :afterId order by p.id")
+    Slice<PlayerEntity> findPageByTournamentId(@Param("tournamentId") Long tournamentId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select p from PlayerEntity p join p.leagues l where l.id = :leagueId and p.id > :afterId order by p.id")
+    Slice<PlayerEntity> findPageByLeagueId(@Param("leagueId") Long leagueId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select p from PlayerEntity p join p.games g where g.id = :gameId and p.id > :afterId order by p.id")
+    Slice<PlayerEntity> findPageByGameId(@Param("gameId") Long gameId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Once the player has a rating history, eloRating is the rating service's and the edit leaves it as it is.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PlayerEntity p set p.name = :#{#player.name}, p.photoURL = :#{#player.photoURL}, "
+            + "p.birthDate = :#{#player.birthDate}, p.birthPlace = :#{#player.birthPlace}, "
+            + "p.eloRating = case when exists (select r.id from RatingChangeEntity r where r.playerId = p.id) then p.eloRating "
+            + "else :#{#player.eloRating} end, p.username = :#{#player.username}, "
+            + "p.password = :#{#player.password}, "
+            + "p.version = p.version + 1 where p.id = :id and (:#{#player.version} is null or p.version = :#{#player.version})")
+    int update(@Param("id") Long id, @Param("player") PlayerEntity player);
+
+    // The rating is kept by the rating service (see RatingService); setting it is not an edit of the player, so the version stays.
+    @Modifying(flushAutomatically = true)
+    @Query("update PlayerEntity p set p.eloRating = :rating where p.id = :id")
+    int updateEloRating(@Param("id") Long id, @Param("rating") int rating);
 }
@@ -0,0 +1,9 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection with what seeding a player for pairing needs.
+ */
+public interface PlayerSeed {
+    Long getId();
+    Integer getEloRating();
+}
@@ -0,0 +1,19 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.Date;
+
+/*
+ * Read-only projection with the columns of PlayerDTO. The owner ID is the
+ * league or tournament the player was listed for.
+ */
+public interface PlayerSummary {
+    Long getOwnerId();
+    Long getId();
+    String getName();
+    String getPhotoURL();
+    Date getBirthDate();
+    String getBirthPlace();
+    Integer getEloRating();
+    String getUsername();
+    String getPassword();
+}
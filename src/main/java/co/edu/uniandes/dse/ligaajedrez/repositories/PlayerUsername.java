@@ -0,0 +1,9 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection that resolves a player by username.
+ */
+public interface PlayerUsername {
+    Long getId();
+    String getUsername();
+}
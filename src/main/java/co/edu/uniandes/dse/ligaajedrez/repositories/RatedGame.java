@@ -0,0 +1,13 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+/*
+ * Read-only projection with what rating a game or counting it in the
+ * standings needs: who had each colour and how it ended. A bye in the
+ * standings has no Black player, and only a bye.
+ */
+public interface RatedGame {
+    Long getId();
+    Long getWhiteId();
+    Long getBlackId();
+    String getResult();
+}
@@ -0,0 +1,36 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingChangeEntity;
+
+@Repository
+public interface RatingChangeRepository extends JpaRepository<RatingChangeEntity, Long> {
+
+    // The latest change of a player, which holds the current rating; served by the index on (player_id, date, id).
+    Optional<RatingChangeEntity> findFirstByPlayerIdOrderByDateDescIdDesc(Long playerId);
+
+    // The changes are written in pairs, White's then Black's, so these are Black's and White's of the latest rating or reversal of a game.
+    List<RatingChangeEntity> findTop2ByGameIdOrderByIdDesc(Long gameId);
+
+    boolean existsByPlayerId(Long playerId);
+
+    /*
+     * Keyset listing of the rating history of a player by (date, id); the
+     * redundant date bound lets the index seek straight to the cursor.
+     */
+    @Query("select r from RatingChangeEntity r where r.playerId = :playerId order by r.date, r.id")
+    Slice<RatingChangeEntity> findPageByPlayerId(@Param("playerId") Long playerId, Pageable pageable);
+
+    @Query("select r from RatingChangeEntity r where r.playerId = :playerId and r.date >= :date and (r.date > :date or r.id > :id) order by r.date, r.id")
+    Slice<RatingChangeEntity> findPageByPlayerIdAfter(@Param("playerId") Long playerId, @Param("date") Date date, @Param("id") Long id, Pageable pageable);
+}
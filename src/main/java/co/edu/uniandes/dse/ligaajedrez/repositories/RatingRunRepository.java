@@ -0,0 +1,29 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingRunEntity;
+
+@Repository
+public interface RatingRunRepository extends JpaRepository<RatingRunEntity, Long> {
+
+    @EntityGraph(attributePaths = "ratings")
+    Optional<RatingRunEntity> findByLeagueIdAndCurrentTrue(Long leagueId);
+
+    // The latest run of a league that did not complete, to be resumed.
+    Optional<RatingRunEntity> findFirstByLeagueIdAndStatusNotOrderByIdDesc(Long leagueId, RatingRunEntity.Status status);
+
+    List<RatingRunEntity> findByLeagueId(Long leagueId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RatingRunEntity r set r.current = false, r.version = r.version + 1 where r.leagueId = :leagueId and r.current = true")
+    int clearCurrent(@Param("leagueId") Long leagueId);
+}
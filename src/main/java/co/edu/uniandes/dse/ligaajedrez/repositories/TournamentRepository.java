@@ -1,11 +1,81 @@
 package co.edu.uniandes.dse.ligaajedrez.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
 
 @Repository
 public interface TournamentRepository extends JpaRepository<TournamentEntity, Long> {
-    
+
+    /*
+     * Fetch plans for the tournament detail, one collection per query.
+     */
+    @EntityGraph("TournamentEntity.games")
+    @Query("select distinct t from TournamentEntity t where t.id = :id")
+    Optional<TournamentEntity> findWithGamesById(@Param("id") Long id);
+
+    @EntityGraph("TournamentEntity.players")
+    @Query("select distinct t from TournamentEntity t where t.id = :id")
+    Optional<TournamentEntity> findWithPlayersById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query("select t.id as id, t.name as name, t.location as location, t.date as date, t.prize as prize, t.image as image, "
+            + "l.id as leagueId, l.name as leagueName, l.city as leagueCity, l.address as leagueAddress, "
+            + "l.phone as leaguePhone, l.webURL as leagueWebURL from TournamentEntity t left join t.league l order by t.id")
+    List<TournamentSummary> findAllSummaries();
+
+    @Query("select t.id as id, t.name as name, t.location as location, t.date as date, t.prize as prize, t.image as image, "
+            + "l.id as leagueId, l.name as leagueName, l.city as leagueCity, l.address as leagueAddress, "
+            + "l.phone as leaguePhone, l.webURL as leagueWebURL from TournamentEntity t join t.league l where l.id in :leagueIds order by t.id")
+    List<TournamentSummary> findSummariesByLeagueIds(@Param("leagueIds") Collection<Long> leagueIds);
+
+    boolean existsByIdAndLeagueId(Long id, Long leagueId);
+
+    @Query("select t.id from TournamentEntity t where t.league.id = :leagueId")
+    List<Long> findIdsByLeagueId(@Param("leagueId") Long leagueId);
+
+    /*
+     * Keyset listings, ordered by ID. The summary page shares the query cache with
+     * the other summary queries.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query("select t.id as id, t.name as name, t.location as location, t.date as date, t.prize as prize, t.image as image, "
+            + "l.id as leagueId, l.name as leagueName, l.city as leagueCity, l.address as leagueAddress, "
+            + "l.phone as leaguePhone, l.webURL as leagueWebURL from TournamentEntity t left join t.league l where t.id > :afterId order by t.id")
+    Slice<TournamentSummary> findSummaryPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select t from TournamentEntity t where t.league.id = :leagueId and t.id > :afterId order by t.id")
+    Slice<TournamentEntity> findPageByLeagueId(@Param("leagueId") Long leagueId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select t from PlayerEntity p join p.tournaments t where p.id = :playerId and t.id > :afterId order by t.id")
+    Slice<TournamentEntity> findPageByPlayerId(@Param("playerId") Long playerId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TournamentEntity t set t.name = :#{#tournament.name}, t.location = :#{#tournament.location}, "
+            + "t.date = :#{#tournament.date}, t.prize = :#{#tournament.prize}, t.image = :#{#tournament.image}, "
+            + "t.version = t.version + 1 where t.id = :id and (:#{#tournament.version} is null or t.version = :#{#tournament.version})")
+    int update(@Param("id") Long id, @Param("tournament") TournamentEntity tournament);
+
+    /*
+     * Bumps the version of the tournament, so two rounds of it are never paired
+     * at once: the second waits for the first to commit and then finds its round
+     * unfinished.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update TournamentEntity t set t.version = t.version + 1 where t.id = :id")
+    int lockRounds(@Param("id") Long id);
 }
@@ -0,0 +1,21 @@
+package co.edu.uniandes.dse.ligaajedrez.repositories;
+
+import java.util.Date;
+
+/*
+ * Read-only projection with the columns of TournamentDTO, including its league.
+ */
+public interface TournamentSummary {
+    Long getId();
+    String getName();
+    String getLocation();
+    Date getDate();
+    String getPrize();
+    String getImage();
+    Long getLeagueId();
+    String getLeagueName();
+    String getLeagueCity();
+    String getLeagueAddress();
+    String getLeaguePhone();
+    String getLeagueWebURL();
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,7 +44,7 @@ public class AdministratorLeagueService {
         return leagueEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<LeagueEntity> getLeagues(Long administratorId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all leagues of the administrator with ID {0}.", administratorId);
         if (administratorId == null || administratorId == 0L) {
@@ -57,7 +58,20 @@ public class AdministratorLeagueService {
         return administratorEntity.get().getLeagues();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<LeagueEntity> getLeagues(Long administratorId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of leagues of the administrator with ID {0}.", administratorId);
+        if (administratorId == null || administratorId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!administratorRepository.existsById(administratorId)) {
+            throw new EntityNotFoundException("The administrator with ID = " + Long.toString(administratorId)  + " was not found.");
+        }
+        log.info("Finish the process of querying a page of leagues of the administrator with ID {0}.", administratorId);
+        return leagueRepository.findPageByAdministratorId(administratorId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public LeagueEntity getLeague(Long leagueId, Long administratorId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of queryng the league with ID {0} of the administrator with ID {1}.", leagueId, administratorId);
         if (leagueId == null || leagueId == 0L || administratorId == null || administratorId == 0L) {
@@ -71,7 +85,7 @@ public class AdministratorLeagueService {
         if (administratorEntity.isEmpty()) {
             throw new EntityNotFoundException("The administrator with ID = " + Long.toString(administratorId)  + " was not found.");
         }
-        if (!leagueEntity.get().getAdministrators().contains(administratorEntity.get())) {
+        if (!administratorRepository.existsByIdAndLeaguesId(administratorId, leagueId)) {
             throw new IllegalOperationException("The league is not associted to the administrator.");
         }
         log.info("Finish the process of queryng the league with ID {0} of the administrator with ID {1}.", leagueId, administratorId);
@@ -116,7 +130,7 @@ public class AdministratorLeagueService {
         if (administratorEntity.isEmpty()) {
             throw new EntityNotFoundException("The administrator with ID = " + Long.toString(administratorId)  + " was not found.");
         }
-        if (!leagueEntity.get().getAdministrators().contains(administratorEntity.get())) {
+        if (!administratorRepository.existsByIdAndLeaguesId(administratorId, leagueId)) {
             throw new IllegalOperationException("The league is not associted to the administrator.");
         }
         administratorEntity.get().getLeagues().remove(leagueEntity.get());
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,19 +26,25 @@ public class AdministratorService {
         log.info("Start the administrator creation process.");
         try {
             log.info("Finish the administrator creation process.");
-            return administratorRepository.save(administratorEntity);
+            return administratorRepository.saveAndFlush(administratorEntity);
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AdministratorEntity> getAdministrators() {
         log.info("Start the process of querying all administrators.");
         return administratorRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<AdministratorEntity> getAdministrators(Long afterId, int size) throws IllegalOperationException {
+        log.info("Start the process of querying a page of administrators.");
+        return administratorRepository.findPage(KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public AdministratorEntity getAdministrator(Long administratorId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the administrator with ID = {0}.", administratorId);
         if (administratorId == null || administratorId == 0L) {
@@ -57,17 +64,13 @@ public class AdministratorService {
         if (administratorId == null || administratorId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<AdministratorEntity> administratorEntity = administratorRepository.findById(administratorId);
-        if (administratorEntity.isEmpty()) {
-            throw new EntityNotFoundException("The administrator with ID = " + Long.toString(administratorId)  + " was not found.");
-        }
-        administrator.setId(administratorId);
         try {
-            log.info("Finish the process of updating the administrator with ID = {0}.", administratorId);
-            return administratorRepository.saveAndFlush(administrator);
+            UpdateSupport.requireUpdated(administratorRepository.update(administratorId, administrator), administratorRepository, administratorId, "administrator");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        log.info("Finish the process of updating the administrator with ID = {0}.", administratorId);
+        return administratorRepository.findById(administratorId).get();
     }
 
     @Transactional
@@ -0,0 +1,108 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.BaseEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/*
+ * Resolves and diffs the entity lists of the association services by ID. Lookups go
+ * out in bounded IN chunks and comparisons use hash sets of IDs, so the cost of a
+ * replace grows with the number of rows instead of with its square.
+ */
+final class AssociationSupport {
+    static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private AssociationSupport() {
+    }
+
+    // Returns the managed entities in the order of the input, failing on the first unknown ID.
+    static <T extends BaseEntity> List<T> findAllById(Function<List<Long>, List<T>> loader, List<? extends BaseEntity> entities,
+            String name) throws EntityNotFoundException {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (BaseEntity entity : entities) {
+            if (entity.getId() == null) {
+                throw new EntityNotFoundException("The " + name + " with ID = null was not found.");
+            }
+            ids.add(entity.getId());
+        }
+        Map<Long, T> found = new HashMap<>();
+        List<Long> chunk = new ArrayList<>(Math.min(ids.size(), LOOKUP_CHUNK_SIZE));
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == LOOKUP_CHUNK_SIZE) {
+                putAll(found, loader.apply(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            putAll(found, loader.apply(chunk));
+        }
+        List<T> result = new ArrayList<>(entities.size());
+        for (BaseEntity entity : entities) {
+            T managed = found.get(entity.getId());
+            if (managed == null) {
+                throw new EntityNotFoundException("The " + name + " with ID = " + entity.getId() + " was not found.");
+            }
+            result.add(managed);
+        }
+        return result;
+    }
+
+    // Drops repeated IDs, keeping the first occurrence.
+    static <T extends BaseEntity> List<T> distinct(List<T> entities) {
+        Set<Long> seen = new HashSet<>();
+        List<T> result = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            if (seen.add(entity.getId())) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    static Set<Long> ids(Collection<? extends BaseEntity> entities) {
+        Set<Long> ids = new HashSet<>();
+        for (BaseEntity entity : entities) {
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+
+    // Rewrites current in place to match target, touching only the positions that change.
+    // Returns the entities of current that are not in target.
+    static <T extends BaseEntity> List<T> replaceInPlace(List<T> current, List<T> target) {
+        Set<Long> targetIds = ids(target);
+        List<T> dropped = new ArrayList<>();
+        for (T entity : current) {
+            if (!targetIds.contains(entity.getId())) {
+                dropped.add(entity);
+            }
+        }
+        for (int i = 0; i < target.size(); i++) {
+            if (i == current.size()) {
+                current.add(target.get(i));
+            } else if (!current.get(i).getId().equals(target.get(i).getId())) {
+                current.set(i, target.get(i));
+            }
+        }
+        while (current.size() > target.size()) {
+            current.remove(current.size() - 1);
+        }
+        return dropped;
+    }
+
+    private static <T extends BaseEntity> void putAll(Map<Long, T> found, List<T> entities) {
+        for (T entity : entities) {
+            found.put(entity.getId(), entity);
+        }
+    }
+}
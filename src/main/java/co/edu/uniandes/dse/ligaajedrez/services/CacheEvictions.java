@@ -0,0 +1,42 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * Evicts second-level cache entries once the surrounding transaction commits.
+ * Hibernate already refreshes the regions it writes through; the update and
+ * delete methods also evict explicitly so that a row changed through merge, a
+ * cascade or a bulk statement is never served stale. Evicting after commit keeps
+ * a concurrent reader from caching the old row again before the change is visible.
+ */
+final class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    static void evictAfterCommit(EntityManagerFactory entityManagerFactory, Class<?> entityClass, Long id) {
+        afterCommit(() -> entityManagerFactory.getCache().evict(entityClass, id));
+    }
+
+    static void evictCollectionAfterCommit(EntityManagerFactory entityManagerFactory, Class<?> ownerClass, String property, Long ownerId) {
+        String role = ownerClass.getName() + "." + property;
+        afterCommit(() -> entityManagerFactory.unwrap(SessionFactory.class).getCache().evictCollectionData(role, ownerId));
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
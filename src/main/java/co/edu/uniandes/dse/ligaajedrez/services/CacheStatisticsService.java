@@ -0,0 +1,60 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import co.edu.uniandes.dse.ligaajedrez.dto.CacheRegionStatisticsDTO;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class CacheStatisticsService {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /*
+     * Hits, misses and puts are counted by Hibernate, and stay at zero unless its
+     * statistics are turned on with ligaajedrez.cache.statistics; evictions and the
+     * current size come from the Caffeine cache behind each JCache region.
+     */
+    public List<CacheRegionStatisticsDTO> getRegionStatistics() {
+        log.info("Start the process of querying the second-level cache statistics.");
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheImplementor cache = sessionFactory.getCache();
+        CacheManager cacheManager = ((JCacheRegionFactory) cache.getRegionFactory()).getCacheManager();
+        List<CacheRegionStatisticsDTO> regions = new ArrayList<>();
+        for (String regionName : new TreeSet<>(cache.getCacheRegionNames())) {
+            CacheRegionStatisticsDTO region = new CacheRegionStatisticsDTO();
+            region.setRegion(regionName);
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(regionName);
+            if (regionStatistics != null) {
+                region.setHitCount(regionStatistics.getHitCount());
+                region.setMissCount(regionStatistics.getMissCount());
+                region.setPutCount(regionStatistics.getPutCount());
+            }
+            Cache<Object, Object> jcache = cacheManager.getCache(regionName);
+            if (jcache != null) {
+                com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine = jcache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+                region.setEvictionCount(caffeine.stats().evictionCount());
+                region.setSize(caffeine.estimatedSize());
+            }
+            regions.add(region);
+        }
+        log.info("Finish the process of querying the second-level cache statistics.");
+        return regions;
+    }
+}
@@ -42,7 +42,7 @@ public class CommentAdministratorService {
         return administratorEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public AdministratorEntity getAdministrator(Long commentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the administrator of the comment with ID {0}", commentId);
         if (commentId == null || commentId == 0L) {
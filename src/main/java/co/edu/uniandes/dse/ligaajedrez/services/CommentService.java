@@ -24,28 +24,25 @@ public class CommentService {
     @Transactional
     public CommentEntity createComment(CommentEntity commentEntity) throws IllegalOperationException {
         log.info("Start the comment creation process.");
-        if (commentEntity.getId() == null || commentEntity.getId() == 0L) {
-            throw new IllegalOperationException("The ID cannot be null or empty.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (commentEntity.getDate() == null || commentEntity.getDate().compareTo(calendar.getTime()) > 0) {
             throw new IllegalOperationException("The date cannot be null or after the current date.");
         }
         try {
             log.info("Finish the comment creation process.");
-            return commentRepository.save(commentEntity);
+            return commentRepository.saveAndFlush(commentEntity);
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<CommentEntity> getComments() {
         log.info("Start the process of querying all comments.");
         return commentRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public CommentEntity getComment(Long commentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the comment with ID = {0}.", commentId);
         if (commentId == null || commentId == 0L) {
@@ -65,21 +62,18 @@ public class CommentService {
         if (commentId == null || commentId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<CommentEntity> commentEntity = commentRepository.findById(commentId);
-        if (commentEntity.isEmpty()) {
-            throw new EntityNotFoundException("The comment with ID = " + commentId + " was not found.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (comment.getDate() == null || comment.getDate().compareTo(calendar.getTime()) > 0) {
+            UpdateSupport.requireExists(commentRepository, commentId, "comment");
             throw new IllegalOperationException("The date cannot be null or after the current date.");
         }
-        comment.setId(commentId);
         try {
-            log.info("Finish the process of updating the comment with ID = {0}.", commentId);
-            return commentRepository.saveAndFlush(comment);
+            UpdateSupport.requireUpdated(commentRepository.update(commentId, comment), commentRepository, commentId, "comment");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        log.info("Finish the process of updating the comment with ID = {0}.", commentId);
+        return commentRepository.findById(commentId).get();
     }
 
     @Transactional
@@ -0,0 +1,84 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.GameBoard;
+import co.edu.uniandes.dse.ligaajedrez.chess.GameCheckpoints;
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRecord;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * The board of a game at any ply. The first request for a game replays it once
+ * into checkpoints (see GameCheckpoints), which are cached per game, so scrubbing
+ * back and forth through a game never replays more than a few moves and does not
+ * touch the database. A committed change to the moves of a game evicts its
+ * checkpoints; the cache is bounded by the number of checkpoints it holds.
+ */
+@Slf4j
+@Service
+public class GameBoardService {
+    static final long MAX_CACHED_CHECKPOINTS = 200_000;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private final Cache<Long, GameCheckpoints> checkpoints = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_CHECKPOINTS)
+            .<Long, GameCheckpoints>weigher((gameId, game) -> game.checkpoints())
+            .build();
+
+    // Without a ply, the board after the last move.
+    @Transactional(readOnly = true)
+    public GameBoard getBoard(Long gameId, Integer ply) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying the board of the game with ID = {0}.", gameId);
+        if (gameId == null || gameId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        GameCheckpoints game;
+        try {
+            game = checkpoints.get(gameId, this::load);
+        } catch (IllegalMoveException e) {
+            throw new IllegalOperationException("The moves of the game are not a legal sequence.");
+        }
+        if (game == null) {
+            throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
+        }
+        int at = ply == null ? game.plies() : ply;
+        if (at < 0 || at > game.plies()) {
+            throw new IllegalOperationException("The ply must be between 0 and " + game.plies() + ".");
+        }
+        log.info("Finish the process of querying the board of the game with ID = {0}.", gameId);
+        return new GameBoard(at, game.plies(), game.positionAt(at), game.moveAt(at));
+    }
+
+    // Null for a missing game, which the cache does not keep.
+    private GameCheckpoints load(Long gameId) {
+        Optional<GameRecord> game = gameRepository.findRecordById(gameId);
+        return game.isEmpty() ? null : GameCheckpoints.of(game.get().getMoveData());
+    }
+
+    /*
+     * Runs after the change commits, so a load racing it either read the old moves
+     * and is evicted here, or reads the new ones.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        checkpoints.invalidate(event.getGameId());
+    }
+
+    void invalidate() {
+        checkpoints.invalidateAll();
+    }
+}
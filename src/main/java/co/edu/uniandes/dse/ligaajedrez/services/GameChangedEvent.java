@@ -0,0 +1,72 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRecord;
+
+/*
+ * Published when the moves, result or tournament of a game change, with what
+ * they were before and are after the change. A created game has no state
+ * before and a deleted one none after. The read models built from the games
+ * (the opening explorer) apply it once the change commits.
+ */
+final class GameChangedEvent {
+    private final Long gameId;
+    private final State before;
+    private final State after;
+
+    GameChangedEvent(Long gameId, State before, State after) {
+        this.gameId = gameId;
+        this.before = before;
+        this.after = after;
+    }
+
+    // The change of a game whose state before it was captured.
+    static GameChangedEvent of(GameEntity game, State before) {
+        return new GameChangedEvent(game.getId(), before, State.of(game));
+    }
+
+    Long getGameId() {
+        return gameId;
+    }
+
+    State getBefore() {
+        return before;
+    }
+
+    State getAfter() {
+        return after;
+    }
+
+    static final class State {
+        private final Long tournamentId;
+        private final String result;
+        private final byte[] moveData;
+
+        State(Long tournamentId, String result, byte[] moveData) {
+            this.tournamentId = tournamentId;
+            this.result = result;
+            this.moveData = moveData;
+        }
+
+        // The move data is never changed in place (see MoveCodec.append), so it is shared, not copied.
+        static State of(GameEntity game) {
+            return new State(game.getTournament() == null ? null : game.getTournament().getId(), game.getResult(), game.getMoveData());
+        }
+
+        static State of(GameRecord game) {
+            return new State(game.getTournamentId(), game.getResult(), game.getMoveData());
+        }
+
+        Long getTournamentId() {
+            return tournamentId;
+        }
+
+        String getResult() {
+            return result;
+        }
+
+        byte[] getMoveData() {
+            return moveData;
+        }
+    }
+}
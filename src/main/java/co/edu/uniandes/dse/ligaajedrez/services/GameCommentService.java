@@ -8,11 +8,13 @@ import co.edu.uniandes.dse.ligaajedrez.repositories.CommentRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -42,7 +44,7 @@ public class GameCommentService {
         return commentEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<CommentEntity> getComments(Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all comments of the game with ID {0}.", gameId);
         if (gameId == null || gameId == 0L) {
@@ -56,7 +58,20 @@ public class GameCommentService {
         return gameEntity.get().getComments();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<CommentEntity> getComments(Long gameId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of comments of the game with ID {0}.", gameId);
+        if (gameId == null || gameId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!gameRepository.existsById(gameId)) {
+            throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
+        }
+        log.info("Finish the process of querying a page of comments of the game with ID {0}.", gameId);
+        return commentRepository.findPageByGameId(gameId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public CommentEntity getComment(Long commentId, Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the comment with ID {0} in the game with ID {1}.", commentId, gameId);
         if (commentId == null || commentId == 0L || gameId == null || gameId == 0L) {
@@ -70,7 +85,7 @@ public class GameCommentService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
-        if (!gameEntity.get().getComments().contains(commentEntity.get())) {
+        if (!gameRepository.existsByIdAndCommentsId(gameId, commentId)) {
             throw new IllegalOperationException("The comment is not associated with the game.");
         }
         log.info("Finish the process of querying the comment with ID {0} in the game with ID {1}.", commentId, gameId);
@@ -87,13 +102,16 @@ public class GameCommentService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
-        for (CommentEntity comment : comments) {
-            Optional<CommentEntity> commentEntity = commentRepository.findById(comment.getId());
-            if (commentEntity.isEmpty()) {
-                throw new EntityNotFoundException("The comment with ID = " + comment.getId() + " was not found.");
+        List<CommentEntity> newComments = AssociationSupport.distinct(
+                AssociationSupport.findAllById(commentRepository::findAllById, comments, "comment"));
+        Set<Long> newIds = AssociationSupport.ids(newComments);
+        Set<Long> currentIds = AssociationSupport.ids(gameEntity.get().getComments());
+        gameEntity.get().getComments().removeIf(c -> !newIds.contains(c.getId()));
+        for (CommentEntity comment : newComments) {
+            if (!currentIds.contains(comment.getId())) {
+                gameEntity.get().getComments().add(comment);
             }
         }
-        gameEntity.get().setComments(comments);
         log.info("Finish the process of replacing the comments associated with the game with ID = {0}.", gameId);
         return gameEntity.get().getComments();
     }
@@ -112,7 +130,7 @@ public class GameCommentService {
         if (commentEntity.isEmpty()) {
             throw new EntityNotFoundException("The comment with ID = " + commentId + " was not found.");
         }
-        if (!gameEntity.get().getComments().contains(commentEntity.get())) {
+        if (!gameRepository.existsByIdAndCommentsId(gameId, commentId)) {
             throw new IllegalOperationException("The comment is not associated with the game.");
         }
         gameEntity.get().getComments().remove(commentEntity.get());
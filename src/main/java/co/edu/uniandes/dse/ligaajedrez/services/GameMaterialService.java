@@ -0,0 +1,153 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.EndgameType;
+import co.edu.uniandes.dse.ligaajedrez.chess.GamePhase;
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.chess.MaterialSignature;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.chess.Position;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.MaterialSegment;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRecord;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GamePosition;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Finds the games by the material on the board: by signature ("KRPvKR", with
+ * either side as white), by endgame type ("ROOK", "OPPOSITE_BISHOPS") and by
+ * phase. Each game keeps its material every time it changes (see
+ * MaterialSignature), updated with its moves like the position index. Games
+ * saved before the index existed are indexed by indexGames, which replays them
+ * in parallel.
+ */
+@Slf4j
+@Service
+public class GameMaterialService {
+    static final int INDEX_BATCH_SIZE = 500;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    @Transactional(readOnly = true)
+    public Slice<GamePosition> getGames(String material, String type, String phase, Long afterId, int size) throws IllegalOperationException {
+        log.info("Start the process of querying the games by their material.");
+        Pageable limit = KeysetSupport.limit(size);
+        if (material == null && type == null) {
+            throw new IllegalOperationException("Give the material, the endgame type or both.");
+        }
+        EndgameType endgameType = type == null ? null : parse(EndgameType.class, type, "endgame type");
+        GamePhase gamePhase = phase == null ? null : parse(GamePhase.class, phase, "phase");
+        long after = KeysetSupport.after(afterId);
+        Slice<GamePosition> games;
+        if (material != null) {
+            long signature;
+            try {
+                signature = MaterialSignature.parse(material);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalOperationException(e.getMessage());
+            }
+            Set<Long> signatures = new LinkedHashSet<>(List.of(signature, MaterialSignature.mirror(signature)));
+            games = gameRepository.findPageByMaterial(signatures, endgameType, gamePhase, after, limit);
+        } else {
+            games = gameRepository.findPageByEndgameType(endgameType, gamePhase, after, limit);
+        }
+        log.info("Finish the process of querying the games by their material.");
+        return games;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String name) throws IllegalOperationException {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalOperationException("The " + name + " " + value + " is not valid.");
+        }
+    }
+
+    /*
+     * Indexes the games that have moves but no material, a batch at a time: the
+     * batch is replayed on the common fork/join pool, outside any transaction, and
+     * then written in one. A game whose moves are not legal is skipped. Returns how
+     * many games were indexed.
+     */
+    public int indexGames() {
+        log.info("Start the process of indexing the material of the games.");
+        long afterId = Long.MIN_VALUE;
+        int indexed = 0;
+        while (true) {
+            Slice<GameRecord> page = gameRepository.findMaterialUnindexedPage(afterId, PageRequest.of(0, INDEX_BATCH_SIZE));
+            if (!page.hasContent()) {
+                break;
+            }
+            Map<Long, List<MaterialSegment>> materials = new ConcurrentHashMap<>();
+            page.getContent().parallelStream().forEach(game -> {
+                try {
+                    materials.put(game.getId(), segments(game.getMoveData()));
+                } catch (IllegalMoveException e) {
+                    log.warn("The moves of the game with ID = {} are not a legal sequence; its material was not indexed.", game.getId());
+                }
+            });
+            indexed += retryExecutor.execute(status -> write(materials));
+            afterId = page.getContent().get(page.getNumberOfElements() - 1).getId();
+        }
+        log.info("Finish the process of indexing the material of {0} games.", indexed);
+        return indexed;
+    }
+
+    // Skips the games that changed since they were read; their own change indexed them.
+    private int write(Map<Long, List<MaterialSegment>> materials) {
+        int written = 0;
+        for (Map.Entry<Long, List<MaterialSegment>> entry : materials.entrySet()) {
+            Optional<GameEntity> game = gameRepository.findById(entry.getKey());
+            if (game.isPresent() && game.get().getMaterials().isEmpty()) {
+                game.get().getMaterials().addAll(entry.getValue());
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static List<MaterialSegment> segments(byte[] moveData) {
+        List<MaterialSegment> segments = new ArrayList<>();
+        for (MaterialSignature.Segment segment : MaterialSignature.segments(moveData)) {
+            segments.add(MaterialSegment.of(segment));
+        }
+        return segments;
+    }
+
+    // Rebuilds the material of a game from its moves.
+    static void index(GameEntity game) {
+        List<MaterialSegment> materials = game.getMaterials();
+        materials.clear();
+        materials.addAll(segments(game.getMoveData()));
+    }
+
+    // Adds the material after the move just appended to a game whose material is indexed, if it changed.
+    static void indexAppended(GameEntity game, Position position) {
+        List<MaterialSegment> materials = game.getMaterials();
+        if (materials.get(materials.size() - 1).getSignature() != MaterialSignature.of(position)) {
+            List<MaterialSignature.Segment> appended = new ArrayList<>();
+            MaterialSignature.append(appended, MoveCodec.plies(game.getMoveData()), position);
+            materials.add(MaterialSegment.of(appended.get(0)));
+        }
+    }
+}
@@ -1,19 +1,39 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.chess.Position;
+import co.edu.uniandes.dse.ligaajedrez.chess.San;
 import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.MoveRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.OpeningRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+/*
+ * The moves of a game live in its move data column. A game gets its moves either
+ * by notation (playMove), which only grows that column, or through move entities
+ * linked one by one, which are kept as a mirror of the column for the clients of
+ * the entity API. The two are not mixed in one game. Reading the moves of a game
+ * recorded by notation returns unsaved entities decoded from the column. Every
+ * change to the column also updates the position hashes and the material of the
+ * game, so neither index lags behind its moves, and classifies the game's
+ * opening again (see OpeningClassifier).
+ */
 @Slf4j
 @Service
 public class GameMoveService {
@@ -23,6 +43,45 @@ public class GameMoveService {
     @Autowired
     private MoveRepository moveRepository;
 
+    @Autowired
+    private OpeningRepository openingRepository;
+
+    @Autowired
+    private OpeningClassifier openingClassifier;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public String playMove(Long gameId, String notation) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of playing the move {0} in the game with ID {1}.", notation, gameId);
+        if (gameId == null || gameId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        Optional<GameEntity> gameEntity = gameRepository.findById(gameId);
+        if (gameEntity.isEmpty()) {
+            throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
+        }
+        if (notation == null) {
+            throw new IllegalOperationException("Invalid Notation");
+        }
+        GameEntity game = gameEntity.get();
+        if (!game.getMoves().isEmpty()) {
+            throw new IllegalOperationException("The moves of the game with ID = " + gameId + " are move entities; link the move as an entity.");
+        }
+        Position position = replay(game);
+        int move = parse(position, notation);
+        String canonical = San.format(position, move);
+        GameChangedEvent.State before = GameChangedEvent.State.of(game);
+        game.setMoveData(append(game.getMoveData(), move));
+        position.make(move);
+        index(game, position);
+        openingClassifier.classifyAppended(game);
+        eventPublisher.publishEvent(GameChangedEvent.of(game, before));
+        log.info("Finish the process of playing the move {0} in the game with ID {1}.", notation, gameId);
+        return canonical;
+    }
+
     @Transactional
     public MoveEntity addMove(Long gameId, Long moveId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of associating the move with ID {0} to the game with ID {1}.", moveId, gameId);
@@ -37,26 +96,61 @@ public class GameMoveService {
         if (moveEntity.isEmpty()) {
             throw new EntityNotFoundException("The move with ID = " + moveId + " was not found.");
         }
-        gameEntity.get().getMoves().add(moveEntity.get());
+        GameEntity game = gameEntity.get();
+        GameChangedEvent.State before = GameChangedEvent.State.of(game);
+        Position position = mirroredPosition(game);
+        int move = parse(position, moveEntity.get().getNotation());
+        moveEntity.get().setNotation(San.format(position, move));
+        game.setMoveData(append(game.getMoveData(), move));
+        position.make(move);
+        index(game, position);
+        openingClassifier.classifyAppended(game);
+        game.getMoves().add(moveEntity.get());
+        eventPublisher.publishEvent(GameChangedEvent.of(game, before));
         log.info("Finish the process of associating the move with ID {0} to the game with ID {1}.", moveId, gameId);
         return moveEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MoveEntity> getMoves(Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all moves of the game with ID {0}.", gameId);
         if (gameId == null || gameId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty");
         }
-        Optional<GameEntity> gameEntity = gameRepository.findById(gameId);
+        Optional<GameEntity> gameEntity = gameRepository.findWithMovesById(gameId);
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
         log.info("Finish the process of querying all moves of the game with ID {0}.", gameId);
+        if (gameEntity.get().getMoves().isEmpty()) {
+            return decode(gameEntity.get());
+        }
         return gameEntity.get().getMoves();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<MoveEntity> getMoves(Long gameId, Integer afterPly, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of moves of the game with ID {0}.", gameId);
+        if (gameId == null || gameId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        Optional<GameEntity> gameEntity = gameRepository.findById(gameId);
+        if (gameEntity.isEmpty()) {
+            throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
+        }
+        Pageable limit = KeysetSupport.limit(size);
+        log.info("Finish the process of querying a page of moves of the game with ID {0}.", gameId);
+        Slice<MoveEntity> page = moveRepository.findPageByGameId(gameId, KeysetSupport.afterPly(afterPly), limit);
+        if (page.hasContent() || !gameEntity.get().getMoves().isEmpty()) {
+            return page;
+        }
+        List<MoveEntity> moves = decode(gameEntity.get());
+        int from = Math.min(KeysetSupport.afterPly(afterPly) + 1, moves.size());
+        int to = Math.min(from + size, moves.size());
+        return new SliceImpl<>(moves.subList(from, to), limit, to < moves.size());
+    }
+
+    @Transactional(readOnly = true)
     public MoveEntity getMove(Long moveId, Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the move with ID {0} in the game with ID {1}.", moveId, gameId);
         if (moveId == null || moveId == 0L || gameId == null || gameId == 0L) {
@@ -70,7 +164,7 @@ public class GameMoveService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
-        if (!gameEntity.get().getMoves().contains(moveEntity.get())) {
+        if (!gameRepository.existsByIdAndMovesId(gameId, moveId)) {
             throw new IllegalOperationException("The move is not associated with the game.");
         }
         log.info("Finish the process of querying the move with ID {0} in the game with ID {1}.", moveId, gameId);
@@ -87,13 +181,19 @@ public class GameMoveService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
-        for (MoveEntity move : moves) {
-            Optional<MoveEntity> moveEntity = moveRepository.findById(move.getId());
-            if (moveEntity.isEmpty()) {
-                throw new EntityNotFoundException("The move with ID = " + move.getId() + " was not found.");
-            }
+        List<MoveEntity> newMoves = AssociationSupport.findAllById(moveRepository::findAllById, moves, "move");
+        List<String> notations = new ArrayList<>();
+        byte[] moveData = encode(newMoves, Position.start(), notations);
+        for (int i = 0; i < newMoves.size(); i++) {
+            newMoves.get(i).setNotation(notations.get(i));
         }
-        gameEntity.get().setMoves(moves);
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
+        gameEntity.get().setMoveData(moveData);
+        reindex(gameEntity.get());
+        openingClassifier.classify(gameEntity.get());
+        eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
+        List<MoveEntity> droppedMoves = AssociationSupport.replaceInPlace(gameEntity.get().getMoves(), newMoves);
+        deleteUnreferenced(droppedMoves);
         log.info("Finish the process of replacing the moves associated with the game with ID = {0}.", gameId);
         return gameEntity.get().getMoves();
     }
@@ -112,10 +212,134 @@ public class GameMoveService {
         if (moveEntity.isEmpty()) {
             throw new EntityNotFoundException("The move with ID = " + moveId + " was not found.");
         }
-        if (!gameEntity.get().getMoves().contains(moveEntity.get())) {
+        if (!gameRepository.existsByIdAndMovesId(gameId, moveId)) {
             throw new IllegalOperationException("The move is not associated with the game.");
         }
-        gameEntity.get().getMoves().remove(moveEntity.get());
+        List<MoveEntity> remaining = gameEntity.get().getMoves();
+        // Any other move would leave the later ones unplayable, so only the last can go.
+        if (!remaining.get(remaining.size() - 1).equals(moveEntity.get())) {
+            throw new IllegalOperationException("Only the last move of the game can be removed; replace the moves to change an earlier one.");
+        }
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
+        remaining.remove(remaining.size() - 1);
+        deleteUnreferenced(List.of(moveEntity.get()));
+        gameEntity.get().setMoveData(encode(remaining, Position.start(), new ArrayList<>()));
+        reindex(gameEntity.get());
+        openingClassifier.classify(gameEntity.get());
+        eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
         log.info("Finish the process of disassociating the move with ID {0} from the game with ID {1}.", moveId, gameId);
     }
+
+    /*
+     * Deletes the moves just unlinked from a game that no game or opening refers
+     * to any more. A move is its own resource and may be shared, so one still
+     * linked elsewhere only loses the join row.
+     */
+    private void deleteUnreferenced(List<MoveEntity> unlinked) {
+        for (MoveEntity move : unlinked) {
+            if (!gameRepository.existsByMovesId(move.getId()) && !openingRepository.existsByMovesId(move.getId())) {
+                moveRepository.delete(move);
+            }
+        }
+    }
+
+    /*
+     * The position after the moves of a game whose move entities mirror its move
+     * data. A game stored before the column existed gets it built from its entities
+     * here.
+     */
+    private Position mirroredPosition(GameEntity game) throws IllegalOperationException {
+        List<MoveEntity> moves = game.getMoves();
+        if (game.getMoveData() == null && !moves.isEmpty()) {
+            Position position = Position.start();
+            try {
+                game.setMoveData(encode(moves, position, new ArrayList<>()));
+            } catch (IllegalOperationException e) {
+                throw notLegal(game);
+            }
+            return position;
+        }
+        int plies = MoveCodec.plies(game.getMoveData());
+        if (moves.isEmpty() && plies > 0) {
+            throw new IllegalOperationException("The moves of the game with ID = " + game.getId() + " are recorded by notation; play the move by its notation.");
+        }
+        if (moves.size() != plies) {
+            throw notLegal(game);
+        }
+        return replay(game);
+    }
+
+    // Adds the hash and material of the position after the move just appended, or rebuilds the indexes when the game was not indexed yet.
+    private static void index(GameEntity game, Position position) {
+        List<Long> hashes = game.getPositionHashes();
+        if (hashes.size() == MoveCodec.plies(game.getMoveData()) - 1 && !game.getMaterials().isEmpty()) {
+            hashes.add(position.hash());
+            GameMaterialService.indexAppended(game, position);
+        } else {
+            reindex(game);
+        }
+    }
+
+    static void reindex(GameEntity game) {
+        List<Long> hashes = game.getPositionHashes();
+        hashes.clear();
+        for (long hash : MoveCodec.hashes(game.getMoveData())) {
+            hashes.add(hash);
+        }
+        GameMaterialService.index(game);
+    }
+
+    private Position replay(GameEntity game) throws IllegalOperationException {
+        try {
+            return MoveCodec.replay(game.getMoveData());
+        } catch (IllegalMoveException e) {
+            throw notLegal(game);
+        }
+    }
+
+    // Plays the moves from the position and encodes them, collecting their canonical SAN.
+    private static byte[] encode(List<MoveEntity> moves, Position position, List<String> notations) throws IllegalOperationException {
+        byte[] data = new byte[0];
+        for (MoveEntity move : moves) {
+            int legal = parse(position, move.getNotation());
+            notations.add(San.format(position, legal));
+            data = append(data, legal);
+            position.make(legal);
+        }
+        return data;
+    }
+
+    private static int parse(Position position, String notation) throws IllegalOperationException {
+        try {
+            return San.parse(position, notation);
+        } catch (IllegalMoveException e) {
+            throw new IllegalOperationException(e.getMessage());
+        }
+    }
+
+    private static byte[] append(byte[] data, int move) throws IllegalOperationException {
+        try {
+            return MoveCodec.append(data, move);
+        } catch (IllegalMoveException e) {
+            throw new IllegalOperationException(e.getMessage());
+        }
+    }
+
+    private static List<MoveEntity> decode(GameEntity game) throws IllegalOperationException {
+        List<MoveEntity> moves = new ArrayList<>();
+        try {
+            for (String notation : MoveCodec.toSan(game.getMoveData())) {
+                MoveEntity move = new MoveEntity();
+                move.setNotation(notation);
+                moves.add(move);
+            }
+        } catch (IllegalMoveException e) {
+            throw notLegal(game);
+        }
+        return moves;
+    }
+
+    private static IllegalOperationException notLegal(GameEntity game) {
+        return new IllegalOperationException("The moves of the game with ID = " + game.getId() + " are not a legal sequence.");
+    }
 }
@@ -38,11 +38,12 @@ public class GameOpeningService {
             throw new EntityNotFoundException("The opening with ID = " + Long.toString(openingId) + " was not found.");
         }
         gameEntity.get().setOpening(openingEntity.get());
+        gameEntity.get().setOpeningClassified(false);
         log.info("Finish the process of associating the opening with ID {0} to the game with ID {1}.", openingId, gameId);
         return openingEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public OpeningEntity getOpening(Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the opening of the game with ID {0}", gameId);
         if (gameId == null || gameId == 0L) {
@@ -75,6 +76,7 @@ public class GameOpeningService {
             throw new EntityNotFoundException("The opening with ID = " + Long.toString(openingId) + " was not found.");
         }
         gameEntity.get().setOpening(openingEntity.get());
+        gameEntity.get().setOpeningClassified(false);
         log.info("Finish the process of replacing the opening with ID {0} for the game with ID {1}.", openingId, gameId);
         return gameEntity.get();
     }
@@ -90,6 +92,7 @@ public class GameOpeningService {
             throw new EntityNotFoundException("The game with ID = " + Long.toString(gameId) + " was not found.");
         }
         gameEntity.get().setOpening(null);
+        gameEntity.get().setOpeningClassified(false);
         log.info("Finish the process of disassociating the opening from the game with ID {0}", gameId);
     }
 }
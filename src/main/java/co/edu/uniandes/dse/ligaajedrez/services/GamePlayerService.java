@@ -8,6 +8,7 @@ import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,12 +38,15 @@ public class GamePlayerService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
         }
-        gameEntity.get().getPlayers().add(playerEntity.get());
+        if (!playerRepository.existsByIdAndGamesId(playerId, gameId)) {
+            playerEntity.get().getGames().add(gameEntity.get());
+            gameEntity.get().getPlayers().add(playerEntity.get());
+        }
         log.info("Finish the process of associating the player with ID {0} to the game with ID {1}.", playerId, gameId);
         return playerEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PlayerEntity> getPlayers(Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all players of the game with ID {0}.", gameId);
         if (gameId == null || gameId == 0L) {
@@ -56,7 +60,20 @@ public class GamePlayerService {
         return gameEntity.get().getPlayers();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<PlayerEntity> getPlayers(Long gameId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of players of the game with ID {0}.", gameId);
+        if (gameId == null || gameId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (!gameRepository.existsById(gameId)) {
+            throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
+        }
+        log.info("Finish the process of querying a page of players of the game with ID {0}.", gameId);
+        return playerRepository.findPageByGameId(gameId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public PlayerEntity getPlayer(Long playerId, Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the player with ID {0} in the game with ID {1}.", playerId, gameId);
         if (playerId == null || playerId == 0L || gameId == null || gameId == 0L) {
@@ -70,7 +87,7 @@ public class GamePlayerService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
-        if (!gameEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndGamesId(playerId, gameId)) {
             throw new IllegalOperationException("The player is not associated with the game.");
         }
         log.info("Finish the process of querying the player with ID {0} in the game with ID {1}.", playerId, gameId);
@@ -115,7 +132,7 @@ public class GamePlayerService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
         }
-        if (!gameEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndGamesId(playerId, gameId)) {
             throw new IllegalOperationException("The player is not associated with the game.");
         }
         gameEntity.get().getPlayers().remove(playerEntity.get());
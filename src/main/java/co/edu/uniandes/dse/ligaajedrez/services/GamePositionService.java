@@ -0,0 +1,88 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GamePosition;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Finds the games that reached a position. The position is given as a FEN or as
+ * the moves that lead to it from the start; either way it is reduced to its
+ * Zobrist hash and looked up in the position index, so a game that reached it by
+ * another move order is found as well. Games saved before the index existed are
+ * indexed by indexGames.
+ */
+@Slf4j
+@Service
+public class GamePositionService {
+    static final int INDEX_BATCH_SIZE = 200;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    @Transactional(readOnly = true)
+    public Slice<GamePosition> getGames(String fen, List<String> moves, Long afterId, int size) throws IllegalOperationException {
+        log.info("Start the process of querying the games that reached a position.");
+        Pageable limit = KeysetSupport.limit(size);
+        if (moves != null && moves.isEmpty()) {
+            throw new IllegalOperationException("The moves cannot be empty.");
+        }
+        long hash = PositionSupport.position(fen, moves).hash();
+        log.info("Finish the process of querying the games that reached a position.");
+        return gameRepository.findPageByPositionHash(hash, KeysetSupport.after(afterId), limit);
+    }
+
+    /*
+     * Indexes the games that have moves but no position hashes, a batch per
+     * transaction so a large backlog does not hold one long transaction. A game
+     * whose moves are not legal is skipped. Returns how many games were indexed.
+     */
+    public int indexGames() {
+        log.info("Start the process of indexing the positions of the games.");
+        long afterId = Long.MIN_VALUE;
+        int indexed = 0;
+        while (true) {
+            long from = afterId;
+            Slice<Long> ids = gameRepository.findUnindexedIds(from, PageRequest.of(0, INDEX_BATCH_SIZE));
+            if (!ids.hasContent()) {
+                break;
+            }
+            indexed += retryExecutor.execute(status -> indexBatch(ids.getContent()));
+            afterId = ids.getContent().get(ids.getNumberOfElements() - 1);
+        }
+        log.info("Finish the process of indexing the positions of {0} games.", indexed);
+        return indexed;
+    }
+
+    private int indexBatch(List<Long> ids) {
+        int indexed = 0;
+        for (Long id : ids) {
+            Optional<GameEntity> game = gameRepository.findById(id);
+            if (game.isEmpty()) {
+                continue;
+            }
+            try {
+                GameMoveService.reindex(game.get());
+                indexed++;
+            } catch (IllegalMoveException e) {
+                log.warn("The moves of the game with ID = {} are not a legal sequence; it was not indexed.", id);
+            }
+        }
+        return indexed;
+    }
+}
@@ -1,18 +1,22 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRecord;
 import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,40 +26,54 @@ public class GameService {
     @Autowired
     GameRepository gameRepository;
 
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public GameEntity createGame(GameEntity gameEntity) throws IllegalOperationException {
         log.info("Start the game creation process.");
-        if (gameEntity.getId() == null || gameEntity.getId() == 0L) {
-            throw new IllegalOperationException("The ID cannot be null or empty.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (gameEntity.getDate() == null || gameEntity.getDate().compareTo(calendar.getTime()) > 0) {
             throw new IllegalOperationException("The date cannot be null or after the current date.");
         }
         try {
+            GameEntity created = gameRepository.saveAndFlush(gameEntity);
+            eventPublisher.publishEvent(new GameChangedEvent(created.getId(), null, GameChangedEvent.State.of(created)));
             log.info("Finish the game creation process.");
-            return gameRepository.save(gameEntity);
+            return created;
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<GameEntity> getGames(Pageable pageable) {
         log.info("Start the process of querying all games.");
         return gameRepository.findAll(pageable).getContent();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<GameEntity> getGames(Date afterDate, Long afterId, int size) throws IllegalOperationException {
+        log.info("Start the process of querying a page of games.");
+        Pageable limit = KeysetSupport.limit(size);
+        if (afterDate == null) {
+            return gameRepository.findPage(limit);
+        }
+        return gameRepository.findPageAfter(afterDate, KeysetSupport.after(afterId), limit);
+    }
+
+    @Transactional(readOnly = true)
     public GameEntity getGame(Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the game with ID = {0}.", gameId);
         if (gameId == null || gameId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<GameEntity> gameEntity = gameRepository.findById(gameId);
+        Optional<GameEntity> gameEntity = gameRepository.findDetailById(gameId);
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
+        gameRepository.findWithCommentsById(gameId);
+        gameRepository.findWithPlayersById(gameId);
         log.info("Finish the process of querying the game with ID = {0}.", gameId);
         return gameEntity.get();
     }
@@ -66,21 +84,23 @@ public class GameService {
         if (gameId == null || gameId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<GameEntity> gameEntity = gameRepository.findById(gameId);
-        if (gameEntity.isEmpty()) {
-            throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (game.getDate() == null || game.getDate().compareTo(calendar.getTime()) > 0) {
+            UpdateSupport.requireExists(gameRepository, gameId, "game");
             throw new IllegalOperationException("The date cannot be null or after the current date.");
         }
-        game.setId(gameId);
+        Optional<GameRecord> before;
         try {
-            log.info("Finish the process of updating the game with ID = {0}.", gameId);
-            return gameRepository.saveAndFlush(game);
+            // Reading the game may flush pending changes to it, so it belongs in the same guard.
+            before = gameRepository.findRecordById(gameId);
+            UpdateSupport.requireUpdated(gameRepository.update(gameId, game), gameRepository, gameId, "game");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        GameEntity updated = gameRepository.findById(gameId).get();
+        eventPublisher.publishEvent(GameChangedEvent.of(updated, GameChangedEvent.State.of(before.get())));
+        log.info("Finish the process of updating the game with ID = {0}.", gameId);
+        return updated;
     }
 
     @Transactional
@@ -93,11 +113,13 @@ public class GameService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
         gameRepository.deleteById(gameId);
+        eventPublisher.publishEvent(new GameChangedEvent(gameId, before, null));
         log.info("Finish the process of deleting the game with ID = {0}.", gameId);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public long getTotalGameCount() {
         log.info("Start the process of counting all games.");
         return gameRepository.count();
@@ -3,6 +3,7 @@ package co.edu.uniandes.dse.ligaajedrez.services;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,9 @@ public class GameTournamentService {
     @Autowired
     private TournamentRepository tournamentRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public TournamentEntity addTournament(Long gameId, Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of associating the tournament with ID {0} to the game with ID {1}.", tournamentId, gameId);
@@ -37,12 +41,14 @@ public class GameTournamentService {
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + Long.toString(tournamentId) + " was not found.");
         }
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
         gameEntity.get().setTournament(tournamentEntity.get());
+        eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
         log.info("Finish the process of associating the tournament with ID {0} to the game with ID {1}.", tournamentId, gameId);
         return tournamentEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public TournamentEntity getTournament(Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the tournament of the game with ID {0}", gameId);
         if (gameId == null || gameId == 0L) {
@@ -77,7 +83,9 @@ public class GameTournamentService {
         if (!tournamentEntity.get().getGames().contains(gameEntity.get())) {
             tournamentEntity.get().getGames().add(gameEntity.get());
         }
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
         gameEntity.get().setTournament(tournamentEntity.get());
+        eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
         log.info("Finish the process of replacing the tournament with ID {0} for the game with ID {1}.", tournamentId, gameId);
         return tournamentEntity.get();
     }
@@ -96,7 +104,9 @@ public class GameTournamentService {
         if (tournament != null) {
             tournamentRepository.findById(tournament.getId()).get().getGames().remove(gameEntity.get());
         }
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
         gameEntity.get().setTournament(null);
+        eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
         log.info("Finish the process of disassociating the tournament from the game with ID {0}", gameId);
     }
 }
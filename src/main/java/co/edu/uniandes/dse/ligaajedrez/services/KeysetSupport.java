@@ -0,0 +1,35 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+
+/*
+ * Builds the limits of the keyset listings. Every listing seeks past the key of
+ * the last row it returned instead of skipping an offset, so the database walks
+ * the index from that key and a deep page costs the same as the first one. The
+ * pageable only carries the row limit; the order comes from each query.
+ */
+final class KeysetSupport {
+    static final int MAX_PAGE_SIZE = 500;
+
+    private KeysetSupport() {
+    }
+
+    static Pageable limit(int size) throws IllegalOperationException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalOperationException("The page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return PageRequest.of(0, size);
+    }
+
+    // A listing without a cursor starts before the smallest ID.
+    static long after(Long afterId) {
+        return afterId == null ? Long.MIN_VALUE : afterId;
+    }
+
+    static int afterPly(Integer afterPly) {
+        return afterPly == null ? -1 : afterPly;
+    }
+}
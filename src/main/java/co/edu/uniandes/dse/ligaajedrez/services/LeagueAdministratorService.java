@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,12 +39,15 @@ public class LeagueAdministratorService {
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId)  + " was not found.");
         }
-        leagueEntity.get().getAdministrators().add(administratorEntity.get());
+        if (!administratorRepository.existsByIdAndLeaguesId(administratorId, leagueId)) {
+            administratorEntity.get().getLeagues().add(leagueEntity.get());
+            leagueEntity.get().getAdministrators().add(administratorEntity.get());
+        }
         log.info("Finish the process of associating the administrator with ID {0} to the league with ID {1}.", administratorId, leagueId);
         return administratorEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AdministratorEntity> getAdministrators(Long leagueId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all administrators of the league with ID {0}.", leagueId);
         if (leagueId == null || leagueId == 0L) {
@@ -57,7 +61,20 @@ public class LeagueAdministratorService {
         return leagueEntity.get().getAdministrators();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<AdministratorEntity> getAdministrators(Long leagueId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of administrators of the league with ID {0}.", leagueId);
+        if (leagueId == null || leagueId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId)  + " was not found.");
+        }
+        log.info("Finish the process of querying a page of administrators of the league with ID {0}.", leagueId);
+        return administratorRepository.findPageByLeagueId(leagueId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public AdministratorEntity getAdministrator(Long administratorId, Long leagueId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the administrator with ID {0} of the league with ID {1}.", administratorId, leagueId);
         if (administratorId == null || administratorId == 0L || leagueId == null || leagueId == 0L) {
@@ -71,7 +88,7 @@ public class LeagueAdministratorService {
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId)  + " was not found.");
         }
-        if (!administratorEntity.get().getLeagues().contains(leagueEntity.get())) {
+        if (!administratorRepository.existsByIdAndLeaguesId(administratorId, leagueId)) {
             throw new IllegalOperationException("The administrator is not associated with the league.");
         }
         log.info("Finish the process of querying the administrator with ID {0} of the league with ID {1}.", administratorId, leagueId);
@@ -116,7 +133,7 @@ public class LeagueAdministratorService {
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId)  + " was not found.");
         }
-        if (!administratorEntity.get().getLeagues().contains(leagueEntity.get())) {
+        if (!administratorRepository.existsByIdAndLeaguesId(administratorId, leagueId)) {
             throw new IllegalOperationException("The administrator is not associated with the league.");
         }
         leagueEntity.get().getAdministrators().remove(administratorEntity.get());
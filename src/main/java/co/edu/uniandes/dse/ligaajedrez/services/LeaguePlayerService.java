@@ -1,9 +1,12 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,12 +41,15 @@ public class LeaguePlayerService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + Long.toString(playerId) + " was not found.");
         }
-        leagueEntity.get().getPlayers().add(playerEntity.get());
+        if (!playerRepository.existsByIdAndLeaguesId(playerId, leagueId)) {
+            playerEntity.get().getLeagues().add(leagueEntity.get());
+            leagueEntity.get().getPlayers().add(playerEntity.get());
+        }
         log.info("Finish the process of associating the player with ID {0} to the league with ID {1}.", playerId, leagueId);
         return playerEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PlayerEntity> getPlayers(Long leagueId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all players of the league with ID {0}.", leagueId);
         if (leagueId == null || leagueId == 0L) {
@@ -57,7 +63,20 @@ public class LeaguePlayerService {
         return leagueEntity.get().getPlayers();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<PlayerEntity> getPlayers(Long leagueId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of players of the league with ID {0}.", leagueId);
+        if (leagueId == null || leagueId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId) + " was not found.");
+        }
+        log.info("Finish the process of querying a page of players of the league with ID {0}.", leagueId);
+        return playerRepository.findPageByLeagueId(leagueId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public PlayerEntity getPlayer(Long playerId, Long leagueId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the player with ID {0} in the league with ID {1}.", playerId, leagueId);
         if (playerId == null || playerId == 0L || leagueId == null || leagueId == 0L) {
@@ -71,7 +90,7 @@ public class LeaguePlayerService {
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId) + " was not found.");
         }
-        if (!leagueEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndLeaguesId(playerId, leagueId)) {
             throw new IllegalOperationException("The player is not associated with the league.");
         }
         log.info("Finish the process of querying the player with ID {0} in the league with ID {1}.", playerId, leagueId);
@@ -88,16 +107,28 @@ public class LeaguePlayerService {
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId) + " was not found.");
         }
-        for (PlayerEntity player : players) {
-            Optional<PlayerEntity> playerEntity = playerRepository.findById(player.getId());
-            if (playerEntity.isEmpty()) {
-                throw new EntityNotFoundException("The player with ID = " + Long.toString(player.getId()) + " was not found.");
+        LeagueEntity league = leagueEntity.get();
+        List<PlayerEntity> newPlayers = AssociationSupport.distinct(
+                AssociationSupport.findAllById(playerRepository::findWithLeaguesByIdIn, players, "player"));
+        Set<Long> newIds = AssociationSupport.ids(newPlayers);
+        Set<Long> currentIds = AssociationSupport.ids(league.getPlayers());
+        List<PlayerEntity> droppedPlayers = new ArrayList<>();
+        for (PlayerEntity player : league.getPlayers()) {
+            if (!newIds.contains(player.getId())) {
+                droppedPlayers.add(player);
             }
-            if (!leagueEntity.get().getPlayers().contains(playerEntity.get())) {
-                leagueEntity.get().getPlayers().add(playerEntity.get());
+        }
+        AssociationSupport.findAllById(playerRepository::findWithLeaguesByIdIn, droppedPlayers, "player");
+        for (PlayerEntity player : droppedPlayers) {
+            player.getLeagues().removeIf(l -> leagueId.equals(l.getId()));
+        }
+        league.getPlayers().removeIf(p -> !newIds.contains(p.getId()));
+        for (PlayerEntity player : newPlayers) {
+            if (!currentIds.contains(player.getId())) {
+                player.getLeagues().add(league);
+                league.getPlayers().add(player);
             }
         }
-        leagueEntity.get().setPlayers(players);
         log.info("Finish the process of replacing the players associated with the league with ID = {0}.", leagueId);
         return leagueEntity.get().getPlayers();
     }
@@ -116,7 +147,7 @@ public class LeaguePlayerService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + Long.toString(playerId) + " was not found.");
         }
-        if (!leagueEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndLeaguesId(playerId, leagueId)) {
             throw new IllegalOperationException("The player is not associated with the league.");
         }
         leagueEntity.get().getPlayers().remove(playerEntity.get());
@@ -0,0 +1,348 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.Elo;
+import co.edu.uniandes.dse.ligaajedrez.chess.GameResult;
+import co.edu.uniandes.dse.ligaajedrez.chess.Glicko2;
+import co.edu.uniandes.dse.ligaajedrez.chess.RatingPeriod;
+import co.edu.uniandes.dse.ligaajedrez.entities.GlickoRating;
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingRunEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.RatedGame;
+import co.edu.uniandes.dse.ligaajedrez.repositories.RatingRunRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Recomputes the Glicko-2 ratings of a league from all its games, which is how
+ * corrections to old results reach every later rating. A run splits the games
+ * into periods of a fixed number of days from the first one and rates each
+ * period on the common fork/join pool (see RatingPeriod). The ratings after each
+ * period are saved with the run in one transaction, so a run that failed or was
+ * cut short by a restart resumes from its last completed period when the league
+ * is rated again. Each saved period records a fingerprint of the games rated so
+ * far; a run whose games were corrected since starts over from the first period,
+ * and one that meets games played after its last period rates them too. The
+ * league's ratings switch to those of a run in the single transaction that
+ * completes it; until then the previous run stays current.
+ *
+ * Runs go one at a time on a background thread and report their progress and
+ * throughput in games per second.
+ */
+@Slf4j
+@Service
+public class LeagueRatingService {
+    static final int MAX_PERIOD_DAYS = 366;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private RatingRunRepository ratingRunRepository;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "league-rater");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /*
+     * Starts rating the league in the background, or resumes its latest run that
+     * did not complete, which must have the period length asked. The answer is
+     * the run, to be polled until it is completed.
+     */
+    public synchronized RatingRunEntity startRun(Long leagueId, int periodDays) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of rating the league with ID = {0}.", leagueId);
+        if (leagueId == null || leagueId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (periodDays < 1 || periodDays > MAX_PERIOD_DAYS) {
+            throw new IllegalOperationException("The rating period must be between 1 and " + MAX_PERIOD_DAYS + " days.");
+        }
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new EntityNotFoundException("The league with ID = " + leagueId + " was not found.");
+        }
+        Optional<RatingRunEntity> unfinished = ratingRunRepository.findFirstByLeagueIdAndStatusNotOrderByIdDesc(leagueId, RatingRunEntity.Status.COMPLETED);
+        if (unfinished.isPresent() && unfinished.get().getPeriodDays() != periodDays) {
+            throw new IllegalOperationException("The league has a rating run of " + unfinished.get().getPeriodDays()
+                    + " days per period that did not complete, which must be resumed first.");
+        }
+        RatingRunEntity run = retryExecutor.execute(status -> {
+            Optional<RatingRunEntity> resumed = ratingRunRepository.findFirstByLeagueIdAndStatusNotOrderByIdDesc(leagueId, RatingRunEntity.Status.COMPLETED);
+            if (resumed.isPresent()) {
+                resumed.get().setStatus(RatingRunEntity.Status.RUNNING);
+                return ratingRunRepository.saveAndFlush(resumed.get());
+            }
+            return ratingRunRepository.saveAndFlush(newRun(leagueId, periodDays));
+        });
+        if (active.add(run.getId())) {
+            runner.execute(() -> run(run.getId()));
+        }
+        log.info("Finish the process of rating the league with ID = {0}.", leagueId);
+        return run;
+    }
+
+    private RatingRunEntity newRun(Long leagueId, int periodDays) {
+        RatingRunEntity run = new RatingRunEntity();
+        run.setLeagueId(leagueId);
+        run.setStatus(RatingRunEntity.Status.RUNNING);
+        run.setPeriodDays(periodDays);
+        restart(run);
+        run.setStartedAt(new Date());
+        return run;
+    }
+
+    // Plans the run from its first period over the games the league has now.
+    private void restart(RatingRunEntity run) {
+        run.setOrigin(gameRepository.findFirstRatedDateByLeagueId(run.getLeagueId()));
+        run.setPeriods(periods(run, gameRepository.findLastRatedDateByLeagueId(run.getLeagueId())));
+        run.setCompletedPeriods(0);
+        run.setFingerprint(0L);
+        run.getRatings().clear();
+    }
+
+    /*
+     * Restarts the run if the games of its completed periods changed since they
+     * were rated, and otherwise stretches it to the games played after its last
+     * period.
+     */
+    private void refresh(RatingRunEntity run) {
+        if (run.getOrigin() == null || run.getCompletedPeriods() == 0
+                || gameRepository.findRatedFingerprintByLeagueId(run.getLeagueId(), end(run, run.getCompletedPeriods())) != run.getFingerprint()) {
+            restart(run);
+            return;
+        }
+        run.setPeriods(Math.max(run.getCompletedPeriods(), periods(run, gameRepository.findLastRatedDateByLeagueId(run.getLeagueId()))));
+    }
+
+    // The periods from the origin of the run that reach the last game.
+    private static int periods(RatingRunEntity run, Date last) {
+        if (run.getOrigin() == null || last == null) {
+            return 0;
+        }
+        return (int) (ChronoUnit.DAYS.between(day(run.getOrigin()), day(last)) / run.getPeriodDays()) + 1;
+    }
+
+    // The day after the given number of periods of the run.
+    private static java.sql.Date end(RatingRunEntity run, int periods) {
+        return java.sql.Date.valueOf(day(run.getOrigin()).plusDays((long) periods * run.getPeriodDays()));
+    }
+
+    @Transactional(readOnly = true)
+    public RatingRunEntity getRun(Long leagueId, Long runId) throws EntityNotFoundException {
+        log.info("Start the process of querying the rating run with ID = {0}.", runId);
+        Optional<RatingRunEntity> run = runId == null ? Optional.empty() : ratingRunRepository.findById(runId);
+        if (run.isEmpty() || !run.get().getLeagueId().equals(leagueId)) {
+            throw new EntityNotFoundException("The rating run with ID = " + runId + " was not found.");
+        }
+        log.info("Finish the process of querying the rating run with ID = {0}.", runId);
+        return run.get();
+    }
+
+    // The ratings of the players of the league by its current run, best first; none before a run completes.
+    @Transactional(readOnly = true)
+    public Map<Long, GlickoRating> getRatings(Long leagueId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying the ratings of the league with ID = {0}.", leagueId);
+        if (leagueId == null || leagueId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new EntityNotFoundException("The league with ID = " + leagueId + " was not found.");
+        }
+        Map<Long, GlickoRating> ratings = new LinkedHashMap<>();
+        ratingRunRepository.findByLeagueIdAndCurrentTrue(leagueId).ifPresent(run -> run.getRatings().entrySet().stream()
+                .sorted(Map.Entry.<Long, GlickoRating>comparingByValue(Comparator.comparingDouble(GlickoRating::getRating).reversed())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> ratings.put(entry.getKey(), entry.getValue())));
+        log.info("Finish the process of querying the ratings of the league with ID = {0}.", leagueId);
+        return ratings;
+    }
+
+    void run(Long runId) {
+        try {
+            RatingRunEntity run = retryExecutor.execute(status -> {
+                RatingRunEntity entity = ratingRunRepository.findById(runId).orElseThrow();
+                refresh(entity);
+                entity.getRatings().size();
+                return entity;
+            });
+            Map<Long, double[]> ratings = new HashMap<>();
+            run.getRatings().forEach((playerId, rating) -> ratings.put(playerId,
+                    new double[] { rating.getRating(), rating.getDeviation(), rating.getVolatility() }));
+            while (run.getStatus() != RatingRunEntity.Status.COMPLETED) {
+                if (run.getCompletedPeriods() < run.getPeriods()) {
+                    run = ratePeriod(run, ratings);
+                } else {
+                    run = retryExecutor.execute(status -> complete(runId));
+                }
+                // The run started over on a correction.
+                if (run.getCompletedPeriods() == 0) {
+                    ratings.clear();
+                }
+            }
+            log.info("Rating run {} completed: {} games in {} ms, {} games/s.", runId, run.getGames(), run.getElapsedMillis(),
+                    run.getGames() * 1000 / Math.max(1, run.getElapsedMillis()));
+        } catch (RuntimeException e) {
+            log.error("The rating run with ID = {} failed.", runId, e);
+            fail(runId);
+        } finally {
+            active.remove(runId);
+        }
+    }
+
+    // Rates the next period of the run and saves it; returns the run as saved.
+    private RatingRunEntity ratePeriod(RatingRunEntity run, Map<Long, double[]> ratings) {
+        long start = System.nanoTime();
+        int completed = run.getCompletedPeriods() + 1;
+        java.sql.Date from = end(run, run.getCompletedPeriods());
+        java.sql.Date to = end(run, completed);
+        // Taken before the games are read, so a correction made while they are rated is caught by the next period.
+        long fingerprint = gameRepository.findRatedFingerprintByLeagueId(run.getLeagueId(), to);
+        int rated = ratePeriod(ratings, gameRepository.findRatedByLeagueId(run.getLeagueId(), from, to));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        RatingRunEntity saved = retryExecutor.execute(status -> save(run.getId(), ratings, completed, fingerprint, rated, elapsedMillis));
+        log.info("Rating run {}: period {} of {} rated, {} games at {} games/s.", run.getId(), completed, saved.getPeriods(), rated,
+                rated * 1000 / Math.max(1, elapsedMillis));
+        return saved;
+    }
+
+    // Rates the players over one period, adding those who play for the first time; returns the games rated.
+    private static int ratePeriod(Map<Long, double[]> ratings, List<RatedGame> games) {
+        List<Long> players = new ArrayList<>(ratings.keySet());
+        Map<Long, Integer> numbers = new HashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            numbers.put(players.get(i), i);
+        }
+        List<int[]> pairs = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        for (RatedGame game : games) {
+            GameResult result = GameResult.parse(game.getResult());
+            if (result == null || game.getWhiteId().equals(game.getBlackId())) {
+                continue;
+            }
+            pairs.add(new int[] { number(game.getWhiteId(), players, numbers), number(game.getBlackId(), players, numbers) });
+            scores.add(Elo.whiteScore(result));
+        }
+        RatingPeriod period = new RatingPeriod(players.size());
+        for (int i = 0; i < pairs.size(); i++) {
+            period.addGame(pairs.get(i)[0], pairs.get(i)[1], scores.get(i));
+        }
+        double[][] state = new double[players.size()][];
+        for (int i = 0; i < players.size(); i++) {
+            double[] rating = ratings.get(players.get(i));
+            state[i] = rating != null ? rating : new double[] { Glicko2.INITIAL_RATING, Glicko2.INITIAL_DEVIATION, Glicko2.INITIAL_VOLATILITY };
+        }
+        period.rate(state, Glicko2.TAU, ForkJoinPool.commonPool());
+        for (int i = 0; i < players.size(); i++) {
+            ratings.put(players.get(i), state[i]);
+        }
+        return period.games();
+    }
+
+    private static int number(Long playerId, List<Long> players, Map<Long, Integer> numbers) {
+        return numbers.computeIfAbsent(playerId, id -> {
+            players.add(id);
+            return players.size() - 1;
+        });
+    }
+
+    /*
+     * Saves the ratings after a period, unless the games of the periods before it
+     * changed since they were rated, in which case the run starts over.
+     */
+    private RatingRunEntity save(Long runId, Map<Long, double[]> ratings, int completedPeriods, long fingerprint, int games, long elapsedMillis) {
+        RatingRunEntity run = ratingRunRepository.findById(runId).orElseThrow();
+        run.setGames(run.getGames() + games);
+        run.setElapsedMillis(run.getElapsedMillis() + elapsedMillis);
+        if (gameRepository.findRatedFingerprintByLeagueId(run.getLeagueId(), end(run, completedPeriods - 1)) != run.getFingerprint()) {
+            restart(run);
+            return run;
+        }
+        ratings.forEach((playerId, rating) -> run.getRatings().put(playerId,
+                new GlickoRating(rating[Glicko2.RATING], rating[Glicko2.DEVIATION], rating[Glicko2.VOLATILITY])));
+        run.setCompletedPeriods(completedPeriods);
+        run.setFingerprint(fingerprint);
+        run.setPeriods(Math.max(completedPeriods, periods(run, gameRepository.findLastRatedDateByLeagueId(run.getLeagueId()))));
+        return run;
+    }
+
+    /*
+     * Makes the run the league's current one; the ratings switch with this
+     * commit. A run whose games changed or grew since its last period is left to
+     * rate them first.
+     */
+    private RatingRunEntity complete(Long runId) {
+        RatingRunEntity run = ratingRunRepository.findById(runId).orElseThrow();
+        refresh(run);
+        if (run.getCompletedPeriods() < run.getPeriods()) {
+            return run;
+        }
+        ratingRunRepository.clearCurrent(run.getLeagueId());
+        run = ratingRunRepository.findById(runId).orElseThrow();
+        run.setStatus(RatingRunEntity.Status.COMPLETED);
+        run.setCurrent(true);
+        run.setFinishedAt(new Date());
+        return run;
+    }
+
+    private void fail(Long runId) {
+        try {
+            retryExecutor.execute(status -> {
+                ratingRunRepository.findById(runId).ifPresent(run -> run.setStatus(RatingRunEntity.Status.FAILED));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("The rating run with ID = {} could not be marked as failed.", runId, e);
+        }
+    }
+
+    private static LocalDate day(Date date) {
+        if (date instanceof java.sql.Date) {
+            return ((java.sql.Date) date).toLocalDate();
+        }
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    // Waits until the runs started so far are over.
+    void awaitRuns() throws InterruptedException, ExecutionException {
+        runner.submit(() -> {
+        }).get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+}
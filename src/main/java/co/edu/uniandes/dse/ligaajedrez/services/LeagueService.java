@@ -1,17 +1,30 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.EntityManagerFactory;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.LeagueEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.AdministratorRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.AdministratorSummary;
 import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.RatingRunRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentSummary;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -20,36 +33,89 @@ public class LeagueService {
     @Autowired
     LeagueRepository leagueRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlayerRepository playerRepository;
+
+    @Autowired
+    TournamentRepository tournamentRepository;
+
+    @Autowired
+    AdministratorRepository administratorRepository;
+
+    @Autowired
+    RatingRunRepository ratingRunRepository;
+
     @Transactional
     public LeagueEntity createLeague(LeagueEntity leagueEntity) throws IllegalOperationException {
         log.info("Start the league creation process.");
-        if (leagueEntity.getId() == null || leagueEntity.getId() == 0L) {
-            throw new IllegalOperationException("The ID cannot be null or empty.");
-        }
         try {
             log.info("Finish the league creation process.");
-            return leagueRepository.save(leagueEntity);
+            return leagueRepository.saveAndFlush(leagueEntity);
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<LeagueEntity> getLeagues() {
         log.info("Start the process of querying all leagues.");
         return leagueRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public List<LeagueSummary> getLeagueSummaries() {
+        log.info("Start the process of querying the summaries of all leagues.");
+        return leagueRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<LeagueSummary> getLeagueSummaries(Long afterId, int size) throws IllegalOperationException {
+        log.info("Start the process of querying a page of league summaries.");
+        return leagueRepository.findSummaryPage(KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayerSummary> getPlayerSummaries(Collection<Long> leagueIds) {
+        log.info("Start the process of querying the player summaries of {0} leagues.", leagueIds.size());
+        if (leagueIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return playerRepository.findSummariesByLeagueIds(leagueIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TournamentSummary> getTournamentSummaries(Collection<Long> leagueIds) {
+        log.info("Start the process of querying the tournament summaries of {0} leagues.", leagueIds.size());
+        if (leagueIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return tournamentRepository.findSummariesByLeagueIds(leagueIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AdministratorSummary> getAdministratorSummaries(Collection<Long> leagueIds) {
+        log.info("Start the process of querying the administrator summaries of {0} leagues.", leagueIds.size());
+        if (leagueIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return administratorRepository.findSummariesByLeagueIds(leagueIds);
+    }
+
+    @Transactional(readOnly = true)
     public LeagueEntity getLeague(Long leagueId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the league with ID = {0}.", leagueId);
         if (leagueId == null || leagueId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<LeagueEntity> leagueEntity = leagueRepository.findById(leagueId);
+        Optional<LeagueEntity> leagueEntity = leagueRepository.findWithTournamentsById(leagueId);
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + leagueId + " was not found.");
         }
+        leagueRepository.findWithPlayersById(leagueId);
+        leagueRepository.findWithAdministratorsById(leagueId);
         log.info("Finish the process of querying the league with ID = {0}.", leagueId);
         return leagueEntity.get();
     }
@@ -60,17 +126,14 @@ public class LeagueService {
         if (leagueId == null || leagueId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<LeagueEntity> leagueEntity = leagueRepository.findById(leagueId);
-        if (leagueEntity.isEmpty()) {
-            throw new EntityNotFoundException("The league with ID = " + leagueId + " was not found.");
-        }
-        league.setId(leagueId);
+        CacheEvictions.evictAfterCommit(entityManagerFactory, LeagueEntity.class, leagueId);
         try {
-            log.info("Finish the process of updating the league with ID = {0}.", leagueId);
-            return leagueRepository.saveAndFlush(league);
+            UpdateSupport.requireUpdated(leagueRepository.update(leagueId, league), leagueRepository, leagueId, "league");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        log.info("Finish the process of updating the league with ID = {0}.", leagueId);
+        return leagueRepository.findById(leagueId).get();
     }
 
     @Transactional
@@ -83,7 +146,9 @@ public class LeagueService {
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + leagueId + " was not found.");
         }
+        ratingRunRepository.deleteAll(ratingRunRepository.findByLeagueId(leagueId));
         leagueRepository.deleteById(leagueId);
+        CacheEvictions.evictAfterCommit(entityManagerFactory, LeagueEntity.class, leagueId);
         log.info("Finish the process of deleting the league with ID = {0}.", leagueId);
     }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,12 +39,13 @@ public class LeagueTournamentService {
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + Long.toString(tournamentId) + " was not found.");
         }
+        tournamentEntity.get().setLeague(leagueEntity.get());
         leagueEntity.get().getTournaments().add(tournamentEntity.get());
         log.info("Finish the process of associating the tournament with ID {0} to the league with ID {1}.", tournamentId, leagueId);
         return tournamentEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<TournamentEntity> getTournaments(Long leagueId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all tournaments of the league with ID {0}.", leagueId);
         if (leagueId == null || leagueId == 0L) {
@@ -57,7 +59,20 @@ public class LeagueTournamentService {
         return leagueEntity.get().getTournaments();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<TournamentEntity> getTournaments(Long leagueId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of tournaments of the league with ID {0}.", leagueId);
+        if (leagueId == null || leagueId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId) + " was not found.");
+        }
+        log.info("Finish the process of querying a page of tournaments of the league with ID {0}.", leagueId);
+        return tournamentRepository.findPageByLeagueId(leagueId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public TournamentEntity getTournament(Long tournamentId, Long leagueId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the tournament with ID {0} in the league with ID {1}.", tournamentId, leagueId);
         if (tournamentId == null || tournamentId == 0L || leagueId == null || leagueId == 0L) {
@@ -71,7 +86,7 @@ public class LeagueTournamentService {
         if (leagueEntity.isEmpty()) {
             throw new EntityNotFoundException("The league with ID = " + Long.toString(leagueId) + " was not found.");
         }
-        if (!leagueEntity.get().getTournaments().contains(tournamentEntity.get())) {
+        if (!tournamentRepository.existsByIdAndLeagueId(tournamentId, leagueId)) {
             throw new IllegalOperationException("The tournament is not associated with the league.");
         }
         log.info("Finish the process of querying the tournament with ID {0} in the league with ID {1}.", tournamentId, leagueId);
@@ -114,7 +129,7 @@ public class LeagueTournamentService {
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + Long.toString(tournamentId) + " was not found.");
         }
-        if (!leagueEntity.get().getTournaments().contains(tournamentEntity.get())) {
+        if (!tournamentRepository.existsByIdAndLeagueId(tournamentId, leagueId)) {
             throw new IllegalOperationException("The tournament is not associated with the league.");
         }
         leagueEntity.get().getTournaments().remove(tournamentEntity.get());
@@ -42,7 +42,7 @@ public class MovePlayerService {
         return moveEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PlayerEntity getPlayer(Long moveId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the player of the move with ID {0}", moveId);
         if (moveId == null || moveId == 0L) {
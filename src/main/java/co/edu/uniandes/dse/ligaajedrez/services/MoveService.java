@@ -4,47 +4,72 @@ import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import javax.persistence.EntityManagerFactory;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.MoveRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.OpeningRepository;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
 public class MoveService {
+    /*
+     * A move stored on its own has no board, so only its SAN syntax can be checked
+     * here; GameMoveService checks it against the position when it joins a game.
+     * The move of a game is mirrored in the game's move data and indexes, so it
+     * only changes through GameMoveService. The openings a move is in are
+     * announced as changed, so the opening trie is rebuilt and the games
+     * reclassified (see OpeningClassifier).
+     */
+    private static final Pattern NOTATION = Pattern.compile("^([KQRBNP]?[a-h]?[1-8]?x?[a-h][1-8](=[KQRBNP])?[+#!]?|O-O(-O)?[+#!]?)$");
+
     @Autowired
     MoveRepository moveRepository;
 
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    OpeningRepository openingRepository;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @Transactional
     public MoveEntity createMove(MoveEntity moveEntity) throws IllegalOperationException {
         log.info("Start the move creation process.");
-        if (moveEntity.getId() == null || moveEntity.getId() == 0L) {
-            throw new IllegalOperationException("The ID cannot be null or empty.");
-        }
         if (moveEntity.getNotation() == null || !isValidChessNotation(moveEntity.getNotation())) {
             throw new IllegalOperationException("Invalid Notation");
         }
         try {
             log.info("Finish the move creation process.");
-            return moveRepository.save(moveEntity);
+            return moveRepository.saveAndFlush(moveEntity);
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MoveEntity> getMoves() {
         log.info("Start the process of querying all moves.");
         return moveRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public MoveEntity getMove(Long moveId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the move with ID = {0}.", moveId);
         if (moveId == null || moveId == 0L) {
@@ -64,20 +89,24 @@ public class MoveService {
         if (moveId == null || moveId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<MoveEntity> moveEntity = moveRepository.findById(moveId);
-        if (moveEntity.isEmpty()) {
-            throw new EntityNotFoundException("The move with ID = " + moveId + " was not found.");
-        }
         if (move.getNotation() == null || !isValidChessNotation(move.getNotation())) {
+            UpdateSupport.requireExists(moveRepository, moveId, "move");
             throw new IllegalOperationException("Invalid Notation");
         }
-        move.setId(moveId);
+        if (gameRepository.existsByMovesId(moveId)) {
+            throw inGame(moveId);
+        }
+        CacheEvictions.evictAfterCommit(entityManagerFactory, MoveEntity.class, moveId);
         try {
-            log.info("Finish the process of updating the move with ID = {0}.", moveId);
-            return moveRepository.saveAndFlush(move);
+            UpdateSupport.requireUpdated(moveRepository.update(moveId, move), moveRepository, moveId, "move");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        for (OpeningEntity opening : openingRepository.findByMovesId(moveId)) {
+            eventPublisher.publishEvent(new OpeningCatalogueChangedEvent(opening.getId()));
+        }
+        log.info("Finish the process of updating the move with ID = {0}.", moveId);
+        return moveRepository.findById(moveId).get();
     }
 
     @Transactional
@@ -90,12 +119,24 @@ public class MoveService {
         if (moveEntity.isEmpty()) {
             throw new EntityNotFoundException("The move with ID = " + moveId + " was not found.");
         }
+        if (gameRepository.existsByMovesId(moveId)) {
+            throw inGame(moveId);
+        }
+        // The openings lose the move first, so the join rows do not outlive it.
+        for (OpeningEntity opening : openingRepository.findByMovesId(moveId)) {
+            opening.getMoves().remove(moveEntity.get());
+            eventPublisher.publishEvent(new OpeningCatalogueChangedEvent(opening.getId()));
+        }
         moveRepository.deleteById(moveId);
+        CacheEvictions.evictAfterCommit(entityManagerFactory, MoveEntity.class, moveId);
         log.info("Finish the process of deleting the move with ID = {0}.", moveId);
     }
 
+    private static IllegalOperationException inGame(Long moveId) {
+        return new IllegalOperationException("The move with ID = " + moveId + " belongs to a game; change it through the moves of the game.");
+    }
+
     public boolean isValidChessNotation(String notation) {
-        final String REGEX = "^([KQRBNP]?[a-h]?[1-8]?x?[a-h][1-8](=[KQRBNP])?[+#!]?|O-O(-O)?[+#!]?)$";
-        return Pattern.matches(REGEX, notation);
+        return NOTATION.matcher(notation).matches();
     }
 }
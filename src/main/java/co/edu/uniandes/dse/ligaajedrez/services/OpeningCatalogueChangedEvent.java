@@ -0,0 +1,18 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+/*
+ * Published when the moves of an opening change or an opening is deleted, so
+ * the opening trie is rebuilt and the games are classified again once the change
+ * commits.
+ */
+final class OpeningCatalogueChangedEvent {
+    private final Long openingId;
+
+    OpeningCatalogueChangedEvent(Long openingId) {
+        this.openingId = openingId;
+    }
+
+    Long getOpeningId() {
+        return openingId;
+    }
+}
@@ -0,0 +1,208 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.chess.OpeningTrie;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameOpening;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.OpeningRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Classifies games by opening with a trie of the moves of every opening. The
+ * trie is built on first use and dropped when the catalogue changes; the change
+ * also starts a reclassification of every game in the background, in batches
+ * run in parallel, each in its own transaction.
+ *
+ * A game gets the deepest opening its moves reach. When they reach none, an
+ * opening set by the classifier is cleared, while one set by hand is kept.
+ */
+@Slf4j
+@Service
+public class OpeningClassifier {
+    static final int RECLASSIFY_BATCH_SIZE = 500;
+    static final int RECLASSIFY_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    @Autowired
+    private OpeningRepository openingRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    private volatile OpeningTrie trie;
+    // Bumped on every catalogue change, so a trie built from the old catalogue is not published.
+    private volatile long generation;
+
+    private final ExecutorService reclassifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "opening-reclassifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean reclassificationPending = new AtomicBoolean();
+
+    void classify(GameEntity game) {
+        long openingId = trie().classify(game.getMoveData());
+        if (openingId == OpeningTrie.NONE) {
+            if (game.isOpeningClassified()) {
+                game.setOpening(null);
+                game.setOpeningClassified(false);
+            }
+            return;
+        }
+        if (game.getOpening() != null && game.getOpening().getId() == openingId) {
+            return;
+        }
+        openingRepository.findById(openingId).ifPresent(opening -> {
+            game.setOpening(opening);
+            game.setOpeningClassified(true);
+        });
+    }
+
+    // A move played past the longest opening cannot change the game's opening, so it is not classified again.
+    void classifyAppended(GameEntity game) {
+        if (MoveCodec.plies(game.getMoveData()) <= trie().depth()) {
+            classify(game);
+        }
+    }
+
+    OpeningTrie trie() {
+        OpeningTrie current = trie;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (trie == null) {
+                long builtAt = generation;
+                OpeningTrie built = build();
+                if (builtAt != generation) {
+                    return built;
+                }
+                trie = built;
+            }
+            return trie;
+        }
+    }
+
+    private OpeningTrie build() {
+        OpeningTrie built = new OpeningTrie();
+        for (OpeningEntity opening : openingRepository.findAllWithMoves()) {
+            List<String> notations = new ArrayList<>();
+            for (MoveEntity move : opening.getMoves()) {
+                notations.add(move.getNotation());
+            }
+            try {
+                built.add(MoveCodec.fromSan(notations), opening.getId());
+            } catch (IllegalMoveException e) {
+                log.warn("The moves of the opening with ID = {} are not a legal sequence; it is left out of the classification.", opening.getId());
+            }
+        }
+        return built;
+    }
+
+    synchronized void invalidate() {
+        generation++;
+        trie = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogueChanged(OpeningCatalogueChangedEvent event) {
+        log.info("The opening with ID = {} changed; reclassifying the games.", event.getOpeningId());
+        invalidate();
+        if (reclassificationPending.compareAndSet(false, true)) {
+            reclassifier.execute(() -> {
+                reclassificationPending.set(false);
+                try {
+                    reclassifyGames();
+                } catch (RuntimeException e) {
+                    log.error("The reclassification of the games failed.", e);
+                }
+            });
+        }
+    }
+
+    /*
+     * Classifies every game again with the current trie. Batches of game IDs are
+     * classified in parallel; a batch that loses a version check to a game being
+     * saved is retried from fresh rows. Returns how many games changed opening.
+     */
+    public int reclassifyGames() {
+        log.info("Start the process of reclassifying the openings of the games.");
+        OpeningTrie current = trie();
+        ExecutorService workers = Executors.newFixedThreadPool(RECLASSIFY_THREADS);
+        try {
+            List<Future<Integer>> batches = new ArrayList<>();
+            long afterId = Long.MIN_VALUE;
+            Slice<Long> ids;
+            do {
+                ids = gameRepository.findIdPage(afterId, PageRequest.of(0, RECLASSIFY_BATCH_SIZE));
+                if (!ids.hasContent()) {
+                    break;
+                }
+                List<Long> batch = ids.getContent();
+                batches.add(workers.submit(() -> retryExecutor.execute(status -> reclassifyBatch(current, batch))));
+                afterId = batch.get(batch.size() - 1);
+            } while (ids.hasNext());
+            int changed = 0;
+            for (Future<Integer> batch : batches) {
+                changed += batch.get();
+            }
+            log.info("Finish the process of reclassifying the openings of the games; {} changed.", changed);
+            return changed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The reclassification of the games was interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private int reclassifyBatch(OpeningTrie current, List<Long> ids) {
+        int changed = 0;
+        for (GameOpening game : gameRepository.findOpeningsByIdIn(ids)) {
+            long openingId = current.classify(game.getMoveData());
+            if (openingId == OpeningTrie.NONE ? game.getOpeningId() == null || !game.isOpeningClassified()
+                    : game.getOpeningId() != null && game.getOpeningId() == openingId) {
+                continue;
+            }
+            OpeningEntity opening = openingId == OpeningTrie.NONE ? null : openingRepository.getById(openingId);
+            if (gameRepository.updateOpening(game.getId(), game.getVersion(), opening, opening != null) == 0) {
+                throw new ObjectOptimisticLockingFailureException(GameEntity.class, game.getId());
+            }
+            changed++;
+        }
+        return changed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reclassifier.shutdownNow();
+    }
+}
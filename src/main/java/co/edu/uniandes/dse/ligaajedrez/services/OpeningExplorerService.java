@@ -0,0 +1,263 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.ExplorerMove;
+import co.edu.uniandes.dse.ligaajedrez.chess.ExplorerTree;
+import co.edu.uniandes.dse.ligaajedrez.chess.GameResult;
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.chess.Position;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameFingerprint;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRecord;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Answers which moves were played from a position and how those games ended,
+ * over all games, a tournament or a league. The explorer tree holds the counts
+ * per tournament and over all games; a league query merges the nodes of its
+ * tournaments, so moving a tournament to another league needs no update.
+ *
+ * The tree is loaded on first use, from the snapshot file when one is configured
+ * and still matches the games, and otherwise from the games themselves. Every
+ * committed game change then updates it in place: a change that only grows or
+ * shortens the moves touches only the plies past the common prefix. On shutdown
+ * the tree is written back to the snapshot, unless it was built while games kept
+ * changing: it may then miss some of those changes, so it is only used until the
+ * next start.
+ */
+@Slf4j
+@Service
+public class OpeningExplorerService {
+    static final int BUILD_BATCH_SIZE = 500;
+    private static final int MAX_BUILD_ATTEMPTS = 3;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Value("${ligaajedrez.explorer.snapshot:}")
+    private String snapshotPath;
+
+    private volatile ExplorerTree tree;
+    // Whether the tree was published although games changed while it was built.
+    private volatile boolean stale;
+    private final Object buildLock = new Object();
+    // Counts the changes seen, so a build that ran while games changed is not published.
+    private final AtomicLong changes = new AtomicLong();
+
+    @Transactional(readOnly = true)
+    public List<ExplorerMove> getMoves(String fen, List<String> moves, Long leagueId, Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of exploring the moves of a position.");
+        if (leagueId != null && tournamentId != null) {
+            throw new IllegalOperationException("Explore either a league or a tournament.");
+        }
+        Position position = PositionSupport.position(fen, moves);
+        List<Long> scopes = new ArrayList<>();
+        if (tournamentId != null) {
+            if (!tournamentRepository.existsById(tournamentId)) {
+                throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
+            }
+            scopes.add(tournamentId);
+        } else if (leagueId != null) {
+            if (!leagueRepository.existsById(leagueId)) {
+                throw new EntityNotFoundException("The league with ID = " + leagueId + " was not found.");
+            }
+            scopes.addAll(tournamentRepository.findIdsByLeagueId(leagueId));
+        } else {
+            scopes.add(ExplorerTree.ALL);
+        }
+        log.info("Finish the process of exploring the moves of a position.");
+        return tree().moves(position, scopes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        synchronized (buildLock) {
+            changes.incrementAndGet();
+            ExplorerTree current = tree;
+            if (current == null) {
+                return;
+            }
+            try {
+                apply(current, event.getBefore(), event.getAfter());
+            } catch (IllegalMoveException e) {
+                log.warn("The moves of the game with ID = {} are not a legal sequence; the explorer is rebuilt.", event.getGameId());
+                tree = null;
+            }
+        }
+    }
+
+    private static void apply(ExplorerTree tree, GameChangedEvent.State before, GameChangedEvent.State after) {
+        int fromPly = 0;
+        if (before != null && after != null && Objects.equals(before.getTournamentId(), after.getTournamentId())
+                && Objects.equals(before.getResult(), after.getResult())) {
+            fromPly = commonPlies(before.getMoveData(), after.getMoveData());
+        }
+        count(tree, before, fromPly, -1);
+        count(tree, after, fromPly, 1);
+    }
+
+    private static int commonPlies(byte[] first, byte[] second) {
+        int plies = Math.min(MoveCodec.plies(first), MoveCodec.plies(second));
+        for (int ply = 0; ply < plies; ply++) {
+            if (MoveCodec.code(first, ply) != MoveCodec.code(second, ply)) {
+                return ply;
+            }
+        }
+        return plies;
+    }
+
+    // Games without a known result are not counted.
+    private static void count(ExplorerTree tree, GameChangedEvent.State game, int fromPly, int delta) {
+        if (game == null) {
+            return;
+        }
+        GameResult result = GameResult.parse(game.getResult());
+        if (result == null) {
+            return;
+        }
+        tree.add(ExplorerTree.ALL, game.getMoveData(), fromPly, result, delta);
+        if (game.getTournamentId() != null) {
+            tree.add(game.getTournamentId(), game.getMoveData(), fromPly, result, delta);
+        }
+    }
+
+    ExplorerTree tree() {
+        ExplorerTree current = tree;
+        if (current != null) {
+            return current;
+        }
+        synchronized (buildLock) {
+            if (tree != null) {
+                return tree;
+            }
+            ExplorerTree loaded = readSnapshot();
+            if (loaded != null) {
+                stale = false;
+                tree = loaded;
+                return loaded;
+            }
+        }
+        for (int attempt = 1;; attempt++) {
+            long changesAtStart = changes.get();
+            ExplorerTree built = build();
+            synchronized (buildLock) {
+                if (tree != null) {
+                    return tree;
+                }
+                if (changesAtStart == changes.get() || attempt == MAX_BUILD_ATTEMPTS) {
+                    stale = changesAtStart != changes.get();
+                    if (stale) {
+                        log.warn("The games kept changing while the opening explorer was built; it is used, but not written to the snapshot.");
+                    }
+                    tree = built;
+                    return built;
+                }
+            }
+        }
+    }
+
+    void invalidate() {
+        synchronized (buildLock) {
+            tree = null;
+        }
+    }
+
+    private ExplorerTree build() {
+        log.info("Start the process of building the opening explorer.");
+        ExplorerTree built = new ExplorerTree();
+        long afterId = Long.MIN_VALUE;
+        Slice<GameRecord> page;
+        do {
+            page = gameRepository.findRecordPage(afterId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (GameRecord game : page) {
+                try {
+                    count(built, GameChangedEvent.State.of(game), 0, 1);
+                } catch (IllegalMoveException e) {
+                    log.warn("The moves of the game with ID = {} are not a legal sequence; it is left out of the explorer.", game.getId());
+                }
+                afterId = game.getId();
+            }
+        } while (page.hasNext());
+        log.info("Finish the process of building the opening explorer with {} positions.", built.size());
+        return built;
+    }
+
+    // The snapshot, if one is configured and was written when the games were as they are now.
+    private ExplorerTree readSnapshot() {
+        if (snapshotPath.isEmpty() || !Files.exists(Paths.get(snapshotPath))) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(Paths.get(snapshotPath)))))) {
+            GameFingerprint fingerprint = gameRepository.fingerprint();
+            if (input.readLong() != fingerprint.getCount() || input.readLong() != fingerprint.getVersions() || input.readLong() != fingerprint.getMaxId()) {
+                log.info("The opening explorer snapshot is out of date; the explorer is rebuilt.");
+                return null;
+            }
+            ExplorerTree loaded = ExplorerTree.read(input);
+            log.info("Loaded the opening explorer snapshot with {} positions.", loaded.size());
+            return loaded;
+        } catch (IOException e) {
+            log.warn("The opening explorer snapshot could not be read; the explorer is rebuilt.", e);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    void writeSnapshot() {
+        ExplorerTree current = tree;
+        if (snapshotPath.isEmpty() || current == null || stale) {
+            return;
+        }
+        Path target = Paths.get(snapshotPath);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            GameFingerprint fingerprint = gameRepository.fingerprint();
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+                output.writeLong(fingerprint.getCount());
+                output.writeLong(fingerprint.getVersions());
+                output.writeLong(fingerprint.getMaxId());
+                current.write(output);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote the opening explorer snapshot with {} positions.", current.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("The opening explorer snapshot could not be written.", e);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import co.edu.uniandes.dse.ligaajedrez.repositories.MoveRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.OpeningRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,9 @@ public class OpeningMoveService {
     @Autowired
     private MoveRepository moveRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public MoveEntity addMove(Long openingId, Long moveId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of associating the move with ID {0} to the opening with ID {1}.", moveId, openingId);
@@ -38,11 +43,12 @@ public class OpeningMoveService {
             throw new EntityNotFoundException("The move with ID = " + moveId + " was not found.");
         }
         openingEntity.get().getMoves().add(moveEntity.get());
+        eventPublisher.publishEvent(new OpeningCatalogueChangedEvent(openingId));
         log.info("Finish the process of associating the move with ID {0} to the opening with ID {1}.", moveId, openingId);
         return moveEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MoveEntity> getMoves(Long openingId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all moves of the opening with ID {0}.", openingId);
         if (openingId == null || openingId == 0L) {
@@ -56,7 +62,20 @@ public class OpeningMoveService {
         return openingEntity.get().getMoves();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<MoveEntity> getMoves(Long openingId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of moves of the opening with ID {0}.", openingId);
+        if (openingId == null || openingId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!openingRepository.existsById(openingId)) {
+            throw new EntityNotFoundException("The opening with ID = " + openingId + " was not found.");
+        }
+        log.info("Finish the process of querying a page of moves of the opening with ID {0}.", openingId);
+        return moveRepository.findPageByOpeningId(openingId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public MoveEntity getMove(Long moveId, Long openingId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the move with ID {0} in the opening with ID {1}.", moveId, openingId);
         if (moveId == null || moveId == 0L || openingId == null || openingId == 0L) {
@@ -70,7 +89,7 @@ public class OpeningMoveService {
         if (openingEntity.isEmpty()) {
             throw new EntityNotFoundException("The opening with ID = " + openingId + " was not found.");
         }
-        if (!openingEntity.get().getMoves().contains(moveEntity.get())) {
+        if (!openingRepository.existsByIdAndMovesId(openingId, moveId)) {
             throw new IllegalOperationException("The move is not associated with the opening.");
         }
         log.info("Finish the process of querying the move with ID {0} in the opening with ID {1}.", moveId, openingId);
@@ -87,13 +106,9 @@ public class OpeningMoveService {
         if (openingEntity.isEmpty()) {
             throw new EntityNotFoundException("The opening with ID = " + openingId + " was not found.");
         }
-        for (MoveEntity move : moves) {
-            Optional<MoveEntity> moveEntity = moveRepository.findById(move.getId());
-            if (moveEntity.isEmpty()) {
-                throw new EntityNotFoundException("The move with ID = " + move.getId() + " was not found.");
-            }
-        }
-        openingEntity.get().setMoves(moves);
+        List<MoveEntity> newMoves = AssociationSupport.findAllById(moveRepository::findAllById, moves, "move");
+        AssociationSupport.replaceInPlace(openingEntity.get().getMoves(), newMoves);
+        eventPublisher.publishEvent(new OpeningCatalogueChangedEvent(openingId));
         log.info("Finish the process of replacing the moves associated with the opening with ID = {0}.", openingId);
         return openingEntity.get().getMoves();
     }
@@ -112,10 +127,11 @@ public class OpeningMoveService {
         if (moveEntity.isEmpty()) {
             throw new EntityNotFoundException("The move with ID = " + moveId + " was not found.");
         }
-        if (!openingEntity.get().getMoves().contains(moveEntity.get())) {
+        if (!openingRepository.existsByIdAndMovesId(openingId, moveId)) {
             throw new IllegalOperationException("The move is not associated with the opening.");
         }
         openingEntity.get().getMoves().remove(moveEntity.get());
+        eventPublisher.publishEvent(new OpeningCatalogueChangedEvent(openingId));
         log.info("Finish the process of disassociating the move with ID {0} from the opening with ID {1}.", moveId, openingId);
     }
 }
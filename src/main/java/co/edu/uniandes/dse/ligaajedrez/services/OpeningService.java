@@ -3,7 +3,10 @@ package co.edu.uniandes.dse.ligaajedrez.services;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.EntityManagerFactory;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,27 +23,30 @@ public class OpeningService {
     @Autowired
     OpeningRepository openingRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public OpeningEntity createOpening(OpeningEntity openingEntity) throws IllegalOperationException {
         log.info("Start the opening creation process.");
-        if (openingEntity.getId() == null || openingEntity.getId() == 0L) {
-            throw new IllegalOperationException("The ID cannot be null or empty.");
-        }
         try {
             log.info("Finish the opening creation process.");
-            return openingRepository.save(openingEntity);
+            return openingRepository.saveAndFlush(openingEntity);
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<OpeningEntity> getOpenings() {
         log.info("Start the process of querying all openings.");
         return openingRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public OpeningEntity getOpening(Long openingId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the opening with ID = {0}.", openingId);
         if (openingId == null || openingId == 0L) {
@@ -60,17 +66,15 @@ public class OpeningService {
         if (openingId == null || openingId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<OpeningEntity> openingEntity = openingRepository.findById(openingId);
-        if (openingEntity.isEmpty()) {
-            throw new EntityNotFoundException("The opening with ID = " + openingId + " was not found.");
-        }
-        opening.setId(openingId);
+        CacheEvictions.evictAfterCommit(entityManagerFactory, OpeningEntity.class, openingId);
+        CacheEvictions.evictCollectionAfterCommit(entityManagerFactory, OpeningEntity.class, "moves", openingId);
         try {
-            log.info("Finish the process of updating the opening with ID = {0}.", openingId);
-            return openingRepository.saveAndFlush(opening);
+            UpdateSupport.requireUpdated(openingRepository.update(openingId, opening), openingRepository, openingId, "opening");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        log.info("Finish the process of updating the opening with ID = {0}.", openingId);
+        return openingRepository.findById(openingId).get();
     }
 
     @Transactional
@@ -84,6 +88,9 @@ public class OpeningService {
             throw new EntityNotFoundException("The opening with ID = " + openingId + " was not found.");
         }
         openingRepository.deleteById(openingId);
+        CacheEvictions.evictAfterCommit(entityManagerFactory, OpeningEntity.class, openingId);
+        CacheEvictions.evictCollectionAfterCommit(entityManagerFactory, OpeningEntity.class, "moves", openingId);
+        eventPublisher.publishEvent(new OpeningCatalogueChangedEvent(openingId));
         log.info("Finish the process of deleting the opening with ID = {0}.", openingId);
     }
 }
@@ -0,0 +1,58 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Runs the internal recomputation jobs (ratings, standings) in their own
+ * transaction and repeats the whole unit when it loses an optimistic version
+ * check to a concurrent writer. Each attempt starts from a fresh persistence
+ * context, so it reads the winner's rows instead of overwriting them. Writers
+ * never wait on each other's locks; a job that keeps losing gives up after
+ * MAX_ATTEMPTS and rethrows the last conflict.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+    static final int MAX_ATTEMPTS = 5;
+    static final long BASE_BACKOFF_MILLIS = 10;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public <T> T execute(TransactionCallback<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transaction.execute(work);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Optimistic conflict on attempt {}, retrying: {}", attempt, e.getMessage());
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    // Exponential backoff with jitter, so that two retrying jobs do not collide again.
+    private static void backOff(int attempt, OptimisticLockingFailureException cause) {
+        long bound = BASE_BACKOFF_MILLIS << (attempt - 1);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound / 2, bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/*
+ * A PGN export whose scope has been checked but whose games are not read yet:
+ * they are read from the database as they are written, once the response is
+ * ready to take them.
+ */
+@FunctionalInterface
+public interface PgnExport {
+    void writeTo(Writer writer) throws IOException;
+}
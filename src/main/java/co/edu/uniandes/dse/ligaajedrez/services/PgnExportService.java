@@ -0,0 +1,141 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.GameResult;
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.chess.PgnWriter;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameExport;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Exports the games of a game, a tournament or a league as PGN. The scope is
+ * checked when the export is asked for; the games are read when it is written,
+ * from a database cursor in their own read-only transaction, and each is
+ * formatted and written before the next is read. An export of any size holds one
+ * game in memory.
+ *
+ * A game whose stored moves no longer replay is left out with a warning rather
+ * than ending the export halfway.
+ */
+@Slf4j
+@Service
+public class PgnExportService {
+    private static final DateTimeFormatter PGN_DATE = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public PgnExport exportGame(Long gameId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of exporting the game with ID = {0}.", gameId);
+        requireId(gameId);
+        if (!gameRepository.existsById(gameId)) {
+            throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
+        }
+        log.info("Finish the process of exporting the game with ID = {0}.", gameId);
+        return export(() -> gameRepository.findExportById(gameId).stream());
+    }
+
+    public PgnExport exportTournament(Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of exporting the games of the tournament with ID = {0}.", tournamentId);
+        requireId(tournamentId);
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
+        }
+        log.info("Finish the process of exporting the games of the tournament with ID = {0}.", tournamentId);
+        return export(() -> gameRepository.streamExportsByTournamentId(tournamentId));
+    }
+
+    public PgnExport exportLeague(Long leagueId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of exporting the games of the league with ID = {0}.", leagueId);
+        requireId(leagueId);
+        if (!leagueRepository.existsById(leagueId)) {
+            throw new EntityNotFoundException("The league with ID = " + leagueId + " was not found.");
+        }
+        log.info("Finish the process of exporting the games of the league with ID = {0}.", leagueId);
+        return export(() -> gameRepository.streamExportsByLeagueId(leagueId));
+    }
+
+    private static void requireId(Long id) throws IllegalOperationException {
+        if (id == null || id == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+    }
+
+    // The export runs on whatever thread writes the response, so it opens its own transaction.
+    private PgnExport export(Supplier<Stream<GameExport>> games) {
+        return writer -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            try {
+                transaction.executeWithoutResult(status -> {
+                    PgnWriter pgn = new PgnWriter(writer);
+                    try (Stream<GameExport> stream = games.get()) {
+                        Iterator<GameExport> iterator = stream.iterator();
+                        while (iterator.hasNext()) {
+                            write(pgn, iterator.next());
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private static void write(PgnWriter pgn, GameExport game) throws IOException {
+        List<String> moves;
+        try {
+            moves = MoveCodec.toSan(game.getMoveData());
+        } catch (IllegalMoveException e) {
+            log.warn("The moves of the game with ID = {} are not a legal sequence; it is left out of the export.", game.getId());
+            return;
+        }
+        GameResult result = GameResult.parse(game.getResult());
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Event", game.getTournamentName());
+        tags.put("Site", game.getTournamentLocation());
+        if (game.getDate() != null) {
+            tags.put("Date", PGN_DATE.format(Instant.ofEpochMilli(game.getDate().getTime()).atZone(ZoneId.systemDefault())));
+        }
+        tags.put("White", game.getWhite());
+        tags.put("Black", game.getBlack());
+        if (game.getOpeningName() != null) {
+            tags.put("Opening", game.getOpeningName());
+        }
+        pgn.write(tags, moves, result == null ? "*" : result.pgn());
+    }
+}
@@ -0,0 +1,125 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * The progress of a PGN import, updated by the import thread as it goes and read
+ * by anyone polling it. A game that fails is counted and, up to MAX_ERRORS,
+ * reported with its number in the file; the other games are imported anyway.
+ */
+public class PgnImport {
+    static final int MAX_ERRORS = 100;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final Long id;
+    private final Long tournamentId;
+    private volatile Status status = Status.QUEUED;
+    private volatile String failure;
+    private final AtomicInteger gamesRead = new AtomicInteger();
+    private final AtomicInteger gamesImported = new AtomicInteger();
+    private final AtomicInteger gamesFailed = new AtomicInteger();
+    private final List<GameError> errors = new ArrayList<>();
+
+    PgnImport(Long id, Long tournamentId) {
+        this.id = id;
+        this.tournamentId = tournamentId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    // Why the import stopped, when it failed as a whole.
+    public String getFailure() {
+        return failure;
+    }
+
+    public int getGamesRead() {
+        return gamesRead.get();
+    }
+
+    public int getGamesImported() {
+        return gamesImported.get();
+    }
+
+    public int getGamesFailed() {
+        return gamesFailed.get();
+    }
+
+    // Games fail when they are read or when their batch is written, so the errors are sorted back into file order.
+    public List<GameError> getErrors() {
+        List<GameError> copy;
+        synchronized (errors) {
+            copy = new ArrayList<>(errors);
+        }
+        copy.sort(Comparator.comparingInt(GameError::getGame));
+        return copy;
+    }
+
+    boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void complete() {
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        failure = message;
+        status = Status.FAILED;
+    }
+
+    void gameRead() {
+        gamesRead.incrementAndGet();
+    }
+
+    void gamesImported(int count) {
+        gamesImported.addAndGet(count);
+    }
+
+    void gameFailed(int game, String message) {
+        gamesFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new GameError(game, message));
+            }
+        }
+    }
+
+    public static final class GameError {
+        private final int game;
+        private final String message;
+
+        GameError(int game, String message) {
+            this.game = game;
+            this.message = message;
+        }
+
+        // The number of the game in the file, from 1.
+        public int getGame() {
+            return game;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
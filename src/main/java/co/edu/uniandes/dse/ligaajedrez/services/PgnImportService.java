@@ -0,0 +1,364 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.chess.OpeningTrie;
+import co.edu.uniandes.dse.ligaajedrez.chess.PgnGame;
+import co.edu.uniandes.dse.ligaajedrez.chess.PgnReader;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerUsername;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Imports the games of a PGN file into a tournament. The upload is spooled to a
+ * temporary file and the request returns at once with the import, which is then
+ * polled for its progress. A single background thread reads the file one game at
+ * a time and writes the games in batches of IMPORT_BATCH_SIZE, each in its own
+ * transaction and as JDBC batches (see GameBatchInsert), so memory stays bounded
+ * by the batch whatever the size of the file.
+ *
+ * Each game has its moves checked and stored as move data with their position
+ * hashes and material, its opening classified and its White and Black players
+ * resolved by username. A game that fails any of that is reported and skipped; the rest of
+ * the file is imported anyway. Imported games reach the read models through the
+ * same GameChangedEvent as games saved one by one.
+ */
+@Slf4j
+@Service
+public class PgnImportService {
+    static final int IMPORT_BATCH_SIZE = 200;
+    static final int MAX_RETAINED_IMPORTS = 100;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private OpeningClassifier openingClassifier;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong importIds = new AtomicLong();
+    private final Map<Long, PgnImport> imports = new ConcurrentHashMap<>();
+    private final ExecutorService importer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pgn-importer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PgnImport startImport(Long tournamentId, InputStreamSource pgn) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of importing a PGN file into the tournament with ID = {0}.", tournamentId);
+        if (tournamentId == null || tournamentId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        Optional<TournamentEntity> tournamentEntity = tournamentRepository.findById(tournamentId);
+        if (tournamentEntity.isEmpty()) {
+            throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
+        }
+        Date tournamentDate = tournamentEntity.get().getDate();
+        Path spool = spool(pgn);
+        PgnImport pgnImport = new PgnImport(importIds.incrementAndGet(), tournamentId);
+        retain(pgnImport);
+        importer.execute(() -> {
+            try (Reader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                importGames(pgnImport, tournamentDate, reader);
+            } catch (IOException | RuntimeException e) {
+                log.error("The import with ID = {} failed.", pgnImport.getId(), e);
+                pgnImport.fail("The PGN file could not be imported: " + e.getMessage());
+            } finally {
+                delete(spool);
+            }
+        });
+        log.info("Finish the process of importing a PGN file into the tournament with ID = {0}.", tournamentId);
+        return pgnImport;
+    }
+
+    public PgnImport getImport(Long tournamentId, Long importId) throws EntityNotFoundException {
+        log.info("Start the process of querying the import with ID = {0}.", importId);
+        PgnImport pgnImport = importId == null ? null : imports.get(importId);
+        if (pgnImport == null || !pgnImport.getTournamentId().equals(tournamentId)) {
+            throw new EntityNotFoundException("The import with ID = " + importId + " was not found.");
+        }
+        log.info("Finish the process of querying the import with ID = {0}.", importId);
+        return pgnImport;
+    }
+
+    private static Path spool(InputStreamSource pgn) throws IllegalOperationException {
+        Path spool = null;
+        try (InputStream input = pgn.getInputStream()) {
+            spool = Files.createTempFile("pgn-import", ".pgn");
+            Files.copy(input, spool, StandardCopyOption.REPLACE_EXISTING);
+            return spool;
+        } catch (IOException e) {
+            delete(spool);
+            throw new IllegalOperationException("The PGN file could not be read.");
+        }
+    }
+
+    private static void delete(Path spool) {
+        if (spool == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("The temporary file {} could not be deleted.", spool, e);
+        }
+    }
+
+    // Keeps the latest imports to be polled, dropping the oldest finished ones.
+    private void retain(PgnImport pgnImport) {
+        imports.put(pgnImport.getId(), pgnImport);
+        if (imports.size() > MAX_RETAINED_IMPORTS) {
+            imports.values().stream().filter(PgnImport::isFinished).mapToLong(PgnImport::getId).min().ifPresent(imports::remove);
+        }
+    }
+
+    void importGames(PgnImport pgnImport, Date tournamentDate, Reader reader) throws IOException {
+        pgnImport.start();
+        PgnReader pgn = new PgnReader(reader);
+        List<ImportedGame> batch = new ArrayList<>();
+        for (PgnGame game = pgn.next(); game != null; game = pgn.next()) {
+            pgnImport.gameRead();
+            try {
+                batch.add(prepare(game, pgnImport.getTournamentId(), tournamentDate));
+            } catch (IllegalOperationException e) {
+                pgnImport.gameFailed(game.getNumber(), e.getMessage());
+            }
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                write(pgnImport, batch);
+                batch.clear();
+            }
+        }
+        write(pgnImport, batch);
+        pgnImport.complete();
+        log.info("Finished the import with ID = {}: {} games imported, {} failed.", pgnImport.getId(), pgnImport.getGamesImported(), pgnImport.getGamesFailed());
+    }
+
+    private ImportedGame prepare(PgnGame game, Long tournamentId, Date tournamentDate) throws IllegalOperationException {
+        GameEntity entity = new GameEntity();
+        try {
+            entity.setMoveData(MoveCodec.fromSan(game.getMoves(), entity.getPositionHashes()));
+            GameMaterialService.index(entity);
+        } catch (IllegalMoveException e) {
+            throw new IllegalOperationException(e.getMessage());
+        }
+        entity.setResult(result(game));
+        entity.setDate(date(game.getTag("Date"), tournamentDate));
+        TournamentEntity tournament = new TournamentEntity();
+        tournament.setId(tournamentId);
+        entity.setTournament(tournament);
+        return new ImportedGame(game.getNumber(), entity, username(game, "White"), username(game, "Black"));
+    }
+
+    // The player a colour tag names, or null when the tag is missing or unknown.
+    private static String username(PgnGame game, String tag) {
+        String username = game.getTag(tag);
+        return username == null || username.isBlank() || "?".equals(username.trim()) ? null : username.trim();
+    }
+
+    // The Result tag, or the token that ended the movetext when the tag is missing.
+    private static String result(PgnGame game) {
+        String tag = game.getTag("Result");
+        if (tag != null && PgnReader.RESULTS.contains(tag)) {
+            return tag;
+        }
+        return game.getResult() == null ? "*" : game.getResult();
+    }
+
+    // A PGN date, YYYY.MM.DD with unknown parts as question marks. A game without a year gets the tournament's date.
+    static Date date(String tag, Date tournamentDate) throws IllegalOperationException {
+        String[] parts = tag == null ? new String[0] : tag.trim().split("\\.");
+        if (parts.length == 0 || !isNumber(parts[0])) {
+            if (tournamentDate == null) {
+                throw new IllegalOperationException("The game has no date and neither has its tournament.");
+            }
+            return tournamentDate;
+        }
+        LocalDate date;
+        try {
+            int month = parts.length > 1 && isNumber(parts[1]) ? Integer.parseInt(parts[1]) : 1;
+            int day = parts.length > 2 && isNumber(parts[2]) ? Integer.parseInt(parts[2]) : 1;
+            date = LocalDate.of(Integer.parseInt(parts[0]), month, day);
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new IllegalOperationException("The date " + tag + " is not valid.");
+        }
+        if (date.isAfter(LocalDate.now())) {
+            throw new IllegalOperationException("The date cannot be null or after the current date.");
+        }
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static boolean isNumber(String part) {
+        return !part.isEmpty() && part.chars().allMatch(Character::isDigit);
+    }
+
+    /*
+     * Resolves the players of the batch in one query and writes the games whose
+     * players were all found. A batch the database rejects fails as a whole.
+     */
+    private void write(PgnImport pgnImport, List<ImportedGame> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        OpeningTrie trie = openingClassifier.trie();
+        Map<ImportedGame, String> unresolved = new HashMap<>();
+        try {
+            int written = retryExecutor.execute(status -> {
+                unresolved.clear();
+                Set<String> usernames = new LinkedHashSet<>();
+                for (ImportedGame game : batch) {
+                    usernames.addAll(game.usernames());
+                }
+                Map<String, Long> players = new HashMap<>();
+                for (PlayerUsername player : playerRepository.findUsernamesByUsernameIn(usernames)) {
+                    players.put(player.getUsername(), player.getId());
+                }
+                List<GameEntity> games = new ArrayList<>();
+                for (ImportedGame game : batch) {
+                    String missing = link(game, players);
+                    if (missing != null) {
+                        unresolved.put(game, "The player with username = " + missing + " was not found.");
+                        continue;
+                    }
+                    classify(game.entity, trie);
+                    games.add(game.entity);
+                }
+                gameRepository.insertAll(games);
+                for (GameEntity game : games) {
+                    eventPublisher.publishEvent(new GameChangedEvent(game.getId(), null, GameChangedEvent.State.of(game)));
+                }
+                return games.size();
+            });
+            pgnImport.gamesImported(written);
+        } catch (DataAccessException e) {
+            log.error("A batch of the import with ID = {} could not be saved.", pgnImport.getId(), e);
+            for (ImportedGame game : batch) {
+                unresolved.putIfAbsent(game, "The game could not be saved.");
+            }
+        }
+        for (ImportedGame game : batch) {
+            if (unresolved.containsKey(game)) {
+                pgnImport.gameFailed(game.number, unresolved.get(game));
+            }
+        }
+    }
+
+    // Links the game to its players and their colours, returning the first username that matches no player.
+    private static String link(ImportedGame game, Map<String, Long> players) {
+        game.entity.getPlayers().clear();
+        game.entity.setWhitePlayer(null);
+        game.entity.setBlackPlayer(null);
+        for (String username : game.usernames()) {
+            Long playerId = players.get(username);
+            if (playerId == null) {
+                return username;
+            }
+            PlayerEntity player = new PlayerEntity();
+            player.setId(playerId);
+            game.entity.getPlayers().add(player);
+            if (username.equals(game.white)) {
+                game.entity.setWhitePlayer(player);
+            }
+            if (username.equals(game.black)) {
+                game.entity.setBlackPlayer(player);
+            }
+        }
+        return null;
+    }
+
+    private static void classify(GameEntity game, OpeningTrie trie) {
+        long openingId = trie.classify(game.getMoveData());
+        if (openingId != OpeningTrie.NONE) {
+            OpeningEntity opening = new OpeningEntity();
+            opening.setId(openingId);
+            game.setOpening(opening);
+            game.setOpeningClassified(true);
+        }
+    }
+
+    // Waits until the imports started so far are finished.
+    void awaitImported() throws InterruptedException, ExecutionException {
+        importer.submit(() -> {
+        }).get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        importer.shutdownNow();
+    }
+
+    private static final class ImportedGame {
+        private final int number;
+        private final GameEntity entity;
+        private final String white;
+        private final String black;
+
+        ImportedGame(int number, GameEntity entity, String white, String black) {
+            this.number = number;
+            this.entity = entity;
+            this.white = white;
+            this.black = black;
+        }
+
+        Set<String> usernames() {
+            Set<String> usernames = new LinkedHashSet<>();
+            if (white != null) {
+                usernames.add(white);
+            }
+            if (black != null) {
+                usernames.add(black);
+            }
+            return usernames;
+        }
+    }
+}
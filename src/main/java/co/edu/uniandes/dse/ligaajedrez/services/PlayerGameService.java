@@ -8,6 +8,7 @@ import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,7 +43,7 @@ public class PlayerGameService {
         return gameEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<GameEntity> getGames(Long playerId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all games of the player with ID {0}.", playerId);
         if (playerId == null || playerId == 0L) {
@@ -56,7 +57,20 @@ public class PlayerGameService {
         return playerEntity.get().getGames();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<GameEntity> getGames(Long playerId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of games of the player with ID {0}.", playerId);
+        if (playerId == null || playerId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (!playerRepository.existsById(playerId)) {
+            throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
+        }
+        log.info("Finish the process of querying a page of games of the player with ID {0}.", playerId);
+        return gameRepository.findPageByPlayerId(playerId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public GameEntity getGame(Long gameId, Long playerId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the game with ID {0} for the player with ID {1}.", gameId, playerId);
         if (gameId == null || gameId == 0L || playerId == null || playerId == 0L) {
@@ -70,7 +84,7 @@ public class PlayerGameService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
         }
-        if (!playerEntity.get().getGames().contains(gameEntity.get())) {
+        if (!playerRepository.existsByIdAndGamesId(playerId, gameId)) {
             throw new IllegalOperationException("The game is not associated with the player.");
         }
         log.info("Finish the process of querying the game with ID {0} for the player with ID {1}.", gameId, playerId);
@@ -115,7 +129,7 @@ public class PlayerGameService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + gameId + " was not found.");
         }
-        if (!playerEntity.get().getGames().contains(gameEntity.get())) {
+        if (!playerRepository.existsByIdAndGamesId(playerId, gameId)) {
             throw new IllegalOperationException("The game is not associated with the player.");
         }
         playerEntity.get().getGames().remove(gameEntity.get());
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,7 +44,7 @@ public class PlayerLeagueService {
         return leagueEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<LeagueEntity> getLeagues(Long playerId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all leagues of the player with ID {0}.", playerId);
         if (playerId == null || playerId == 0L) {
@@ -57,7 +58,20 @@ public class PlayerLeagueService {
         return playerEntity.get().getLeagues();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<LeagueEntity> getLeagues(Long playerId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of leagues of the player with ID {0}.", playerId);
+        if (playerId == null || playerId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!playerRepository.existsById(playerId)) {
+            throw new EntityNotFoundException("The player with ID = " + Long.toString(playerId) + " was not found.");
+        }
+        log.info("Finish the process of querying a page of leagues of the player with ID {0}.", playerId);
+        return leagueRepository.findPageByPlayerId(playerId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public LeagueEntity getLeague(Long leagueId, Long playerId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the league with ID {0} of the player with ID {1}.", leagueId, playerId);
         if (leagueId == null || leagueId == 0L || playerId == null || playerId == 0L) {
@@ -71,7 +85,7 @@ public class PlayerLeagueService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + Long.toString(playerId) + " was not found.");
         }
-        if (!leagueEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndLeaguesId(playerId, leagueId)) {
             throw new IllegalOperationException("The league is not associated with the player.");
         }
         log.info("Finish the process of querying the league with ID {0} of the player with ID {1}.", leagueId, playerId);
@@ -116,7 +130,7 @@ public class PlayerLeagueService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + Long.toString(playerId) + " was not found.");
         }
-        if (!leagueEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndLeaguesId(playerId, leagueId)) {
             throw new IllegalOperationException("The league is not associated with the player.");
         }
         playerEntity.get().getLeagues().remove(leagueEntity.get());
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,31 +22,37 @@ public class PlayerService {
     @Autowired
     PlayerRepository playerRepository;
 
+    @Autowired
+    GameRepository gameRepository;
+
+    @Autowired
+    RatingService ratingService;
+
+    @Autowired
+    TournamentStandingsService standingsService;
+
     @Transactional
     public PlayerEntity createPlayer(PlayerEntity playerEntity) throws IllegalOperationException {
         log.info("Start the player creation process.");
-        if (playerEntity.getId() == null || playerEntity.getId() == 0L) {
-            throw new IllegalOperationException("The ID cannot be null or empty.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (playerEntity.getBirthDate() != null && playerEntity.getBirthDate().compareTo(calendar.getTime()) > 0) {
             throw new IllegalOperationException("The birthdate cannot be after the current date.");
         }
         try {
             log.info("Finish the player creation process.");
-            return playerRepository.save(playerEntity);
+            return playerRepository.saveAndFlush(playerEntity);
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PlayerEntity> getPlayers() {
         log.info("Start the process of querying all players.");
         return playerRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public PlayerEntity getPlayer(Long playerId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the player with ID = {0}.", playerId);
         if (playerId == null || playerId == 0L) {
@@ -65,21 +72,26 @@ public class PlayerService {
         if (playerId == null || playerId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<PlayerEntity> playerEntity = playerRepository.findById(playerId);
-        if (playerEntity.isEmpty()) {
-            throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (player.getBirthDate() != null && player.getBirthDate().compareTo(calendar.getTime()) > 0) {
+            UpdateSupport.requireExists(playerRepository, playerId, "player");
             throw new IllegalOperationException("The birthdate cannot be after the current date.");
         }
-        player.setId(playerId);
         try {
-            log.info("Finish the process of updating the player with ID = {0}.", playerId);
-            return playerRepository.saveAndFlush(player);
+            // Checking the rating history may flush pending changes to the player, so it belongs in the same guard.
+            if (player.getEloRating() != null && ratingService.hasHistory(playerId)) {
+                Optional<PlayerEntity> stored = playerRepository.findById(playerId);
+                if (stored.isPresent() && !player.getEloRating().equals(stored.get().getEloRating())) {
+                    throw new IllegalOperationException("The rating of a player who has played rated games follows their results and cannot be edited.");
+                }
+            }
+            UpdateSupport.requireUpdated(playerRepository.update(playerId, player), playerRepository, playerId, "player");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        ratingService.evict(playerId);
+        log.info("Finish the process of updating the player with ID = {0}.", playerId);
+        return playerRepository.findById(playerId).get();
     }
 
     @Transactional
@@ -92,7 +104,12 @@ public class PlayerService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
         }
+        // The games stay; they only forget which colour the player had.
+        gameRepository.clearWhitePlayer(playerId);
+        gameRepository.clearBlackPlayer(playerId);
         playerRepository.deleteById(playerId);
+        ratingService.evict(playerId);
+        standingsService.evictAll();
         log.info("Finish the process of deleting the player with ID = {0}.", playerId);
     }
 }
@@ -8,6 +8,7 @@ import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,7 +43,7 @@ public class PlayerTournamentService {
         return tournamentEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<TournamentEntity> getTournaments(Long playerId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all tournaments of the player with ID {0}.", playerId);
         if (playerId == null || playerId == 0L) {
@@ -56,7 +57,20 @@ public class PlayerTournamentService {
         return playerEntity.get().getTournaments();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<TournamentEntity> getTournaments(Long playerId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of tournaments of the player with ID {0}.", playerId);
+        if (playerId == null || playerId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (!playerRepository.existsById(playerId)) {
+            throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
+        }
+        log.info("Finish the process of querying a page of tournaments of the player with ID {0}.", playerId);
+        return tournamentRepository.findPageByPlayerId(playerId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public TournamentEntity getTournament(Long tournamentId, Long playerId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the tournament with ID {0} for the player with ID {1}.", tournamentId, playerId);
         if (tournamentId == null || tournamentId == 0L || playerId == null || playerId == 0L) {
@@ -70,7 +84,7 @@ public class PlayerTournamentService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
         }
-        if (!playerEntity.get().getTournaments().contains(tournamentEntity.get())) {
+        if (!playerRepository.existsByIdAndTournamentsId(playerId, tournamentId)) {
             throw new IllegalOperationException("The tournament is not associated with the player.");
         }
         log.info("Finish the process of querying the tournament with ID {0} for the player with ID {1}.", tournamentId, playerId);
@@ -115,7 +129,7 @@ public class PlayerTournamentService {
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
         }
-        if (!playerEntity.get().getTournaments().contains(tournamentEntity.get())) {
+        if (!playerRepository.existsByIdAndTournamentsId(playerId, tournamentId)) {
             throw new IllegalOperationException("The tournament is not associated with the player.");
         }
         playerEntity.get().getTournaments().remove(tournamentEntity.get());
@@ -0,0 +1,40 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.List;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.IllegalMoveException;
+import co.edu.uniandes.dse.ligaajedrez.chess.Position;
+import co.edu.uniandes.dse.ligaajedrez.chess.San;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+
+/*
+ * Reads the position of a position query, given either as a FEN or as the SAN
+ * moves that lead to it from the start.
+ */
+final class PositionSupport {
+
+    private PositionSupport() {
+    }
+
+    static Position position(String fen, List<String> moves) throws IllegalOperationException {
+        if ((fen == null) == (moves == null)) {
+            throw new IllegalOperationException("Give the position either as a FEN or as moves.");
+        }
+        if (fen != null) {
+            try {
+                return Position.fromFen(fen);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalOperationException(e.getMessage());
+            }
+        }
+        Position position = Position.start();
+        try {
+            for (String move : moves) {
+                San.play(position, move);
+            }
+        } catch (IllegalMoveException e) {
+            throw new IllegalOperationException(e.getMessage());
+        }
+        return position;
+    }
+}
@@ -0,0 +1,28 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+/*
+ * The current Elo rating of a player and the number of rated games behind it.
+ */
+public final class Rating {
+    private final Long playerId;
+    private final int rating;
+    private final int games;
+
+    Rating(Long playerId, int rating, int games) {
+        this.playerId = playerId;
+        this.rating = rating;
+        this.games = games;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public int getGames() {
+        return games;
+    }
+}
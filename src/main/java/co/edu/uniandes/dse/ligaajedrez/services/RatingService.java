@@ -0,0 +1,355 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.Elo;
+import co.edu.uniandes.dse.ligaajedrez.chess.GameResult;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PendingRatingEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingChangeEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PendingRatingRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.RatingChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Keeps the Elo ratings of the players up to date with the results of their
+ * games. A game is rated when it has a finished result and both a White and a
+ * Black player. The rating work runs after the change commits, on a single
+ * rating thread that takes the games waiting for it in batches of
+ * RATE_BATCH_SIZE, one transaction each, so posting the results of a round
+ * costs the writer nothing but the queueing.
+ *
+ * Each rated game appends a change per player to the rating history (see
+ * RatingChangeEntity) and sets the player's eloRating, which is the rating the
+ * player starts from before any rated game. A corrected result takes back the
+ * change of the old one and applies the new one at the current ratings; the
+ * games rated in between are not recomputed. Current ratings are served from a
+ * cache that only the rating thread updates, after each batch commits.
+ *
+ * Every change to be rated is also recorded as a pending rating in the
+ * transaction that makes it, and the batch that rates it deletes the record. The
+ * games still pending are queued again when the application starts and with
+ * the batch after one that failed.
+ */
+@Slf4j
+@Service
+public class RatingService {
+    static final int RATE_BATCH_SIZE = 200;
+    static final long MAX_CACHED_RATINGS = 100_000;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private RatingChangeRepository ratingChangeRepository;
+
+    @Autowired
+    private PendingRatingRepository pendingRatingRepository;
+
+    @Autowired
+    private OptimisticRetryExecutor retryExecutor;
+
+    private final Cache<Long, Rating> ratings = Caffeine.newBuilder().maximumSize(MAX_CACHED_RATINGS).build();
+    private final BlockingQueue<Long> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService rater = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rating-updater");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Set by a failed batch and only read on the rating thread.
+    private boolean requeueNeeded;
+
+    @Transactional(readOnly = true)
+    public Rating getRating(Long playerId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying the rating of the player with ID = {0}.", playerId);
+        if (playerId == null || playerId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        Rating rating = ratings.get(playerId, this::load);
+        if (rating == null) {
+            throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
+        }
+        log.info("Finish the process of querying the rating of the player with ID = {0}.", playerId);
+        return rating;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<RatingChangeEntity> getRatingHistory(Long playerId, Date afterDate, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying the rating history of the player with ID = {0}.", playerId);
+        if (playerId == null || playerId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        Pageable limit = KeysetSupport.limit(size);
+        if (!playerRepository.existsById(playerId)) {
+            throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
+        }
+        if (afterDate == null) {
+            return ratingChangeRepository.findPageByPlayerId(playerId, limit);
+        }
+        return ratingChangeRepository.findPageByPlayerIdAfter(playerId, afterDate, KeysetSupport.after(afterId), limit);
+    }
+
+    // Null for a missing player, which the cache does not keep.
+    private Rating load(Long playerId) {
+        Optional<PlayerEntity> player = playerRepository.findById(playerId);
+        if (player.isEmpty()) {
+            return null;
+        }
+        Optional<RatingChangeEntity> latest = ratingChangeRepository.findFirstByPlayerIdOrderByDateDescIdDesc(playerId);
+        if (latest.isPresent()) {
+            return new Rating(playerId, latest.get().getRating(), latest.get().getGames());
+        }
+        Integer rating = player.get().getEloRating();
+        return new Rating(playerId, rating == null ? Elo.INITIAL_RATING : rating, 0);
+    }
+
+    /*
+     * Only a new, corrected or deleted result can change the ratings; the colours
+     * of a game are set when it is created.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        if (!changesRating(event)) {
+            return;
+        }
+        pending.add(event.getGameId());
+        rater.execute(this::rateBatch);
+    }
+
+    // Runs in the transaction that changes the game, so the pending rating commits or rolls back with the change.
+    @EventListener
+    public void onGameChanging(GameChangedEvent event) {
+        if (!changesRating(event)) {
+            return;
+        }
+        PendingRatingEntity pendingRating = new PendingRatingEntity();
+        pendingRating.setGameId(event.getGameId());
+        pendingRatingRepository.save(pendingRating);
+    }
+
+    private static boolean changesRating(GameChangedEvent event) {
+        return event.getBefore() == null || event.getAfter() == null || !Objects.equals(event.getBefore().getResult(), event.getAfter().getResult());
+    }
+
+    // Queues the games left pending by a restart.
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rater.execute(this::requeue);
+    }
+
+    private void requeue() {
+        List<Long> gameIds = pendingRatingRepository.findGameIds();
+        if (!gameIds.isEmpty()) {
+            log.info("Queueing the {} games waiting to be rated.", gameIds.size());
+        }
+        pending.addAll(gameIds);
+        // A failed batch leaves the rest for the next one rather than retrying them all at once.
+        for (int i = 0; i < gameIds.size() && !requeueNeeded; i += RATE_BATCH_SIZE) {
+            rateBatch();
+        }
+    }
+
+    // Whether the player has played a rated game, after which eloRating follows their results.
+    boolean hasHistory(Long playerId) {
+        return ratingChangeRepository.existsByPlayerId(playerId);
+    }
+
+    // Forgets the cached rating of a player whose eloRating was edited or who was deleted, once that commits.
+    void evict(Long playerId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ratings.invalidate(playerId);
+                }
+            });
+        } else {
+            ratings.invalidate(playerId);
+        }
+    }
+
+    private void rateBatch() {
+        if (requeueNeeded) {
+            requeueNeeded = false;
+            requeue();
+        }
+        List<Long> gameIds = new ArrayList<>();
+        pending.drainTo(gameIds, RATE_BATCH_SIZE);
+        if (gameIds.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Rating> rated = retryExecutor.execute(status -> rate(gameIds));
+            ratings.putAll(rated);
+        } catch (RuntimeException e) {
+            log.error("The games with IDs = {} could not be rated; they are queued again with the next batch.", gameIds, e);
+            requeueNeeded = true;
+        }
+    }
+
+    /*
+     * Rates the games in the order their changes committed and returns the new
+     * ratings. Only the pending ratings read here are deleted; one recorded by a
+     * change that commits meanwhile stays for the batch that change queues.
+     */
+    private Map<Long, Rating> rate(List<Long> gameIds) {
+        List<PendingRatingEntity> done = pendingRatingRepository.findByGameIdIn(gameIds);
+        Map<Long, Rating> current = new HashMap<>();
+        Date now = new Date();
+        for (Long gameId : gameIds) {
+            Pairing wanted = gameRepository.findById(gameId).map(Pairing::of).orElse(null);
+            List<RatingChangeEntity> latest = ratingChangeRepository.findTop2ByGameIdOrderByIdDesc(gameId);
+            Pairing applied = Pairing.of(latest);
+            if (Objects.equals(applied, wanted)) {
+                continue;
+            }
+            if (applied != null) {
+                // Reverse White's change, then Black's; a deleted player keeps the history they have.
+                for (int i = latest.size() - 1; i >= 0; i--) {
+                    RatingChangeEntity change = latest.get(i);
+                    Rating rating = current(current, change.getPlayerId());
+                    if (rating != null) {
+                        append(current, gameId, rating, change.getOpponentId(), null, -change.getChange(), rating.getGames() - 1, now);
+                    }
+                }
+            }
+            if (wanted != null) {
+                Rating white = current(current, wanted.whiteId);
+                Rating black = current(current, wanted.blackId);
+                if (white == null || black == null) {
+                    continue;
+                }
+                int whiteChange = Elo.change(white.getRating(), white.getGames(), black.getRating(), wanted.whiteScore);
+                int blackChange = Elo.change(black.getRating(), black.getGames(), white.getRating(), 1 - wanted.whiteScore);
+                append(current, gameId, white, wanted.blackId, wanted.whiteScore, whiteChange, white.getGames() + 1, now);
+                append(current, gameId, black, wanted.whiteId, 1 - wanted.whiteScore, blackChange, black.getGames() + 1, now);
+            }
+        }
+        pendingRatingRepository.deleteAllInBatch(done);
+        return current;
+    }
+
+    private Rating current(Map<Long, Rating> current, Long playerId) {
+        Rating rating = current.get(playerId);
+        if (rating == null) {
+            rating = ratings.get(playerId, this::load);
+            if (rating != null) {
+                current.put(playerId, rating);
+            }
+        }
+        return rating;
+    }
+
+    private void append(Map<Long, Rating> current, Long gameId, Rating from, Long opponentId, Double score, int change, int games, Date date) {
+        Long playerId = from.getPlayerId();
+        int rating = from.getRating() + change;
+        RatingChangeEntity entity = new RatingChangeEntity();
+        entity.setPlayerId(playerId);
+        entity.setGameId(gameId);
+        entity.setOpponentId(opponentId);
+        entity.setScore(score);
+        entity.setChange(change);
+        entity.setRating(rating);
+        entity.setGames(games);
+        entity.setDate(date);
+        ratingChangeRepository.save(entity);
+        playerRepository.updateEloRating(playerId, rating);
+        current.put(playerId, new Rating(playerId, rating, games));
+    }
+
+    // Waits until the games queued so far are rated.
+    void awaitRated() throws InterruptedException, ExecutionException {
+        rater.submit(() -> {
+        }).get();
+    }
+
+    void invalidate() {
+        ratings.invalidateAll();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rater.shutdownNow();
+    }
+
+    // Who played White and Black in a rated game, and White's score.
+    private static final class Pairing {
+        private final Long whiteId;
+        private final Long blackId;
+        private final double whiteScore;
+
+        Pairing(Long whiteId, Long blackId, double whiteScore) {
+            this.whiteId = whiteId;
+            this.blackId = blackId;
+            this.whiteScore = whiteScore;
+        }
+
+        // Null when the game is not rated.
+        static Pairing of(GameEntity game) {
+            GameResult result = GameResult.parse(game.getResult());
+            if (result == null || game.getWhitePlayer() == null || game.getBlackPlayer() == null
+                    || game.getWhitePlayer().getId().equals(game.getBlackPlayer().getId())) {
+                return null;
+            }
+            return new Pairing(game.getWhitePlayer().getId(), game.getBlackPlayer().getId(), Elo.whiteScore(result));
+        }
+
+        // Null when the game has no changes or its latest ones are a reversal.
+        static Pairing of(List<RatingChangeEntity> latest) {
+            if (latest.isEmpty() || latest.get(0).getScore() == null) {
+                return null;
+            }
+            RatingChangeEntity black = latest.get(0);
+            return new Pairing(black.getOpponentId(), black.getPlayerId(), 1 - black.getScore());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Pairing)) {
+                return false;
+            }
+            Pairing pairing = (Pairing) other;
+            return whiteId.equals(pairing.whiteId) && blackId.equals(pairing.blackId) && whiteScore == pairing.whiteScore;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(whiteId, blackId, whiteScore);
+        }
+    }
+}
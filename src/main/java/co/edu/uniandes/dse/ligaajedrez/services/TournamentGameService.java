@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,9 @@ public class TournamentGameService {
     @Autowired
     private GameRepository gameRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public GameEntity addGame(Long tournamentId, Long gameId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of associating the game with ID {0} to the tournament with ID {1}.", gameId, tournamentId);
@@ -38,12 +43,15 @@ public class TournamentGameService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + Long.toString(gameId) + " was not found.");
         }
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
+        gameEntity.get().setTournament(tournamentEntity.get());
         tournamentEntity.get().getGames().add(gameEntity.get());
+        eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
         log.info("Finish the process of associating the game with ID {0} to the tournament with ID {1}.", gameId, tournamentId);
         return gameEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<GameEntity> getGames(Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all games of the tournament with ID {0}.", tournamentId);
         if (tournamentId == null || tournamentId == 0L) {
@@ -57,7 +65,20 @@ public class TournamentGameService {
         return tournamentEntity.get().getGames();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<GameEntity> getGames(Long tournamentId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of games of the tournament with ID {0}.", tournamentId);
+        if (tournamentId == null || tournamentId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty");
+        }
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new EntityNotFoundException("The tournament with ID = " + Long.toString(tournamentId) + " was not found.");
+        }
+        log.info("Finish the process of querying a page of games of the tournament with ID {0}.", tournamentId);
+        return gameRepository.findPageByTournamentId(tournamentId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public GameEntity getGame(Long gameId, Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the game with ID {0} in the tournament with ID {1}.", gameId, tournamentId);
         if (gameId == null || gameId == 0L || tournamentId == null || tournamentId == 0L) {
@@ -71,7 +92,7 @@ public class TournamentGameService {
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + Long.toString(tournamentId) + " was not found.");
         }
-        if (!tournamentEntity.get().getGames().contains(gameEntity.get())) {
+        if (!gameRepository.existsByIdAndTournamentId(gameId, tournamentId)) {
             throw new IllegalOperationException("The game is not associated with the tournament.");
         }
         log.info("Finish the process of querying the game with ID {0} in the tournament with ID {1}.", gameId, tournamentId);
@@ -93,7 +114,9 @@ public class TournamentGameService {
             if (gameEntity.isEmpty()) {
                 throw new EntityNotFoundException("The game with ID = " + Long.toString(game.getId()) + " was not found.");
             }
+            GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
             gameEntity.get().setTournament(tournamentEntity.get());
+            eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
         }
         tournamentEntity.get().setGames(games);
         log.info("Finish the process of replacing the games associated with the tournament with ID = {0}.", tournamentId);
@@ -114,11 +137,13 @@ public class TournamentGameService {
         if (gameEntity.isEmpty()) {
             throw new EntityNotFoundException("The game with ID = " + Long.toString(gameId) + " was not found.");
         }
-        if (!tournamentEntity.get().getGames().contains(gameEntity.get())) {
+        if (!gameRepository.existsByIdAndTournamentId(gameId, tournamentId)) {
             throw new IllegalOperationException("The game is not associated with the tournament.");
         }
         tournamentEntity.get().getGames().remove(gameEntity.get());
+        GameChangedEvent.State before = GameChangedEvent.State.of(gameEntity.get());
         gameEntity.get().setTournament(null);
+        eventPublisher.publishEvent(GameChangedEvent.of(gameEntity.get(), before));
         log.info("Finish the process of disassociating the game with ID {0} from the tournament with ID {1}.", gameId, tournamentId);
     }
 }
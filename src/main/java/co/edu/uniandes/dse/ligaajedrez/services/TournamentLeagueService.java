@@ -42,7 +42,7 @@ public class TournamentLeagueService {
         return leagueEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public LeagueEntity getLeague(Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the league of the tournament with ID {0}", tournamentId);
         if (tournamentId == null || tournamentId == 0L) {
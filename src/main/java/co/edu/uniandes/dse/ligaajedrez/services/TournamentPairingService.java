@@ -0,0 +1,179 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.Elo;
+import co.edu.uniandes.dse.ligaajedrez.chess.GameResult;
+import co.edu.uniandes.dse.ligaajedrez.chess.SwissPairing;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PairedGame;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSeed;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Pairs the rounds of a Swiss tournament (see SwissPairing) among the players
+ * of the tournament, seeded by eloRating. The rounds paired so far are read
+ * from the games that have a round, so a round can only be paired once every
+ * game of the one before has a result. The games of the new round are written
+ * in one batch, with no moves and the result "*"; a bye is a game marked as
+ * such, with only a White player and the result "1-0". A game that lost a
+ * player when they were deleted still counts for the other one.
+ */
+@Slf4j
+@Service
+public class TournamentPairingService {
+    static final String UNFINISHED = "*";
+    static final String BYE = "1-0";
+    // Best eloRating first, unrated players last.
+    static final Comparator<PlayerSeed> SEEDING = Comparator
+            .comparingInt((PlayerSeed player) -> player.getEloRating() == null ? Integer.MAX_VALUE : -player.getEloRating())
+            .thenComparingLong(PlayerSeed::getId);
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // The games of the new round, board by board, and the bye last.
+    @Transactional
+    public List<GameEntity> pairNextRound(Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of pairing the next round of the tournament with ID = {0}.", tournamentId);
+        if (tournamentId == null || tournamentId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        Optional<TournamentEntity> tournament = tournamentRepository.findById(tournamentId);
+        if (tournament.isEmpty()) {
+            throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
+        }
+        tournamentRepository.lockRounds(tournamentId);
+
+        List<PlayerSeed> entrants = new ArrayList<>(playerRepository.findSeedsByTournamentId(tournamentId));
+        if (entrants.size() < 2) {
+            throw new IllegalOperationException("The tournament needs at least two players to pair a round.");
+        }
+        entrants.sort(SEEDING);
+        // Pairing numbers: the entrants by seed, then the players who left the tournament after playing in it.
+        Map<Long, Integer> numbers = new HashMap<>();
+        List<Long> players = new ArrayList<>();
+        for (PlayerSeed entrant : entrants) {
+            numbers.put(entrant.getId(), players.size());
+            players.add(entrant.getId());
+        }
+        List<PairedGame> games = gameRepository.findPairedByTournamentId(tournamentId);
+        for (PairedGame game : games) {
+            for (Long playerId : new Long[] { game.getWhiteId(), game.getBlackId() }) {
+                if (playerId != null && !numbers.containsKey(playerId)) {
+                    numbers.put(playerId, players.size());
+                    players.add(playerId);
+                }
+            }
+        }
+
+        SwissPairing pairing = new SwissPairing(players.size());
+        int round = replay(pairing, games, numbers);
+        int[] field = new int[entrants.size()];
+        for (int i = 0; i < field.length; i++) {
+            field[i] = i;
+        }
+        SwissPairing.Pairings pairings = pairing.pair(field);
+        if (pairings == null) {
+            throw new IllegalOperationException("The players of the tournament cannot all be paired without a rematch.");
+        }
+
+        List<GameEntity> created = new ArrayList<>();
+        Date today = new Date();
+        for (int board = 0; board < pairings.boards(); board++) {
+            created.add(newGame(tournament.get(), round + 1, today, UNFINISHED, players.get(pairings.white(board)), players.get(pairings.black(board))));
+        }
+        if (pairings.bye() != SwissPairing.Pairings.NONE) {
+            GameEntity bye = newGame(tournament.get(), round + 1, today, BYE, players.get(pairings.bye()), null);
+            bye.setBye(true);
+            created.add(bye);
+        }
+        gameRepository.insertAll(created);
+        for (GameEntity game : created) {
+            eventPublisher.publishEvent(new GameChangedEvent(game.getId(), null, GameChangedEvent.State.of(game)));
+        }
+        log.info("Finish the process of pairing round {0} of the tournament with ID = {1}.", round + 1, tournamentId);
+        return created;
+    }
+
+    // Replays the rounds played so far and returns the last one; each must be finished.
+    private static int replay(SwissPairing pairing, List<PairedGame> games, Map<Long, Integer> numbers) throws IllegalOperationException {
+        int round = 0;
+        for (PairedGame game : games) {
+            if (game.getRound() != round) {
+                if (round != 0) {
+                    pairing.endRound();
+                }
+                round = game.getRound();
+            }
+            GameResult result = GameResult.parse(game.getResult());
+            if (result == null) {
+                throw new IllegalOperationException("The round " + round + " of the tournament is not finished.");
+            }
+            double whiteScore = Elo.whiteScore(result);
+            if (game.isBye()) {
+                pairing.addBye(numbers.get(game.getWhiteId()), whiteScore);
+            } else if (game.getBlackId() == null) {
+                if (game.getWhiteId() != null) {
+                    pairing.addUnpairedGame(numbers.get(game.getWhiteId()), true, whiteScore);
+                }
+            } else if (game.getWhiteId() == null) {
+                pairing.addUnpairedGame(numbers.get(game.getBlackId()), false, 1 - whiteScore);
+            } else if (!game.getWhiteId().equals(game.getBlackId())) {
+                pairing.addGame(numbers.get(game.getWhiteId()), numbers.get(game.getBlackId()), whiteScore);
+            }
+        }
+        if (round != 0) {
+            pairing.endRound();
+        }
+        return round;
+    }
+
+    static GameEntity newGame(TournamentEntity tournament, int round, Date date, String result, Long whiteId, Long blackId) {
+        GameEntity game = new GameEntity();
+        game.setTournament(tournament);
+        game.setRound(round);
+        game.setDate(date);
+        game.setResult(result);
+        game.setWhitePlayer(reference(whiteId));
+        game.getPlayers().add(game.getWhitePlayer());
+        if (blackId != null) {
+            game.setBlackPlayer(reference(blackId));
+            game.getPlayers().add(game.getBlackPlayer());
+        }
+        return game;
+    }
+
+    private static PlayerEntity reference(Long playerId) {
+        PlayerEntity player = new PlayerEntity();
+        player.setId(playerId);
+        return player;
+    }
+}
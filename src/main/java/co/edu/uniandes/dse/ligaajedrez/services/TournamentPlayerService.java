@@ -8,11 +8,14 @@ import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
 import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -37,12 +40,15 @@ public class TournamentPlayerService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
         }
-        tournamentEntity.get().getPlayers().add(playerEntity.get());
+        if (!playerRepository.existsByIdAndTournamentsId(playerId, tournamentId)) {
+            playerEntity.get().getTournaments().add(tournamentEntity.get());
+            tournamentEntity.get().getPlayers().add(playerEntity.get());
+        }
         log.info("Finish the process of associating the player with ID {0} to the tournament with ID {1}.", playerId, tournamentId);
         return playerEntity.get();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PlayerEntity> getPlayers(Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying all players of the tournament with ID {0}.", tournamentId);
         if (tournamentId == null || tournamentId == 0L) {
@@ -56,7 +62,20 @@ public class TournamentPlayerService {
         return tournamentEntity.get().getPlayers();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<PlayerEntity> getPlayers(Long tournamentId, Long afterId, int size) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying a page of players of the tournament with ID {0}.", tournamentId);
+        if (tournamentId == null || tournamentId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
+        }
+        log.info("Finish the process of querying a page of players of the tournament with ID {0}.", tournamentId);
+        return playerRepository.findPageByTournamentId(tournamentId, KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
     public PlayerEntity getPlayer(Long playerId, Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the player with ID {0} in the tournament with ID {1}.", playerId, tournamentId);
         if (playerId == null || playerId == 0L || tournamentId == null || tournamentId == 0L) {
@@ -70,7 +89,7 @@ public class TournamentPlayerService {
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
         }
-        if (!tournamentEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndTournamentsId(playerId, tournamentId)) {
             throw new IllegalOperationException("The player is not associated with the tournament.");
         }
         log.info("Finish the process of querying the player with ID {0} in the tournament with ID {1}.", playerId, tournamentId);
@@ -87,16 +106,28 @@ public class TournamentPlayerService {
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
         }
-        for (PlayerEntity player : players) {
-            Optional<PlayerEntity> playerEntity = playerRepository.findById(player.getId());
-            if (playerEntity.isEmpty()) {
-                throw new EntityNotFoundException("The player with ID = " + player.getId() + " was not found.");
+        TournamentEntity tournament = tournamentEntity.get();
+        List<PlayerEntity> newPlayers = AssociationSupport.distinct(
+                AssociationSupport.findAllById(playerRepository::findWithTournamentsByIdIn, players, "player"));
+        Set<Long> newIds = AssociationSupport.ids(newPlayers);
+        Set<Long> currentIds = AssociationSupport.ids(tournament.getPlayers());
+        List<PlayerEntity> droppedPlayers = new ArrayList<>();
+        for (PlayerEntity player : tournament.getPlayers()) {
+            if (!newIds.contains(player.getId())) {
+                droppedPlayers.add(player);
             }
-            if (!playerEntity.get().getTournaments().contains(tournamentEntity.get())) {
-                playerEntity.get().getTournaments().add(tournamentEntity.get());
+        }
+        AssociationSupport.findAllById(playerRepository::findWithTournamentsByIdIn, droppedPlayers, "player");
+        for (PlayerEntity player : droppedPlayers) {
+            player.getTournaments().removeIf(t -> tournamentId.equals(t.getId()));
+        }
+        tournament.getPlayers().removeIf(p -> !newIds.contains(p.getId()));
+        for (PlayerEntity player : newPlayers) {
+            if (!currentIds.contains(player.getId())) {
+                player.getTournaments().add(tournament);
+                tournament.getPlayers().add(player);
             }
         }
-        tournamentEntity.get().setPlayers(players);
         log.info("Finish the process of replacing the players associated with the tournament with ID = {0}.", tournamentId);
         return tournamentEntity.get().getPlayers();
     }
@@ -115,7 +146,7 @@ public class TournamentPlayerService {
         if (playerEntity.isEmpty()) {
             throw new EntityNotFoundException("The player with ID = " + playerId + " was not found.");
         }
-        if (!tournamentEntity.get().getPlayers().contains(playerEntity.get())) {
+        if (!playerRepository.existsByIdAndTournamentsId(playerId, tournamentId)) {
             throw new IllegalOperationException("The player is not associated with the tournament.");
         }
         tournamentEntity.get().getPlayers().remove(playerEntity.get());
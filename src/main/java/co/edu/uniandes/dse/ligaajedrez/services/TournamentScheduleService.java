@@ -0,0 +1,91 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.BergerTable;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSeed;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Schedules every round of a round-robin among the players of a tournament by
+ * the Berger tables, seeded as for a Swiss round. All the games, with their
+ * rounds, colours and players, are written in one batch, with no moves and the
+ * result "*"; nobody gets a game in the round they sit out.
+ */
+@Slf4j
+@Service
+public class TournamentScheduleService {
+    static final int MAX_CYCLES = 2;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // One cycle for a single round-robin, two for a double one; the games come round by round, board by board.
+    @Transactional
+    public List<GameEntity> scheduleRoundRobin(Long tournamentId, int cycles) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of scheduling a round-robin of the tournament with ID = {0}.", tournamentId);
+        if (tournamentId == null || tournamentId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (cycles < 1 || cycles > MAX_CYCLES) {
+            throw new IllegalOperationException("A round-robin is played in one or two cycles.");
+        }
+        Optional<TournamentEntity> tournament = tournamentRepository.findById(tournamentId);
+        if (tournament.isEmpty()) {
+            throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
+        }
+        tournamentRepository.lockRounds(tournamentId);
+        if (gameRepository.existsByTournamentIdAndRoundNotNull(tournamentId)) {
+            throw new IllegalOperationException("The rounds of the tournament have already been paired.");
+        }
+        List<PlayerSeed> entrants = new ArrayList<>(playerRepository.findSeedsByTournamentId(tournamentId));
+        if (entrants.size() < 2) {
+            throw new IllegalOperationException("The tournament needs at least two players to schedule a round-robin.");
+        }
+        entrants.sort(TournamentPairingService.SEEDING);
+
+        BergerTable table = new BergerTable(entrants.size(), cycles);
+        List<GameEntity> created = new ArrayList<>(table.rounds() * table.boards());
+        Date today = new Date();
+        for (int round = 0; round < table.rounds(); round++) {
+            for (int board = 0; board < table.boards(); board++) {
+                int white = table.white(round, board);
+                int black = table.black(round, board);
+                if (white != BergerTable.NONE && black != BergerTable.NONE) {
+                    created.add(TournamentPairingService.newGame(tournament.get(), round + 1, today, TournamentPairingService.UNFINISHED,
+                            entrants.get(white).getId(), entrants.get(black).getId()));
+                }
+            }
+        }
+        gameRepository.insertAll(created);
+        for (GameEntity game : created) {
+            eventPublisher.publishEvent(new GameChangedEvent(game.getId(), null, GameChangedEvent.State.of(game)));
+        }
+        log.info("Finish the process of scheduling a round-robin of the tournament with ID = {0}.", tournamentId);
+        return created;
+    }
+}
@@ -1,18 +1,28 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.EntityManagerFactory;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSummary;
 import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentSummary;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -21,40 +31,77 @@ public class TournamentService {
     @Autowired
     TournamentRepository tournamentRepository;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlayerRepository playerRepository;
+
+    @Autowired
+    GameRepository gameRepository;
+
     @Transactional
     public TournamentEntity createTournament(TournamentEntity tournamentEntity) throws IllegalOperationException {
         log.info("Start the tournament creation process.");
-        if (tournamentEntity.getId() == null || tournamentEntity.getId() == 0L) {
-            throw new IllegalOperationException("The ID cannot be null or empty.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (tournamentEntity.getDate() != null && tournamentEntity.getDate().compareTo(calendar.getTime()) > 0) {
             throw new IllegalOperationException("The date cannot be after the current date.");
         }
         try {
             log.info("Finish the tournament creation process.");
-            return tournamentRepository.save(tournamentEntity);
+            return tournamentRepository.saveAndFlush(tournamentEntity);
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<TournamentEntity> getTournaments() {
         log.info("Start the process of querying all tournaments.");
         return tournamentRepository.findAll();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
+    public List<TournamentSummary> getTournamentSummaries() {
+        log.info("Start the process of querying the summaries of all tournaments.");
+        return tournamentRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TournamentSummary> getTournamentSummaries(Long afterId, int size) throws IllegalOperationException {
+        log.info("Start the process of querying a page of tournament summaries.");
+        return tournamentRepository.findSummaryPage(KeysetSupport.after(afterId), KeysetSupport.limit(size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayerSummary> getPlayerSummaries(Collection<Long> tournamentIds) {
+        log.info("Start the process of querying the player summaries of {0} tournaments.", tournamentIds.size());
+        if (tournamentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return playerRepository.findSummariesByTournamentIds(tournamentIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameSummary> getGameSummaries(Collection<Long> tournamentIds) {
+        log.info("Start the process of querying the game summaries of {0} tournaments.", tournamentIds.size());
+        if (tournamentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return gameRepository.findSummariesByTournamentIds(tournamentIds);
+    }
+
+    @Transactional(readOnly = true)
     public TournamentEntity getTournament(Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
         log.info("Start the process of querying the tournament with ID = {0}.", tournamentId);
         if (tournamentId == null || tournamentId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<TournamentEntity> tournamentEntity = tournamentRepository.findById(tournamentId);
+        Optional<TournamentEntity> tournamentEntity = tournamentRepository.findWithGamesById(tournamentId);
         if (tournamentEntity.isEmpty()) {
             throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
         }
+        tournamentRepository.findWithPlayersById(tournamentId);
         log.info("Finish the process of querying the tournament with ID = {0}.", tournamentId);
         return tournamentEntity.get();
     }
@@ -65,21 +112,19 @@ public class TournamentService {
         if (tournamentId == null || tournamentId == 0L) {
             throw new IllegalOperationException("The ID cannot be null or empty.");
         }
-        Optional<TournamentEntity> tournamentEntity = tournamentRepository.findById(tournamentId);
-        if (tournamentEntity.isEmpty()) {
-            throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
-        }
         Calendar calendar = Calendar.getInstance();
         if (tournament.getDate() != null && tournament.getDate().compareTo(calendar.getTime()) > 0) {
+            UpdateSupport.requireExists(tournamentRepository, tournamentId, "tournament");
             throw new IllegalOperationException("The date cannot be after the current date.");
         }
-        tournament.setId(tournamentId);
+        CacheEvictions.evictAfterCommit(entityManagerFactory, TournamentEntity.class, tournamentId);
         try {
-            log.info("Finish the process of updating the tournament with ID = {0}.", tournamentId);
-            return tournamentRepository.saveAndFlush(tournament);
+            UpdateSupport.requireUpdated(tournamentRepository.update(tournamentId, tournament), tournamentRepository, tournamentId, "tournament");
         } catch (DataIntegrityViolationException e) {
             throw new IllegalOperationException("Some values cannot be null or repeated.");
         }
+        log.info("Finish the process of updating the tournament with ID = {0}.", tournamentId);
+        return tournamentRepository.findById(tournamentId).get();
     }
 
     @Transactional
@@ -93,6 +138,7 @@ public class TournamentService {
             throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
         }
         tournamentRepository.deleteById(tournamentId);
+        CacheEvictions.evictAfterCommit(entityManagerFactory, TournamentEntity.class, tournamentId);
         log.info("Finish the process of deleting the tournament with ID = {0}.", tournamentId);
     }
 }
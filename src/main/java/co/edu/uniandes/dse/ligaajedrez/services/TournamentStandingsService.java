@@ -0,0 +1,142 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.Elo;
+import co.edu.uniandes.dse.ligaajedrez.chess.GameResult;
+import co.edu.uniandes.dse.ligaajedrez.chess.Standing;
+import co.edu.uniandes.dse.ligaajedrez.chess.Standings;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.RatedGame;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * The standings of each tournament (see Standings), counting the games with a
+ * finished result and both a White and a Black player, and the byes of its
+ * rounds (see TournamentPairingService). A game that lost a player when they
+ * were deleted is not a bye and is left out. A tournament's standings
+ * are loaded from its games on first use and cached; every committed change to
+ * the result or tournament of a game then takes the game out of the standings it
+ * was in and puts it back as it now is, so adding a game to a tournament or
+ * removing it costs one row read. A deleted player drops out of the colours of
+ * their games, so it forgets all the standings.
+ */
+@Slf4j
+@Service
+public class TournamentStandingsService {
+    static final long MAX_CACHED_TOURNAMENTS = 1_000;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private final Cache<Long, Standings> standings = Caffeine.newBuilder().maximumSize(MAX_CACHED_TOURNAMENTS).build();
+
+    @Transactional(readOnly = true)
+    public List<Standing> getStandings(Long tournamentId) throws IllegalOperationException, EntityNotFoundException {
+        log.info("Start the process of querying the standings of the tournament with ID = {0}.", tournamentId);
+        if (tournamentId == null || tournamentId == 0L) {
+            throw new IllegalOperationException("The ID cannot be null or empty.");
+        }
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new EntityNotFoundException("The tournament with ID = " + tournamentId + " was not found.");
+        }
+        List<Standing> rows = standings.get(tournamentId, this::load).rows();
+        log.info("Finish the process of querying the standings of the tournament with ID = {0}.", tournamentId);
+        return rows;
+    }
+
+    private Standings load(Long tournamentId) {
+        Standings loaded = new Standings();
+        for (RatedGame game : gameRepository.findScoredByTournamentId(tournamentId)) {
+            count(loaded, game);
+        }
+        return loaded;
+    }
+
+    private static void count(Standings standings, RatedGame game) {
+        GameResult result = GameResult.parse(game.getResult());
+        if (result == null) {
+            return;
+        }
+        if (game.getBlackId() == null) {
+            standings.addBye(game.getId(), game.getWhiteId(), Elo.whiteScore(result));
+        } else {
+            standings.add(game.getId(), game.getWhiteId(), game.getBlackId(), Elo.whiteScore(result));
+        }
+    }
+
+    /*
+     * Runs after the change commits. The game is put back as the database has it
+     * now, so changes applied out of order still leave the standings right, and a
+     * load racing the change either read it already or is updated here once it
+     * finishes.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        GameChangedEvent.State before = event.getBefore();
+        GameChangedEvent.State after = event.getAfter();
+        if (before != null && after != null && Objects.equals(before.getTournamentId(), after.getTournamentId())
+                && Objects.equals(before.getResult(), after.getResult())) {
+            return;
+        }
+        // A game unfinished both before and after the change, such as a newly paired one, is in no standings.
+        if (!finished(before) && !finished(after)) {
+            return;
+        }
+        if (before != null && before.getTournamentId() != null) {
+            update(before.getTournamentId(), event.getGameId());
+        }
+        if (after != null && after.getTournamentId() != null && (before == null || !after.getTournamentId().equals(before.getTournamentId()))) {
+            update(after.getTournamentId(), event.getGameId());
+        }
+    }
+
+    private static boolean finished(GameChangedEvent.State state) {
+        return state != null && GameResult.parse(state.getResult()) != null;
+    }
+
+    private void update(Long tournamentId, Long gameId) {
+        standings.asMap().computeIfPresent(tournamentId, (id, current) -> {
+            current.remove(gameId);
+            Optional<RatedGame> game = gameRepository.findScoredByIdAndTournamentId(gameId, tournamentId);
+            game.ifPresent(rated -> count(current, rated));
+            return current;
+        });
+    }
+
+    // Forgets every tournament's standings once the deletion of a player commits.
+    void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    standings.invalidateAll();
+                }
+            });
+        } else {
+            standings.invalidateAll();
+        }
+    }
+
+    void invalidate() {
+        standings.invalidateAll();
+    }
+}
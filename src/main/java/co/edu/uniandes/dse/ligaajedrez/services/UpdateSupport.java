@@ -0,0 +1,36 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+
+/*
+ * Checks for the update services. Each update writes its columns in a single
+ * UPDATE guarded by the version the client read, so there is no select before the
+ * write and two writers cannot overwrite each other unnoticed. The repository is
+ * only queried again when that statement matches no row, to tell a missing entity
+ * from a stale version.
+ */
+final class UpdateSupport {
+
+    private UpdateSupport() {
+    }
+
+    static void requireUpdated(int rows, JpaRepository<?, Long> repository, Long id, String name)
+            throws IllegalOperationException, EntityNotFoundException {
+        if (rows > 0) {
+            return;
+        }
+        requireExists(repository, id, name);
+        throw new IllegalOperationException("The " + name + " with ID = " + id + " was modified by another request.");
+    }
+
+    // A missing entity is reported before invalid values, as the updates always have. A find
+    // does not flush, so a caller's pending invalid changes are not written by the check.
+    static void requireExists(JpaRepository<?, Long> repository, Long id, String name) throws EntityNotFoundException {
+        if (repository.findById(id).isEmpty()) {
+            throw new EntityNotFoundException("The " + name + " with ID = " + id + " was not found.");
+        }
+    }
+}
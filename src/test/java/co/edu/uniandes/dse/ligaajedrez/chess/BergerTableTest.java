@@ -0,0 +1,91 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class BergerTableTest {
+
+    // The FIDE table for five or six players, numbered from 1.
+    private static final int[][][] SIX = {
+            { { 1, 6 }, { 2, 5 }, { 3, 4 } },
+            { { 6, 4 }, { 5, 3 }, { 1, 2 } },
+            { { 2, 6 }, { 3, 1 }, { 4, 5 } },
+            { { 6, 5 }, { 1, 4 }, { 2, 3 } },
+            { { 3, 6 }, { 4, 2 }, { 5, 1 } } };
+
+    @Test
+    void testFideTable() {
+        BergerTable table = new BergerTable(6, 1);
+        assertEquals(5, table.rounds());
+        assertEquals(3, table.boards());
+        for (int round = 0; round < table.rounds(); round++) {
+            for (int board = 0; board < table.boards(); board++) {
+                assertEquals(SIX[round][board][0], table.white(round, board) + 1);
+                assertEquals(SIX[round][board][1], table.black(round, board) + 1);
+            }
+        }
+    }
+
+    @Test
+    void testOddPlayersSitOut() {
+        BergerTable table = new BergerTable(5, 1);
+        assertEquals(5, table.rounds());
+        for (int round = 0; round < table.rounds(); round++) {
+            int out = SIX[round][0][0] == 6 ? SIX[round][0][1] : SIX[round][0][0];
+            assertEquals(out - 1, table.white(round, 0) == BergerTable.NONE ? table.black(round, 0) : table.white(round, 0));
+        }
+    }
+
+    @Test
+    void testEveryoneMeetsOnce() {
+        for (int players = 2; players <= 30; players++) {
+            BergerTable table = new BergerTable(players, 1);
+            int[][] met = new int[players][players];
+            int[] whites = new int[players];
+            for (int round = 0; round < table.rounds(); round++) {
+                boolean[] busy = new boolean[players];
+                for (int board = 0; board < table.boards(); board++) {
+                    int white = table.white(round, board);
+                    int black = table.black(round, board);
+                    if (white == BergerTable.NONE || black == BergerTable.NONE) {
+                        continue;
+                    }
+                    assertTrue(!busy[white] && !busy[black]);
+                    busy[white] = busy[black] = true;
+                    met[white][black]++;
+                    met[black][white]++;
+                    whites[white]++;
+                }
+            }
+            for (int a = 0; a < players; a++) {
+                for (int b = 0; b < players; b++) {
+                    assertEquals(a == b ? 0 : 1, met[a][b]);
+                }
+                // Nobody has more than one White too many or too few.
+                int games = players - 1;
+                assertTrue(Math.abs(2 * whites[a] - games) <= 2, players + " players, player " + a);
+            }
+        }
+    }
+
+    @Test
+    void testSecondCycleReversesColours() {
+        BergerTable table = new BergerTable(6, 2);
+        assertEquals(10, table.rounds());
+        for (int round = 0; round < 5; round++) {
+            for (int board = 0; board < table.boards(); board++) {
+                assertEquals(table.white(round, board), table.black(round + 5, board));
+                assertEquals(table.black(round, board), table.white(round + 5, board));
+            }
+        }
+    }
+
+    @Test
+    void testTooFewPlayers() {
+        assertThrows(IllegalArgumentException.class, () -> new BergerTable(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BergerTable(4, 0));
+    }
+}
@@ -0,0 +1,45 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class EloTest {
+
+    @Test
+    void testExpectedScore() {
+        assertEquals(0.5, Elo.expectedScore(1500, 1500), 1e-9);
+        assertEquals(0.64, Elo.expectedScore(1600, 1500), 0.001);
+        assertEquals(1, Elo.expectedScore(1600, 1500) + Elo.expectedScore(1500, 1600), 1e-9);
+    }
+
+    @Test
+    void testExpectedScoreCapsDifference() {
+        assertEquals(Elo.expectedScore(2400, 2000), Elo.expectedScore(2900, 2000), 1e-9);
+        assertEquals(0.909, Elo.expectedScore(2900, 2000), 0.001);
+    }
+
+    @Test
+    void testKFactor() {
+        assertEquals(40, Elo.kFactor(2500, 0));
+        assertEquals(40, Elo.kFactor(1500, Elo.PROVISIONAL_GAMES - 1));
+        assertEquals(20, Elo.kFactor(2399, Elo.PROVISIONAL_GAMES));
+        assertEquals(10, Elo.kFactor(2400, Elo.PROVISIONAL_GAMES));
+    }
+
+    @Test
+    void testChange() {
+        assertEquals(10, Elo.change(1500, 100, 1500, 1));
+        assertEquals(-10, Elo.change(1500, 100, 1500, 0));
+        assertEquals(0, Elo.change(1500, 100, 1500, 0.5));
+        assertEquals(-3, Elo.change(1600, 100, 1500, 0.5));
+        assertEquals(20, Elo.change(1500, 0, 1500, 1));
+    }
+
+    @Test
+    void testWhiteScore() {
+        assertEquals(1, Elo.whiteScore(GameResult.WHITE_WINS));
+        assertEquals(0.5, Elo.whiteScore(GameResult.DRAW));
+        assertEquals(0, Elo.whiteScore(GameResult.BLACK_WINS));
+    }
+}
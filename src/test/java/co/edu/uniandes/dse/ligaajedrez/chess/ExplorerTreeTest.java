@@ -0,0 +1,112 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExplorerTreeTest {
+    private static final long TOURNAMENT = 7;
+
+    private ExplorerTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new ExplorerTree();
+        add(ExplorerTree.ALL, GameResult.WHITE_WINS, 1, "e4", "e5", "Nf3");
+        add(ExplorerTree.ALL, GameResult.DRAW, 1, "e4", "c5");
+        add(ExplorerTree.ALL, GameResult.BLACK_WINS, 1, "d4", "d5");
+        add(TOURNAMENT, GameResult.DRAW, 1, "e4", "c5");
+    }
+
+    private void add(long scope, GameResult result, int delta, String... moves) {
+        tree.add(scope, MoveCodec.fromSan(List.of(moves)), 0, result, delta);
+    }
+
+    private static Position position(String... moves) {
+        Position position = Position.start();
+        for (String move : moves) {
+            San.play(position, move);
+        }
+        return position;
+    }
+
+    @Test
+    void testMovesOfPosition() {
+        List<ExplorerMove> moves = tree.moves(Position.start(), List.of(ExplorerTree.ALL));
+        assertEquals(2, moves.size());
+        assertEquals("e4", moves.get(0).getNotation());
+        assertEquals(2, moves.get(0).getGames());
+        assertEquals(1, moves.get(0).getWhiteWins());
+        assertEquals(1, moves.get(0).getDraws());
+        assertEquals("d4", moves.get(1).getNotation());
+        assertEquals(1, moves.get(1).getBlackWins());
+    }
+
+    @Test
+    void testMovesOfScopes() {
+        assertEquals(1, tree.moves(Position.start(), List.of(TOURNAMENT)).get(0).getGames());
+        add(TOURNAMENT + 1, GameResult.WHITE_WINS, 1, "e4", "e6");
+        List<ExplorerMove> merged = tree.moves(position("e4"), List.of(TOURNAMENT, TOURNAMENT + 1));
+        assertEquals(2, merged.size());
+        assertTrue(tree.moves(Position.start(), List.of(TOURNAMENT + 2)).isEmpty());
+    }
+
+    @Test
+    void testTranspositionsShareNode() {
+        add(ExplorerTree.ALL, GameResult.WHITE_WINS, 1, "Nf3", "Nf6", "d4", "d5", "c4");
+        add(ExplorerTree.ALL, GameResult.DRAW, 1, "d4", "d5", "Nf3", "Nf6", "Bf4");
+        List<ExplorerMove> moves = tree.moves(position("d4", "Nf6", "Nf3", "d5"), List.of(ExplorerTree.ALL));
+        assertEquals(2, moves.size());
+    }
+
+    @Test
+    void testRemoveGame() {
+        add(ExplorerTree.ALL, GameResult.WHITE_WINS, -1, "e4", "e5", "Nf3");
+        List<ExplorerMove> moves = tree.moves(Position.start(), List.of(ExplorerTree.ALL));
+        assertEquals(1, moves.get(0).getGames());
+        assertTrue(tree.moves(position("e4", "e5"), List.of(ExplorerTree.ALL)).isEmpty());
+        assertEquals(List.of("c5"), List.of(tree.moves(position("e4"), List.of(ExplorerTree.ALL)).get(0).getNotation()));
+    }
+
+    @Test
+    void testAddFromPly() {
+        byte[] game = MoveCodec.fromSan(List.of("e4", "e5", "Nf3", "Nc6"));
+        tree.add(ExplorerTree.ALL, game, 3, GameResult.WHITE_WINS, 1);
+        List<ExplorerMove> moves = tree.moves(position("e4", "e5", "Nf3"), List.of(ExplorerTree.ALL));
+        assertEquals(1, moves.size());
+        assertEquals("Nc6", moves.get(0).getNotation());
+        assertEquals(2, tree.moves(Position.start(), List.of(ExplorerTree.ALL)).get(0).getGames());
+    }
+
+    @Test
+    void testSnapshotRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        tree.write(new DataOutputStream(bytes));
+        ExplorerTree read = ExplorerTree.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(tree.size(), read.size());
+        List<ExplorerMove> moves = read.moves(position("e4"), List.of(ExplorerTree.ALL));
+        assertEquals(2, moves.size());
+        assertEquals(1, read.moves(Position.start(), List.of(TOURNAMENT)).get(0).getDraws());
+    }
+
+    @Test
+    void testParseResult() {
+        assertEquals(GameResult.WHITE_WINS, GameResult.parse("1-0"));
+        assertEquals(GameResult.WHITE_WINS, GameResult.parse("Ganó A"));
+        assertEquals(GameResult.BLACK_WINS, GameResult.parse("Ganó B"));
+        assertEquals(GameResult.DRAW, GameResult.parse("1/2-1/2"));
+        assertEquals(GameResult.DRAW, GameResult.parse("Tablas"));
+        assertNull(GameResult.parse("*"));
+        assertNull(GameResult.parse(null));
+    }
+}
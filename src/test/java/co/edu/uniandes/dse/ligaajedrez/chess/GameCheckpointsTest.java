@@ -0,0 +1,69 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class GameCheckpointsTest {
+
+    // A seeded random game, long enough to cross several checkpoints.
+    private static byte[] randomGame(int plies, List<String> fens, List<String> sans) {
+        Random random = new Random(17);
+        Position position = Position.start();
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        byte[] data = new byte[0];
+        fens.add(position.toFen());
+        for (int ply = 0; ply < plies; ply++) {
+            int count = MoveGenerator.generateLegal(position, buffer);
+            if (count == 0) {
+                break;
+            }
+            int move = buffer[random.nextInt(count)];
+            sans.add(San.format(position, move));
+            data = MoveCodec.append(data, MoveCodec.encode(move));
+            position.make(move);
+            fens.add(position.toFen());
+        }
+        return data;
+    }
+
+    @Test
+    void testPositionAtEveryPly() {
+        List<String> fens = new ArrayList<>();
+        List<String> sans = new ArrayList<>();
+        byte[] data = randomGame(150, fens, sans);
+        GameCheckpoints game = GameCheckpoints.of(data);
+        assertEquals(fens.size() - 1, game.plies());
+        assertEquals(game.plies() / GameCheckpoints.INTERVAL + 1, game.checkpoints());
+        for (int ply = game.plies(); ply >= 0; ply--) {
+            assertEquals(fens.get(ply), game.positionAt(ply).toFen());
+            assertEquals(ply == 0 ? null : sans.get(ply - 1), game.moveAt(ply));
+        }
+    }
+
+    @Test
+    void testEmptyGame() {
+        GameCheckpoints game = GameCheckpoints.of(null);
+        assertEquals(0, game.plies());
+        assertEquals(Position.START_FEN, game.positionAt(0).toFen());
+        assertNull(game.moveAt(0));
+    }
+
+    @Test
+    void testPlyOutOfGame() {
+        GameCheckpoints game = GameCheckpoints.of(MoveCodec.fromSan(List.of("e4", "e5")));
+        assertThrows(IndexOutOfBoundsException.class, () -> game.positionAt(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> game.positionAt(-1));
+    }
+
+    @Test
+    void testIllegalMoveData() {
+        assertThrows(IllegalMoveException.class, () -> GameCheckpoints.of(new byte[] { 0, 0 }));
+    }
+}
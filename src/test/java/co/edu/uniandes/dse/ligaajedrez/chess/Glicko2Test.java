@@ -0,0 +1,82 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class Glicko2Test {
+
+    // The worked example of Glickman's paper.
+    @Test
+    void testUpdate() {
+        double[] result = new double[3];
+        Glicko2.update(1500, 200, 0.06, new double[] { 1400, 1550, 1700 }, new double[] { 30, 100, 300 }, new double[] { 1, 0, 0 }, 3, Glicko2.TAU,
+                result);
+        assertEquals(1464.06, result[Glicko2.RATING], 0.01);
+        assertEquals(151.52, result[Glicko2.DEVIATION], 0.01);
+        assertEquals(0.05999, result[Glicko2.VOLATILITY], 0.00001);
+    }
+
+    @Test
+    void testUpdateWithoutGames() {
+        double[] result = new double[3];
+        Glicko2.update(1500, 200, 0.06, new double[0], new double[0], new double[0], 0, Glicko2.TAU, result);
+        assertEquals(1500, result[Glicko2.RATING]);
+        assertEquals(Math.sqrt(200 * 200 + Math.pow(0.06 * Glicko2.SCALE, 2)), result[Glicko2.DEVIATION], 1e-9);
+        assertEquals(0.06, result[Glicko2.VOLATILITY]);
+    }
+
+    @Test
+    void testRatingPeriodMatchesPlayerByPlayer() {
+        int players = 1000;
+        Random random = new Random(3);
+        double[][] ratings = new double[players][];
+        for (int p = 0; p < players; p++) {
+            ratings[p] = new double[] { 1200 + random.nextInt(1200), 50 + random.nextInt(300), Glicko2.INITIAL_VOLATILITY };
+        }
+        RatingPeriod period = new RatingPeriod(players);
+        List<List<double[]>> games = new ArrayList<>();
+        for (int p = 0; p < players; p++) {
+            games.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 3000; i++) {
+            int white = random.nextInt(players);
+            int black = (white + 1 + random.nextInt(players - 1)) % players;
+            double score = random.nextInt(3) / 2.0;
+            period.addGame(white, black, score);
+            games.get(white).add(new double[] { black, score });
+            games.get(black).add(new double[] { white, 1 - score });
+        }
+        double[][] expected = new double[players][3];
+        for (int p = 0; p < players; p++) {
+            List<double[]> played = games.get(p);
+            double[] opponentRatings = new double[played.size()];
+            double[] opponentDeviations = new double[played.size()];
+            double[] scores = new double[played.size()];
+            for (int i = 0; i < played.size(); i++) {
+                double[] opponent = ratings[(int) played.get(i)[0]];
+                opponentRatings[i] = opponent[Glicko2.RATING];
+                opponentDeviations[i] = opponent[Glicko2.DEVIATION];
+                scores[i] = played.get(i)[1];
+            }
+            Glicko2.update(ratings[p][0], ratings[p][1], ratings[p][2], opponentRatings, opponentDeviations, scores, played.size(), Glicko2.TAU,
+                    expected[p]);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            period.rate(ratings, Glicko2.TAU, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(3000, period.games());
+        for (int p = 0; p < players; p++) {
+            assertArrayEquals(expected[p], ratings[p], "player " + p);
+        }
+    }
+}
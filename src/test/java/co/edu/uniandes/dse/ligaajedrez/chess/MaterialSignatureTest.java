@@ -0,0 +1,80 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MaterialSignatureTest {
+    private static final String START = "KQRRBBNNPPPPPPPPvKQRRBBNNPPPPPPPP";
+
+    @Test
+    void testOfStart() {
+        long signature = MaterialSignature.of(Position.start());
+        assertEquals(START, MaterialSignature.toString(signature));
+        assertEquals(8, MaterialSignature.count(signature, Piece.BLACK, Piece.PAWN));
+        assertEquals(GamePhase.OPENING, GamePhase.of(MaterialSignature.phaseUnits(signature)));
+    }
+
+    @Test
+    void testParse() {
+        long signature = MaterialSignature.parse("krppvkr");
+        assertEquals("KRPPvKR", MaterialSignature.toString(signature));
+        assertEquals(signature, MaterialSignature.parse(" KPRPvKR "));
+        assertEquals(MaterialSignature.of(Position.start()), MaterialSignature.parse(START));
+    }
+
+    @Test
+    void testParseInvalid() {
+        for (String text : new String[] { "", "KR", "KRvKRvK", "RvK", "KvR", "KXvK", "KKvK", "KPPPPPPPPPvK", null }) {
+            assertThrows(IllegalArgumentException.class, () -> MaterialSignature.parse(text), text);
+        }
+    }
+
+    @Test
+    void testMirror() {
+        long signature = MaterialSignature.parse("KRPvKR");
+        assertEquals("KRvKRP", MaterialSignature.toString(MaterialSignature.mirror(signature)));
+        assertEquals(signature, MaterialSignature.mirror(MaterialSignature.mirror(signature)));
+    }
+
+    @Test
+    void testPhase() {
+        assertEquals(GamePhase.OPENING, GamePhase.of(MaterialSignature.phaseUnits(MaterialSignature.parse(START))));
+        assertEquals(GamePhase.MIDDLEGAME, GamePhase.of(MaterialSignature.phaseUnits(MaterialSignature.parse("KQRRBNPPPPvKQRRBNPPPP"))));
+        assertEquals(GamePhase.ENDGAME, GamePhase.of(MaterialSignature.phaseUnits(MaterialSignature.parse("KRRPPvKRRPP"))));
+    }
+
+    @Test
+    void testEndgameType() {
+        assertEquals(EndgameType.PAWN, EndgameType.of(Position.fromFen("8/5p2/4k3/8/8/4K3/3P4/8 w - - 0 1")));
+        assertEquals(EndgameType.OPPOSITE_BISHOPS, EndgameType.of(Position.fromFen("8/8/4k3/8/8/2B5/4b3/4K3 w - - 0 1")));
+        assertEquals(EndgameType.BISHOP, EndgameType.of(Position.fromFen("8/8/4k3/8/8/2B5/3b4/4K3 w - - 0 1")));
+        assertEquals(EndgameType.MINOR_PIECE, EndgameType.of(Position.fromFen("8/8/4k3/8/8/2B5/3n4/4K3 w - - 0 1")));
+        assertEquals(EndgameType.ROOK, EndgameType.of(Position.fromFen("8/8/4k3/r7/8/8/3P4/R3K3 w - - 0 1")));
+        assertEquals(EndgameType.ROOK_MINOR_PIECE, EndgameType.of(Position.fromFen("8/8/4k3/r7/8/8/3N4/R3K3 w - - 0 1")));
+        assertEquals(EndgameType.QUEEN, EndgameType.of(Position.fromFen("8/8/4k3/q7/8/8/8/Q3K3 w - - 0 1")));
+        assertEquals(EndgameType.OTHER, EndgameType.of(Position.start()));
+    }
+
+    @Test
+    void testSegments() {
+        // Material changes on the capture at ply 3 and the recapture at ply 4, not on the other moves.
+        List<MaterialSignature.Segment> segments = MaterialSignature.segments(MoveCodec.fromSan(List.of("e4", "d5", "exd5", "Qxd5", "Nc3")));
+        assertEquals(3, segments.size());
+        assertEquals(0, segments.get(0).getPly());
+        assertEquals(START, MaterialSignature.toString(segments.get(0).getSignature()));
+        assertEquals(3, segments.get(1).getPly());
+        assertEquals("KQRRBBNNPPPPPPPPvKQRRBBNNPPPPPPP", MaterialSignature.toString(segments.get(1).getSignature()));
+        assertEquals(4, segments.get(2).getPly());
+        assertEquals("KQRRBBNNPPPPPPPvKQRRBBNNPPPPPPP", MaterialSignature.toString(segments.get(2).getSignature()));
+        assertEquals(GamePhase.OPENING, segments.get(2).getPhase());
+    }
+
+    @Test
+    void testSegmentsOfIllegalMoves() {
+        assertThrows(IllegalMoveException.class, () -> MaterialSignature.segments(new byte[] { 0, 0 }));
+    }
+}
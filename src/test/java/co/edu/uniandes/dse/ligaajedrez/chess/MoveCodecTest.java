@@ -0,0 +1,52 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class MoveCodecTest {
+
+    @Test
+    void testRoundTrip() {
+        List<String> game = List.of("e4", "d5", "exd5", "c6", "dxc6", "Qb6", "cxb7", "Nf6", "bxa8=Q", "Bd7", "Qxb8+");
+        byte[] data = MoveCodec.fromSan(game);
+        assertEquals(game.size() * 2, data.length);
+        assertEquals(game, MoveCodec.toSan(data));
+        assertEquals("1Q2kb1r/p2bpppp/1q3n2/8/8/8/PPPP1PPP/RNBQKBNR b KQk - 0 6", MoveCodec.replay(data).toFen());
+    }
+
+    @Test
+    void testCastlingAndEnPassant() {
+        List<String> game = List.of("e4", "Nf6", "e5", "d5", "exd6", "e6", "Nf3", "Be7", "Bc4", "O-O", "O-O");
+        assertEquals(game, MoveCodec.toSan(MoveCodec.fromSan(game)));
+    }
+
+    @Test
+    void testFromSanWithHashes() {
+        List<String> game = List.of("d4", "Nf6", "c4", "e6", "Nc3", "Bb4");
+        List<Long> hashes = new ArrayList<>();
+        byte[] data = MoveCodec.fromSan(game, hashes);
+        assertArrayEquals(MoveCodec.fromSan(game), data);
+        assertEquals(Arrays.stream(MoveCodec.hashes(data)).boxed().collect(Collectors.toList()), hashes);
+    }
+
+    @Test
+    void testAppend() {
+        Position position = Position.start();
+        byte[] data = MoveCodec.append(null, San.parse(position, "Nf3"));
+        assertEquals(List.of("Nf3"), MoveCodec.toSan(data));
+        assertEquals(List.of(), MoveCodec.toSan(null));
+    }
+
+    @Test
+    void testCorruptData() {
+        assertThrows(IllegalMoveException.class, () -> MoveCodec.toSan(new byte[] { 0, 0 }));
+    }
+}
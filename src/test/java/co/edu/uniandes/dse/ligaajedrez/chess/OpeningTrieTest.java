@@ -0,0 +1,49 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OpeningTrieTest {
+    private OpeningTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new OpeningTrie();
+        trie.add(MoveCodec.fromSan(List.of("e4")), 1);
+        trie.add(MoveCodec.fromSan(List.of("e4", "e5", "Nf3", "Nc6", "Bb5")), 2);
+        trie.add(MoveCodec.fromSan(List.of("e4", "c5")), 3);
+        trie.add(MoveCodec.fromSan(List.of("e4", "c5")), 4);
+    }
+
+    private long classify(String... moves) {
+        return trie.classify(MoveCodec.fromSan(List.of(moves)));
+    }
+
+    @Test
+    void testClassifyDeepestOpening() {
+        assertEquals(2, classify("e4", "e5", "Nf3", "Nc6", "Bb5", "a6", "Ba4"));
+        assertEquals(3, classify("e4", "c5", "Nf3"));
+    }
+
+    @Test
+    void testClassifyBetweenOpenings() {
+        assertEquals(1, classify("e4", "e5", "Nf3"));
+        assertEquals(1, classify("e4", "e5", "Bc4"));
+    }
+
+    @Test
+    void testClassifyWithoutOpening() {
+        assertEquals(OpeningTrie.NONE, classify("d4", "d5"));
+        assertEquals(OpeningTrie.NONE, trie.classify(null));
+    }
+
+    @Test
+    void testDepth() {
+        assertEquals(5, trie.depth());
+        assertEquals(0, new OpeningTrie().depth());
+    }
+}
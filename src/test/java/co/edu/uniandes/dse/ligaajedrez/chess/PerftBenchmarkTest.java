@@ -0,0 +1,67 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.PerftTest.Reference;
+
+/*
+ * Measures move generation throughput on the perft reference positions, single
+ * threaded and on a fork/join pool with a worker per processor, and prints the
+ * nodes per second of each. Runs with -Pperft; -Dperft.minNodesPerSecond=N fails
+ * the build when the single-threaded total falls below N.
+ */
+@Tag("benchmark")
+public class PerftBenchmarkTest {
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Test
+    void benchmarkPerft() {
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            long totalNodes = 0;
+            long totalNanos = 0;
+            System.out.printf("%-12s %5s %12s %16s %16s%n", "position", "depth", "nodes", "nodes/s", "parallel nodes/s");
+            for (Reference reference : Reference.values()) {
+                Position position = Position.fromFen(reference.fen);
+                long nodes = reference.nodes(reference.depth);
+                long single = bestNanos(() -> Perft.count(position, reference.depth), nodes);
+                long parallel = bestNanos(() -> Perft.countParallel(position, reference.depth, pool), nodes);
+                System.out.printf("%-12s %5d %12d %16d %16d%n", reference, reference.depth, nodes, perSecond(nodes, single), perSecond(nodes, parallel));
+                totalNodes += nodes;
+                totalNanos += single;
+            }
+            long total = perSecond(totalNodes, totalNanos);
+            System.out.printf("%-12s %5s %12d %16d%n", "total", "", totalNodes, total);
+            long minimum = Long.getLong("perft.minNodesPerSecond", 0);
+            assertTrue(total >= minimum, "Move generation ran at " + total + " nodes/s, below the minimum of " + minimum + ".");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // The fastest of the measured rounds, after warming up; every round must count the expected nodes.
+    private static long bestNanos(LongSupplier perft, long nodes) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            long counted = perft.getAsLong();
+            long elapsed = System.nanoTime() - start;
+            assertTrue(counted == nodes, "Counted " + counted + " nodes instead of " + nodes + ".");
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    private static long perSecond(long nodes, long nanos) {
+        return nanos == 0 ? 0 : nodes * 1_000_000_000L / nanos;
+    }
+}
@@ -0,0 +1,99 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/*
+ * The published node counts of the standard perft positions. Every depth up to
+ * the reference depth runs with the build; the deeper counts are tagged "perft"
+ * and run with -Pperft.
+ */
+public class PerftTest {
+
+    enum Reference {
+        START(Position.START_FEN, 5, 20, 400, 8902, 197281, 4865609, 119060324),
+        KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 4, 48, 2039, 97862, 4085603, 193690690),
+        POSITION_3("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", 5, 14, 191, 2812, 43238, 674624, 11030083),
+        POSITION_4("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", 4, 6, 264, 9467, 422333, 15833292),
+        POSITION_5("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", 4, 44, 1486, 62379, 2103487, 89941194),
+        POSITION_6("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", 4, 46, 2079, 89890, 3894594, 164075551);
+
+        final String fen;
+        // The deepest count checked with every build.
+        final int depth;
+        // The node counts from depth 1.
+        final long[] nodes;
+
+        Reference(String fen, int depth, long... nodes) {
+            this.fen = fen;
+            this.depth = depth;
+            this.nodes = nodes;
+        }
+
+        long nodes(int depth) {
+            return nodes[depth - 1];
+        }
+    }
+
+    static void assertPerft(Reference reference, int depth, long nodes) {
+        assertEquals(reference.nodes(depth), nodes,
+                () -> reference + " at depth " + depth + ", divide at depth 1: " + Perft.divide(Position.fromFen(reference.fen), 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Reference.class)
+    void testPerft(Reference reference) {
+        for (int depth = 1; depth <= reference.depth; depth++) {
+            assertPerft(reference, depth, Perft.count(Position.fromFen(reference.fen), depth));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Reference.class)
+    void testPerftParallel(Reference reference) {
+        assertPerft(reference, reference.depth, Perft.countParallel(Position.fromFen(reference.fen), reference.depth, ForkJoinPool.commonPool()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Reference.class)
+    @Tag("perft")
+    void testPerftDeep(Reference reference) {
+        for (int depth = reference.depth + 1; depth <= reference.nodes.length; depth++) {
+            assertPerft(reference, depth, Perft.countParallel(Position.fromFen(reference.fen), depth, ForkJoinPool.commonPool()));
+        }
+    }
+
+    @Test
+    void testPerftLeavesPositionUnchanged() {
+        Position position = Position.fromFen(Reference.KIWIPETE.fen);
+        Perft.count(position, 3);
+        Perft.countParallel(position, 4, ForkJoinPool.commonPool());
+        assertEquals(Reference.KIWIPETE.fen, position.toFen());
+        assertEquals(Position.fromFen(Reference.KIWIPETE.fen).hash(), position.hash());
+    }
+
+    @Test
+    void testDivide() {
+        Map<String, Long> divide = Perft.divide(Position.start(), 3);
+        assertEquals(20, divide.size());
+        assertEquals(600L, divide.get("e2e4"));
+        assertEquals(380L, divide.get("a2a3"));
+        assertEquals(8902L, divide.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void testDepthZero() {
+        assertEquals(1, Perft.count(Position.start(), 0));
+        assertEquals(1, Perft.countParallel(Position.start(), 0, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> Perft.count(Position.start(), -1));
+        assertThrows(IllegalArgumentException.class, () -> Perft.divide(Position.start(), 0));
+    }
+}
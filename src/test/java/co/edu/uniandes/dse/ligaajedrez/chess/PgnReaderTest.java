@@ -0,0 +1,77 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PgnReaderTest {
+
+    private static List<PgnGame> read(String pgn) throws IOException {
+        List<PgnGame> games = new ArrayList<>();
+        try (PgnReader reader = new PgnReader(new StringReader(pgn))) {
+            for (PgnGame game = reader.next(); game != null; game = reader.next()) {
+                games.add(game);
+            }
+        }
+        return games;
+    }
+
+    @Test
+    void testReadGame() throws IOException {
+        List<PgnGame> games = read("[Event \"Liga \\\"Bogotá\\\"\"]\n[White \"juan\"]\n[Black \"pedro\"]\n[Result \"1-0\"]\n\n"
+                + "1. e4 e5 2. Nf3 Nc6 3. Bb5 a6 1-0\n");
+        assertEquals(1, games.size());
+        PgnGame game = games.get(0);
+        assertEquals(1, game.getNumber());
+        assertEquals("Liga \"Bogotá\"", game.getTag("Event"));
+        assertEquals("juan", game.getTag("White"));
+        assertEquals(List.of("e4", "e5", "Nf3", "Nc6", "Bb5", "a6"), game.getMoves());
+        assertEquals("1-0", game.getResult());
+    }
+
+    @Test
+    void testSkipCommentsVariationsAndGlyphs() throws IOException {
+        List<PgnGame> games = read("1.e4 {A comment (with parentheses)} e5 ; rest of the line 2. f4\n"
+                + "2. Nf3 (2. f4 exf4 (2... d5) 3. Nf3 {(}) Nc6!? $1 3. Bb5 3... a6 4. O-O *");
+        assertEquals(List.of("e4", "e5", "Nf3", "Nc6!?", "Bb5", "a6", "O-O"), games.get(0).getMoves());
+        assertEquals("*", games.get(0).getResult());
+    }
+
+    @Test
+    void testSkipEscapedLines() throws IOException {
+        List<PgnGame> games = read("% exported by a tool 1. d4\n1. d4 d5 %not an escape\n1/2-1/2");
+        assertEquals(List.of("d4", "d5", "%not", "an", "escape"), games.get(0).getMoves());
+    }
+
+    @Test
+    void testReadSeveralGames() throws IOException {
+        List<PgnGame> games = read("[White \"a\"]\n\n1. e4 e5 1/2-1/2\n\n[White \"b\"]\n\n1. d4 0-1\n\n1. c4 *\n");
+        assertEquals(3, games.size());
+        assertEquals("a", games.get(0).getTag("White"));
+        assertEquals("b", games.get(1).getTag("White"));
+        assertEquals(List.of("d4"), games.get(1).getMoves());
+        assertEquals(3, games.get(2).getNumber());
+        assertEquals(List.of("c4"), games.get(2).getMoves());
+    }
+
+    @Test
+    void testReadGameWithoutResult() throws IOException {
+        List<PgnGame> games = read("[White \"a\"]\n1. e4 e5\n[White \"b\"]\n1. d4\n");
+        assertEquals(2, games.size());
+        assertNull(games.get(0).getResult());
+        assertEquals(List.of("e4", "e5"), games.get(0).getMoves());
+        assertEquals("b", games.get(1).getTag("White"));
+        assertEquals(List.of("d4"), games.get(1).getMoves());
+    }
+
+    @Test
+    void testReadEmptyFile() throws IOException {
+        assertEquals(0, read("  \n% nothing here\n").size());
+    }
+}
@@ -0,0 +1,80 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PgnWriterTest {
+
+    @Test
+    void testFormatGame() {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Opening", "Ruy Lopez");
+        tags.put("White", "juan");
+        tags.put("Event", "Liga");
+        String pgn = PgnWriter.format(tags, List.of("e4", "e5", "Nf3", "Nc6", "Bb5"), "1-0");
+        assertEquals("[Event \"Liga\"]\n[Site \"?\"]\n[Date \"????.??.??\"]\n[Round \"?\"]\n[White \"juan\"]\n[Black \"?\"]\n[Result \"1-0\"]\n"
+                + "[Opening \"Ruy Lopez\"]\n\n1. e4 e5 2. Nf3 Nc6 3. Bb5 1-0\n\n", pgn);
+    }
+
+    @Test
+    void testFormatGameWithoutMoves() {
+        String pgn = PgnWriter.format(Collections.emptyMap(), List.of(), "*");
+        assertTrue(pgn.endsWith("[Result \"*\"]\n\n*\n\n"));
+    }
+
+    @Test
+    void testEscapeTags() {
+        String pgn = PgnWriter.format(Map.of("Event", "Liga \"Bogotá\" \\ 2023\nfinal"), List.of(), "*");
+        assertTrue(pgn.startsWith("[Event \"Liga \\\"Bogotá\\\" \\\\ 2023 final\"]\n"));
+    }
+
+    @Test
+    void testWrapMovetext() {
+        List<String> moves = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            moves.addAll(List.of("Nf3", "Nf6", "Ng1", "Ng8"));
+        }
+        String pgn = PgnWriter.format(Collections.emptyMap(), moves, "1/2-1/2");
+        String movetext = pgn.substring(pgn.indexOf("\n\n") + 2);
+        for (String line : movetext.split("\n")) {
+            assertTrue(line.length() <= PgnWriter.LINE_LENGTH, line);
+            assertTrue(!line.startsWith(" ") && !line.endsWith(" "), line);
+        }
+        assertTrue(movetext.trim().endsWith("80. Ng1 Ng8 1/2-1/2"));
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        List<String> moves = MoveCodec.toSan(MoveCodec.fromSan(List.of("e4", "d5", "exd5", "Qxd5", "Nc3", "Qa5", "d4", "c6", "Nf3", "Bg4",
+                "Bf4", "e6", "h3", "Bxf3", "Qxf3", "Bb4", "Be2", "Nd7", "a3", "O-O-O")));
+        StringWriter writer = new StringWriter();
+        PgnWriter pgn = new PgnWriter(writer);
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("White", "ana");
+        tags.put("Black", "luis");
+        pgn.write(tags, moves, "0-1");
+        pgn.write(Collections.emptyMap(), moves.subList(0, 3), "*");
+        try (PgnReader reader = new PgnReader(new StringReader(writer.toString()))) {
+            PgnGame first = reader.next();
+            assertEquals(moves, first.getMoves());
+            assertEquals("0-1", first.getResult());
+            assertEquals("ana", first.getTag("White"));
+            assertEquals("0-1", first.getTag("Result"));
+            PgnGame second = reader.next();
+            assertEquals(moves.subList(0, 3), second.getMoves());
+            assertEquals("*", second.getResult());
+            assertEquals(null, reader.next());
+        }
+    }
+}
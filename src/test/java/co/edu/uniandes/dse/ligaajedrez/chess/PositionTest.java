@@ -0,0 +1,87 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionTest {
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    @Test
+    void testFenRoundTrip() {
+        assertEquals(Position.START_FEN, Position.start().toFen());
+        assertEquals(KIWIPETE, Position.fromFen(KIWIPETE).toFen());
+    }
+
+    @Test
+    void testInvalidFen() {
+        assertThrows(IllegalArgumentException.class, () -> Position.fromFen("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w KQkq - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Position.fromFen("8/8/8/8/8/8/8/8 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Position.fromFen("4k3/8/8/8/8/8/8/4K2R x - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> Position.fromFen("4k2R/8/8/8/8/8/8/4K3 w - - 0 1"));
+    }
+
+    @Test
+    void testMakeUnmakeRestoresPosition() {
+        Position position = Position.fromFen(KIWIPETE);
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(position, moves);
+        assertEquals(48, count);
+        for (int i = 0; i < count; i++) {
+            position.make(moves[i]);
+            position.unmake(moves[i]);
+            assertEquals(KIWIPETE, position.toFen());
+        }
+    }
+
+    @Test
+    void testGenerateLegalInCheck() {
+        Position position = Position.fromFen("4k3/8/8/8/8/8/3q4/4K3 w - - 0 1");
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(position, moves);
+        assertEquals(2, count);
+        assertEquals(Set.of("Kxd2", "Kf1"), Set.of(San.format(position, moves[0]), San.format(position, moves[1])));
+    }
+
+    @Test
+    void testHashFollowsMoves() {
+        Position position = Position.fromFen(KIWIPETE);
+        long hash = position.hash();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegal(position, moves);
+        for (int i = 0; i < count; i++) {
+            position.make(moves[i]);
+            assertEquals(Position.fromFen(position.toFen()).hash(), position.hash());
+            position.unmake(moves[i]);
+            assertEquals(hash, position.hash());
+        }
+    }
+
+    @Test
+    void testHashOfTransposition() {
+        Position first = Position.start();
+        for (String san : new String[] { "d4", "Nf6", "c4", "e6" }) {
+            San.play(first, san);
+        }
+        Position second = Position.start();
+        for (String san : new String[] { "c4", "e6", "d4", "Nf6" }) {
+            San.play(second, san);
+        }
+        assertEquals(first.hash(), second.hash());
+        assertNotEquals(Position.start().hash(), first.hash());
+    }
+
+    @Test
+    void testHashIgnoresUnusableEnPassantSquare() {
+        Position pushed = Position.start();
+        San.play(pushed, "e4");
+        assertEquals(Position.fromFen("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1").hash(), pushed.hash());
+        Position capturable = Position.fromFen("4k3/8/8/8/3p4/8/4P3/4K3 w - - 0 1");
+        San.play(capturable, "e4");
+        assertNotEquals(Position.fromFen("4k3/8/8/8/3pP3/8/8/4K3 b - - 0 1").hash(), capturable.hash());
+    }
+}
@@ -0,0 +1,67 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SanTest {
+
+    private static Position play(String... moves) {
+        Position position = Position.start();
+        for (String move : moves) {
+            San.play(position, move);
+        }
+        return position;
+    }
+
+    @Test
+    void testPlayGame() {
+        Position position = play("e4", "e5", "Nf3", "Nc6", "Bb5", "a6", "Ba4", "Nf6", "O-O", "Be7");
+        assertEquals("r1bqk2r/1pppbppp/p1n2n2/4p3/B3P3/5N2/PPPP1PPP/RNBQ1RK1 w kq - 4 6", position.toFen());
+    }
+
+    @Test
+    void testFormatCheckAndMate() {
+        Position position = play("e4", "e5", "Qh5", "Nc6", "Bc4", "Nf6");
+        assertEquals("Qxf7#", San.play(position, "Qxf7"));
+        position = play("e4", "f5");
+        assertEquals("Qh5+", San.play(position, "Qh5"));
+    }
+
+    @Test
+    void testDisambiguation() {
+        Position position = Position.fromFen("4k3/8/8/8/8/5N2/8/1N2K3 w - - 0 1");
+        assertThrows(IllegalMoveException.class, () -> San.parse(position, "Nd2"));
+        assertEquals("Nbd2", San.format(position, San.parse(position, "Nbd2")));
+        assertEquals("Nfd2", San.format(position, San.parse(position, "Nf3d2")));
+        Position rooks = Position.fromFen("4k3/8/8/R7/8/8/8/R3K3 w - - 0 1");
+        assertEquals("R1a3", San.format(rooks, San.parse(rooks, "Ra1a3")));
+    }
+
+    @Test
+    void testEnPassantAndPromotion() {
+        Position position = play("e4", "a6", "e5", "d5");
+        assertEquals("exd6", San.play(position, "exd6"));
+        Position promotion = Position.fromFen("8/4P1k1/8/8/8/8/8/4K3 w - - 0 1");
+        assertThrows(IllegalMoveException.class, () -> San.parse(promotion, "e8"));
+        assertEquals("e8=N+", San.play(promotion, "e8=N"));
+        assertEquals("4N3/6k1/8/8/8/8/8/4K3 b - - 0 1", promotion.toFen());
+    }
+
+    @Test
+    void testCastlingThroughCheck() {
+        Position position = Position.fromFen("r3k2r/8/8/8/8/8/5r2/R3K2R w KQkq - 0 1");
+        assertThrows(IllegalMoveException.class, () -> San.parse(position, "O-O"));
+        assertEquals("O-O-O", San.play(position, "0-0-0"));
+    }
+
+    @Test
+    void testIllegalMoves() {
+        assertThrows(IllegalMoveException.class, () -> San.parse(Position.start(), "Ke8"));
+        assertThrows(IllegalMoveException.class, () -> San.parse(Position.start(), "e5"));
+        assertThrows(IllegalMoveException.class, () -> San.parse(Position.start(), "Nxf3"));
+        assertThrows(IllegalMoveException.class, () -> San.parse(Position.start(), "Zz9"));
+        assertThrows(IllegalMoveException.class, () -> San.parse(play("e4", "e5", "Qh5", "Nc6", "Bc4", "Nf6", "Qxf7"), "Ke7"));
+    }
+}
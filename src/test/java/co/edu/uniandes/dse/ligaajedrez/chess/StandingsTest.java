@@ -0,0 +1,160 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class StandingsTest {
+
+    private static void assertRow(Standing row, long playerId, int rank, double points, int games, double directEncounter, double buchholz,
+            double sonnebornBerger) {
+        assertEquals(playerId, row.getPlayerId());
+        assertEquals(rank, row.getRank());
+        assertEquals(points, row.getPoints());
+        assertEquals(games, row.getGames());
+        assertEquals(directEncounter, row.getDirectEncounter());
+        assertEquals(buchholz, row.getBuchholz());
+        assertEquals(sonnebornBerger, row.getSonnebornBerger());
+    }
+
+    @Test
+    void testTiebreaks() {
+        Standings standings = new Standings();
+        standings.add(1, 1, 2, 1);
+        standings.add(2, 3, 4, 0.5);
+        standings.add(3, 1, 3, 0.5);
+        standings.add(4, 2, 4, 1);
+        List<Standing> rows = standings.rows();
+        assertEquals(4, rows.size());
+        assertRow(rows.get(0), 1, 1, 1.5, 2, 0, 2, 1.5);
+        // Players 3 and 2 are tied on points and Buchholz and never met; Sonneborn-Berger decides.
+        assertRow(rows.get(1), 3, 2, 1, 2, 0, 2, 1);
+        assertRow(rows.get(2), 2, 3, 1, 2, 0, 2, 0.5);
+        assertRow(rows.get(3), 4, 4, 0.5, 2, 0, 2, 0.5);
+    }
+
+    @Test
+    void testDirectEncounterBeforeBuchholz() {
+        Standings standings = new Standings();
+        standings.add(1, 1, 2, 1);
+        standings.add(2, 2, 4, 1);
+        standings.add(3, 4, 3, 1);
+        standings.add(4, 4, 5, 1);
+        List<Standing> rows = standings.rows();
+        assertEquals(4, rows.get(0).getPlayerId());
+        assertRow(rows.get(1), 1, 2, 1, 1, 1, 1, 1);
+        assertRow(rows.get(2), 2, 3, 1, 2, 0, 3, 2);
+    }
+
+    @Test
+    void testSharedRank() {
+        Standings standings = new Standings();
+        standings.add(1, 1, 2, 1);
+        standings.add(2, 2, 3, 1);
+        standings.add(3, 3, 1, 1);
+        for (Standing row : standings.rows()) {
+            assertEquals(1, row.getRank());
+            assertEquals(1, row.getDirectEncounter());
+        }
+    }
+
+    @Test
+    void testRemoveAndReplace() {
+        Standings standings = new Standings();
+        standings.add(1, 1, 2, 1);
+        standings.add(2, 2, 3, 0.5);
+        standings.add(1, 1, 2, 0);
+        assertEquals(2, standings.games());
+        assertEquals(2, standings.rows().get(0).getPlayerId());
+        assertEquals(1.5, standings.rows().get(0).getPoints());
+        standings.remove(1);
+        standings.remove(7);
+        List<Standing> rows = standings.rows();
+        assertEquals(2, rows.size());
+        assertRow(rows.get(0), 2, 1, 0.5, 1, 0.5, 0.5, 0.25);
+        assertRow(rows.get(1), 3, 1, 0.5, 1, 0.5, 0.5, 0.25);
+        standings.remove(2);
+        assertTrue(standings.rows().isEmpty());
+    }
+
+    @Test
+    void testByes() {
+        Standings standings = new Standings();
+        standings.add(1, 1, 2, 1);
+        standings.addBye(2, 3, 1);
+        standings.add(3, 3, 1, 0.5);
+        standings.addBye(4, 4, 1);
+        assertEquals(4, standings.games());
+        List<Standing> rows = standings.rows();
+        // The bye counts for player 3's points, and so for player 1's tiebreaks, but not for player 3's own.
+        assertRow(rows.get(0), 1, 1, 1.5, 2, 0.5, 1.5, 0.75);
+        assertRow(rows.get(1), 3, 1, 1.5, 1, 0.5, 1.5, 0.75);
+        assertRow(rows.get(2), 4, 3, 1, 0, 0, 0, 0);
+        assertRow(rows.get(3), 2, 4, 0, 1, 0, 1.5, 0);
+
+        standings.remove(2);
+        standings.remove(4);
+        rows = standings.rows();
+        assertEquals(3, rows.size());
+        assertRow(rows.get(0), 1, 1, 1.5, 2, 0, 0.5, 0.25);
+        assertRow(rows.get(1), 3, 2, 0.5, 1, 0, 1.5, 0.75);
+        standings.remove(3);
+        assertEquals(2, standings.rows().size());
+    }
+
+    @Test
+    void testRowsSharedUntilChange() {
+        Standings standings = new Standings();
+        standings.add(1, 1, 2, 1);
+        List<Standing> rows = standings.rows();
+        assertSame(rows, standings.rows());
+        standings.add(2, 1, 2, 0);
+        assertEquals(1, standings.rows().get(0).getRank());
+        assertEquals(1, standings.rows().get(1).getRank());
+    }
+
+    @Test
+    void testIncrementalMatchesRebuilt() {
+        Random random = new Random(11);
+        Standings standings = new Standings();
+        Map<Long, double[]> games = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long gameId = random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                standings.remove(gameId);
+                games.remove(gameId);
+            } else {
+                long white = random.nextInt(60);
+                long black = random.nextInt(60);
+                double score = random.nextInt(3) / 2.0;
+                standings.add(gameId, white, black, score);
+                if (white == black) {
+                    games.remove(gameId);
+                } else {
+                    games.put(gameId, new double[] { white, black, score });
+                }
+            }
+            if (i % 500 == 0) {
+                standings.rows();
+            }
+        }
+        Standings rebuilt = new Standings();
+        games.forEach((gameId, game) -> rebuilt.add(gameId, (long) game[0], (long) game[1], game[2]));
+        assertEquals(games.size(), standings.games());
+        List<Standing> expected = rebuilt.rows();
+        List<Standing> actual = standings.rows();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Standing row = expected.get(i);
+            assertRow(actual.get(i), row.getPlayerId(), row.getRank(), row.getPoints(), row.getGames(), row.getDirectEncounter(), row.getBuchholz(),
+                    row.getSonnebornBerger());
+        }
+    }
+}
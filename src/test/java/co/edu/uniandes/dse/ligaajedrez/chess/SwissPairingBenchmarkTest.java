@@ -0,0 +1,62 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/*
+ * Measures how long pairing a round takes for fields of 100, 1,000, 2,000
+ * and 10,000 players over the rounds of a Swiss tournament, and prints the
+ * mean and the slowest round of each. Runs with -Pbenchmark or -Pperft;
+ * -Dswiss.maxRoundMillis=N fails the build when a round of up to 2,000 players
+ * takes longer than N.
+ */
+@Tag("benchmark")
+public class SwissPairingBenchmarkTest {
+    private static final int[] FIELDS = { 100, 1_000, 2_000, 10_000 };
+    private static final int ROUNDS = 11;
+    private static final int WARMUP_TOURNAMENTS = 3;
+
+    @Test
+    void benchmarkPairing() {
+        for (int warmup = 0; warmup < WARMUP_TOURNAMENTS; warmup++) {
+            playTournament(1_000, warmup);
+        }
+        long maximum = Long.getLong("swiss.maxRoundMillis", 0);
+        System.out.printf("%8s %7s %14s %14s%n", "players", "rounds", "mean ms/round", "max ms/round");
+        for (int players : FIELDS) {
+            long[] nanos = playTournament(players, players);
+            long total = 0;
+            long slowest = 0;
+            for (long round : nanos) {
+                total += round;
+                slowest = Math.max(slowest, round);
+            }
+            System.out.printf("%8d %7d %14.2f %14.2f%n", players, ROUNDS, total / 1e6 / ROUNDS, slowest / 1e6);
+            if (maximum > 0 && players <= 2_000) {
+                assertTrue(slowest / 1_000_000 <= maximum, "A round of " + players + " players took " + slowest / 1_000_000 + " ms, above the maximum of " + maximum + ".");
+            }
+        }
+    }
+
+    // The time each round took to pair.
+    private static long[] playTournament(int players, long seed) {
+        Random random = new Random(seed);
+        SwissPairing pairing = new SwissPairing(players);
+        int[] entrants = IntStream.range(0, players).toArray();
+        long[] nanos = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            SwissPairing.Pairings pairings = pairing.pair(entrants);
+            nanos[round] = System.nanoTime() - start;
+            assertNotNull(pairings, "Round " + (round + 1) + " of " + players + " players could not be paired.");
+            SwissPairingTest.play(pairing, pairings, random);
+        }
+        return nanos;
+    }
+}
@@ -0,0 +1,149 @@
+package co.edu.uniandes.dse.ligaajedrez.chess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class SwissPairingTest {
+
+    private static int[] all(int players) {
+        return IntStream.range(0, players).toArray();
+    }
+
+    // Plays the round: the higher ranked player wins two games in three and the others are drawn.
+    static void play(SwissPairing pairing, SwissPairing.Pairings round, Random random) {
+        for (int board = 0; board < round.boards(); board++) {
+            int white = round.white(board);
+            int black = round.black(board);
+            double higherScore = random.nextInt(3) < 2 ? 1 : 0.5;
+            pairing.addGame(white, black, white < black ? higherScore : 1 - higherScore);
+        }
+        if (round.bye() != SwissPairing.Pairings.NONE) {
+            pairing.addBye(round.bye(), SwissPairing.BYE_POINTS);
+        }
+        pairing.endRound();
+    }
+
+    @Test
+    void testFirstRound() {
+        SwissPairing pairing = new SwissPairing(8);
+        SwissPairing.Pairings round = pairing.pair(all(8));
+        assertEquals(4, round.boards());
+        assertEquals(SwissPairing.Pairings.NONE, round.bye());
+        int[][] expected = { { 0, 4 }, { 5, 1 }, { 2, 6 }, { 7, 3 } };
+        for (int board = 0; board < 4; board++) {
+            assertEquals(expected[board][0], round.white(board));
+            assertEquals(expected[board][1], round.black(board));
+        }
+    }
+
+    @Test
+    void testScoreGroupsAndColours() {
+        SwissPairing pairing = new SwissPairing(4);
+        pairing.addGame(0, 2, 1);
+        pairing.addGame(3, 1, 0);
+        pairing.endRound();
+        SwissPairing.Pairings round = pairing.pair(all(4));
+        // The winners meet, and so do the losers; each gets the colour they did not have.
+        assertEquals(1, round.white(0));
+        assertEquals(0, round.black(0));
+        assertEquals(2, round.white(1));
+        assertEquals(3, round.black(1));
+    }
+
+    @Test
+    void testMergeGroupsToAvoidRematch() {
+        SwissPairing pairing = new SwissPairing(4);
+        pairing.addGame(0, 2, 1);
+        pairing.addGame(3, 1, 0);
+        pairing.endRound();
+        pairing.addGame(1, 0, 0);
+        pairing.addGame(2, 3, 1);
+        pairing.endRound();
+        // 0 has 2 points, 1 and 2 have 1 and 3 has none, but 0 already met 1 and 2 and 3 met both.
+        SwissPairing.Pairings round = pairing.pair(all(4));
+        assertNotNull(round);
+        assertEquals(2, round.boards());
+        assertEquals(0, Math.min(round.white(0), round.black(0)));
+        assertEquals(3, Math.max(round.white(0), round.black(0)));
+        assertEquals(1, Math.min(round.white(1), round.black(1)));
+        assertEquals(2, Math.max(round.white(1), round.black(1)));
+    }
+
+    @Test
+    void testByeGoesToLowestWithoutBye() {
+        SwissPairing pairing = new SwissPairing(5);
+        SwissPairing.Pairings first = pairing.pair(all(5));
+        assertEquals(4, first.bye());
+        pairing.addGame(first.white(0), first.black(0), 0.5);
+        pairing.addGame(first.white(1), first.black(1), 0.5);
+        pairing.addBye(4, SwissPairing.BYE_POINTS);
+        pairing.endRound();
+        SwissPairing.Pairings second = pairing.pair(all(5));
+        assertEquals(3, second.bye());
+        assertEquals(SwissPairing.BYE_POINTS, pairing.score(4));
+    }
+
+    @Test
+    void testNoPairingLeft() {
+        SwissPairing pairing = new SwissPairing(2);
+        pairing.addGame(0, 1, 0.5);
+        pairing.endRound();
+        assertTrue(pairing.played(1, 0));
+        assertNull(pairing.pair(all(2)));
+    }
+
+    @Test
+    void testOnlyEntrantsArePaired() {
+        SwissPairing pairing = new SwissPairing(6);
+        SwissPairing.Pairings round = pairing.pair(new int[] { 5, 1, 3 });
+        assertEquals(1, round.boards());
+        assertEquals(5, round.bye());
+        assertEquals(1, round.white(0));
+        assertEquals(3, round.black(0));
+    }
+
+    @Test
+    void testRoundsFollowTheRules() {
+        int players = 101;
+        Random random = new Random(5);
+        SwissPairing pairing = new SwissPairing(players);
+        int[] colourDifferences = new int[players];
+        int[] byes = new int[players];
+        for (int r = 0; r < 9; r++) {
+            SwissPairing.Pairings round = pairing.pair(all(players));
+            assertNotNull(round, "round " + (r + 1));
+            boolean[] seen = new boolean[players];
+            for (int board = 0; board < round.boards(); board++) {
+                int white = round.white(board);
+                int black = round.black(board);
+                assertFalse(pairing.played(white, black), "rematch in round " + (r + 1));
+                assertFalse(seen[white] || seen[black]);
+                seen[white] = true;
+                seen[black] = true;
+                colourDifferences[white]++;
+                colourDifferences[black]--;
+                if (board > 0) {
+                    double higher = Math.max(pairing.score(white), pairing.score(black));
+                    double above = Math.max(pairing.score(round.white(board - 1)), pairing.score(round.black(board - 1)));
+                    assertTrue(higher <= above);
+                }
+            }
+            assertFalse(seen[round.bye()]);
+            byes[round.bye()]++;
+            play(pairing, round, random);
+        }
+        for (int player = 0; player < players; player++) {
+            assertTrue(Math.abs(colourDifferences[player]) <= 2, "colours of player " + player);
+            assertTrue(byes[player] <= 1);
+        }
+        assertEquals(9, pairing.rounds());
+    }
+}
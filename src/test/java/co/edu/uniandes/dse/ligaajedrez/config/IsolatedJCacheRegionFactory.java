@@ -0,0 +1,25 @@
+package co.edu.uniandes.dse.ligaajedrez.config;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+/**
+ * JCache region factory that gives every session factory its own cache manager.
+ * The provider shares one manager per URI, so application contexts living in the
+ * same JVM (the test contexts, each with its own database) would otherwise read
+ * each other's entries. Region settings still come from application.conf and the
+ * manager is closed together with the session factory. Set for the tests in
+ * config/application.properties.
+ */
+public class IsolatedJCacheRegionFactory extends JCacheRegionFactory {
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	protected URI getUri(SessionFactoryOptions settings, Map properties) {
+		return URI.create("ligaajedrez:" + UUID.randomUUID());
+	}
+}
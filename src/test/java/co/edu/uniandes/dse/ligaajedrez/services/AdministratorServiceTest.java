@@ -1,6 +1,7 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -8,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.AdministratorEntity;
@@ -77,31 +80,33 @@ public class AdministratorServiceTest {
     }
 
     @Test
-    void testCreateInvalidAdministrator1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            AdministratorEntity newAdministrator = factory.manufacturePojoWithFullData(AdministratorEntity.class);
-            newAdministrator.setId(null);
-            newAdministrator.setName("Test Name");
-            newAdministrator.setPhotoURL("Test Photo URL");
-            newAdministrator.setIdNumber("Test ID Number");
-            newAdministrator.setUsername("Test Username");
-            newAdministrator.setPassword("Test Password");
-            administratorService.createAdministrator(newAdministrator);
-        });
+    void testCreateAdministratorWithoutId() throws IllegalOperationException {
+        AdministratorEntity newAdministrator = factory.manufacturePojoWithFullData(AdministratorEntity.class);
+        newAdministrator.setId(null);
+        newAdministrator.setName("Test Name");
+        newAdministrator.setPhotoURL("Test Photo URL");
+        newAdministrator.setIdNumber("Test ID Number");
+        newAdministrator.setUsername("Test Username");
+        newAdministrator.setPassword("Test Password");
+        AdministratorEntity administratorEntity = administratorService.createAdministrator(newAdministrator);
+        assertNotNull(administratorEntity.getId());
+        assertNotEquals(0L, administratorEntity.getId());
+        assertNotNull(entityManager.find(AdministratorEntity.class, administratorEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidAdministrator2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            AdministratorEntity newAdministrator = factory.manufacturePojoWithFullData(AdministratorEntity.class);
-            newAdministrator.setId(0L);
-            newAdministrator.setName("Test Name");
-            newAdministrator.setPhotoURL("Test Photo URL");
-            newAdministrator.setIdNumber("Test ID Number");
-            newAdministrator.setUsername("Test Username");
-            newAdministrator.setPassword("Test Password");
-            administratorService.createAdministrator(newAdministrator);
-        });
+    void testCreateAdministratorWithZeroId() throws IllegalOperationException {
+        AdministratorEntity newAdministrator = factory.manufacturePojoWithFullData(AdministratorEntity.class);
+        newAdministrator.setId(0L);
+        newAdministrator.setName("Test Name");
+        newAdministrator.setPhotoURL("Test Photo URL");
+        newAdministrator.setIdNumber("Test ID Number");
+        newAdministrator.setUsername("Test Username");
+        newAdministrator.setPassword("Test Password");
+        AdministratorEntity administratorEntity = administratorService.createAdministrator(newAdministrator);
+        assertNotNull(administratorEntity.getId());
+        assertNotEquals(0L, administratorEntity.getId());
+        assertNotNull(entityManager.find(AdministratorEntity.class, administratorEntity.getId()));
     }
 
     @Test
@@ -203,6 +208,19 @@ public class AdministratorServiceTest {
         });
     }
 
+    @Test
+    void testGetAdministratorPages() throws IllegalOperationException {
+        List<Long> ids = administratorList.stream().map(AdministratorEntity::getId).sorted().collect(Collectors.toList());
+        List<Long> walked = new ArrayList<>();
+        Slice<AdministratorEntity> page = administratorService.getAdministrators(null, 2);
+        page.forEach(administrator -> walked.add(administrator.getId()));
+        while (page.hasNext()) {
+            page = administratorService.getAdministrators(walked.get(walked.size() - 1), 2);
+            page.forEach(administrator -> walked.add(administrator.getId()));
+        }
+        assertEquals(ids, walked);
+    }
+
     @Test
     void testGetAdministrators() {
         List<AdministratorEntity> administrators = administratorService.getAdministrators();
@@ -0,0 +1,95 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.dto.CacheRegionStatisticsDTO;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningType;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * Hibernate never caches a row inserted by the still open transaction, so these
+ * tests run without the usual test transaction and let every service call commit.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ CacheStatisticsService.class, OpeningService.class })
+public class CacheStatisticsServiceTest {
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private OpeningService openingService;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private OpeningEntity opening;
+
+    @BeforeEach
+    void setUp() throws IllegalOperationException {
+        OpeningEntity newOpening = factory.manufacturePojo(OpeningEntity.class);
+        newOpening.setId(123L);
+        newOpening.setClassification(OpeningType.ABIERTA);
+        opening = openingService.createOpening(newOpening);
+    }
+
+    @AfterEach
+    void tearDown() throws IllegalOperationException, EntityNotFoundException {
+        openingService.deleteOpening(opening.getId());
+    }
+
+    @Test
+    void testGetRegionStatistics() {
+        List<CacheRegionStatisticsDTO> regions = cacheStatisticsService.getRegionStatistics();
+        for (String name : new String[] { "opening", "opening-moves", "move", "league", "tournament" }) {
+            assertTrue(regions.stream().anyMatch(region -> region.getRegion().equals(name)));
+        }
+    }
+
+    @Test
+    void testOpeningIsServedFromCache() throws IllegalOperationException, EntityNotFoundException {
+        CacheRegionStatisticsDTO before = findRegion("opening");
+        OpeningEntity cached = openingService.getOpening(opening.getId());
+        openingService.getOpening(opening.getId());
+        CacheRegionStatisticsDTO after = findRegion("opening");
+
+        assertEquals(opening.getName(), cached.getName());
+        assertEquals(before.getHitCount() + 2, after.getHitCount());
+        assertEquals(before.getMissCount(), after.getMissCount());
+        assertTrue(after.getSize() >= 1);
+    }
+
+    @Test
+    void testUpdateEvictsOpening() throws IllegalOperationException, EntityNotFoundException {
+        openingService.getOpening(opening.getId());
+        OpeningEntity changes = factory.manufacturePojo(OpeningEntity.class);
+        changes.setClassification(OpeningType.CERRADA);
+        openingService.updateOpening(opening.getId(), changes);
+
+        CacheRegionStatisticsDTO before = findRegion("opening");
+        OpeningEntity updated = openingService.getOpening(opening.getId());
+        CacheRegionStatisticsDTO after = findRegion("opening");
+
+        assertEquals(changes.getName(), updated.getName());
+        assertEquals(before.getMissCount() + 1, after.getMissCount());
+    }
+
+    private CacheRegionStatisticsDTO findRegion(String name) {
+        return cacheStatisticsService.getRegionStatistics().stream()
+                .filter(region -> region.getRegion().equals(name)).findFirst().orElseThrow();
+    }
+}
@@ -1,6 +1,7 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -73,25 +74,27 @@ public class CommentServiceTest {
     }
 
     @Test
-    void testCreateInvalidComment1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            CommentEntity newComment = factory.manufacturePojoWithFullData(CommentEntity.class);
-            newComment.setId(null);
-            newComment.setComment("Test Comment");
-            newComment.setDate(new Date());
-            commentService.createComment(newComment);
-        });
+    void testCreateCommentWithoutId() throws IllegalOperationException {
+        CommentEntity newComment = factory.manufacturePojoWithFullData(CommentEntity.class);
+        newComment.setId(null);
+        newComment.setComment("Test Comment");
+        newComment.setDate(new Date());
+        CommentEntity commentEntity = commentService.createComment(newComment);
+        assertNotNull(commentEntity.getId());
+        assertNotEquals(0L, commentEntity.getId());
+        assertNotNull(entityManager.find(CommentEntity.class, commentEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidComment2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            CommentEntity newComment = factory.manufacturePojoWithFullData(CommentEntity.class);
-            newComment.setId(0L);
-            newComment.setComment("Test Comment");
-            newComment.setDate(new Date());
-            commentService.createComment(newComment);
-        });
+    void testCreateCommentWithZeroId() throws IllegalOperationException {
+        CommentEntity newComment = factory.manufacturePojoWithFullData(CommentEntity.class);
+        newComment.setId(0L);
+        newComment.setComment("Test Comment");
+        newComment.setDate(new Date());
+        CommentEntity commentEntity = commentService.createComment(newComment);
+        assertNotNull(commentEntity.getId());
+        assertNotEquals(0L, commentEntity.getId());
+        assertNotNull(entityManager.find(CommentEntity.class, commentEntity.getId()));
     }
 
     @Test
@@ -182,7 +185,7 @@ public class CommentServiceTest {
         CommentEntity comment = factory.manufacturePojoWithFullData(CommentEntity.class);
         comment.setId(storedComment.getId());
         comment.setComment("Updated Comment");
-        comment.setDate(new Date());
+        comment.setDate(TestDates.today());
         commentService.updateComment(storedComment.getId(), comment);
         CommentEntity updatedComment = entityManager.find(CommentEntity.class, storedComment.getId());
         assertEquals(comment.getId(), updatedComment.getId());
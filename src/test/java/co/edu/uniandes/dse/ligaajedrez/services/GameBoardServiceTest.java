@@ -0,0 +1,103 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.GameBoard;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.chess.Position;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import(GameBoardService.class)
+public class GameBoardServiceTest {
+    private static final List<String> MOVES = List.of("e4", "e5", "Nf3", "Nc6", "Bb5", "a6", "Ba4", "Nf6", "O-O", "Be7", "Re1", "b5", "Bb3", "d6",
+            "c3", "O-O", "h3", "Nb8", "d4", "Nbd7");
+
+    @Autowired
+    private GameBoardService gameBoardService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private GameEntity game;
+
+    @BeforeEach
+    void setUp() {
+        gameBoardService.invalidate();
+        game = factory.manufacturePojo(GameEntity.class);
+        game.setMoveData(MoveCodec.fromSan(MOVES));
+        entityManager.persist(game);
+        entityManager.flush();
+    }
+
+    @Test
+    void testGetBoard() throws IllegalOperationException, EntityNotFoundException {
+        GameBoard board = gameBoardService.getBoard(game.getId(), 19);
+        assertEquals(19, board.getPly());
+        assertEquals(20, board.getPlies());
+        assertEquals("d4", board.getMove());
+        assertEquals(MoveCodec.replay(MoveCodec.fromSan(MOVES.subList(0, 19))).toFen(), board.getPosition().toFen());
+    }
+
+    @Test
+    void testGetBoardAtStartAndEnd() throws IllegalOperationException, EntityNotFoundException {
+        GameBoard start = gameBoardService.getBoard(game.getId(), 0);
+        assertEquals(Position.START_FEN, start.getPosition().toFen());
+        assertNull(start.getMove());
+        GameBoard end = gameBoardService.getBoard(game.getId(), null);
+        assertEquals(20, end.getPly());
+        assertEquals("Nbd7", end.getMove());
+        assertEquals(MoveCodec.replay(game.getMoveData()).toFen(), end.getPosition().toFen());
+    }
+
+    @Test
+    void testEvictOnGameChanged() throws IllegalOperationException, EntityNotFoundException {
+        assertEquals(20, gameBoardService.getBoard(game.getId(), null).getPlies());
+        GameChangedEvent.State before = GameChangedEvent.State.of(game);
+        game.setMoveData(MoveCodec.fromSan(MOVES.subList(0, 4)));
+        entityManager.flush();
+        assertEquals(20, gameBoardService.getBoard(game.getId(), null).getPlies());
+        gameBoardService.onGameChanged(GameChangedEvent.of(game, before));
+        GameBoard board = gameBoardService.getBoard(game.getId(), null);
+        assertEquals(4, board.getPlies());
+        assertEquals("Nc6", board.getMove());
+    }
+
+    @Test
+    void testGetBoardInvalidPly() {
+        assertThrows(IllegalOperationException.class, () -> gameBoardService.getBoard(game.getId(), 21));
+        assertThrows(IllegalOperationException.class, () -> gameBoardService.getBoard(game.getId(), -1));
+    }
+
+    @Test
+    void testGetBoardInvalidGame() {
+        assertThrows(IllegalOperationException.class, () -> gameBoardService.getBoard(null, 0));
+        assertThrows(IllegalOperationException.class, () -> gameBoardService.getBoard(0L, 0));
+        assertThrows(EntityNotFoundException.class, () -> gameBoardService.getBoard(321L, 0));
+    }
+
+    @Test
+    void testGetBoardIllegalMoveData() {
+        game.setMoveData(new byte[] { 0, 0 });
+        entityManager.flush();
+        assertThrows(IllegalOperationException.class, () -> gameBoardService.getBoard(game.getId(), 0));
+    }
+}
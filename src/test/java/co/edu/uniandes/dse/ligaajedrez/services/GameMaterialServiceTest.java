@@ -0,0 +1,137 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.EndgameType;
+import co.edu.uniandes.dse.ligaajedrez.chess.GamePhase;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.MaterialSegment;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GamePosition;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import({ GameMaterialService.class, GameMoveService.class, OpeningClassifier.class, OptimisticRetryExecutor.class })
+public class GameMaterialServiceTest {
+    private static final String WHITE_PAWN_UP = "KQRRBBNNPPPPPPPPvKQRRBBNNPPPPPPP";
+
+    @Autowired
+    private GameMaterialService gameMaterialService;
+
+    @Autowired
+    private GameMoveService gameMoveService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private GameEntity scandinavian;
+    private GameEntity blackPawnUp;
+    private GameEntity queenTrade;
+
+    @BeforeEach
+    void setUp() throws IllegalOperationException, EntityNotFoundException {
+        clearData();
+        insertData();
+    }
+
+    private void clearData() {
+        entityManager.getEntityManager().createQuery("delete from GameEntity").executeUpdate();
+    }
+
+    private void insertData() throws IllegalOperationException, EntityNotFoundException {
+        scandinavian = newGame("e4", "d5", "exd5", "Qxd5", "Nc3");
+        blackPawnUp = newGame("e4", "d5", "Nc3", "dxe4");
+        queenTrade = newGame("d4", "d5", "c4", "dxc4", "Qa4+", "Qd7", "Qxd7+", "Nxd7");
+    }
+
+    private GameEntity newGame(String... moves) throws IllegalOperationException, EntityNotFoundException {
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        entityManager.persist(game);
+        for (String move : moves) {
+            gameMoveService.playMove(game.getId(), move);
+        }
+        return game;
+    }
+
+    private static List<Long> ids(Slice<GamePosition> games) {
+        return games.map(GamePosition::getId).getContent();
+    }
+
+    @Test
+    void testMaterialIndexedAsMovesArePlayed() {
+        List<MaterialSegment> materials = scandinavian.getMaterials();
+        assertEquals(3, materials.size());
+        assertEquals(List.of(0, 3, 4), List.of(materials.get(0).getPly(), materials.get(1).getPly(), materials.get(2).getPly()));
+        MaterialSegment last = queenTrade.getMaterials().get(queenTrade.getMaterials().size() - 1);
+        assertEquals(8, last.getPly());
+        assertEquals(GamePhase.MIDDLEGAME, last.getPhase());
+        assertEquals(EndgameType.ROOK_MINOR_PIECE, last.getEndgameType());
+    }
+
+    @Test
+    void testGetGamesByMaterialOfEitherColour() throws IllegalOperationException {
+        Slice<GamePosition> games = gameMaterialService.getGames(WHITE_PAWN_UP, null, null, null, 10);
+        assertEquals(List.of(scandinavian.getId(), blackPawnUp.getId(), queenTrade.getId()), ids(games));
+        assertEquals(3, games.getContent().get(0).getPly());
+        assertEquals(4, games.getContent().get(1).getPly());
+        assertEquals(4, games.getContent().get(2).getPly());
+    }
+
+    @Test
+    void testGetGamesByMaterialAndType() throws IllegalOperationException {
+        assertEquals(List.of(queenTrade.getId()), ids(gameMaterialService.getGames("krrbbnnpppppppvkrrbbnnpppppppp", "rook_minor_piece", null, null, 10)));
+        assertTrue(gameMaterialService.getGames(WHITE_PAWN_UP, "rook_minor_piece", null, null, 10).getContent().isEmpty());
+    }
+
+    @Test
+    void testGetGamesByTypeAndPhase() throws IllegalOperationException {
+        Slice<GamePosition> games = gameMaterialService.getGames(null, "ROOK_MINOR_PIECE", "MIDDLEGAME", null, 10);
+        assertEquals(List.of(queenTrade.getId()), ids(games));
+        assertEquals(8, games.getContent().get(0).getPly());
+        assertTrue(gameMaterialService.getGames(null, "ROOK_MINOR_PIECE", "ENDGAME", null, 10).getContent().isEmpty());
+    }
+
+    @Test
+    void testGetGamesPagesByGameId() throws IllegalOperationException {
+        Slice<GamePosition> first = gameMaterialService.getGames(null, "OTHER", "OPENING", null, 2);
+        assertEquals(List.of(scandinavian.getId(), blackPawnUp.getId()), ids(first));
+        assertTrue(first.hasNext());
+        Slice<GamePosition> second = gameMaterialService.getGames(null, "OTHER", "OPENING", blackPawnUp.getId(), 2);
+        assertEquals(List.of(queenTrade.getId()), ids(second));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testGetGamesWithoutMaterialOrType() {
+        assertThrows(IllegalOperationException.class, () -> gameMaterialService.getGames(null, null, "ENDGAME", null, 10));
+    }
+
+    @Test
+    void testGetGamesWithInvalidMaterial() {
+        assertThrows(IllegalOperationException.class, () -> gameMaterialService.getGames("KRvR", null, null, null, 10));
+    }
+
+    @Test
+    void testGetGamesWithInvalidTypeOrPhase() {
+        assertThrows(IllegalOperationException.class, () -> gameMaterialService.getGames(null, "CASTLE", null, null, 10));
+        assertThrows(IllegalOperationException.class, () -> gameMaterialService.getGames(null, "ROOK", "LATE", null, 10));
+    }
+}
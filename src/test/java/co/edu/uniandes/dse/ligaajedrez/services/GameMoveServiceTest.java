@@ -1,8 +1,10 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -14,10 +16,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
 import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
 import uk.co.jemos.podam.api.PodamFactory;
@@ -25,11 +30,14 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import(GameMoveService.class)
+@Import({ GameMoveService.class, OpeningClassifier.class, OptimisticRetryExecutor.class })
 public class GameMoveServiceTest {
     @Autowired
     private GameMoveService gameMoveService;
 
+    @Autowired
+    private OpeningClassifier openingClassifier;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -41,6 +49,7 @@ public class GameMoveServiceTest {
     void setUp() {
         clearData();
         insertData();
+        openingClassifier.invalidate();
     }
 
     private void clearData() {
@@ -51,22 +60,134 @@ public class GameMoveServiceTest {
     private void insertData() {
         game = factory.manufacturePojoWithFullData(GameEntity.class);
         entityManager.persist(game);
-        for (int i = 0; i < 3; i++) {
-            MoveEntity move = factory.manufacturePojoWithFullData(MoveEntity.class);
-            entityManager.persist(move);
+        for (String notation : new String[] { "e4", "e5", "Nf3" }) {
+            MoveEntity move = newMove(notation);
             game.getMoves().add(move);
             moves.add(move);
         }
     }
 
+    private GameEntity newGame() {
+        GameEntity newGame = factory.manufacturePojoWithFullData(GameEntity.class);
+        entityManager.persist(newGame);
+        return newGame;
+    }
+
+    private MoveEntity newMove(String notation) {
+        MoveEntity move = factory.manufacturePojoWithFullData(MoveEntity.class);
+        move.setNotation(notation);
+        entityManager.persist(move);
+        return move;
+    }
+
+    private OpeningEntity newOpening(String... notations) {
+        OpeningEntity opening = factory.manufacturePojoWithFullData(OpeningEntity.class);
+        for (String notation : notations) {
+            opening.getMoves().add(newMove(notation));
+        }
+        entityManager.persist(opening);
+        return opening;
+    }
+
     @Test
     void testAddMove() throws IllegalOperationException, EntityNotFoundException {
-        MoveEntity newMove = factory.manufacturePojoWithFullData(MoveEntity.class);
-        entityManager.persist(newMove);
+        MoveEntity newMove = newMove("Nc6");
         gameMoveService.addMove(game.getId(), newMove.getId());
         MoveEntity entity = gameMoveService.getMove(newMove.getId(), game.getId());
         assertEquals(newMove.getId(), entity.getId());
-        assertEquals(newMove.getNotation(), entity.getNotation());
+        assertEquals("Nc6", entity.getNotation());
+    }
+
+    @Test
+    void testAddMoveKeepsMoveData() throws IllegalOperationException, EntityNotFoundException {
+        MoveEntity newMove = newMove("Nc6");
+        gameMoveService.addMove(game.getId(), newMove.getId());
+        assertEquals(List.of("e4", "e5", "Nf3", "Nc6"), MoveCodec.toSan(game.getMoveData()));
+        assertEquals(4, game.getPositionHashes().size());
+        assertEquals(MoveCodec.replay(game.getMoveData()).hash(), game.getPositionHashes().get(3));
+    }
+
+    @Test
+    void testAddMoveToGameRecordedByNotation() {
+        assertThrows(IllegalOperationException.class, () -> {
+            GameEntity recorded = newGame();
+            gameMoveService.playMove(recorded.getId(), "e4");
+            gameMoveService.addMove(recorded.getId(), newMove("e5").getId());
+        });
+    }
+
+    @Test
+    void testPlayMove() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity recorded = newGame();
+        assertEquals("e4", gameMoveService.playMove(recorded.getId(), "e4"));
+        assertEquals("Nf6", gameMoveService.playMove(recorded.getId(), "Ng8f6"));
+        assertEquals(4, recorded.getMoveData().length);
+        assertTrue(recorded.getMoves().isEmpty());
+
+        List<MoveEntity> moveEntities = gameMoveService.getMoves(recorded.getId());
+        assertEquals(2, moveEntities.size());
+        assertEquals("e4", moveEntities.get(0).getNotation());
+        assertEquals("Nf6", moveEntities.get(1).getNotation());
+    }
+
+    @Test
+    void testGetMovePagesOfGameRecordedByNotation() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity recorded = newGame();
+        for (String notation : new String[] { "d4", "d5", "c4" }) {
+            gameMoveService.playMove(recorded.getId(), notation);
+        }
+        Slice<MoveEntity> first = gameMoveService.getMoves(recorded.getId(), null, 2);
+        assertTrue(first.hasNext());
+        assertEquals("d5", first.getContent().get(1).getNotation());
+        Slice<MoveEntity> second = gameMoveService.getMoves(recorded.getId(), 1, 2);
+        assertFalse(second.hasNext());
+        assertEquals(1, second.getNumberOfElements());
+        assertEquals("c4", second.getContent().get(0).getNotation());
+    }
+
+    @Test
+    void testPlayInvalidMove1() {
+        assertThrows(IllegalOperationException.class, () -> {
+            gameMoveService.playMove(newGame().getId(), "Ke2");
+        });
+    }
+
+    @Test
+    void testPlayInvalidMove2() {
+        assertThrows(IllegalOperationException.class, () -> {
+            gameMoveService.playMove(game.getId(), "Nc6");
+        });
+    }
+
+    @Test
+    void testPlayInvalidMove3() {
+        assertThrows(EntityNotFoundException.class, () -> {
+            gameMoveService.playMove(321L, "e4");
+        });
+    }
+
+    @Test
+    void testAddMoveCanonicalNotation() throws IllegalOperationException, EntityNotFoundException {
+        MoveEntity newMove = newMove("Ng8f6");
+        gameMoveService.addMove(game.getId(), newMove.getId());
+        assertEquals("Nf6", gameMoveService.getMove(newMove.getId(), game.getId()).getNotation());
+    }
+
+    @Test
+    void testAddIllegalMove() {
+        assertThrows(IllegalOperationException.class, () -> {
+            MoveEntity newMove = newMove("Ke6");
+            gameMoveService.addMove(game.getId(), newMove.getId());
+        });
+    }
+
+    @Test
+    void testAddMoveToIllegalGame() {
+        assertThrows(IllegalOperationException.class, () -> {
+            game.getMoves().add(newMove("Qh5"));
+            MoveEntity newMove = newMove("Nc6");
+            gameMoveService.addMove(game.getId(), newMove.getId());
+        });
     }
 
     @Test
@@ -126,6 +247,16 @@ public class GameMoveServiceTest {
         }
     }
 
+    @Test
+    void testGetMovePages() throws IllegalOperationException, EntityNotFoundException {
+        Slice<MoveEntity> first = gameMoveService.getMoves(game.getId(), null, 2);
+        assertTrue(first.hasNext());
+        assertEquals(moves.subList(0, 2), first.getContent());
+        Slice<MoveEntity> second = gameMoveService.getMoves(game.getId(), 1, 2);
+        assertFalse(second.hasNext());
+        assertEquals(moves.subList(2, 3), second.getContent());
+    }
+
     @Test
     void testGetInvalidMoves1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -210,15 +341,62 @@ public class GameMoveServiceTest {
         });
     }
 
+    @Test
+    void testPlayMoveClassifiesOpening() throws IllegalOperationException, EntityNotFoundException {
+        OpeningEntity kingsPawn = newOpening("e4");
+        OpeningEntity ruyLopez = newOpening("e4", "e5", "Nf3", "Nc6", "Bb5");
+        GameEntity recorded = newGame();
+        gameMoveService.playMove(recorded.getId(), "e4");
+        assertEquals(kingsPawn, recorded.getOpening());
+        for (String notation : new String[] { "e5", "Nf3", "Nc6" }) {
+            gameMoveService.playMove(recorded.getId(), notation);
+            assertEquals(kingsPawn, recorded.getOpening());
+        }
+        gameMoveService.playMove(recorded.getId(), "Bb5");
+        assertEquals(ruyLopez, recorded.getOpening());
+        gameMoveService.playMove(recorded.getId(), "a6");
+        assertEquals(ruyLopez, recorded.getOpening());
+    }
+
+    @Test
+    void testPlayMoveKeepsOpeningOutsideCatalogue() throws IllegalOperationException, EntityNotFoundException {
+        newOpening("e4");
+        OpeningEntity assigned = newOpening("d4");
+        GameEntity recorded = newGame();
+        recorded.setOpening(assigned);
+        gameMoveService.playMove(recorded.getId(), "c4");
+        assertEquals(assigned, recorded.getOpening());
+    }
+
+    @Test
+    void testReplaceMovesClassifiesOpening() throws IllegalOperationException, EntityNotFoundException {
+        newOpening("e4", "e5");
+        OpeningEntity queensGambit = newOpening("d4", "d5", "c4");
+        List<MoveEntity> newMoves = new ArrayList<>();
+        for (String notation : new String[] { "d4", "d5", "c4", "e6" }) {
+            newMoves.add(newMove(notation));
+        }
+        gameMoveService.replaceMoves(game.getId(), newMoves);
+        assertEquals(queensGambit, game.getOpening());
+    }
+
+    @Test
+    void testReplaceMovesClearsClassifiedOpening() throws IllegalOperationException, EntityNotFoundException {
+        OpeningEntity kingsPawn = newOpening("e4");
+        gameMoveService.replaceMoves(game.getId(), List.of(newMove("e4")));
+        assertEquals(kingsPawn, game.getOpening());
+        gameMoveService.replaceMoves(game.getId(), List.of(newMove("d4")));
+        assertNull(game.getOpening());
+    }
+
     @Test
     void testReplaceMoves() throws IllegalOperationException, EntityNotFoundException {
         List<MoveEntity> newMoves = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            MoveEntity move = factory.manufacturePojoWithFullData(MoveEntity.class);
-            entityManager.persist(move);
-            newMoves.add(move);
+        for (String notation : new String[] { "d4", "d5", "c4" }) {
+            newMoves.add(newMove(notation));
         }
         gameMoveService.replaceMoves(game.getId(), newMoves);
+        assertEquals(List.of("d4", "d5", "c4"), MoveCodec.toSan(game.getMoveData()));
         List<MoveEntity> moveEntities = gameMoveService.getMoves(game.getId());
         assertEquals(moveEntities.size(), newMoves.size());
         for (MoveEntity move : moveEntities) {
@@ -226,6 +404,71 @@ public class GameMoveServiceTest {
         }
     }
 
+    @Test
+    void testReplaceMovesKeepsPly() throws IllegalOperationException, EntityNotFoundException {
+        MoveEntity newMove = newMove("Nc6");
+        List<MoveEntity> newMoves = new ArrayList<>();
+        newMoves.add(moves.get(0));
+        newMoves.add(newMove);
+        newMoves.add(moves.get(1));
+        gameMoveService.replaceMoves(game.getId(), newMoves);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MoveEntity> moveEntities = gameMoveService.getMoves(game.getId());
+        assertEquals(newMoves.size(), moveEntities.size());
+        for (int i = 0; i < newMoves.size(); i++) {
+            assertEquals(newMoves.get(i).getId(), moveEntities.get(i).getId());
+        }
+        assertNull(entityManager.find(MoveEntity.class, moves.get(2).getId()));
+    }
+
+    @Test
+    void testReplaceMovesKeepsSharedMoves() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity other = newGame();
+        other.getMoves().addAll(moves.subList(0, 2));
+        OpeningEntity opening = factory.manufacturePojoWithFullData(OpeningEntity.class);
+        opening.getMoves().add(moves.get(2));
+        entityManager.persist(opening);
+        List<MoveEntity> newMoves = new ArrayList<>();
+        for (String notation : new String[] { "d4", "d5", "c4" }) {
+            newMoves.add(newMove(notation));
+        }
+        gameMoveService.replaceMoves(game.getId(), newMoves);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (MoveEntity move : moves) {
+            assertNotNull(entityManager.find(MoveEntity.class, move.getId()));
+        }
+        assertEquals(2, entityManager.find(GameEntity.class, other.getId()).getMoves().size());
+        assertEquals(1, entityManager.find(OpeningEntity.class, opening.getId()).getMoves().size());
+    }
+
+    @Test
+    void testRemoveSharedMove() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity other = newGame();
+        other.getMoves().addAll(moves);
+        gameMoveService.removeMove(game.getId(), moves.get(2).getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertNotNull(entityManager.find(MoveEntity.class, moves.get(2).getId()));
+        assertEquals(2, gameMoveService.getMoves(game.getId()).size());
+        assertEquals(3, gameMoveService.getMoves(other.getId()).size());
+    }
+
+    @Test
+    void testReplaceIllegalMoves() {
+        assertThrows(IllegalOperationException.class, () -> {
+            List<MoveEntity> newMoves = new ArrayList<>();
+            newMoves.add(moves.get(0));
+            newMoves.add(newMove("e4"));
+            gameMoveService.replaceMoves(game.getId(), newMoves);
+        });
+        assertEquals("e4", moves.get(0).getNotation());
+    }
+
     @Test
     void testReplaceInvalidMoves1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -268,12 +511,33 @@ public class GameMoveServiceTest {
 
     @Test
     void testRemoveMove() throws IllegalOperationException, EntityNotFoundException {
-        for (MoveEntity move : moves) {
-            gameMoveService.removeMove(game.getId(), move.getId());
+        for (int i = moves.size() - 1; i >= 0; i--) {
+            gameMoveService.removeMove(game.getId(), moves.get(i).getId());
         }
         assertTrue(gameMoveService.getMoves(game.getId()).isEmpty());
     }
 
+    @Test
+    void testRemoveLastMove() throws IllegalOperationException, EntityNotFoundException {
+        MoveEntity last = gameMoveService.addMove(game.getId(), newMove("Nc6").getId());
+        gameMoveService.removeMove(game.getId(), last.getId());
+        assertEquals(List.of("e4", "e5", "Nf3"), MoveCodec.toSan(game.getMoveData()));
+    }
+
+    @Test
+    void testRemoveEarlierMove() throws IllegalOperationException, EntityNotFoundException {
+        assertThrows(IllegalOperationException.class, () -> gameMoveService.removeMove(game.getId(), moves.get(0).getId()));
+        assertThrows(IllegalOperationException.class, () -> gameMoveService.removeMove(game.getId(), moves.get(1).getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MoveEntity> moveEntities = gameMoveService.getMoves(game.getId());
+        assertEquals(moves.size(), moveEntities.size());
+        for (int i = 0; i < moves.size(); i++) {
+            assertEquals(moves.get(i).getId(), moveEntities.get(i).getId());
+        }
+    }
+
     @Test
     void testRemoveInvalidMove1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -0,0 +1,74 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GamePosition;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * The indexing job commits a transaction per batch, so these tests run without
+ * the usual test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ GamePositionService.class, OptimisticRetryExecutor.class })
+public class GamePositionIndexTest {
+    private static final String NIMZO_INDIAN_FEN = "rnbqk2r/pppp1ppp/4pn2/8/1bPP4/2N5/PP2PPPP/R1BQKBNR w KQkq - 2 4";
+
+    @Autowired
+    private GamePositionService gamePositionService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private GameEntity game;
+    private GameEntity illegalGame;
+
+    @BeforeEach
+    void setUp() {
+        game = factory.manufacturePojoWithFullData(GameEntity.class);
+        game.setMoveData(MoveCodec.fromSan(List.of("d4", "Nf6", "c4", "e6", "Nc3", "Bb4")));
+        game = gameRepository.saveAndFlush(game);
+        illegalGame = factory.manufacturePojoWithFullData(GameEntity.class);
+        illegalGame.setMoveData(new byte[] { 0, 0 });
+        illegalGame = gameRepository.saveAndFlush(illegalGame);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameRepository.deleteById(game.getId());
+        gameRepository.deleteById(illegalGame.getId());
+    }
+
+    @Test
+    void testIndexGames() throws IllegalOperationException {
+        assertEquals(1, gamePositionService.indexGames());
+        Slice<GamePosition> games = gamePositionService.getGames(NIMZO_INDIAN_FEN, null, null, 10);
+        assertEquals(List.of(game.getId()), games.map(GamePosition::getId).getContent());
+        assertEquals(6, games.getContent().get(0).getPly());
+    }
+
+    @Test
+    void testIndexGamesOnlyOnce() {
+        assertEquals(1, gamePositionService.indexGames());
+        assertEquals(0, gamePositionService.indexGames());
+    }
+}
@@ -0,0 +1,131 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GamePosition;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import({ GamePositionService.class, GameMoveService.class, OpeningClassifier.class, OptimisticRetryExecutor.class })
+public class GamePositionServiceTest {
+    private static final String NIMZO_INDIAN_FEN = "rnbqk2r/pppp1ppp/4pn2/8/1bPP4/2N5/PP2PPPP/R1BQKBNR w KQkq - 2 4";
+
+    @Autowired
+    private GamePositionService gamePositionService;
+
+    @Autowired
+    private GameMoveService gameMoveService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private GameEntity nimzoIndian;
+    private GameEntity transposed;
+    private GameEntity ruyLopez;
+
+    @BeforeEach
+    void setUp() throws IllegalOperationException, EntityNotFoundException {
+        clearData();
+        insertData();
+    }
+
+    private void clearData() {
+        entityManager.getEntityManager().createQuery("delete from GameEntity").executeUpdate();
+    }
+
+    private void insertData() throws IllegalOperationException, EntityNotFoundException {
+        nimzoIndian = newGame("d4", "Nf6", "c4", "e6", "Nc3", "Bb4", "Qc2");
+        transposed = newGame("c4", "e6", "Nc3", "Nf6", "d4", "Bb4", "e3");
+        ruyLopez = newGame("e4", "e5", "Nf3", "Nc6", "Bb5");
+    }
+
+    private GameEntity newGame(String... moves) throws IllegalOperationException, EntityNotFoundException {
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        entityManager.persist(game);
+        for (String move : moves) {
+            gameMoveService.playMove(game.getId(), move);
+        }
+        return game;
+    }
+
+    private static List<Long> ids(Slice<GamePosition> games) {
+        return games.map(GamePosition::getId).getContent();
+    }
+
+    @Test
+    void testGetGamesByFen() throws IllegalOperationException {
+        Slice<GamePosition> games = gamePositionService.getGames(NIMZO_INDIAN_FEN, null, null, 10);
+        assertEquals(List.of(nimzoIndian.getId(), transposed.getId()), ids(games));
+        assertEquals(6, games.getContent().get(0).getPly());
+        assertEquals(6, games.getContent().get(1).getPly());
+    }
+
+    @Test
+    void testGetGamesByMovesFindsTransposition() throws IllegalOperationException {
+        Slice<GamePosition> games = gamePositionService.getGames(null, List.of("d4", "Nf6", "c4", "e6", "Nc3"), null, 10);
+        assertEquals(List.of(nimzoIndian.getId(), transposed.getId()), ids(games));
+        assertEquals(5, games.getContent().get(0).getPly());
+        assertEquals(5, games.getContent().get(1).getPly());
+    }
+
+    @Test
+    void testGetGamesPagesByGameId() throws IllegalOperationException {
+        Slice<GamePosition> first = gamePositionService.getGames(NIMZO_INDIAN_FEN, null, null, 1);
+        assertEquals(List.of(nimzoIndian.getId()), ids(first));
+        assertTrue(first.hasNext());
+        Slice<GamePosition> second = gamePositionService.getGames(NIMZO_INDIAN_FEN, null, nimzoIndian.getId(), 1);
+        assertEquals(List.of(transposed.getId()), ids(second));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testGetGamesOfUnplayedPosition() throws IllegalOperationException {
+        assertTrue(gamePositionService.getGames(null, List.of("e4", "c5"), null, 10).getContent().isEmpty());
+    }
+
+    @Test
+    void testGetGamesByEnPassantFen() throws IllegalOperationException {
+        String fen = "rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2";
+        assertEquals(List.of(ruyLopez.getId()), ids(gamePositionService.getGames(fen, null, null, 10)));
+    }
+
+    @Test
+    void testGetGamesWithoutPosition() {
+        assertThrows(IllegalOperationException.class, () -> gamePositionService.getGames(null, null, null, 10));
+    }
+
+    @Test
+    void testGetGamesWithFenAndMoves() {
+        assertThrows(IllegalOperationException.class, () -> gamePositionService.getGames(NIMZO_INDIAN_FEN, List.of("e4"), null, 10));
+    }
+
+    @Test
+    void testGetGamesWithInvalidFen() {
+        assertThrows(IllegalOperationException.class, () -> gamePositionService.getGames("8/8/8 w - - 0 1", null, null, 10));
+    }
+
+    @Test
+    void testGetGamesWithIllegalMoves() {
+        assertThrows(IllegalOperationException.class, () -> gamePositionService.getGames(null, List.of("e4", "e4"), null, 10));
+    }
+}
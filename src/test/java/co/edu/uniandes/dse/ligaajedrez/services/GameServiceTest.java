@@ -1,6 +1,8 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -11,6 +13,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,8 +23,12 @@ import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.entities.CommentEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
 import uk.co.jemos.podam.api.PodamFactory;
@@ -74,25 +81,27 @@ public class GameServiceTest {
     }
 
     @Test
-    void testCreateInvalidGame1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            GameEntity newGame = factory.manufacturePojoWithFullData(GameEntity.class);
-            newGame.setId(null);
-            newGame.setResult("Test Result");
-            newGame.setDate(new Date());
-            gameService.createGame(newGame);
-        });
+    void testCreateGameWithoutId() throws IllegalOperationException {
+        GameEntity newGame = factory.manufacturePojoWithFullData(GameEntity.class);
+        newGame.setId(null);
+        newGame.setResult("Test Result");
+        newGame.setDate(new Date());
+        GameEntity gameEntity = gameService.createGame(newGame);
+        assertNotNull(gameEntity.getId());
+        assertNotEquals(0L, gameEntity.getId());
+        assertNotNull(entityManager.find(GameEntity.class, gameEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidGame2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            GameEntity newGame = factory.manufacturePojoWithFullData(GameEntity.class);
-            newGame.setId(0L);
-            newGame.setResult("Test Result");
-            newGame.setDate(new Date());
-            gameService.createGame(newGame);
-        });
+    void testCreateGameWithZeroId() throws IllegalOperationException {
+        GameEntity newGame = factory.manufacturePojoWithFullData(GameEntity.class);
+        newGame.setId(0L);
+        newGame.setResult("Test Result");
+        newGame.setDate(new Date());
+        GameEntity gameEntity = gameService.createGame(newGame);
+        assertNotNull(gameEntity.getId());
+        assertNotEquals(0L, gameEntity.getId());
+        assertNotNull(entityManager.find(GameEntity.class, gameEntity.getId()));
     }
 
     @Test
@@ -148,6 +157,40 @@ public class GameServiceTest {
         }
     }
 
+    @Test
+    void testGetGamesByCursor() throws IllegalOperationException {
+        Calendar calendar = Calendar.getInstance();
+        for (int i = 0; i < 4; i++) {
+            calendar.add(Calendar.DAY_OF_MONTH, -1);
+            GameEntity gameEntity = factory.manufacturePojo(GameEntity.class);
+            gameEntity.setDate(calendar.getTime());
+            entityManager.persist(gameEntity);
+            gameList.add(gameEntity);
+        }
+        List<GameEntity> walked = new ArrayList<>();
+        Slice<GameEntity> page = gameService.getGames(null, null, 2);
+        walked.addAll(page.getContent());
+        while (page.hasNext()) {
+            GameEntity last = page.getContent().get(page.getNumberOfElements() - 1);
+            page = gameService.getGames(last.getDate(), last.getId(), 2);
+            walked.addAll(page.getContent());
+        }
+        assertEquals(gameList.size(), walked.size());
+        for (int i = 1; i < walked.size(); i++) {
+            GameEntity previous = walked.get(i - 1);
+            GameEntity current = walked.get(i);
+            int byDate = previous.getDate().compareTo(current.getDate());
+            assertTrue(byDate < 0 || (byDate == 0 && previous.getId() < current.getId()));
+        }
+    }
+
+    @Test
+    void testGetGamesInvalidSize() {
+        assertThrows(IllegalOperationException.class, () -> {
+            gameService.getGames(null, null, 0);
+        });
+    }
+
     @Test
     void testGetGame() throws IllegalOperationException, EntityNotFoundException {
         GameEntity storedGame = gameList.get(0);
@@ -158,6 +201,28 @@ public class GameServiceTest {
         assertEquals(storedGame.getDate(), game.getDate());
     }
 
+    @Test
+    void testGetGameDetail() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity storedGame = gameList.get(0);
+        PlayerEntity player = factory.manufacturePojo(PlayerEntity.class);
+        entityManager.persist(player);
+        player.getGames().add(storedGame);
+        storedGame.setMoveData(MoveCodec.fromSan(List.of("e4", "e5", "Nf3")));
+        CommentEntity comment = factory.manufacturePojo(CommentEntity.class);
+        entityManager.persist(comment);
+        storedGame.getComments().add(comment);
+        entityManager.flush();
+        entityManager.clear();
+
+        GameEntity game = gameService.getGame(storedGame.getId());
+        assertFalse(Hibernate.isInitialized(game.getMoves()));
+        assertTrue(Hibernate.isInitialized(game.getComments()));
+        assertTrue(Hibernate.isInitialized(game.getPlayers()));
+        assertEquals(List.of("e4", "e5", "Nf3"), MoveCodec.toSan(game.getMoveData()));
+        assertEquals(1, game.getComments().size());
+        assertEquals(1, game.getPlayers().size());
+    }
+
     @Test
     void testGetInvalidGame1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -185,7 +250,7 @@ public class GameServiceTest {
         GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
         game.setId(storedGame.getId());
         game.setResult("Updated Result");
-        game.setDate(new Date());
+        game.setDate(TestDates.today());
         gameService.updateGame(storedGame.getId(), game);
         GameEntity updatedGame = entityManager.find(GameEntity.class, storedGame.getId());
         assertEquals(game.getId(), updatedGame.getId());
@@ -194,6 +259,29 @@ public class GameServiceTest {
         assertEquals(game.getTournament(), updatedGame.getTournament());
     }
 
+    @Test
+    void testUpdateGameWithVersion() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity storedGame = gameList.get(0);
+        Long version = storedGame.getVersion();
+        GameEntity game = factory.manufacturePojo(GameEntity.class);
+        game.setDate(TestDates.today());
+        game.setVersion(version);
+        GameEntity updatedGame = gameService.updateGame(storedGame.getId(), game);
+        assertEquals(game.getResult(), updatedGame.getResult());
+        assertEquals(version + 1, updatedGame.getVersion());
+    }
+
+    @Test
+    void testUpdateGameWithStaleVersion() {
+        assertThrows(IllegalOperationException.class, () -> {
+            GameEntity storedGame = gameList.get(0);
+            GameEntity game = factory.manufacturePojo(GameEntity.class);
+            game.setDate(TestDates.today());
+            game.setVersion(storedGame.getVersion() + 1);
+            gameService.updateGame(storedGame.getId(), game);
+        });
+    }
+
     @Test
     void testUpdateInvalidGame1() {
         assertThrows(IllegalOperationException.class, () -> {
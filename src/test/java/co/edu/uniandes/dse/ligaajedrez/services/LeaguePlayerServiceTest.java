@@ -251,6 +251,24 @@ public class LeaguePlayerServiceTest {
         }
     }
 
+    @Test
+    void testReplacePlayersUpdatesOwnerSide() throws IllegalOperationException, EntityNotFoundException {
+        PlayerEntity newPlayer = factory.manufacturePojoWithFullData(PlayerEntity.class);
+        entityManager.persist(newPlayer);
+        List<PlayerEntity> newPlayers = new ArrayList<>();
+        newPlayers.add(players.get(0));
+        newPlayers.add(newPlayer);
+        leaguePlayerService.replacePlayers(league.getId(), newPlayers);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PlayerEntity> playerEntities = leaguePlayerService.getPlayers(league.getId());
+        assertEquals(2, playerEntities.size());
+        assertEquals(1, entityManager.find(PlayerEntity.class, players.get(0).getId()).getLeagues().size());
+        assertEquals(1, entityManager.find(PlayerEntity.class, newPlayer.getId()).getLeagues().size());
+        assertTrue(entityManager.find(PlayerEntity.class, players.get(1).getId()).getLeagues().isEmpty());
+    }
+
     @Test
     void testReplaceInvalidPlayers1() {
         assertThrows(IllegalOperationException.class, () -> {
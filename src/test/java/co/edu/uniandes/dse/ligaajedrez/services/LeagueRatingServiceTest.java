@@ -0,0 +1,273 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.Glicko2;
+import co.edu.uniandes.dse.ligaajedrez.chess.RatingPeriod;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.GlickoRating;
+import co.edu.uniandes.dse.ligaajedrez.entities.LeagueEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingRunEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.RatingRunRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * Rating runs commit a transaction per period on their own thread, so these
+ * tests run without the usual test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ LeagueRatingService.class, OptimisticRetryExecutor.class })
+public class LeagueRatingServiceTest {
+
+    @Autowired
+    private LeagueRatingService leagueRatingService;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private RatingRunRepository ratingRunRepository;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private LeagueEntity league;
+    private TournamentEntity tournament;
+    private List<PlayerEntity> players = new ArrayList<>();
+    private List<GameEntity> games = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        league = leagueRepository.saveAndFlush(factory.manufacturePojoWithFullData(LeagueEntity.class));
+        tournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+        tournament.setLeague(league);
+        tournament = tournamentRepository.saveAndFlush(tournament);
+        for (int i = 0; i < 3; i++) {
+            players.add(playerRepository.saveAndFlush(factory.manufacturePojoWithFullData(PlayerEntity.class)));
+        }
+        // Two periods of 30 days: the first from March 1 and the second from March 31.
+        newGame(0, 1, "1-0", "2023-03-01");
+        newGame(1, 2, "1/2-1/2", "2023-03-20");
+        newGame(2, 0, "0-1", "2023-03-30");
+        newGame(0, 2, "0-1", "2023-04-15");
+        newGame(1, 0, "*", "2023-04-16");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ratingRunRepository.deleteAll(ratingRunRepository.findByLeagueId(league.getId()));
+        games.forEach(game -> gameRepository.deleteById(game.getId()));
+        players.forEach(player -> playerRepository.deleteById(player.getId()));
+        tournamentRepository.deleteById(tournament.getId());
+        leagueRepository.deleteById(league.getId());
+    }
+
+    private void newGame(int white, int black, String result, String date) {
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        game.setResult(result);
+        game.setDate(Date.valueOf(date));
+        game.setTournament(tournament);
+        game.setWhitePlayer(players.get(white));
+        game.setBlackPlayer(players.get(black));
+        games.add(gameRepository.saveAndFlush(game));
+    }
+
+    // The ratings of the three players after each period, computed directly.
+    private static double[][] expected(int periods) {
+        double[][] ratings = new double[3][];
+        for (int p = 0; p < 3; p++) {
+            ratings[p] = new double[] { Glicko2.INITIAL_RATING, Glicko2.INITIAL_DEVIATION, Glicko2.INITIAL_VOLATILITY };
+        }
+        RatingPeriod first = new RatingPeriod(3);
+        first.addGame(0, 1, 1);
+        first.addGame(1, 2, 0.5);
+        first.addGame(2, 0, 0);
+        first.rate(ratings, Glicko2.TAU, ForkJoinPool.commonPool());
+        if (periods == 2) {
+            RatingPeriod second = new RatingPeriod(3);
+            second.addGame(0, 2, 0);
+            second.rate(ratings, Glicko2.TAU, ForkJoinPool.commonPool());
+        }
+        return ratings;
+    }
+
+    private void assertRatings(double[][] expected, Map<Long, GlickoRating> ratings) {
+        assertEquals(3, ratings.size());
+        for (int p = 0; p < 3; p++) {
+            GlickoRating rating = ratings.get(players.get(p).getId());
+            assertEquals(expected[p][Glicko2.RATING], rating.getRating(), 1e-9);
+            assertEquals(expected[p][Glicko2.DEVIATION], rating.getDeviation(), 1e-9);
+            assertEquals(expected[p][Glicko2.VOLATILITY], rating.getVolatility(), 1e-9);
+        }
+    }
+
+    @Test
+    void testRateLeague() throws Exception {
+        RatingRunEntity run = leagueRatingService.startRun(league.getId(), 30);
+        assertEquals(2, run.getPeriods());
+        leagueRatingService.awaitRuns();
+
+        run = leagueRatingService.getRun(league.getId(), run.getId());
+        assertEquals(RatingRunEntity.Status.COMPLETED, run.getStatus());
+        assertTrue(run.isCurrent());
+        assertEquals(2, run.getCompletedPeriods());
+        assertEquals(4, run.getGames());
+        Map<Long, GlickoRating> ratings = leagueRatingService.getRatings(league.getId());
+        assertRatings(expected(2), ratings);
+        List<Double> order = new ArrayList<>();
+        ratings.values().forEach(rating -> order.add(rating.getRating()));
+        assertTrue(order.get(0) >= order.get(1) && order.get(1) >= order.get(2));
+    }
+
+    @Test
+    void testRatingsSwitchWhenRunCompletes() throws Exception {
+        RatingRunEntity first = leagueRatingService.startRun(league.getId(), 30);
+        leagueRatingService.awaitRuns();
+        RatingRunEntity second = leagueRatingService.startRun(league.getId(), 366);
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(1, second.getPeriods());
+        leagueRatingService.awaitRuns();
+        assertFalse(leagueRatingService.getRun(league.getId(), first.getId()).isCurrent());
+        assertTrue(leagueRatingService.getRun(league.getId(), second.getId()).isCurrent());
+        assertEquals(4, leagueRatingService.getRun(league.getId(), second.getId()).getGames());
+    }
+
+    // A run of 30-day periods stopped after the first, with the ratings and fingerprint it saved.
+    private RatingRunEntity stoppedRun(int periods) {
+        double[][] checkpoint = expected(1);
+        RatingRunEntity stopped = new RatingRunEntity();
+        stopped.setLeagueId(league.getId());
+        stopped.setStatus(RatingRunEntity.Status.FAILED);
+        stopped.setPeriodDays(30);
+        stopped.setOrigin(Date.valueOf("2023-03-01"));
+        stopped.setPeriods(periods);
+        stopped.setCompletedPeriods(1);
+        stopped.setFingerprint(gameRepository.findRatedFingerprintByLeagueId(league.getId(), Date.valueOf("2023-03-31")));
+        stopped.setGames(3);
+        for (int p = 0; p < 3; p++) {
+            stopped.getRatings().put(players.get(p).getId(), new GlickoRating(checkpoint[p][0], checkpoint[p][1], checkpoint[p][2]));
+        }
+        return ratingRunRepository.saveAndFlush(stopped);
+    }
+
+    @Test
+    void testResumeFromLastCompletedPeriod() throws Exception {
+        RatingRunEntity stopped = stoppedRun(2);
+
+        RatingRunEntity resumed = leagueRatingService.startRun(league.getId(), 30);
+        assertEquals(stopped.getId(), resumed.getId());
+        leagueRatingService.awaitRuns();
+        resumed = leagueRatingService.getRun(league.getId(), stopped.getId());
+        assertEquals(RatingRunEntity.Status.COMPLETED, resumed.getStatus());
+        assertEquals(30, resumed.getPeriodDays());
+        assertEquals(4, resumed.getGames());
+        assertRatings(expected(2), leagueRatingService.getRatings(league.getId()));
+    }
+
+    @Test
+    void testResumeWithAnotherPeriod() {
+        RatingRunEntity stopped = stoppedRun(2);
+        assertThrows(IllegalOperationException.class, () -> leagueRatingService.startRun(league.getId(), 7));
+        RatingRunEntity unchanged = ratingRunRepository.findById(stopped.getId()).get();
+        assertEquals(RatingRunEntity.Status.FAILED, unchanged.getStatus());
+        assertEquals(30, unchanged.getPeriodDays());
+    }
+
+    @Test
+    void testResumeRatesGamesPlayedSince() throws Exception {
+        // Stopped when the league had only the games of March.
+        RatingRunEntity stopped = stoppedRun(1);
+
+        leagueRatingService.startRun(league.getId(), 30);
+        leagueRatingService.awaitRuns();
+        RatingRunEntity resumed = leagueRatingService.getRun(league.getId(), stopped.getId());
+        assertEquals(RatingRunEntity.Status.COMPLETED, resumed.getStatus());
+        assertEquals(2, resumed.getPeriods());
+        assertEquals(2, resumed.getCompletedPeriods());
+        assertRatings(expected(2), leagueRatingService.getRatings(league.getId()));
+    }
+
+    @Test
+    void testResumeStartsOverAfterCorrection() throws Exception {
+        RatingRunEntity stopped = stoppedRun(2);
+        GameEntity corrected = games.get(0);
+        corrected.setResult("0-1");
+        games.set(0, gameRepository.saveAndFlush(corrected));
+
+        leagueRatingService.startRun(league.getId(), 30);
+        leagueRatingService.awaitRuns();
+        assertEquals(RatingRunEntity.Status.COMPLETED, leagueRatingService.getRun(league.getId(), stopped.getId()).getStatus());
+        Map<Long, GlickoRating> resumed = leagueRatingService.getRatings(league.getId());
+        assertNotEquals(expected(2)[0][Glicko2.RATING], resumed.get(players.get(0).getId()).getRating(), 1e-9);
+
+        leagueRatingService.startRun(league.getId(), 30);
+        leagueRatingService.awaitRuns();
+        Map<Long, GlickoRating> fresh = leagueRatingService.getRatings(league.getId());
+        for (PlayerEntity player : players) {
+            assertEquals(fresh.get(player.getId()).getRating(), resumed.get(player.getId()).getRating(), 1e-9);
+            assertEquals(fresh.get(player.getId()).getDeviation(), resumed.get(player.getId()).getDeviation(), 1e-9);
+        }
+    }
+
+    @Test
+    void testGetRatingsBeforeAnyRun() throws Exception {
+        assertTrue(leagueRatingService.getRatings(league.getId()).isEmpty());
+    }
+
+    @Test
+    void testStartRunWithInvalidPeriod() {
+        assertThrows(IllegalOperationException.class, () -> leagueRatingService.startRun(league.getId(), 0));
+        assertThrows(IllegalOperationException.class, () -> leagueRatingService.startRun(league.getId(), 367));
+    }
+
+    @Test
+    void testStartRunOfMissingLeague() {
+        assertThrows(EntityNotFoundException.class, () -> leagueRatingService.startRun(321L, 30));
+        assertThrows(EntityNotFoundException.class, () -> leagueRatingService.getRatings(321L));
+        assertThrows(IllegalOperationException.class, () -> leagueRatingService.startRun(0L, 30));
+    }
+
+    @Test
+    void testGetRunOfAnotherLeague() throws Exception {
+        RatingRunEntity run = leagueRatingService.startRun(league.getId(), 30);
+        leagueRatingService.awaitRuns();
+        assertThrows(EntityNotFoundException.class, () -> leagueRatingService.getRun(321L, run.getId()));
+        assertThrows(EntityNotFoundException.class, () -> leagueRatingService.getRun(league.getId(), 321L));
+    }
+}
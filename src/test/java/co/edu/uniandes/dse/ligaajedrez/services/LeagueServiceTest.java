@@ -1,6 +1,7 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -8,18 +9,28 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.ligaajedrez.entities.AdministratorEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.LeagueEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.AdministratorSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.LeagueSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentSummary;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
 
@@ -80,23 +91,25 @@ public class LeagueServiceTest {
     }
 
     @Test
-    void testCreateInvalidLeague1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            LeagueEntity newLeague = factory.manufacturePojoWithFullData(LeagueEntity.class);
-            newLeague.setId(null);
-            newLeague.setName("Test League");
-            leagueService.createLeague(newLeague);
-        });
+    void testCreateLeagueWithoutId() throws IllegalOperationException {
+        LeagueEntity newLeague = factory.manufacturePojoWithFullData(LeagueEntity.class);
+        newLeague.setId(null);
+        newLeague.setName("Test League");
+        LeagueEntity leagueEntity = leagueService.createLeague(newLeague);
+        assertNotNull(leagueEntity.getId());
+        assertNotEquals(0L, leagueEntity.getId());
+        assertNotNull(entityManager.find(LeagueEntity.class, leagueEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidLeague2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            LeagueEntity newLeague = factory.manufacturePojoWithFullData(LeagueEntity.class);
-            newLeague.setId(0L);
-            newLeague.setName("Test League");
-            leagueService.createLeague(newLeague);
-        });
+    void testCreateLeagueWithZeroId() throws IllegalOperationException {
+        LeagueEntity newLeague = factory.manufacturePojoWithFullData(LeagueEntity.class);
+        newLeague.setId(0L);
+        newLeague.setName("Test League");
+        LeagueEntity leagueEntity = leagueService.createLeague(newLeague);
+        assertNotNull(leagueEntity.getId());
+        assertNotEquals(0L, leagueEntity.getId());
+        assertNotNull(entityManager.find(LeagueEntity.class, leagueEntity.getId()));
     }
 
     @Test
@@ -134,6 +147,60 @@ public class LeagueServiceTest {
         }
     }
 
+    @Test
+    void testGetLeagueSummaryPages() throws IllegalOperationException {
+        List<Long> ids = leagueList.stream().map(LeagueEntity::getId).sorted().collect(Collectors.toList());
+        List<Long> walked = new ArrayList<>();
+        Slice<LeagueSummary> page = leagueService.getLeagueSummaries(null, 2);
+        page.forEach(summary -> walked.add(summary.getId()));
+        while (page.hasNext()) {
+            page = leagueService.getLeagueSummaries(walked.get(walked.size() - 1), 2);
+            page.forEach(summary -> walked.add(summary.getId()));
+        }
+        assertEquals(ids, walked);
+    }
+
+    @Test
+    void testGetLeagueSummaries() {
+        List<LeagueSummary> summaries = leagueService.getLeagueSummaries();
+        assertEquals(leagueList.size(), summaries.size());
+        for (LeagueSummary summary : summaries) {
+            LeagueEntity stored = entityManager.find(LeagueEntity.class, summary.getId());
+            assertNotNull(stored);
+            assertEquals(stored.getName(), summary.getName());
+            assertEquals(stored.getWebURL(), summary.getWebURL());
+        }
+    }
+
+    @Test
+    void testGetLeagueAssociationSummaries() {
+        LeagueEntity storedLeague = leagueList.get(0);
+        TournamentEntity tournament = factory.manufacturePojo(TournamentEntity.class);
+        tournament.setLeague(storedLeague);
+        entityManager.persist(tournament);
+        PlayerEntity player = factory.manufacturePojo(PlayerEntity.class);
+        player.getLeagues().add(storedLeague);
+        entityManager.persist(player);
+        AdministratorEntity administrator = factory.manufacturePojo(AdministratorEntity.class);
+        administrator.getLeagues().add(storedLeague);
+        entityManager.persist(administrator);
+
+        List<Long> ids = leagueList.stream().map(LeagueEntity::getId).collect(Collectors.toList());
+        List<TournamentSummary> tournaments = leagueService.getTournamentSummaries(ids);
+        assertEquals(1, tournaments.size());
+        assertEquals(tournament.getId(), tournaments.get(0).getId());
+        assertEquals(storedLeague.getId(), tournaments.get(0).getLeagueId());
+        assertEquals(storedLeague.getName(), tournaments.get(0).getLeagueName());
+        List<PlayerSummary> players = leagueService.getPlayerSummaries(ids);
+        assertEquals(1, players.size());
+        assertEquals(player.getId(), players.get(0).getId());
+        assertEquals(storedLeague.getId(), players.get(0).getOwnerId());
+        List<AdministratorSummary> administrators = leagueService.getAdministratorSummaries(ids);
+        assertEquals(1, administrators.size());
+        assertEquals(administrator.getUsername(), administrators.get(0).getUsername());
+        assertEquals(storedLeague.getId(), administrators.get(0).getOwnerId());
+    }
+
     @Test
     void testGetLeague() throws IllegalOperationException, EntityNotFoundException {
         LeagueEntity storedLeague = leagueList.get(0);
@@ -147,6 +214,32 @@ public class LeagueServiceTest {
         assertEquals(storedLeague.getWebURL(), league.getWebURL());
     }
 
+    @Test
+    void testGetLeagueDetail() throws IllegalOperationException, EntityNotFoundException {
+        LeagueEntity storedLeague = leagueList.get(0);
+        for (int i = 0; i < 3; i++) {
+            TournamentEntity tournament = factory.manufacturePojo(TournamentEntity.class);
+            tournament.setLeague(storedLeague);
+            entityManager.persist(tournament);
+            PlayerEntity player = factory.manufacturePojo(PlayerEntity.class);
+            player.getLeagues().add(storedLeague);
+            entityManager.persist(player);
+        }
+        AdministratorEntity administrator = factory.manufacturePojo(AdministratorEntity.class);
+        administrator.getLeagues().add(storedLeague);
+        entityManager.persist(administrator);
+        entityManager.flush();
+        entityManager.clear();
+
+        LeagueEntity league = leagueService.getLeague(storedLeague.getId());
+        assertTrue(Hibernate.isInitialized(league.getTournaments()));
+        assertTrue(Hibernate.isInitialized(league.getPlayers()));
+        assertTrue(Hibernate.isInitialized(league.getAdministrators()));
+        assertEquals(3, league.getTournaments().size());
+        assertEquals(3, league.getPlayers().size());
+        assertEquals(1, league.getAdministrators().size());
+    }
+
     @Test
     void testGetInvalidLeague1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -57,6 +57,7 @@ public class LeagueTournamentServiceTest {
         for (int i = 0; i < 3; i++) {
             TournamentEntity tournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
             entityManager.persist(tournament);
+            tournament.setLeague(league);
             league.getTournaments().add(tournament);
             tournaments.add(tournament);
         }
@@ -24,7 +24,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import({MovePlayerService.class, PlayerService.class, MoveService.class})
+@Import({MovePlayerService.class, PlayerService.class, MoveService.class, RatingService.class, TournamentStandingsService.class, OptimisticRetryExecutor.class})
 public class MovePlayerServiceTest {
     @Autowired
     private MovePlayerService movePlayerService;
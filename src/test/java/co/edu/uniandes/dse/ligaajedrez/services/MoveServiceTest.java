@@ -2,6 +2,7 @@ package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -9,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,9 +18,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
 import uk.co.jemos.podam.api.PodamFactory;
@@ -27,6 +33,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 @DataJpaTest
 @Transactional
 @Import(MoveService.class)
+@RecordApplicationEvents
 public class MoveServiceTest {
     @Autowired
     private MoveService moveService;
@@ -34,6 +41,9 @@ public class MoveServiceTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private ApplicationEvents events;
+
     private PodamFactory factory = new PodamFactoryImpl();
     private List<MoveEntity> moveList = new ArrayList<>();
 
@@ -56,6 +66,21 @@ public class MoveServiceTest {
         }
     }
 
+    private void newGame(MoveEntity move) {
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        game.getMoves().add(move);
+        entityManager.persist(game);
+        entityManager.flush();
+    }
+
+    private OpeningEntity newOpening(MoveEntity move) {
+        OpeningEntity opening = factory.manufacturePojoWithFullData(OpeningEntity.class);
+        opening.getMoves().add(move);
+        entityManager.persist(opening);
+        entityManager.flush();
+        return opening;
+    }
+
     @Test
     void testCreateMove() throws IllegalOperationException {
         MoveEntity newMove = factory.manufacturePojoWithFullData(MoveEntity.class);
@@ -69,23 +94,25 @@ public class MoveServiceTest {
     }
 
     @Test
-    void testCreateInvalidMove1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            MoveEntity newMove = factory.manufacturePojoWithFullData(MoveEntity.class);
-            newMove.setId(null);
-            newMove.setNotation("d4");
-            moveService.createMove(newMove);
-        });
+    void testCreateMoveWithoutId() throws IllegalOperationException {
+        MoveEntity newMove = factory.manufacturePojoWithFullData(MoveEntity.class);
+        newMove.setId(null);
+        newMove.setNotation("d4");
+        MoveEntity moveEntity = moveService.createMove(newMove);
+        assertNotNull(moveEntity.getId());
+        assertNotEquals(0L, moveEntity.getId());
+        assertNotNull(entityManager.find(MoveEntity.class, moveEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidMove2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            MoveEntity newMove = factory.manufacturePojoWithFullData(MoveEntity.class);
-            newMove.setId(0L);
-            newMove.setNotation("d4");
-            moveService.createMove(newMove);
-        });
+    void testCreateMoveWithZeroId() throws IllegalOperationException {
+        MoveEntity newMove = factory.manufacturePojoWithFullData(MoveEntity.class);
+        newMove.setId(0L);
+        newMove.setNotation("d4");
+        MoveEntity moveEntity = moveService.createMove(newMove);
+        assertNotNull(moveEntity.getId());
+        assertNotEquals(0L, moveEntity.getId());
+        assertNotNull(entityManager.find(MoveEntity.class, moveEntity.getId()));
     }
 
     @Test
@@ -164,6 +191,17 @@ public class MoveServiceTest {
         assertEquals(move.getNotation(), updatedMove.getNotation());
     }
 
+    @Test
+    void testUpdateOpeningMove() throws IllegalOperationException, EntityNotFoundException {
+        MoveEntity storedMove = moveList.get(0);
+        OpeningEntity opening = newOpening(storedMove);
+        MoveEntity move = factory.manufacturePojoWithFullData(MoveEntity.class);
+        move.setNotation("d4");
+        moveService.updateMove(storedMove.getId(), move);
+        assertEquals(List.of(opening.getId()),
+                events.stream(OpeningCatalogueChangedEvent.class).map(OpeningCatalogueChangedEvent::getOpeningId).collect(Collectors.toList()));
+    }
+
     @Test
     void testUpdateInvalidMove1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -196,6 +234,17 @@ public class MoveServiceTest {
         });
     }
 
+    @Test
+    void testUpdateInvalidMove5() {
+        MoveEntity storedMove = moveList.get(0);
+        newGame(storedMove);
+        MoveEntity move = factory.manufacturePojoWithFullData(MoveEntity.class);
+        move.setNotation("Nf3");
+        assertThrows(IllegalOperationException.class, () -> moveService.updateMove(storedMove.getId(), move));
+        entityManager.clear();
+        assertEquals("e4", entityManager.find(MoveEntity.class, storedMove.getId()).getNotation());
+    }
+
     @Test
     void testDeleteMove() throws IllegalOperationException, EntityNotFoundException {
         MoveEntity storedMove = moveList.get(0);
@@ -204,6 +253,19 @@ public class MoveServiceTest {
         assertNull(deletedMove);
     }
 
+    @Test
+    void testDeleteOpeningMove() throws IllegalOperationException, EntityNotFoundException {
+        MoveEntity storedMove = moveList.get(0);
+        OpeningEntity opening = newOpening(storedMove);
+        moveService.deleteMove(storedMove.getId());
+        entityManager.flush();
+        entityManager.clear();
+        assertNull(entityManager.find(MoveEntity.class, storedMove.getId()));
+        assertTrue(entityManager.find(OpeningEntity.class, opening.getId()).getMoves().isEmpty());
+        assertEquals(List.of(opening.getId()),
+                events.stream(OpeningCatalogueChangedEvent.class).map(OpeningCatalogueChangedEvent::getOpeningId).collect(Collectors.toList()));
+    }
+
     @Test
     void testDeleteInvalidMove1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -225,6 +287,14 @@ public class MoveServiceTest {
         });
     }
 
+    @Test
+    void testDeleteInvalidMove4() {
+        MoveEntity storedMove = moveList.get(0);
+        newGame(storedMove);
+        assertThrows(IllegalOperationException.class, () -> moveService.deleteMove(storedMove.getId()));
+        assertNotNull(entityManager.find(MoveEntity.class, storedMove.getId()));
+    }
+
     @Test
     void testIsValidChessNotation() {
         assertTrue(moveService.isValidChessNotation("e4"));
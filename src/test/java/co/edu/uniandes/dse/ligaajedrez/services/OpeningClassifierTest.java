@@ -0,0 +1,149 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.MoveRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.OpeningRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * The reclassification commits a transaction per batch, so these tests run
+ * without the usual test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ OpeningClassifier.class, OptimisticRetryExecutor.class })
+public class OpeningClassifierTest {
+    @Autowired
+    private OpeningClassifier openingClassifier;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private OpeningRepository openingRepository;
+
+    @Autowired
+    private MoveRepository moveRepository;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private List<GameEntity> games = new ArrayList<>();
+    private List<OpeningEntity> openings = new ArrayList<>();
+    private List<MoveEntity> moves = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        openingClassifier.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (GameEntity game : games) {
+            gameRepository.deleteById(game.getId());
+        }
+        openingRepository.deleteAll(openings);
+        moveRepository.deleteAll(moves);
+    }
+
+    private OpeningEntity newOpening(String... notations) {
+        OpeningEntity opening = factory.manufacturePojoWithFullData(OpeningEntity.class);
+        for (String notation : notations) {
+            MoveEntity move = factory.manufacturePojoWithFullData(MoveEntity.class);
+            move.setNotation(notation);
+            move = moveRepository.save(move);
+            moves.add(move);
+            opening.getMoves().add(move);
+        }
+        opening = openingRepository.save(opening);
+        openings.add(opening);
+        return opening;
+    }
+
+    private GameEntity newGame(OpeningEntity opening, String... notations) {
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        game.setMoveData(MoveCodec.fromSan(List.of(notations)));
+        game.setOpening(opening);
+        game = gameRepository.save(game);
+        games.add(game);
+        return game;
+    }
+
+    private Long openingIdOf(GameEntity game) {
+        return gameRepository.findOpeningsByIdIn(List.of(game.getId())).get(0).getOpeningId();
+    }
+
+    @Test
+    void testReclassifyGames() {
+        OpeningEntity kingsPawn = newOpening("e4");
+        OpeningEntity sicilian = newOpening("e4", "c5");
+        OpeningEntity queensPawn = newOpening("d4");
+        GameEntity unclassified = newGame(null, "e4", "c5", "Nf3");
+        GameEntity misclassified = newGame(queensPawn, "e4", "e5");
+        GameEntity classified = newGame(sicilian, "e4", "c5");
+        GameEntity outsideCatalogue = newGame(queensPawn, "c4", "e5");
+
+        assertEquals(2, openingClassifier.reclassifyGames());
+        assertEquals(sicilian.getId(), openingIdOf(unclassified));
+        assertEquals(kingsPawn.getId(), openingIdOf(misclassified));
+        assertEquals(sicilian.getId(), openingIdOf(classified));
+        assertEquals(queensPawn.getId(), openingIdOf(outsideCatalogue));
+        assertEquals(0, openingClassifier.reclassifyGames());
+    }
+
+    @Test
+    void testReclassifyGamesClearsStaleOpening() {
+        newOpening("e4");
+        OpeningEntity queensPawn = newOpening("d4");
+        GameEntity stale = factory.manufacturePojoWithFullData(GameEntity.class);
+        stale.setMoveData(MoveCodec.fromSan(List.of("c4", "e5")));
+        stale.setOpening(queensPawn);
+        stale.setOpeningClassified(true);
+        stale = gameRepository.save(stale);
+        games.add(stale);
+        GameEntity byHand = newGame(queensPawn, "c4", "e5");
+
+        assertEquals(1, openingClassifier.reclassifyGames());
+        assertNull(openingIdOf(stale));
+        assertEquals(queensPawn.getId(), openingIdOf(byHand));
+    }
+
+    @Test
+    void testReclassifyGamesInParallelBatches() {
+        OpeningEntity sicilian = newOpening("e4", "c5");
+        int count = OpeningClassifier.RECLASSIFY_BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            newGame(null, "e4", "c5", "Nf3");
+        }
+        assertEquals(count, openingClassifier.reclassifyGames());
+        assertEquals(sicilian.getId(), openingIdOf(games.get(count - 1)));
+    }
+
+    @Test
+    void testCatalogueChangeRebuildsTrie() {
+        newOpening("e4");
+        assertEquals(1, openingClassifier.trie().depth());
+        newOpening("e4", "c5");
+        assertEquals(1, openingClassifier.trie().depth());
+        openingClassifier.invalidate();
+        assertEquals(2, openingClassifier.trie().depth());
+    }
+}
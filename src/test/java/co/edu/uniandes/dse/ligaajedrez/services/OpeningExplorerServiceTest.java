@@ -0,0 +1,235 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.ExplorerMove;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.LeagueEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import(OpeningExplorerService.class)
+public class OpeningExplorerServiceTest {
+    @Autowired
+    private OpeningExplorerService openingExplorerService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private LeagueEntity league;
+    private List<TournamentEntity> tournaments = new ArrayList<>();
+    private List<GameEntity> games = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clearData();
+        insertData();
+        openingExplorerService.invalidate();
+        ReflectionTestUtils.setField(openingExplorerService, "snapshotPath", "");
+    }
+
+    private void clearData() {
+        entityManager.getEntityManager().createQuery("delete from GameEntity").executeUpdate();
+        entityManager.getEntityManager().createQuery("delete from TournamentEntity").executeUpdate();
+        entityManager.getEntityManager().createQuery("delete from LeagueEntity").executeUpdate();
+    }
+
+    private void insertData() {
+        league = factory.manufacturePojoWithFullData(LeagueEntity.class);
+        entityManager.persist(league);
+        for (int i = 0; i < 2; i++) {
+            TournamentEntity tournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+            tournament.setLeague(i == 0 ? league : null);
+            entityManager.persist(tournament);
+            tournaments.add(tournament);
+        }
+        newGame(tournaments.get(0), "Ganó A", "e4", "e5", "Nf3");
+        newGame(tournaments.get(0), "Tablas", "e4", "c5");
+        newGame(tournaments.get(1), "0-1", "e4", "e5", "Bc4");
+        newGame(null, "1-0", "d4", "d5");
+        newGame(null, "*", "c4");
+    }
+
+    private GameEntity newGame(TournamentEntity tournament, String result, String... moves) {
+        GameEntity game = TestGames.newGame(entityManager, factory, tournament, result, moves);
+        games.add(game);
+        return game;
+    }
+
+    private static ExplorerMove move(List<ExplorerMove> moves, String notation) {
+        return moves.stream().filter(move -> move.getNotation().equals(notation)).findFirst().get();
+    }
+
+    @Test
+    void testGetMovesOfAllGames() throws IllegalOperationException, EntityNotFoundException {
+        List<ExplorerMove> moves = openingExplorerService.getMoves(null, List.of(), null, null);
+        assertEquals(2, moves.size());
+        assertEquals("e4", moves.get(0).getNotation());
+        assertEquals(3, moves.get(0).getGames());
+        assertEquals(1, moves.get(0).getWhiteWins());
+        assertEquals(1, moves.get(0).getDraws());
+        assertEquals(1, moves.get(0).getBlackWins());
+        assertEquals(1, move(moves, "d4").getWhiteWins());
+    }
+
+    @Test
+    void testGetMovesByFen() throws IllegalOperationException, EntityNotFoundException {
+        String fen = "rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2";
+        List<ExplorerMove> moves = openingExplorerService.getMoves(fen, null, null, null);
+        assertEquals(2, moves.size());
+        assertEquals(1, move(moves, "Nf3").getWhiteWins());
+        assertEquals(1, move(moves, "Bc4").getBlackWins());
+    }
+
+    @Test
+    void testGetMovesOfTournament() throws IllegalOperationException, EntityNotFoundException {
+        List<ExplorerMove> moves = openingExplorerService.getMoves(null, List.of("e4"), null, tournaments.get(1).getId());
+        assertEquals(1, moves.size());
+        assertEquals("e5", moves.get(0).getNotation());
+        assertEquals(1, moves.get(0).getBlackWins());
+    }
+
+    @Test
+    void testGetMovesOfLeague() throws IllegalOperationException, EntityNotFoundException {
+        List<ExplorerMove> moves = openingExplorerService.getMoves(null, List.of("e4"), league.getId(), null);
+        assertEquals(2, moves.size());
+        assertEquals(1, move(moves, "e5").getWhiteWins());
+        assertEquals(1, move(moves, "c5").getDraws());
+    }
+
+    @Test
+    void testGetMovesOfLeagueAndTournament() {
+        assertThrows(IllegalOperationException.class, () -> openingExplorerService.getMoves(null, List.of(), league.getId(), tournaments.get(0).getId()));
+    }
+
+    @Test
+    void testGetMovesOfMissingTournament() {
+        assertThrows(EntityNotFoundException.class, () -> openingExplorerService.getMoves(null, List.of(), null, 0L));
+    }
+
+    @Test
+    void testGetMovesOfMissingLeague() {
+        assertThrows(EntityNotFoundException.class, () -> openingExplorerService.getMoves(null, List.of(), 0L, null));
+    }
+
+    @Test
+    void testGetMovesOfIllegalPosition() {
+        assertThrows(IllegalOperationException.class, () -> openingExplorerService.getMoves(null, List.of("e5"), null, null));
+    }
+
+    @Test
+    void testGameChangesUpdateExplorer() throws IllegalOperationException, EntityNotFoundException {
+        openingExplorerService.getMoves(null, List.of(), null, null);
+        GameEntity game = games.get(0);
+        GameChangedEvent.State before = GameChangedEvent.State.of(game);
+        game.setMoveData(MoveCodec.fromSan(List.of("e4", "e5", "Nf3", "Nc6")));
+        openingExplorerService.onGameChanged(GameChangedEvent.of(game, before));
+        List<ExplorerMove> moves = openingExplorerService.getMoves(null, List.of("e4", "e5", "Nf3"), null, tournaments.get(0).getId());
+        assertEquals(1, move(moves, "Nc6").getWhiteWins());
+        assertEquals(3, openingExplorerService.getMoves(null, List.of(), null, null).get(0).getGames());
+
+        before = GameChangedEvent.State.of(game);
+        game.setResult("Ganó B");
+        openingExplorerService.onGameChanged(GameChangedEvent.of(game, before));
+        List<ExplorerMove> afterResult = openingExplorerService.getMoves(null, List.of(), null, null);
+        assertEquals(0, afterResult.get(0).getWhiteWins());
+        assertEquals(2, afterResult.get(0).getBlackWins());
+
+        openingExplorerService.onGameChanged(new GameChangedEvent(game.getId(), GameChangedEvent.State.of(game), null));
+        assertTrue(openingExplorerService.getMoves(null, List.of("e4", "e5", "Nf3"), null, null).isEmpty());
+        assertEquals(2, openingExplorerService.getMoves(null, List.of(), null, null).get(0).getGames());
+    }
+
+    @Test
+    void testGameChangesBeforeFirstUseAreRead() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity game = newGame(null, "1-0", "e4", "e6");
+        openingExplorerService.onGameChanged(new GameChangedEvent(game.getId(), null, GameChangedEvent.State.of(game)));
+        assertEquals(4, openingExplorerService.getMoves(null, List.of(), null, null).get(0).getGames());
+    }
+
+    @Test
+    void testSnapshot() throws IOException, IllegalOperationException, EntityNotFoundException {
+        Path snapshot = Files.createTempFile("explorer", ".bin");
+        try {
+            ReflectionTestUtils.setField(openingExplorerService, "snapshotPath", snapshot.toString());
+            openingExplorerService.getMoves(null, List.of(), null, null);
+            openingExplorerService.writeSnapshot();
+            openingExplorerService.invalidate();
+            entityManager.getEntityManager().createQuery("update GameEntity g set g.result = '0-1', g.version = g.version + 1").executeUpdate();
+            // The games changed since the snapshot, so the explorer is rebuilt from them.
+            assertEquals(3, openingExplorerService.getMoves(null, List.of(), null, null).get(0).getBlackWins());
+
+            openingExplorerService.writeSnapshot();
+            openingExplorerService.invalidate();
+            entityManager.getEntityManager().createQuery("update GameEntity g set g.result = '1-0'").executeUpdate();
+            // The versions did not change, so the snapshot is read instead of the games.
+            assertEquals(3, openingExplorerService.getMoves(null, List.of(), null, null).get(0).getBlackWins());
+        } finally {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    @Test
+    void testTreeBuiltWhileGamesChangeIsNotSnapshotted() throws IOException, IllegalOperationException, EntityNotFoundException {
+        GameRepository gameRepository = (GameRepository) ReflectionTestUtils.getField(openingExplorerService, "gameRepository");
+        GameEntity game = games.get(0);
+        // Every page the build reads comes with a change to a game.
+        GameRepository changing = (GameRepository) Proxy.newProxyInstance(GameRepository.class.getClassLoader(), new Class<?>[] { GameRepository.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findRecordPage")) {
+                        openingExplorerService.onGameChanged(new GameChangedEvent(game.getId(), GameChangedEvent.State.of(game), GameChangedEvent.State.of(game)));
+                    }
+                    try {
+                        return method.invoke(gameRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        Path snapshot = Files.createTempFile("explorer", ".bin");
+        Files.delete(snapshot);
+        try {
+            ReflectionTestUtils.setField(openingExplorerService, "snapshotPath", snapshot.toString());
+            ReflectionTestUtils.setField(openingExplorerService, "gameRepository", changing);
+            assertEquals(3, openingExplorerService.getMoves(null, List.of(), null, null).get(0).getGames());
+            openingExplorerService.writeSnapshot();
+            assertFalse(Files.exists(snapshot));
+
+            ReflectionTestUtils.setField(openingExplorerService, "gameRepository", gameRepository);
+            openingExplorerService.invalidate();
+            openingExplorerService.getMoves(null, List.of(), null, null);
+            openingExplorerService.writeSnapshot();
+            assertTrue(Files.exists(snapshot));
+        } finally {
+            ReflectionTestUtils.setField(openingExplorerService, "gameRepository", gameRepository);
+            Files.deleteIfExists(snapshot);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -72,23 +73,25 @@ public class OpeningServiceTest {
     }
 
     @Test
-    void testCreateInvalidOpening1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            OpeningEntity newOpening = factory.manufacturePojoWithFullData(OpeningEntity.class);
-            newOpening.setId(null);
-            newOpening.setClassification(OpeningType.ABIERTA);
-            openingService.createOpening(newOpening);
-        });
+    void testCreateOpeningWithoutId() throws IllegalOperationException {
+        OpeningEntity newOpening = factory.manufacturePojoWithFullData(OpeningEntity.class);
+        newOpening.setId(null);
+        newOpening.setClassification(OpeningType.ABIERTA);
+        OpeningEntity openingEntity = openingService.createOpening(newOpening);
+        assertNotNull(openingEntity.getId());
+        assertNotEquals(0L, openingEntity.getId());
+        assertNotNull(entityManager.find(OpeningEntity.class, openingEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidOpening2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            OpeningEntity newOpening = factory.manufacturePojoWithFullData(OpeningEntity.class);
-            newOpening.setId(0L);
-            newOpening.setClassification(OpeningType.ABIERTA);
-            openingService.createOpening(newOpening);
-        });
+    void testCreateOpeningWithZeroId() throws IllegalOperationException {
+        OpeningEntity newOpening = factory.manufacturePojoWithFullData(OpeningEntity.class);
+        newOpening.setId(0L);
+        newOpening.setClassification(OpeningType.ABIERTA);
+        OpeningEntity openingEntity = openingService.createOpening(newOpening);
+        assertNotNull(openingEntity.getId());
+        assertNotEquals(0L, openingEntity.getId());
+        assertNotNull(entityManager.find(OpeningEntity.class, openingEntity.getId()));
     }
 
     @Test
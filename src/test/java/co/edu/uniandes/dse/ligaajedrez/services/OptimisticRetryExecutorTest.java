@@ -0,0 +1,113 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * Every attempt of the executor commits its own transaction, so these tests run
+ * without the usual test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(OptimisticRetryExecutor.class)
+public class OptimisticRetryExecutorTest {
+    @Autowired
+    private OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private PlayerEntity player;
+
+    @BeforeEach
+    void setUp() {
+        PlayerEntity newPlayer = factory.manufacturePojo(PlayerEntity.class);
+        newPlayer.setBirthDate(null);
+        player = playerRepository.saveAndFlush(newPlayer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        playerRepository.deleteById(player.getId());
+    }
+
+    @Test
+    void testRetriesUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = optimisticRetryExecutor.execute(status -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("Conflict");
+            }
+            return "done";
+        });
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        assertThrows(OptimisticLockingFailureException.class, () -> {
+            optimisticRetryExecutor.execute(status -> {
+                attempts.incrementAndGet();
+                throw new OptimisticLockingFailureException("Conflict");
+            });
+        });
+        assertEquals(OptimisticRetryExecutor.MAX_ATTEMPTS, attempts.get());
+    }
+
+    @Test
+    void testDoesNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> {
+            optimisticRetryExecutor.execute(status -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("Failure");
+            });
+        });
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testConcurrentWriteIsNotLost() {
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger attempts = new AtomicInteger();
+        optimisticRetryExecutor.execute(status -> {
+            PlayerEntity managed = playerRepository.findById(player.getId()).get();
+            if (attempts.incrementAndGet() == 1) {
+                concurrent.executeWithoutResult(other -> playerRepository.findById(player.getId()).get().setName("Renamed"));
+            }
+            managed.setEloRating(2100);
+            return managed;
+        });
+        PlayerEntity stored = playerRepository.findById(player.getId()).get();
+        assertEquals(2, attempts.get());
+        assertEquals("Renamed", stored.getName());
+        assertEquals(2100, stored.getEloRating());
+    }
+}
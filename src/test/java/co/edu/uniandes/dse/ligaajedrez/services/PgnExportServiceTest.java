@@ -0,0 +1,187 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.PgnGame;
+import co.edu.uniandes.dse.ligaajedrez.chess.PgnReader;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.LeagueEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import(PgnExportService.class)
+public class PgnExportServiceTest {
+    @Autowired
+    private PgnExportService pgnExportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private LeagueEntity league;
+    private List<TournamentEntity> tournaments = new ArrayList<>();
+    private List<PlayerEntity> players = new ArrayList<>();
+    private OpeningEntity opening;
+    private List<GameEntity> games = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clearData();
+        insertData();
+    }
+
+    private void clearData() {
+        entityManager.getEntityManager().createQuery("delete from GameEntity").executeUpdate();
+        entityManager.getEntityManager().createQuery("delete from TournamentEntity").executeUpdate();
+        entityManager.getEntityManager().createQuery("delete from LeagueEntity").executeUpdate();
+    }
+
+    private void insertData() {
+        league = factory.manufacturePojoWithFullData(LeagueEntity.class);
+        entityManager.persist(league);
+        for (int i = 0; i < 2; i++) {
+            TournamentEntity tournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+            tournament.setName("Torneo " + i);
+            tournament.setLocation("Bogotá");
+            tournament.setLeague(i == 0 ? league : null);
+            entityManager.persist(tournament);
+            tournaments.add(tournament);
+        }
+        for (String username : List.of("ana", "luis")) {
+            PlayerEntity player = factory.manufacturePojo(PlayerEntity.class);
+            player.setUsername(username);
+            entityManager.persist(player);
+            players.add(player);
+        }
+        opening = factory.manufacturePojo(OpeningEntity.class);
+        opening.setName("Ruy \"Lopez\"");
+        entityManager.persist(opening);
+        GameEntity game = newGame(tournaments.get(0), "Ganó A", "e4", "e5", "Nf3", "Nc6", "Bb5");
+        game.setWhitePlayer(players.get(0));
+        game.setBlackPlayer(players.get(1));
+        game.setOpening(opening);
+        newGame(tournaments.get(0), "En curso", "d4");
+        newGame(tournaments.get(1), "0-1", "c4", "e5");
+        entityManager.flush();
+    }
+
+    private GameEntity newGame(TournamentEntity tournament, String result, String... moves) {
+        GameEntity game = TestGames.newGame(entityManager, factory, tournament, result, moves);
+        games.add(game);
+        return game;
+    }
+
+    private static List<PgnGame> read(PgnExport export) throws IOException {
+        StringWriter writer = new StringWriter();
+        export.writeTo(writer);
+        List<PgnGame> read = new ArrayList<>();
+        try (PgnReader reader = new PgnReader(new StringReader(writer.toString()))) {
+            for (PgnGame game = reader.next(); game != null; game = reader.next()) {
+                read.add(game);
+            }
+        }
+        return read;
+    }
+
+    @Test
+    void testExportGame() throws IOException, IllegalOperationException, EntityNotFoundException {
+        List<PgnGame> exported = read(pgnExportService.exportGame(games.get(0).getId()));
+        assertEquals(1, exported.size());
+        PgnGame game = exported.get(0);
+        assertEquals("Torneo 0", game.getTag("Event"));
+        assertEquals("Bogotá", game.getTag("Site"));
+        assertEquals("2023.11.27", game.getTag("Date"));
+        assertEquals("?", game.getTag("Round"));
+        assertEquals("ana", game.getTag("White"));
+        assertEquals("luis", game.getTag("Black"));
+        assertEquals("1-0", game.getTag("Result"));
+        assertEquals("Ruy \"Lopez\"", game.getTag("Opening"));
+        assertEquals(List.of("e4", "e5", "Nf3", "Nc6", "Bb5"), game.getMoves());
+        assertEquals("1-0", game.getResult());
+    }
+
+    @Test
+    void testExportTournament() throws IOException, IllegalOperationException, EntityNotFoundException {
+        List<PgnGame> exported = read(pgnExportService.exportTournament(tournaments.get(0).getId()));
+        assertEquals(2, exported.size());
+        assertEquals(List.of("d4"), exported.get(1).getMoves());
+        assertEquals("*", exported.get(1).getResult());
+        assertEquals("?", exported.get(1).getTag("White"));
+        assertEquals(null, exported.get(1).getTag("Opening"));
+    }
+
+    @Test
+    void testExportLeague() throws IOException, IllegalOperationException, EntityNotFoundException {
+        List<PgnGame> exported = read(pgnExportService.exportLeague(league.getId()));
+        assertEquals(2, exported.size());
+        assertTrue(exported.stream().allMatch(game -> "Torneo 0".equals(game.getTag("Event"))));
+    }
+
+    @Test
+    void testExportWithoutByes() throws IOException, IllegalOperationException, EntityNotFoundException {
+        GameEntity bye = newGame(tournaments.get(0), TournamentPairingService.BYE);
+        bye.setRound(1);
+        bye.setBye(true);
+        bye.setBlackPlayer(null);
+        entityManager.flush();
+        assertEquals(2, read(pgnExportService.exportTournament(tournaments.get(0).getId())).size());
+        assertEquals(2, read(pgnExportService.exportLeague(league.getId())).size());
+    }
+
+    @Test
+    void testExportEmptyTournament() throws IOException, IllegalOperationException, EntityNotFoundException {
+        TournamentEntity tournament = factory.manufacturePojo(TournamentEntity.class);
+        entityManager.persist(tournament);
+        assertEquals(0, read(pgnExportService.exportTournament(tournament.getId())).size());
+    }
+
+    @Test
+    void testExportIllegalMoveData() throws IOException, IllegalOperationException, EntityNotFoundException {
+        games.get(0).setMoveData(new byte[] { 0, 0 });
+        entityManager.flush();
+        List<PgnGame> exported = read(pgnExportService.exportTournament(tournaments.get(0).getId()));
+        assertEquals(1, exported.size());
+        assertEquals(List.of("d4"), exported.get(0).getMoves());
+    }
+
+    @Test
+    void testExportInvalidGame() {
+        assertThrows(IllegalOperationException.class, () -> pgnExportService.exportGame(null));
+        assertThrows(EntityNotFoundException.class, () -> pgnExportService.exportGame(321L));
+    }
+
+    @Test
+    void testExportInvalidTournament() {
+        assertThrows(IllegalOperationException.class, () -> pgnExportService.exportTournament(0L));
+        assertThrows(EntityNotFoundException.class, () -> pgnExportService.exportTournament(321L));
+    }
+
+    @Test
+    void testExportInvalidLeague() {
+        assertThrows(IllegalOperationException.class, () -> pgnExportService.exportLeague(null));
+        assertThrows(EntityNotFoundException.class, () -> pgnExportService.exportLeague(321L));
+    }
+}
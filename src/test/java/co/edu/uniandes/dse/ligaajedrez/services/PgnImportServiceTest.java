@@ -0,0 +1,230 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.MaterialSignature;
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.MaterialSegment;
+import co.edu.uniandes.dse.ligaajedrez.entities.MoveEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.OpeningEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.MoveRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.OpeningRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * The import commits a transaction per batch, so these tests run without the
+ * usual test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ PgnImportService.class, OpeningClassifier.class, OptimisticRetryExecutor.class })
+public class PgnImportServiceTest {
+    private static final String PGN = "[Event \"Liga\"]\n[Date \"2023.11.27\"]\n[White \"alice\"]\n[Black \"bob\"]\n[Result \"1-0\"]\n\n"
+            + "1. e4 {best by test} e5 2. Nf3 (2. f4 exf4) Nc6 $1 3. Bb5 a6 1-0\n\n"
+            + "[White \"alice\"]\n[Black \"carol\"]\n\n1. d4 d5 0-1\n\n"
+            + "[White \"bob\"]\n[Black \"alice\"]\n[Date \"2023.??.??\"]\n\n1. e4 e5 2. Ke3 1/2-1/2\n\n"
+            + "1. c4 *\n";
+
+    @Autowired
+    private PgnImportService pgnImportService;
+
+    @Autowired
+    private OpeningClassifier openingClassifier;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private OpeningRepository openingRepository;
+
+    @Autowired
+    private MoveRepository moveRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private TournamentEntity tournament;
+    private List<PlayerEntity> players = new ArrayList<>();
+    private OpeningEntity opening;
+
+    @BeforeEach
+    void setUp() {
+        tournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+        tournament.setDate(date(2023, 12, 1));
+        tournament = tournamentRepository.save(tournament);
+        for (String username : List.of("alice", "bob")) {
+            PlayerEntity player = factory.manufacturePojoWithFullData(PlayerEntity.class);
+            player.setUsername(username);
+            players.add(playerRepository.save(player));
+        }
+        opening = factory.manufacturePojoWithFullData(OpeningEntity.class);
+        for (String notation : List.of("e4", "e5", "Nf3")) {
+            MoveEntity move = factory.manufacturePojoWithFullData(MoveEntity.class);
+            move.setNotation(notation);
+            opening.getMoves().add(moveRepository.save(move));
+        }
+        opening = openingRepository.save(opening);
+        openingClassifier.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (PlayerEntity player : players) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                gameRepository.clearWhitePlayer(player.getId());
+                gameRepository.clearBlackPlayer(player.getId());
+            });
+            playerRepository.deleteById(player.getId());
+        }
+        for (GameEntity game : importedGames()) {
+            gameRepository.deleteById(game.getId());
+        }
+        tournamentRepository.deleteById(tournament.getId());
+        openingRepository.deleteById(opening.getId());
+        moveRepository.deleteAll(opening.getMoves());
+    }
+
+    private static Date date(int year, int month, int day) {
+        return Date.from(LocalDate.of(year, month, day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private List<GameEntity> importedGames() {
+        return gameRepository.findAll().stream().filter(game -> game.getTournament() != null && game.getTournament().getId().equals(tournament.getId()))
+                .sorted((first, second) -> first.getId().compareTo(second.getId())).collect(Collectors.toList());
+    }
+
+    private PgnImport importGames(String pgn) throws IOException {
+        PgnImport pgnImport = new PgnImport(1L, tournament.getId());
+        pgnImportService.importGames(pgnImport, tournament.getDate(), new StringReader(pgn));
+        return pgnImport;
+    }
+
+    @Test
+    void testImportGames() throws IOException {
+        PgnImport pgnImport = importGames(PGN);
+        assertEquals(PgnImport.Status.COMPLETED, pgnImport.getStatus());
+        assertEquals(4, pgnImport.getGamesRead());
+        assertEquals(2, pgnImport.getGamesImported());
+        assertEquals(2, pgnImport.getGamesFailed());
+        assertEquals(List.of(2, 3), pgnImport.getErrors().stream().map(PgnImport.GameError::getGame).collect(Collectors.toList()));
+        assertEquals("The player with username = carol was not found.", pgnImport.getErrors().get(0).getMessage());
+
+        List<GameEntity> games = importedGames();
+        assertEquals(2, games.size());
+        GameEntity game = games.get(0);
+        byte[] moveData = MoveCodec.fromSan(List.of("e4", "e5", "Nf3", "Nc6", "Bb5", "a6"));
+        assertArrayEquals(moveData, game.getMoveData());
+        assertEquals("1-0", game.getResult());
+        assertEquals(date(2023, 11, 27), new Date(game.getDate().getTime()));
+        assertEquals(0L, game.getVersion());
+        assertEquals(opening.getId(), game.getOpening().getId());
+        assertTrue(playerRepository.existsByIdAndGamesId(players.get(0).getId(), game.getId()));
+        assertTrue(playerRepository.existsByIdAndGamesId(players.get(1).getId(), game.getId()));
+        assertEquals(players.get(0).getId(), game.getWhitePlayer().getId());
+        assertEquals(players.get(1).getId(), game.getBlackPlayer().getId());
+        List<Long> hashes = new TransactionTemplate(transactionManager)
+                .execute(status -> new ArrayList<>(gameRepository.findById(game.getId()).get().getPositionHashes()));
+        assertEquals(6, hashes.size());
+        assertEquals(MoveCodec.hashes(moveData)[5], hashes.get(5));
+        assertEquals(List.of(game.getId()), gameRepository.findPageByPositionHash(hashes.get(5), Long.MIN_VALUE, PageRequest.of(0, 10))
+                .map(position -> position.getId()).getContent());
+        List<MaterialSegment> materials = new TransactionTemplate(transactionManager)
+                .execute(status -> new ArrayList<>(gameRepository.findById(game.getId()).get().getMaterials()));
+        assertEquals(List.of(MaterialSegment.of(MaterialSignature.segments(moveData).get(0))), materials);
+
+        GameEntity withoutTags = games.get(1);
+        assertEquals("*", withoutTags.getResult());
+        assertNull(withoutTags.getWhitePlayer());
+        assertNull(withoutTags.getBlackPlayer());
+        assertEquals(tournament.getDate(), new Date(withoutTags.getDate().getTime()));
+        assertNull(withoutTags.getOpening());
+        assertTrue(playerRepository.findPageByGameId(withoutTags.getId(), Long.MIN_VALUE, PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void testImportGamesInBatches() throws IOException {
+        int count = PgnImportService.IMPORT_BATCH_SIZE + 5;
+        StringBuilder pgn = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            pgn.append("[White \"alice\"]\n\n1. e4 e5 2. Nf3 1-0\n\n");
+        }
+        PgnImport pgnImport = importGames(pgn.toString());
+        assertEquals(count, pgnImport.getGamesImported());
+        assertEquals(0, pgnImport.getGamesFailed());
+        assertEquals(count, importedGames().size());
+    }
+
+    @Test
+    void testStartImport() throws Exception {
+        PgnImport pgnImport = pgnImportService.startImport(tournament.getId(), new ByteArrayResource(PGN.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(pgnImport, pgnImportService.getImport(tournament.getId(), pgnImport.getId()));
+        pgnImportService.awaitImported();
+        assertEquals(PgnImport.Status.COMPLETED, pgnImport.getStatus());
+        assertEquals(2, pgnImport.getGamesImported());
+    }
+
+    @Test
+    void testStartImportOfMissingTournament() {
+        assertThrows(EntityNotFoundException.class, () -> pgnImportService.startImport(Long.MAX_VALUE, new ByteArrayResource(new byte[0])));
+    }
+
+    @Test
+    void testGetMissingImport() {
+        assertThrows(EntityNotFoundException.class, () -> pgnImportService.getImport(tournament.getId(), Long.MAX_VALUE));
+    }
+
+    @Test
+    void testDate() throws IllegalOperationException {
+        Date tournamentDate = tournament.getDate();
+        assertEquals(date(2023, 11, 27), PgnImportService.date("2023.11.27", tournamentDate));
+        assertEquals(date(2023, 1, 1), PgnImportService.date("2023.??.??", tournamentDate));
+        assertEquals(tournamentDate, PgnImportService.date("????.??.??", tournamentDate));
+        assertEquals(tournamentDate, PgnImportService.date(null, tournamentDate));
+        assertThrows(IllegalOperationException.class, () -> PgnImportService.date("2023.02.30", tournamentDate));
+        assertThrows(IllegalOperationException.class, () -> PgnImportService.date("2999.01.01", tournamentDate));
+        assertThrows(IllegalOperationException.class, () -> PgnImportService.date(null, null));
+    }
+}
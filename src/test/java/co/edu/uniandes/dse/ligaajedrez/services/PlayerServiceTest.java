@@ -1,6 +1,7 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -19,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
@@ -27,7 +29,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import(PlayerService.class)
+@Import({ PlayerService.class, RatingService.class, TournamentStandingsService.class, OptimisticRetryExecutor.class })
 public class PlayerServiceTest {
     @Autowired
     private PlayerService playerService;
@@ -88,29 +90,33 @@ public class PlayerServiceTest {
     }
 
     @Test
-    void testCreateInvalidPlayer1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            PlayerEntity newPlayer = factory.manufacturePojoWithFullData(PlayerEntity.class);
-            newPlayer.setId(null);
-            newPlayer.setName("Test Name");
-            newPlayer.setPhotoURL("Test Photo URL");
-            newPlayer.setUsername("Test Username");
-            newPlayer.setPassword("Test Password");
-            playerService.createPlayer(newPlayer);
-        });
+    void testCreatePlayerWithoutId() throws IllegalOperationException {
+        PlayerEntity newPlayer = factory.manufacturePojoWithFullData(PlayerEntity.class);
+        newPlayer.setId(null);
+        newPlayer.setName("Test Name");
+        newPlayer.setBirthDate(new Date());
+        newPlayer.setPhotoURL("Test Photo URL");
+        newPlayer.setUsername("Test Username");
+        newPlayer.setPassword("Test Password");
+        PlayerEntity playerEntity = playerService.createPlayer(newPlayer);
+        assertNotNull(playerEntity.getId());
+        assertNotEquals(0L, playerEntity.getId());
+        assertNotNull(entityManager.find(PlayerEntity.class, playerEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidPlayer2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            PlayerEntity newPlayer = factory.manufacturePojoWithFullData(PlayerEntity.class);
-            newPlayer.setId(0L);
-            newPlayer.setName("Test Name");
-            newPlayer.setPhotoURL("Test Photo URL");
-            newPlayer.setUsername("Test Username");
-            newPlayer.setPassword("Test Password");
-            playerService.createPlayer(newPlayer);
-        });
+    void testCreatePlayerWithZeroId() throws IllegalOperationException {
+        PlayerEntity newPlayer = factory.manufacturePojoWithFullData(PlayerEntity.class);
+        newPlayer.setId(0L);
+        newPlayer.setName("Test Name");
+        newPlayer.setBirthDate(new Date());
+        newPlayer.setPhotoURL("Test Photo URL");
+        newPlayer.setUsername("Test Username");
+        newPlayer.setPassword("Test Password");
+        PlayerEntity playerEntity = playerService.createPlayer(newPlayer);
+        assertNotNull(playerEntity.getId());
+        assertNotEquals(0L, playerEntity.getId());
+        assertNotNull(entityManager.find(PlayerEntity.class, playerEntity.getId()));
     }
 
     @Test
@@ -253,7 +259,7 @@ public class PlayerServiceTest {
         player.setId(storedPlayer.getId());
         player.setName("Test Name");
         player.setPhotoURL("Test Photo URL");
-        player.setBirthDate(new Date());
+        player.setBirthDate(TestDates.today());
         player.setBirthPlace("Test Birth Place");
         player.setEloRating(0);
         player.setUsername("Test Username");
@@ -363,6 +369,20 @@ public class PlayerServiceTest {
         assertNull(deletedPlayer);
     }
 
+    @Test
+    void testDeletePlayerWithColours() throws IllegalOperationException, EntityNotFoundException {
+        GameEntity game = factory.manufacturePojo(GameEntity.class);
+        game.setWhitePlayer(playerList.get(0));
+        game.setBlackPlayer(playerList.get(1));
+        entityManager.persist(game);
+        Long version = game.getVersion();
+        playerService.deletePlayer(playerList.get(0).getId());
+        GameEntity storedGame = entityManager.find(GameEntity.class, game.getId());
+        assertNull(storedGame.getWhitePlayer());
+        assertEquals(playerList.get(1).getId(), storedGame.getBlackPlayer().getId());
+        assertTrue(storedGame.getVersion() > version);
+    }
+
     @Test
     void testDeleteInvalidPlayer1() {
         assertThrows(IllegalOperationException.class, () -> {
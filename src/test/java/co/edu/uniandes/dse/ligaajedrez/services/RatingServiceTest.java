@@ -0,0 +1,283 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PendingRatingEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.RatingChangeEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PendingRatingRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.RatingChangeRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * Ratings are updated after the game changes commit, so these tests run without
+ * the usual test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ RatingService.class, GameService.class, PlayerService.class, TournamentStandingsService.class, OptimisticRetryExecutor.class })
+public class RatingServiceTest {
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private RatingChangeRepository ratingChangeRepository;
+
+    @Autowired
+    private PendingRatingRepository pendingRatingRepository;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private List<PlayerEntity> players = new ArrayList<>();
+    private List<Long> games = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ratingService.invalidate();
+        players.add(newPlayer(1500));
+        players.add(newPlayer(1500));
+        players.add(newPlayer(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        games.forEach(gameRepository::deleteById);
+        players.forEach(player -> playerRepository.deleteById(player.getId()));
+        ratingChangeRepository.deleteAll();
+        pendingRatingRepository.deleteAll();
+    }
+
+    private PlayerEntity newPlayer(Integer rating) {
+        PlayerEntity player = factory.manufacturePojoWithFullData(PlayerEntity.class);
+        player.setEloRating(rating);
+        return playerRepository.saveAndFlush(player);
+    }
+
+    private GameEntity newGame(PlayerEntity white, PlayerEntity black, String result) throws Exception {
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        game.setId(9000L + games.size());
+        game.setDate(new Date(0));
+        game.setResult(result);
+        game.setWhitePlayer(white);
+        game.setBlackPlayer(black);
+        GameEntity created = gameService.createGame(game);
+        games.add(created.getId());
+        ratingService.awaitRated();
+        return created;
+    }
+
+    private GameEntity correct(GameEntity game, String result) throws Exception {
+        GameEntity update = new GameEntity();
+        update.setResult(result);
+        update.setDate(game.getDate());
+        update.setImage(game.getImage());
+        GameEntity updated = gameService.updateGame(game.getId(), update);
+        ratingService.awaitRated();
+        return updated;
+    }
+
+    private List<Integer> changes(PlayerEntity player) throws IllegalOperationException, EntityNotFoundException {
+        return ratingService.getRatingHistory(player.getId(), null, null, 50).getContent().stream()
+                .map(RatingChangeEntity::getChange).collect(Collectors.toList());
+    }
+
+    @Test
+    void testRateNewResult() throws Exception {
+        GameEntity game = newGame(players.get(0), players.get(1), "1-0");
+        Rating white = ratingService.getRating(players.get(0).getId());
+        assertEquals(1520, white.getRating());
+        assertEquals(1, white.getGames());
+        assertEquals(1480, ratingService.getRating(players.get(1).getId()).getRating());
+        assertEquals(1520, playerRepository.findById(players.get(0).getId()).get().getEloRating());
+        assertEquals(1480, playerRepository.findById(players.get(1).getId()).get().getEloRating());
+
+        RatingChangeEntity change = ratingService.getRatingHistory(players.get(1).getId(), null, null, 10).getContent().get(0);
+        assertEquals(game.getId(), change.getGameId());
+        assertEquals(players.get(0).getId(), change.getOpponentId());
+        assertEquals(0.0, change.getScore());
+        assertEquals(-20, change.getChange());
+    }
+
+    @Test
+    void testRatingsBuildOnEachOther() throws Exception {
+        newGame(players.get(0), players.get(1), "1-0");
+        newGame(players.get(1), players.get(0), "Tablas");
+        assertEquals(1518, ratingService.getRating(players.get(0).getId()).getRating());
+        assertEquals(1482, ratingService.getRating(players.get(1).getId()).getRating());
+        assertEquals(List.of(-20, 2), changes(players.get(1)));
+        assertEquals(2, ratingService.getRating(players.get(1).getId()).getGames());
+    }
+
+    @Test
+    void testPlayerWithoutRatingStartsAtInitialRating() throws Exception {
+        assertEquals(1500, ratingService.getRating(players.get(2).getId()).getRating());
+        newGame(players.get(2), players.get(0), "0-1");
+        assertEquals(1480, ratingService.getRating(players.get(2).getId()).getRating());
+    }
+
+    @Test
+    void testUnratedGames() throws Exception {
+        newGame(players.get(0), players.get(1), "*");
+        newGame(players.get(0), null, "1-0");
+        newGame(players.get(0), players.get(0), "1-0");
+        assertEquals(1500, ratingService.getRating(players.get(0).getId()).getRating());
+        assertTrue(changes(players.get(0)).isEmpty());
+    }
+
+    @Test
+    void testCorrectResult() throws Exception {
+        GameEntity game = newGame(players.get(0), players.get(1), "1-0");
+        correct(game, "0-1");
+        assertEquals(List.of(20, -20, -20), changes(players.get(0)));
+        assertEquals(List.of(-20, 20, 20), changes(players.get(1)));
+        assertEquals(1480, ratingService.getRating(players.get(0).getId()).getRating());
+        assertEquals(1, ratingService.getRating(players.get(0).getId()).getGames());
+        List<RatingChangeEntity> history = ratingService.getRatingHistory(players.get(0).getId(), null, null, 10).getContent();
+        assertNull(history.get(1).getScore());
+        assertEquals(0, history.get(1).getGames());
+    }
+
+    @Test
+    void testSameResultIsNotRatedAgain() throws Exception {
+        GameEntity game = newGame(players.get(0), players.get(1), "1-0");
+        correct(game, "Ganó A");
+        assertEquals(List.of(20), changes(players.get(0)));
+    }
+
+    @Test
+    void testDeletedGameIsTakenBack() throws Exception {
+        GameEntity game = newGame(players.get(0), players.get(1), "1-0");
+        gameService.deleteGame(game.getId());
+        games.remove(game.getId());
+        ratingService.awaitRated();
+        assertEquals(List.of(20, -20), changes(players.get(0)));
+        assertEquals(1500, ratingService.getRating(players.get(0).getId()).getRating());
+        assertEquals(0, ratingService.getRating(players.get(0).getId()).getGames());
+    }
+
+    @Test
+    void testEditedRatingBeforeAnyGame() throws Exception {
+        assertEquals(1500, ratingService.getRating(players.get(2).getId()).getRating());
+        PlayerEntity player = playerRepository.findById(players.get(2).getId()).get();
+        player.setEloRating(1800);
+        player.setBirthDate(new Date());
+        player.setVersion(null);
+        playerService.updatePlayer(player.getId(), player);
+        assertEquals(1800, ratingService.getRating(players.get(2).getId()).getRating());
+    }
+
+    @Test
+    void testProfileEditKeepsComputedRating() throws Exception {
+        newGame(players.get(0), players.get(1), "1-0");
+        PlayerEntity player = playerRepository.findById(players.get(0).getId()).get();
+        player.setName("Renamed");
+        player.setBirthDate(new Date());
+        playerService.updatePlayer(player.getId(), player);
+        player.setEloRating(null);
+        player.setVersion(null);
+        playerService.updatePlayer(player.getId(), player);
+        assertEquals(1520, playerRepository.findById(players.get(0).getId()).get().getEloRating());
+        assertEquals(1520, ratingService.getRating(players.get(0).getId()).getRating());
+    }
+
+    @Test
+    void testEditedRatingAfterRatedGame() throws Exception {
+        newGame(players.get(0), players.get(1), "1-0");
+        PlayerEntity player = playerRepository.findById(players.get(0).getId()).get();
+        player.setEloRating(2000);
+        player.setBirthDate(new Date());
+        assertThrows(IllegalOperationException.class, () -> playerService.updatePlayer(player.getId(), player));
+        assertEquals(1520, playerRepository.findById(players.get(0).getId()).get().getEloRating());
+    }
+
+    @Test
+    void testRatedGameIsNoLongerPending() throws Exception {
+        newGame(players.get(0), players.get(1), "1-0");
+        assertEquals(0, pendingRatingRepository.count());
+    }
+
+    @Test
+    void testPendingGameIsRatedOnStartup() throws Exception {
+        // A game whose change committed but was never rated, as after a restart.
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        game.setDate(new Date(0));
+        game.setResult("0-1");
+        game.setWhitePlayer(players.get(0));
+        game.setBlackPlayer(players.get(1));
+        game = gameRepository.saveAndFlush(game);
+        games.add(game.getId());
+        PendingRatingEntity pendingRating = new PendingRatingEntity();
+        pendingRating.setGameId(game.getId());
+        pendingRatingRepository.saveAndFlush(pendingRating);
+
+        ratingService.onApplicationReady();
+        ratingService.awaitRated();
+        assertEquals(1480, ratingService.getRating(players.get(0).getId()).getRating());
+        assertEquals(1520, ratingService.getRating(players.get(1).getId()).getRating());
+        assertEquals(0, pendingRatingRepository.count());
+    }
+
+    @Test
+    void testGetRatingHistoryPages() throws Exception {
+        newGame(players.get(0), players.get(1), "1-0");
+        newGame(players.get(0), players.get(1), "1-0");
+        newGame(players.get(0), players.get(1), "1-0");
+        Slice<RatingChangeEntity> first = ratingService.getRatingHistory(players.get(0).getId(), null, null, 2);
+        assertEquals(2, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        RatingChangeEntity last = first.getContent().get(1);
+        Slice<RatingChangeEntity> second = ratingService.getRatingHistory(players.get(0).getId(), last.getDate(), last.getId(), 2);
+        assertEquals(1, second.getNumberOfElements());
+        assertFalse(second.hasNext());
+        assertEquals(ratingService.getRating(players.get(0).getId()).getRating(), second.getContent().get(0).getRating());
+    }
+
+    @Test
+    void testGetRatingOfMissingPlayer() {
+        assertThrows(EntityNotFoundException.class, () -> ratingService.getRating(321L));
+        assertThrows(EntityNotFoundException.class, () -> ratingService.getRatingHistory(321L, null, null, 10));
+    }
+
+    @Test
+    void testGetRatingWithoutId() {
+        assertThrows(IllegalOperationException.class, () -> ratingService.getRating(0L));
+        assertThrows(IllegalOperationException.class, () -> ratingService.getRatingHistory(null, null, null, 10));
+    }
+}
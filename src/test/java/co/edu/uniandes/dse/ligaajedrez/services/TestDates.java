@@ -0,0 +1,19 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.Calendar;
+import java.util.Date;
+
+final class TestDates {
+    private TestDates() {
+    }
+
+    // The date columns keep only the day, so a stored date reads back at midnight.
+    static Date today() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar.getTime();
+    }
+}
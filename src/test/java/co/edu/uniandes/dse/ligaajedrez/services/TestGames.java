@@ -0,0 +1,29 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.MoveCodec;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import uk.co.jemos.podam.api.PodamFactory;
+
+final class TestGames {
+    private TestGames() {
+    }
+
+    // A game of the tournament, which may be null, played on 2023-11-27.
+    static GameEntity newGame(TestEntityManager entityManager, PodamFactory factory, TournamentEntity tournament, String result, String... moves) {
+        GameEntity game = factory.manufacturePojo(GameEntity.class);
+        game.setTournament(tournament);
+        game.setResult(result);
+        game.setDate(Date.from(LocalDate.of(2023, 11, 27).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        game.setMoveData(MoveCodec.fromSan(List.of(moves)));
+        entityManager.persist(game);
+        return game;
+    }
+}
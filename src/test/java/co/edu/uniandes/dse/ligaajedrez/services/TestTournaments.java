@@ -0,0 +1,35 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import uk.co.jemos.podam.api.PodamFactory;
+
+final class TestTournaments {
+    private TestTournaments() {
+    }
+
+    static void clearData(TestEntityManager entityManager) {
+        entityManager.getEntityManager().createQuery("delete from GameEntity").executeUpdate();
+        entityManager.getEntityManager().createQuery("delete from PlayerEntity").executeUpdate();
+        entityManager.getEntityManager().createQuery("delete from TournamentEntity").executeUpdate();
+    }
+
+    // The players join best seed first.
+    static List<PlayerEntity> addPlayers(TestEntityManager entityManager, PodamFactory factory, TournamentEntity tournament, int count) {
+        List<PlayerEntity> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PlayerEntity player = factory.manufacturePojoWithFullData(PlayerEntity.class);
+            player.setEloRating(2000 - 10 * i);
+            player.getTournaments().add(tournament);
+            entityManager.persist(player);
+            players.add(player);
+        }
+        entityManager.flush();
+        return players;
+    }
+}
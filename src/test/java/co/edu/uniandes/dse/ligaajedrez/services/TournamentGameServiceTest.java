@@ -57,6 +57,7 @@ public class TournamentGameServiceTest {
         for (int i = 0; i < 3; i++) {
             GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
             entityManager.persist(game);
+            game.setTournament(tournament);
             tournament.getGames().add(game);
             games.add(game);
         }
@@ -0,0 +1,173 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import(TournamentPairingService.class)
+public class TournamentPairingServiceTest {
+    @Autowired
+    private TournamentPairingService pairingService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private TournamentEntity tournament = new TournamentEntity();
+    private List<PlayerEntity> players = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        TestTournaments.clearData(entityManager);
+        tournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+        entityManager.persist(tournament);
+    }
+
+    private void addPlayers(int count) {
+        players.addAll(TestTournaments.addPlayers(entityManager, factory, tournament, count));
+    }
+
+    private void finish(List<GameEntity> round, String result) {
+        for (GameEntity game : round) {
+            entityManager.getEntityManager().createQuery("update GameEntity g set g.result = :result where g.id = :id and g.blackPlayer is not null")
+                    .setParameter("result", result).setParameter("id", game.getId()).executeUpdate();
+        }
+    }
+
+    private static Set<Set<Long>> pairs(List<GameEntity> round) {
+        Set<Set<Long>> pairs = new HashSet<>();
+        for (GameEntity game : round) {
+            if (game.getBlackPlayer() != null) {
+                pairs.add(Set.of(game.getWhitePlayer().getId(), game.getBlackPlayer().getId()));
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    void testPairFirstRound() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(4);
+        List<GameEntity> round = pairingService.pairNextRound(tournament.getId());
+        assertEquals(2, round.size());
+        // The top half meets the bottom half: 1 against 3 and 2 against 4.
+        assertEquals(Set.of(Set.of(players.get(0).getId(), players.get(2).getId()), Set.of(players.get(1).getId(), players.get(3).getId())),
+                pairs(round));
+        for (GameEntity game : round) {
+            GameEntity entity = entityManager.find(GameEntity.class, game.getId());
+            assertNotNull(entity);
+            assertEquals(1, entity.getRound());
+            assertEquals(TournamentPairingService.UNFINISHED, entity.getResult());
+            assertEquals(tournament.getId(), entity.getTournament().getId());
+            assertEquals(2, entity.getPlayers().size());
+        }
+    }
+
+    @Test
+    void testPairUnfinishedRound() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(4);
+        pairingService.pairNextRound(tournament.getId());
+        assertThrows(IllegalOperationException.class, () -> pairingService.pairNextRound(tournament.getId()));
+    }
+
+    @Test
+    void testPairWithoutRematches() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(4);
+        Set<Set<Long>> played = new HashSet<>();
+        for (int number = 1; number <= 3; number++) {
+            List<GameEntity> round = pairingService.pairNextRound(tournament.getId());
+            assertEquals(2, round.size());
+            for (Set<Long> pair : pairs(round)) {
+                assertTrue(played.add(pair));
+            }
+            assertEquals(number, round.get(0).getRound());
+            finish(round, "1/2-1/2");
+        }
+        // Every player has met every other one.
+        assertThrows(IllegalOperationException.class, () -> pairingService.pairNextRound(tournament.getId()));
+    }
+
+    @Test
+    void testPairBye() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(5);
+        List<GameEntity> first = pairingService.pairNextRound(tournament.getId());
+        assertEquals(3, first.size());
+        GameEntity bye = first.get(2);
+        assertNull(bye.getBlackPlayer());
+        assertEquals(TournamentPairingService.BYE, bye.getResult());
+        assertTrue(bye.isBye());
+        // The bye goes to the lowest seed.
+        assertEquals(players.get(4).getId(), bye.getWhitePlayer().getId());
+
+        finish(first, "1-0");
+        GameEntity second = pairingService.pairNextRound(tournament.getId()).get(2);
+        assertNull(second.getBlackPlayer());
+        assertNotEquals(bye.getWhitePlayer().getId(), second.getWhitePlayer().getId());
+    }
+
+    @Test
+    void testPairAfterOpponentDeleted() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(6);
+        List<GameEntity> first = pairingService.pairNextRound(tournament.getId());
+        for (GameEntity game : first) {
+            String result = "1/2-1/2";
+            if (game.getWhitePlayer().getId().equals(players.get(0).getId())) {
+                result = "0-1";
+            } else if (game.getBlackPlayer().getId().equals(players.get(0).getId())) {
+                result = "1-0";
+            }
+            finish(List.of(game), result);
+        }
+        // Player 0 lost to player 3, who is then deleted: the game forgets which colour they had.
+        for (String colour : List.of("whitePlayer", "blackPlayer")) {
+            entityManager.getEntityManager().createQuery("update GameEntity g set g." + colour + " = null where g." + colour + ".id = :id")
+                    .setParameter("id", players.get(3).getId()).executeUpdate();
+        }
+        players.get(3).getTournaments().clear();
+        entityManager.flush();
+        entityManager.clear();
+
+        // The game without its Black player is no bye, so player 0, last on points, can still get one.
+        GameEntity bye = pairingService.pairNextRound(tournament.getId()).get(2);
+        assertNull(bye.getBlackPlayer());
+        assertTrue(bye.isBye());
+        assertEquals(players.get(0).getId(), bye.getWhitePlayer().getId());
+    }
+
+    @Test
+    void testPairInvalidTournament() {
+        assertThrows(IllegalOperationException.class, () -> pairingService.pairNextRound(0L));
+        assertThrows(EntityNotFoundException.class, () -> pairingService.pairNextRound(321L));
+    }
+
+    @Test
+    void testPairTooFewPlayers() {
+        addPlayers(1);
+        assertThrows(IllegalOperationException.class, () -> pairingService.pairNextRound(tournament.getId()));
+    }
+}
@@ -1,19 +1,23 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
@@ -145,6 +149,24 @@ public class TournamentPlayerServiceTest {
         }
     }
 
+    @Test
+    void testGetPlayerPages() throws IllegalOperationException, EntityNotFoundException {
+        List<Long> ids = players.stream().map(PlayerEntity::getId).sorted().collect(Collectors.toList());
+        Slice<PlayerEntity> first = tournamentPlayerService.getPlayers(tournament.getId(), null, 2);
+        assertTrue(first.hasNext());
+        assertEquals(ids.subList(0, 2), first.stream().map(PlayerEntity::getId).collect(Collectors.toList()));
+        Slice<PlayerEntity> second = tournamentPlayerService.getPlayers(tournament.getId(), ids.get(1), 2);
+        assertFalse(second.hasNext());
+        assertEquals(ids.subList(2, 3), second.stream().map(PlayerEntity::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testGetInvalidPlayerPages() {
+        assertThrows(EntityNotFoundException.class, () -> {
+            tournamentPlayerService.getPlayers(Long.MAX_VALUE, null, 2);
+        });
+    }
+
     @Test
     void testGetInvalidPlayers1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -181,6 +203,17 @@ public class TournamentPlayerServiceTest {
         assertEquals(player.getPassword(), entity.getPassword());
     }
 
+    @Test
+    void testGetPlayerDoesNotLoadPlayers() throws IllegalOperationException, EntityNotFoundException {
+        entityManager.flush();
+        entityManager.clear();
+        PlayerEntity entity = tournamentPlayerService.getPlayer(players.get(0).getId(), tournament.getId());
+        assertEquals(players.get(0).getId(), entity.getId());
+        TournamentEntity managed = entityManager.find(TournamentEntity.class, tournament.getId());
+        assertFalse(Hibernate.isInitialized(managed.getPlayers()));
+        assertFalse(Hibernate.isInitialized(entity.getTournaments()));
+    }
+
     @Test
     void testGetInvalidPlayer1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -251,6 +284,24 @@ public class TournamentPlayerServiceTest {
         }
     }
 
+    @Test
+    void testReplacePlayersUpdatesOwnerSide() throws IllegalOperationException, EntityNotFoundException {
+        PlayerEntity newPlayer = factory.manufacturePojoWithFullData(PlayerEntity.class);
+        entityManager.persist(newPlayer);
+        List<PlayerEntity> newPlayers = new ArrayList<>();
+        newPlayers.add(players.get(0));
+        newPlayers.add(newPlayer);
+        tournamentPlayerService.replacePlayers(tournament.getId(), newPlayers);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PlayerEntity> playerEntities = tournamentPlayerService.getPlayers(tournament.getId());
+        assertEquals(2, playerEntities.size());
+        assertEquals(1, entityManager.find(PlayerEntity.class, players.get(0).getId()).getTournaments().size());
+        assertEquals(1, entityManager.find(PlayerEntity.class, newPlayer.getId()).getTournaments().size());
+        assertTrue(entityManager.find(PlayerEntity.class, players.get(1).getId()).getTournaments().isEmpty());
+    }
+
     @Test
     void testReplaceInvalidPlayers1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -0,0 +1,132 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+@DataJpaTest
+@Transactional
+@Import({ TournamentScheduleService.class, TournamentPairingService.class })
+public class TournamentScheduleServiceTest {
+    @Autowired
+    private TournamentScheduleService scheduleService;
+
+    @Autowired
+    private TournamentPairingService pairingService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private TournamentEntity tournament = new TournamentEntity();
+    private List<PlayerEntity> players = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        TestTournaments.clearData(entityManager);
+        tournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+        entityManager.persist(tournament);
+    }
+
+    private void addPlayers(int count) {
+        players.addAll(TestTournaments.addPlayers(entityManager, factory, tournament, count));
+    }
+
+    private long playerLinks() {
+        return entityManager.getEntityManager()
+                .createQuery("select count(p) from PlayerEntity p join p.games g where g.tournament.id = :tournamentId", Long.class)
+                .setParameter("tournamentId", tournament.getId()).getSingleResult();
+    }
+
+    @Test
+    void testScheduleRoundRobin() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(5);
+        List<GameEntity> games = scheduleService.scheduleRoundRobin(tournament.getId(), 1);
+        assertEquals(10, games.size());
+        Set<Set<Long>> pairs = new HashSet<>();
+        int[] perRound = new int[6];
+        for (GameEntity game : games) {
+            assertTrue(pairs.add(Set.of(game.getWhitePlayer().getId(), game.getBlackPlayer().getId())));
+            perRound[game.getRound()]++;
+            GameEntity entity = entityManager.find(GameEntity.class, game.getId());
+            assertEquals(game.getRound(), entity.getRound());
+            assertEquals(TournamentPairingService.UNFINISHED, entity.getResult());
+            assertEquals(tournament.getId(), entity.getTournament().getId());
+        }
+        // Everyone sits out one of the five rounds.
+        for (int round = 1; round <= 5; round++) {
+            assertEquals(2, perRound[round]);
+        }
+        // As in the Berger table, the top seed sits out the first round, which opens with 2 against 5.
+        assertEquals(players.get(1).getId(), games.get(0).getWhitePlayer().getId());
+        assertEquals(players.get(4).getId(), games.get(0).getBlackPlayer().getId());
+        assertEquals(2 * games.size(), playerLinks());
+    }
+
+    @Test
+    void testScheduleDoubleRoundRobin() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(30);
+        List<GameEntity> games = scheduleService.scheduleRoundRobin(tournament.getId(), 2);
+        assertEquals(870, games.size());
+        assertEquals(58, games.get(games.size() - 1).getRound());
+        Set<List<Long>> pairings = new HashSet<>();
+        for (GameEntity game : games) {
+            assertTrue(pairings.add(List.of(game.getWhitePlayer().getId(), game.getBlackPlayer().getId())));
+        }
+        assertEquals(2 * games.size(), playerLinks());
+    }
+
+    @Test
+    void testScheduleTwice() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(4);
+        scheduleService.scheduleRoundRobin(tournament.getId(), 1);
+        assertThrows(IllegalOperationException.class, () -> scheduleService.scheduleRoundRobin(tournament.getId(), 1));
+    }
+
+    @Test
+    void testScheduleAfterSwissRound() throws IllegalOperationException, EntityNotFoundException {
+        addPlayers(4);
+        pairingService.pairNextRound(tournament.getId());
+        assertThrows(IllegalOperationException.class, () -> scheduleService.scheduleRoundRobin(tournament.getId(), 1));
+    }
+
+    @Test
+    void testScheduleInvalidCycles() {
+        addPlayers(4);
+        assertThrows(IllegalOperationException.class, () -> scheduleService.scheduleRoundRobin(tournament.getId(), 0));
+        assertThrows(IllegalOperationException.class, () -> scheduleService.scheduleRoundRobin(tournament.getId(), 3));
+    }
+
+    @Test
+    void testScheduleInvalidTournament() {
+        assertThrows(IllegalOperationException.class, () -> scheduleService.scheduleRoundRobin(0L, 1));
+        assertThrows(EntityNotFoundException.class, () -> scheduleService.scheduleRoundRobin(321L, 1));
+    }
+
+    @Test
+    void testScheduleTooFewPlayers() {
+        addPlayers(1);
+        assertThrows(IllegalOperationException.class, () -> scheduleService.scheduleRoundRobin(tournament.getId(), 1));
+    }
+}
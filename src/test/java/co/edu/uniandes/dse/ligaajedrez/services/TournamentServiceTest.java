@@ -1,6 +1,8 @@
 package co.edu.uniandes.dse.ligaajedrez.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -10,18 +12,26 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
 import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerSummary;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentSummary;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
 
@@ -79,23 +89,25 @@ public class TournamentServiceTest {
     }
 
     @Test
-    void testCreateInvalidTournament1() {
-        assertThrows(IllegalOperationException.class, () -> {
-            TournamentEntity newTournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
-            newTournament.setId(null);
-            newTournament.setName("Test Name");
-            tournamentService.createTournament(newTournament);
-        });
+    void testCreateTournamentWithoutId() throws IllegalOperationException {
+        TournamentEntity newTournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+        newTournament.setId(null);
+        newTournament.setName("Test Name");
+        TournamentEntity tournamentEntity = tournamentService.createTournament(newTournament);
+        assertNotNull(tournamentEntity.getId());
+        assertNotEquals(0L, tournamentEntity.getId());
+        assertNotNull(entityManager.find(TournamentEntity.class, tournamentEntity.getId()));
     }
 
     @Test
-    void testCreateInvalidTournament2() {
-        assertThrows(IllegalOperationException.class, () -> {
-            TournamentEntity newTournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
-            newTournament.setId(0L);
-            newTournament.setName("Test Name");
-            tournamentService.createTournament(newTournament);
-        });
+    void testCreateTournamentWithZeroId() throws IllegalOperationException {
+        TournamentEntity newTournament = factory.manufacturePojoWithFullData(TournamentEntity.class);
+        newTournament.setId(0L);
+        newTournament.setName("Test Name");
+        TournamentEntity tournamentEntity = tournamentService.createTournament(newTournament);
+        assertNotNull(tournamentEntity.getId());
+        assertNotEquals(0L, tournamentEntity.getId());
+        assertNotNull(entityManager.find(TournamentEntity.class, tournamentEntity.getId()));
     }
 
     @Test
@@ -146,6 +158,53 @@ public class TournamentServiceTest {
         }
     }
 
+    @Test
+    void testGetTournamentSummaries() {
+        List<TournamentSummary> summaries = tournamentService.getTournamentSummaries();
+        assertEquals(tournamentList.size(), summaries.size());
+        for (TournamentSummary summary : summaries) {
+            TournamentEntity stored = entityManager.find(TournamentEntity.class, summary.getId());
+            assertNotNull(stored);
+            assertEquals(stored.getName(), summary.getName());
+            assertEquals(stored.getLocation(), summary.getLocation());
+        }
+    }
+
+    @Test
+    void testGetTournamentSummaryPages() throws IllegalOperationException {
+        List<Long> ids = tournamentList.stream().map(TournamentEntity::getId).sorted().collect(Collectors.toList());
+        Slice<TournamentSummary> first = tournamentService.getTournamentSummaries(null, 2);
+        assertTrue(first.hasNext());
+        assertEquals(ids.subList(0, 2), first.stream().map(TournamentSummary::getId).collect(Collectors.toList()));
+        Slice<TournamentSummary> second = tournamentService.getTournamentSummaries(ids.get(1), 2);
+        assertFalse(second.hasNext());
+        assertEquals(ids.subList(2, 3), second.stream().map(TournamentSummary::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testGetTournamentAssociationSummaries() {
+        TournamentEntity storedTournament = tournamentList.get(0);
+        GameEntity game = factory.manufacturePojo(GameEntity.class);
+        game.setTournament(storedTournament);
+        entityManager.persist(game);
+        PlayerEntity player = factory.manufacturePojo(PlayerEntity.class);
+        player.getTournaments().add(storedTournament);
+        entityManager.persist(player);
+
+        List<Long> ids = tournamentList.stream().map(TournamentEntity::getId).collect(Collectors.toList());
+        List<GameSummary> games = tournamentService.getGameSummaries(ids);
+        assertEquals(1, games.size());
+        assertEquals(game.getId(), games.get(0).getId());
+        assertEquals(storedTournament.getId(), games.get(0).getTournamentId());
+        assertEquals(game.getResult(), games.get(0).getResult());
+        List<PlayerSummary> players = tournamentService.getPlayerSummaries(ids);
+        assertEquals(1, players.size());
+        assertEquals(player.getId(), players.get(0).getId());
+        assertEquals(storedTournament.getId(), players.get(0).getOwnerId());
+        assertEquals(player.getUsername(), players.get(0).getUsername());
+        assertTrue(tournamentService.getGameSummaries(new ArrayList<>()).isEmpty());
+    }
+
     @Test
     void testGetTournament() throws IllegalOperationException, EntityNotFoundException {
         TournamentEntity storedTournament = tournamentList.get(0);
@@ -158,6 +217,27 @@ public class TournamentServiceTest {
         assertEquals(storedTournament.getPrize(), tournament.getPrize());
     }
 
+    @Test
+    void testGetTournamentDetail() throws IllegalOperationException, EntityNotFoundException {
+        TournamentEntity storedTournament = tournamentList.get(0);
+        for (int i = 0; i < 3; i++) {
+            GameEntity game = factory.manufacturePojo(GameEntity.class);
+            game.setTournament(storedTournament);
+            entityManager.persist(game);
+            PlayerEntity player = factory.manufacturePojo(PlayerEntity.class);
+            player.getTournaments().add(storedTournament);
+            entityManager.persist(player);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        TournamentEntity tournament = tournamentService.getTournament(storedTournament.getId());
+        assertTrue(Hibernate.isInitialized(tournament.getGames()));
+        assertTrue(Hibernate.isInitialized(tournament.getPlayers()));
+        assertEquals(3, tournament.getGames().size());
+        assertEquals(3, tournament.getPlayers().size());
+    }
+
     @Test
     void testGetInvalidTournament1() {
         assertThrows(IllegalOperationException.class, () -> {
@@ -186,7 +266,7 @@ public class TournamentServiceTest {
         tournament.setId(storedTournament.getId());
         tournament.setName("Test Name");
         tournament.setLocation("Test Location");
-        tournament.setDate(new Date());
+        tournament.setDate(TestDates.today());
         tournament.setPrize("Test Prize");
         TournamentEntity updatedTournament = tournamentService.updateTournament(storedTournament.getId(), tournament);
         assertEquals(tournament.getId(), updatedTournament.getId());
@@ -0,0 +1,229 @@
+package co.edu.uniandes.dse.ligaajedrez.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uniandes.dse.ligaajedrez.chess.Standing;
+import co.edu.uniandes.dse.ligaajedrez.entities.GameEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.PlayerEntity;
+import co.edu.uniandes.dse.ligaajedrez.entities.TournamentEntity;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.ligaajedrez.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.ligaajedrez.repositories.GameRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.PlayerRepository;
+import co.edu.uniandes.dse.ligaajedrez.repositories.TournamentRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/*
+ * The standings follow game changes once they commit, so these tests run
+ * without the usual test transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ TournamentStandingsService.class, TournamentGameService.class, GameTournamentService.class, GameService.class })
+public class TournamentStandingsServiceTest {
+
+    @Autowired
+    private TournamentStandingsService standingsService;
+
+    @Autowired
+    private TournamentGameService tournamentGameService;
+
+    @Autowired
+    private GameTournamentService gameTournamentService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private PodamFactory factory = new PodamFactoryImpl();
+    private List<TournamentEntity> tournaments = new ArrayList<>();
+    private List<PlayerEntity> players = new ArrayList<>();
+    private List<GameEntity> games = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        standingsService.invalidate();
+        for (int i = 0; i < 2; i++) {
+            tournaments.add(tournamentRepository.saveAndFlush(factory.manufacturePojoWithFullData(TournamentEntity.class)));
+        }
+        for (int i = 0; i < 3; i++) {
+            players.add(playerRepository.saveAndFlush(factory.manufacturePojoWithFullData(PlayerEntity.class)));
+        }
+        newGame(0, 1, "1-0");
+        newGame(1, 2, "1/2-1/2");
+        newGame(2, 0, "*");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Taking a game out of its tournament with removeGame deletes it.
+        games.forEach(game -> gameRepository.findById(game.getId()).ifPresent(gameRepository::delete));
+        players.forEach(player -> playerRepository.deleteById(player.getId()));
+        tournaments.forEach(tournament -> tournamentRepository.deleteById(tournament.getId()));
+    }
+
+    private void newGame(int white, int black, String result) {
+        GameEntity game = factory.manufacturePojoWithFullData(GameEntity.class);
+        game.setResult(result);
+        game.setDate(new Date(0));
+        game.setWhitePlayer(players.get(white));
+        game.setBlackPlayer(players.get(black));
+        games.add(gameRepository.saveAndFlush(game));
+    }
+
+    private Long tournament(int index) {
+        return tournaments.get(index).getId();
+    }
+
+    private Long game(int index) {
+        return games.get(index).getId();
+    }
+
+    private Long player(int index) {
+        return players.get(index).getId();
+    }
+
+    private void assertRow(Standing row, int player, int rank, double points, int games) {
+        assertEquals(player(player), row.getPlayerId());
+        assertEquals(rank, row.getRank());
+        assertEquals(points, row.getPoints());
+        assertEquals(games, row.getGames());
+    }
+
+    @Test
+    void testLoadStandings() throws Exception {
+        tournamentGameService.addGame(tournament(0), game(0));
+        tournamentGameService.addGame(tournament(0), game(1));
+        tournamentGameService.addGame(tournament(0), game(2));
+        List<Standing> rows = standingsService.getStandings(tournament(0));
+        assertEquals(3, rows.size());
+        assertRow(rows.get(0), 0, 1, 1, 1);
+        // Players 1 and 2 drew each other; player 1 also met the leader.
+        assertRow(rows.get(1), 1, 2, 0.5, 2);
+        assertRow(rows.get(2), 2, 3, 0.5, 1);
+        assertEquals(0.5, rows.get(1).getDirectEncounter());
+        assertEquals(1.5, rows.get(1).getBuchholz());
+        assertEquals(0.5, rows.get(2).getBuchholz());
+        assertEquals(0.25, rows.get(2).getSonnebornBerger());
+    }
+
+    @Test
+    void testAddAndRemoveGames() throws Exception {
+        assertTrue(standingsService.getStandings(tournament(0)).isEmpty());
+        tournamentGameService.addGame(tournament(0), game(0));
+        List<Standing> rows = standingsService.getStandings(tournament(0));
+        assertEquals(2, rows.size());
+        assertRow(rows.get(0), 0, 1, 1, 1);
+        assertRow(rows.get(1), 1, 2, 0, 1);
+
+        gameTournamentService.addTournament(game(1), tournament(0));
+        assertEquals(3, standingsService.getStandings(tournament(0)).size());
+
+        gameTournamentService.removeTournament(game(0));
+        rows = standingsService.getStandings(tournament(0));
+        assertEquals(2, rows.size());
+        assertEquals(0.5, rows.get(0).getPoints());
+        assertEquals(0.5, rows.get(1).getPoints());
+
+        tournamentGameService.removeGame(tournament(0), game(1));
+        assertTrue(standingsService.getStandings(tournament(0)).isEmpty());
+    }
+
+    @Test
+    void testMoveGameToAnotherTournament() throws Exception {
+        tournamentGameService.addGame(tournament(0), game(0));
+        assertEquals(2, standingsService.getStandings(tournament(0)).size());
+        assertTrue(standingsService.getStandings(tournament(1)).isEmpty());
+        gameTournamentService.replaceTournament(game(0), tournament(1));
+        assertTrue(standingsService.getStandings(tournament(0)).isEmpty());
+        assertRow(standingsService.getStandings(tournament(1)).get(0), 0, 1, 1, 1);
+    }
+
+    @Test
+    void testFinishedResultCounts() throws Exception {
+        tournamentGameService.addGame(tournament(0), game(2));
+        assertTrue(standingsService.getStandings(tournament(0)).isEmpty());
+        GameEntity update = new GameEntity();
+        update.setResult("0-1");
+        update.setDate(new Date(0));
+        gameService.updateGame(game(2), update);
+        List<Standing> rows = standingsService.getStandings(tournament(0));
+        assertRow(rows.get(0), 0, 1, 1, 1);
+        assertRow(rows.get(1), 2, 2, 0, 1);
+
+        gameService.deleteGame(game(2));
+        games.remove(2);
+        assertTrue(standingsService.getStandings(tournament(0)).isEmpty());
+    }
+
+    @Test
+    void testByeCounts() throws Exception {
+        GameEntity bye = factory.manufacturePojoWithFullData(GameEntity.class);
+        bye.setResult(TournamentPairingService.BYE);
+        bye.setDate(new Date(0));
+        bye.setRound(1);
+        bye.setBye(true);
+        bye.setWhitePlayer(players.get(2));
+        bye.setBlackPlayer(null);
+        games.add(gameRepository.saveAndFlush(bye));
+
+        tournamentGameService.addGame(tournament(0), game(0));
+        tournamentGameService.addGame(tournament(0), game(3));
+        List<Standing> rows = standingsService.getStandings(tournament(0));
+        assertEquals(3, rows.size());
+        assertRow(rows.get(0), 0, 1, 1, 1);
+        assertRow(rows.get(1), 2, 1, 1, 0);
+        assertEquals(0, rows.get(1).getBuchholz());
+        assertRow(rows.get(2), 1, 3, 0, 1);
+
+        standingsService.invalidate();
+        assertEquals(rows.size(), standingsService.getStandings(tournament(0)).size());
+        assertRow(standingsService.getStandings(tournament(0)).get(1), 2, 1, 1, 0);
+
+        tournamentGameService.removeGame(tournament(0), game(3));
+        assertEquals(2, standingsService.getStandings(tournament(0)).size());
+    }
+
+    @Test
+    void testGameWithoutBlackIsNoBye() throws Exception {
+        // As if its Black player had been deleted.
+        GameEntity game = games.get(0);
+        game.setBlackPlayer(null);
+        games.set(0, gameRepository.saveAndFlush(game));
+
+        tournamentGameService.addGame(tournament(0), game(0));
+        assertTrue(standingsService.getStandings(tournament(0)).isEmpty());
+        standingsService.invalidate();
+        assertTrue(standingsService.getStandings(tournament(0)).isEmpty());
+    }
+
+    @Test
+    void testGetStandingsInvalidTournament() {
+        assertThrows(IllegalOperationException.class, () -> standingsService.getStandings(0L));
+        assertThrows(EntityNotFoundException.class, () -> standingsService.getStandings(321L));
+    }
+}